@@ -1,15 +1,19 @@
 package com.voyageclub.action;
 
+import com.voyageclub.action.paginas.PageNames;
 import com.voyageclub.model.BaseEntity;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.Serializable;
-import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 /**
  * Interfaz genérica para definir acciones comunes en la aplicación.
  *
+ * <p>Cada acción declara en {@link #getRutas()} las operaciones que atiende, con su ruta {@code ENTIDAD.OPERACION}
+ * (el valor del parámetro {@code ACTION} de la petición). El {@link RegistroRutas} reúne al arrancar las rutas de
+ * todas las acciones, de modo que el controlador localiza el manejador de cada petición con una única búsqueda.
+ *
  * @param <T> Tipo de entidad asociada a la acción.
  * @param <ID> Tipo del identificador único de la entidad.
  *
@@ -17,12 +21,30 @@ import java.util.Optional;
  * @version 1.0
  */
 public interface Action<T extends BaseEntity, ID extends Serializable> {
+
+    /**
+     * Parámetro de la petición con la ruta {@code ENTIDAD.OPERACION} de la operación solicitada.
+     */
+    String PARAMETRO_ACCION = "ACTION";
+
+    /**
+     * Obtiene las operaciones que atiende esta acción. El mapa se construye una sola vez, al crear la acción.
+     *
+     * @return Mapa inmutable de rutas {@code ENTIDAD.OPERACION} a sus manejadores.
+     */
+    Map<String, ManejadorAccion> getRutas();
+
     /**
-     * Ejecuta la acción correspondiente.
+     * Ejecuta la operación de esta acción indicada en el parámetro {@link #PARAMETRO_ACCION} de la solicitud.
      *
      * @param request  La solicitud HTTP recibida.
      * @param response La respuesta HTTP que se enviará.
-     * @return La página de destino a la que se redirigirá después de ejecutar la acción.
+     * @return La página de destino a la que se redirigirá después de ejecutar la acción, o la página de error si esta
+     *         acción no atiende la operación solicitada.
      */
-    String execute(HttpServletRequest request, HttpServletResponse response);
+    default String execute(HttpServletRequest request, HttpServletResponse response) {
+        String accion = request.getParameter(PARAMETRO_ACCION);
+        ManejadorAccion manejador = accion == null ? null : getRutas().get(accion);
+        return manejador == null ? PageNames.ERROR_PAGE : manejador.manejar(request, response);
+    }
 }
@@ -8,13 +8,14 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 @ApplicationScoped
 public class FacturaActionImpl implements FacturaAction {
 
 
     @Override
-    public String execute(HttpServletRequest request, HttpServletResponse response) {
-        return null;
+    public Map<String, ManejadorAccion> getRutas() {
+        return Map.of();
     }
 }
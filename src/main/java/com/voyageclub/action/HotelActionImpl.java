@@ -1,7 +1,16 @@
 package com.voyageclub.action;
 
+import com.voyageclub.action.paginas.PageNames;
 import com.voyageclub.dao.HotelDAO;
+import com.voyageclub.dto.HotelResumen;
+import com.voyageclub.dto.ImagenSubida;
+import com.voyageclub.dto.Pagina;
 import com.voyageclub.model.Hotel;
+import com.voyageclub.model.enumerdos.SlotImagen;
+import com.voyageclub.servlet.ConfiguracionFrontController;
+import com.voyageclub.util.GeneradorVariantesImagen;
+import com.voyageclub.util.ImagenDemasiadoGrandeException;
+import com.voyageclub.util.PaginacionUtil;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.servlet.ServletException;
@@ -9,55 +18,42 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.Part;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.Base64;
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 @ApplicationScoped
 public class HotelActionImpl implements HotelAction {
 
+    private static final Logger LOGGER = Logger.getLogger(HotelActionImpl.class.getName());
+
     @Inject
     private HotelDAO hotelDAO;
 
+    @Inject
+    private GeneradorVariantesImagen generadorVariantes;
+
+    // Operaciones de los hoteles, por su ruta HOTEL.OPERACION
+    private final Map<String, ManejadorAccion> rutas = Map.of(
+            "HOTEL.FIND_ALL", this::listarTodosHoteles,
+            "HOTEL.DIRIGENEW", (request, response) -> PageNames.CREATE_HOTEL_PAGE,
+            "HOTEL.ELIMINAR", this::eliminarHotel,
+            "HOTEL.DIRIGEMODIFICAR", this::dirigeModifcar,
+            "HOTEL.MODIFICAR", this::modificarHotel,
+            "HOTEL.CREAR", this::crearHotel);
+
     @Override
-    public String execute(HttpServletRequest request, HttpServletResponse response) {
-        String pagDestino ="";
-        String action = request.getParameter("ACTION");
-        String[] arrayAction = action.split("\\.");
-        switch(arrayAction[1]){
-            case "FIND_ALL":
-                pagDestino = listarTodosHoteles(request, response);
-                break;
-            // Agregar más casos según sea necesario
-            case "DIRIGENEW":
-                pagDestino = "/crearhotel.jsp";
-                break;
-            case "ELIMINAR":
-                pagDestino = eliminarHotel(request,response);
-                break;
-            case "DIRIGEMODIFICAR":
-                pagDestino = dirigeModifcar(request, response);
-                break;
-            case "MODIFICAR":
-                pagDestino = modificarHotel(request,response);
-                break;
-            case "CREAR":
-                pagDestino = crearHotel(request, response);
-                break;
-            default:
-                // Manejar el caso cuando no coincide con ningún caso
-                pagDestino = "/error.jsp";
-                break;
-        }
-        return pagDestino;
+    public Map<String, ManejadorAccion> getRutas() {
+        return rutas;
     }
     @Override
     public String dirigeModifcar(HttpServletRequest request, HttpServletResponse response) {
         Long id = Long.parseLong(request.getParameter("HOTELID"));
-        System.out.println("el id es: " + id);
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Modificar hotel: id={0}", id);
+        }
        try{
            Optional<Hotel> hotelOptional = hotelDAO.getById(id);
            if(hotelOptional.isPresent()){
@@ -65,15 +61,12 @@ public class HotelActionImpl implements HotelAction {
                request.setAttribute("hotel", hotel);
                return "/crearhotel.jsp";
            }else{
-               //recargo configuracion hotel con todas lasllistas
-               List<Hotel> hotel = hotelDAO.getAll();
+               //recargo configuracion hotel con la lista paginada
                request.setAttribute("MENSAJE_HOTEL", "Estamos teniendo problemas, intentelo de nuevo");
-               request.setAttribute("LISTA_HOTELES", hotel);
-               return "/configuracionhotel.jsp";
+               return listarTodosHoteles(request, response);
            }
        }catch (Exception e){
-           e.printStackTrace();
-           System.out.println(e.toString());
+           LOGGER.log(Level.SEVERE, e, () -> "Error al cargar el hotel " + id);
 
            // Redirigir a una página de error
            return "error.jsp";
@@ -84,10 +77,10 @@ public class HotelActionImpl implements HotelAction {
     @Override
     public String eliminarHotel(HttpServletRequest request, HttpServletResponse response) {
         Long id = Long.parseLong(request.getParameter("HOTELID"));
-        System.out.println("estoy en nuevo y el id para eliminar es:" +id);
-        List<Hotel> hotel = hotelDAO.getAll();
-        request.setAttribute("LISTA_HOTELES", hotel);
-        return "/configuracionhotel.jsp";
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Eliminar hotel: id={0}", id);
+        }
+        return listarTodosHoteles(request, response);
     }
 
     @Override
@@ -101,8 +94,15 @@ public class HotelActionImpl implements HotelAction {
             String web = request.getParameter("WEB").trim();
             String descripcion = request.getParameter("DESCRIPCION").trim();
             String telefono = request.getParameter("TELEFONO").trim();
-            Part imagenPrincipalPart = request.getPart("IMAGENPRINCIPAL");
-            Part imagenSecundariaPart = request.getPart("IMAGENSECUNDARIA");
+            Part imagenPrincipalPart;
+            Part imagenSecundariaPart;
+            try {
+                imagenPrincipalPart = leerParte(request, "IMAGENPRINCIPAL");
+                imagenSecundariaPart = leerParte(request, "IMAGENSECUNDARIA");
+            } catch (ImagenDemasiadoGrandeException e) {
+                request.setAttribute("ERROR_IMAGENES", "Las imágenes no pueden superar los " + e.getTamanoMaximo() / (1024 * 1024) + " MB");
+                return "/crearhotel.jsp";
+            }
 
             // Validar que el nombre tenga al menos 3 caracteres
             if (nombre.length() < 3) {
@@ -147,9 +147,16 @@ public class HotelActionImpl implements HotelAction {
                 return "/crearhotel.jsp";
             }
 
-            // Convertir las imágenes a bytes
-            byte[] imagenPrincipalBytes = obtenerBytesDesdePart(imagenPrincipalPart);
-            byte[] imagenSecundariaBytes = obtenerBytesDesdePart(imagenSecundariaPart);
+            // Recorrer las imágenes una vez para obtener su hash y comprobar su tamaño, sin cargarlas en memoria
+            ImagenSubida imagenPrincipal;
+            ImagenSubida imagenSecundaria;
+            try {
+                imagenPrincipal = leerImagen(request, imagenPrincipalPart);
+                imagenSecundaria = leerImagen(request, imagenSecundariaPart);
+            } catch (ImagenDemasiadoGrandeException e) {
+                request.setAttribute("ERROR_IMAGENES", "Las imágenes no pueden superar los " + e.getTamanoMaximo() / (1024 * 1024) + " MB");
+                return "/crearhotel.jsp";
+            }
 
             // Convertir el valor de estrellas a un tipo numérico (int)
             int estrellas = 0;
@@ -161,13 +168,14 @@ public class HotelActionImpl implements HotelAction {
             }
 
             // Si llegamos aquí, es porque todas las validaciones han pasado
-            Hotel hoGuardar = new Hotel(nombre, direccion, estrellas, email, web, descripcion,
-                    telefono, imagenSecundariaBytes, imagenPrincipalBytes);
-            hotelDAO.save(hoGuardar);
+            Hotel hoGuardar = new Hotel(nombre, direccion, estrellas, email, web, descripcion, telefono);
+            hotelDAO.save(hoGuardar, imagenPrincipal, imagenSecundaria);
+            generadorVariantes.generar(hoGuardar.getId(), SlotImagen.HOTEL_PRINCIPAL);
+            generadorVariantes.generar(hoGuardar.getId(), SlotImagen.HOTEL_SECUNDARIA);
             return listarTodosHoteles(request, response);
 
         } catch (IOException | ServletException e) {
-            e.printStackTrace();
+            LOGGER.log(Level.SEVERE, "Error al crear el hotel", e);
             // Manejar cualquier excepción al procesar la solicitud
             request.setAttribute("ERROR_GENERAL", "Error al procesar la solicitud");
             return "/error.jsp";
@@ -205,30 +213,37 @@ public class HotelActionImpl implements HotelAction {
                 request.setAttribute("imagenPrincipalUrl", imagenPrincipalUrl);
                 request.setAttribute("imagenSecundariaUrl", imagenSecundariaUrl);
 
-                // Verificar si se adjuntaron nuevas imágenes
-                Part imagenPrincipalPart = request.getPart("IMAGENPRINCIPAL");
-                Part imagenSecundariaPart = request.getPart("IMAGENSECUNDARIA");
-
-                String imagenPrincipalActual = request.getParameter("IMAGENPRINCIPAL_ACTUAL");
-                String imagenSecundariaActual = request.getParameter("IMAGENSECUNDARIA_ACTUAL");
-
-                if (imagenPrincipalPart != null && imagenPrincipalPart.getSize() > 0 &&
-                        imagenSecundariaPart != null && imagenSecundariaPart.getSize() > 0) {
-                    // El usuario ha seleccionado nuevas imágenes
-                    byte[] nuevaImagenPrincipalBytes = obtenerBytesDesdePart(imagenPrincipalPart);
-                    byte[] nuevaImagenSecundariaBytes = obtenerBytesDesdePart(imagenSecundariaPart);
-
-                    hotelModificado.setImagenPrincipal(nuevaImagenPrincipalBytes);
-                    hotelModificado.setImagenSecundaria(nuevaImagenSecundariaBytes);
-                    // Guardar las nuevas imágenes
-                } else if (imagenPrincipalActual != null && !imagenPrincipalActual.isEmpty() &&
-                        imagenSecundariaActual != null && !imagenSecundariaActual.isEmpty()) {
-                    // El usuario no ha seleccionado nuevas imágenes, pero hay imágenes actuales
-                    // Mantener las imágenes actuales (imagenPrincipalActual e imagenSecundariaActual)
-                    hotelModificado.setImagenPrincipal(Base64.getDecoder().decode(imagenPrincipalActual));
-                    hotelModificado.setImagenSecundaria(Base64.getDecoder().decode(imagenSecundariaActual));
-                } else {
-                    // No hay imágenes actuales ni nuevas imágenes
+                // Verificar si se adjuntaron nuevas imágenes; cada imagen se trata por separado
+                ImagenSubida nuevaImagenPrincipal = null;
+                ImagenSubida nuevaImagenSecundaria = null;
+                try {
+                    Part imagenPrincipalPart = leerParte(request, "IMAGENPRINCIPAL");
+                    Part imagenSecundariaPart = leerParte(request, "IMAGENSECUNDARIA");
+                    if (imagenPrincipalPart != null && imagenPrincipalPart.getSize() > 0) {
+                        // El usuario ha seleccionado una nueva imagen principal
+                        nuevaImagenPrincipal = leerImagen(request, imagenPrincipalPart);
+                    }
+                    if (imagenSecundariaPart != null && imagenSecundariaPart.getSize() > 0) {
+                        // El usuario ha seleccionado una nueva imagen secundaria
+                        nuevaImagenSecundaria = leerImagen(request, imagenSecundariaPart);
+                    }
+                } catch (ImagenDemasiadoGrandeException e) {
+                    request.setAttribute("ERROR_IMAGENES", "Las imágenes no pueden superar los " + e.getTamanoMaximo() / (1024 * 1024) + " MB");
+                    request.setAttribute("hotel", hotelModificado);
+                    return "/crearhotel.jsp";
+                }
+
+                if (nuevaImagenPrincipal == null
+                        && !mantenerImagen(request, "MANTENER_IMAGENPRINCIPAL", id, SlotImagen.HOTEL_PRINCIPAL)) {
+                    // No hay imagen principal actual ni nueva
+                    request.setAttribute("ERROR_IMAGENES", "Debe adjuntar al menos una imagen principal y una imagen secundaria");
+                    request.setAttribute("hotel", hotelModificado);
+                    return "/crearhotel.jsp";
+                }
+
+                if (nuevaImagenSecundaria == null
+                        && !mantenerImagen(request, "MANTENER_IMAGENSECUNDARIA", id, SlotImagen.HOTEL_SECUNDARIA)) {
+                    // No hay imagen secundaria actual ni nueva
                     request.setAttribute("ERROR_IMAGENES", "Debe adjuntar al menos una imagen principal y una imagen secundaria");
                     request.setAttribute("hotel", hotelModificado);
                     return "/crearhotel.jsp";
@@ -277,7 +292,13 @@ public class HotelActionImpl implements HotelAction {
                 }
 
                 // Resto de validaciones aquí
-                hotelDAO.update(hotelModificado);
+                hotelDAO.update(hotelModificado, nuevaImagenPrincipal, nuevaImagenSecundaria);
+                if (nuevaImagenPrincipal != null) {
+                    generadorVariantes.generar(id, SlotImagen.HOTEL_PRINCIPAL);
+                }
+                if (nuevaImagenSecundaria != null) {
+                    generadorVariantes.generar(id, SlotImagen.HOTEL_SECUNDARIA);
+                }
                 request.setAttribute("hotel", hotelModificado);
 
                 // Redirigir al formulario de modificación
@@ -287,7 +308,7 @@ public class HotelActionImpl implements HotelAction {
                 return "/error.jsp";
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            LOGGER.log(Level.SEVERE, "Error al modificar el hotel", e);
             request.setAttribute("ERROR", "No hemos podido procesar su solicitud");
             return "/error.jsp";
         }
@@ -295,27 +316,43 @@ public class HotelActionImpl implements HotelAction {
 
 
 
-    // Método para obtener bytes desde un objeto Part
-    private byte[] obtenerBytesDesdePart(Part part) throws IOException {
-        InputStream input = part.getInputStream();
-        ByteArrayOutputStream output = new ByteArrayOutputStream();
-        byte[] buffer = new byte[1024];
-        int length;
+    // Método para comprobar si se debe conservar la imagen guardada: el formulario lo marca y la imagen existe.
+    // Las imágenes conservadas no se leen ni se reescriben.
+    private boolean mantenerImagen(HttpServletRequest request, String marcador, Long hotelId, SlotImagen slot) {
+        return "true".equals(request.getParameter(marcador)) && hotelDAO.tieneImagen(hotelId, slot);
+    }
 
-        while ((length = input.read(buffer)) != -1) {
-            output.write(buffer, 0, length);
+    // Método para obtener una parte del formulario. El contenedor lanza IllegalStateException cuando la parte supera
+    // el maxFileSize del servlet de la aplicación (ConfiguracionFrontController): se trata igual que una imagen
+    // demasiado grande
+    private Part leerParte(HttpServletRequest request, String nombre) throws IOException, ServletException {
+        try {
+            return request.getPart(nombre);
+        } catch (IllegalStateException e) {
+            throw new ImagenDemasiadoGrandeException(tamanoMaximoImagen(request));
         }
-
-        return output.toByteArray();
     }
 
+    // Método para preparar una imagen subida: se recorre la parte una vez para calcular su hash y comprobar
+    // su tamaño, y al guardarla se vuelve a leer de la parte directamente al BLOB
+    private ImagenSubida leerImagen(HttpServletRequest request, Part part) throws IOException {
+        return ImagenSubida.de(part::getInputStream, tamanoMaximoImagen(request));
+    }
 
+    // Método para obtener el tamaño máximo de imagen configurado en el web.xml, el mismo que el maxFileSize del
+    // servlet de la aplicación
+    private long tamanoMaximoImagen(HttpServletRequest request) {
+        return ConfiguracionFrontController.tamanoMaximoImagen(request.getServletContext());
+    }
 
 
     @Override
     public String listarTodosHoteles(HttpServletRequest request, HttpServletResponse response) {
-        List<Hotel> hotel = hotelDAO.getAll();
-        request.setAttribute("LISTA_HOTELES", hotel);
+        // Cargar solo el resumen de los hoteles de la página solicitada
+        Pagina<HotelResumen> pagina = hotelDAO.getPaginaResumen(PaginacionUtil.leerNumeroPagina(request),
+                PaginacionUtil.TAMANO_PAGINA);
+        request.setAttribute("LISTA_HOTELES", pagina.getElementos());
+        request.setAttribute("PAGINA_HOTELES", pagina);
         return "/configuracionhotel.jsp";
     }
 }
@@ -7,6 +7,7 @@ import com.voyageclub.model.enumerdos.Amenity;
 import com.voyageclub.model.enumerdos.EstadoReserva;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -34,6 +35,9 @@ public class InicializacionDatosAction {
 
     }
 
+    // Todos los datos se guardan en una única transacción, de modo que las inserciones pendientes se envían
+    // en lotes en lugar de confirmar cada fila por separado
+    @Transactional
     public void inicializarDatos() {
         crearDatosPersistencia();
     }
@@ -204,7 +208,7 @@ public class InicializacionDatosAction {
         reservas.forEach(reservaDAO::save);
     }
     private void persistirFacturas(List<Factura> facturas) {
-        facturas.forEach(facturaDAO::save);
+        facturaDAO.saveAll(facturas);
     }
 }
 
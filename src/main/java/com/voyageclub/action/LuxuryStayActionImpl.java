@@ -1,13 +1,17 @@
 package com.voyageclub.action;
 
 import com.voyageclub.dao.LuxuryStayDAO;
-import com.voyageclub.model.LuxuryStay;
+import com.voyageclub.dto.LuxuryStayResumen;
+import com.voyageclub.dto.Pagina;
+import com.voyageclub.util.PaginacionUtil;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Implementación de la interfaz {@link LuxuryStayAction} que define las acciones relacionadas con las estancias de lujo.
@@ -18,6 +22,8 @@ import java.util.List;
 @ApplicationScoped
 public class LuxuryStayActionImpl implements LuxuryStayAction {
 
+    private static final Logger LOGGER = Logger.getLogger(LuxuryStayActionImpl.class.getName());
+
     /**
      * DAO para acceder a las operaciones de la entidad LuxuryStay en la base de datos.
      */
@@ -25,32 +31,23 @@ public class LuxuryStayActionImpl implements LuxuryStayAction {
     private LuxuryStayDAO luxuryStayDAO;
 
     /**
-     * Ejecuta la acción relacionada con las estancias de lujo.
+     * Operaciones de las estancias de lujo, por su ruta {@code LUXURY_STAY.OPERACION}.
+     */
+    private final Map<String, ManejadorAccion> rutas = Map.of(
+            "LUXURY_STAY.LISTAR", this::listar);
+
+    /**
+     * Obtiene las operaciones de las estancias de lujo.
      *
-     * @param request  Objeto HttpServletRequest que contiene la solicitud HTTP.
-     * @param response Objeto HttpServletResponse que contiene la respuesta HTTP.
-     * @return La ruta de la página de destino después de ejecutar la acción.
+     * @return Mapa inmutable de rutas {@code LUXURY_STAY.OPERACION} a sus manejadores.
      */
     @Override
-    public String execute(HttpServletRequest request, HttpServletResponse response) {
-        String action = request.getParameter("ACTION");
-        String pagDestino = "";
-
-        switch (action) {
-            case "LISTAR":
-                pagDestino = listar(request, response);
-                break;
-            // Agregar más casos según sea necesario
-            default:
-                pagDestino = "/error.jsp";
-                break;
-        }
-
-        return pagDestino;
+    public Map<String, ManejadorAccion> getRutas() {
+        return rutas;
     }
 
     /**
-     * Lista todas las estancias de lujo y muestra la información en una página.
+     * Lista las estancias de lujo de la página solicitada y muestra la información en una página.
      *
      * @param request  Objeto HttpServletRequest que contiene la solicitud HTTP.
      * @param response Objeto HttpServletResponse que contiene la respuesta HTTP.
@@ -58,17 +55,18 @@ public class LuxuryStayActionImpl implements LuxuryStayAction {
      */
     private String listar(HttpServletRequest request, HttpServletResponse response) {
         try {
-            // Obtener todas las estancias de lujo desde la base de datos
-            List<LuxuryStay> luxuryStays = luxuryStayDAO.getAll();
+            // Obtener la página solicitada de estancias de lujo desde la base de datos
+            Pagina<LuxuryStayResumen> pagina = luxuryStayDAO.getPaginaResumen(PaginacionUtil.leerNumeroPagina(request),
+                    PaginacionUtil.TAMANO_PAGINA);
 
             // Almacenar la lista en el request para que la JSP pueda acceder a ella
-            request.setAttribute("LUXURY_STAYS", luxuryStays);
+            request.setAttribute("LUXURY_STAYS", pagina.getElementos());
+            request.setAttribute("PAGINA_LUXURY_STAYS", pagina);
 
             // Devolver la página de destino para mostrar la lista de estancias de lujo
             return "/luxury_stays/listar.jsp";
         } catch (Exception e) {
-            // Manejar la excepción de manera adecuada (por ejemplo, loggearla)
-            e.printStackTrace();
+            LOGGER.log(Level.SEVERE, "Error al listar las estancias de lujo", e);
 
             // Redirigir a una página de error en caso de excepción
             return "/error.jsp";
@@ -0,0 +1,24 @@
+package com.voyageclub.action;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Manejador de una operación concreta de una acción, asociado a una ruta {@code ENTIDAD.OPERACION} en el
+ * {@link RegistroRutas}. Las acciones lo implementan con referencias a sus métodos.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ManejadorAccion {
+
+    /**
+     * Atiende la operación.
+     *
+     * @param request  La solicitud HTTP recibida.
+     * @param response La respuesta HTTP que se enviará.
+     * @return La página de destino a la que se redirigirá después de ejecutar la operación.
+     */
+    String manejar(HttpServletRequest request, HttpServletResponse response);
+}
@@ -0,0 +1,87 @@
+package com.voyageclub.action;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Registro de las rutas {@code ENTIDAD.OPERACION} de todas las acciones de la aplicación.
+ *
+ * <p>Se construye una sola vez al arrancar, a partir de las rutas que declara cada {@link Action}. En cada petición,
+ * {@link #buscar(String)} localiza el manejador con una búsqueda en un mapa inmutable, sin dividir la ruta ni
+ * recorrer ningún {@code switch}. Si dos acciones declaran la misma ruta, el arranque falla.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@ApplicationScoped
+public class RegistroRutas {
+
+    @Inject
+    @Any
+    private Instance<Action<?, ?>> acciones;
+
+    private Map<String, ManejadorAccion> rutas = Map.of();
+
+    /**
+     * Constructor por defecto, utilizado por CDI.
+     */
+    public RegistroRutas() {
+    }
+
+    /**
+     * Constructor que registra las rutas de las acciones indicadas, para utilizar el registro fuera de CDI.
+     *
+     * @param acciones Acciones de la aplicación.
+     * @throws IllegalStateException Si dos acciones declaran la misma ruta.
+     */
+    public RegistroRutas(Iterable<? extends Action<?, ?>> acciones) {
+        registrar(acciones);
+    }
+
+    /**
+     * Registra las rutas de todas las acciones de CDI.
+     */
+    @PostConstruct
+    void registrarAcciones() {
+        registrar(acciones);
+    }
+
+    /**
+     * Busca el manejador de una ruta.
+     *
+     * @param ruta Ruta {@code ENTIDAD.OPERACION} solicitada; puede ser {@code null}.
+     * @return Un objeto {@link Optional} con el manejador de la ruta, o vacío si ninguna acción la atiende.
+     */
+    public Optional<ManejadorAccion> buscar(String ruta) {
+        return ruta == null ? Optional.empty() : Optional.ofNullable(rutas.get(ruta));
+    }
+
+    /**
+     * Obtiene las rutas registradas.
+     *
+     * @return Conjunto inmutable con las rutas de todas las acciones.
+     */
+    public Set<String> getRutas() {
+        return rutas.keySet();
+    }
+
+    private void registrar(Iterable<? extends Action<?, ?>> acciones) {
+        Map<String, ManejadorAccion> todas = new HashMap<>();
+        for (Action<?, ?> accion : acciones) {
+            accion.getRutas().forEach((ruta, manejador) -> {
+                if (todas.putIfAbsent(ruta, manejador) != null) {
+                    throw new IllegalStateException("La ruta " + ruta + " está declarada en más de una acción");
+                }
+            });
+        }
+        rutas = Map.copyOf(todas);
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -26,16 +27,13 @@ public class ReservaActionImpl implements ReservaAction {
     private ReservaDAO reservaDAO;
 
     /**
-     * Ejecuta la acción relacionada con las reservas.
+     * Obtiene las operaciones de las reservas.
      *
-     * @param request  Objeto HttpServletRequest que contiene la solicitud HTTP.
-     * @param response Objeto HttpServletResponse que contiene la respuesta HTTP.
-     * @return La ruta de la página de destino después de ejecutar la acción.
+     * @return Mapa inmutable de rutas {@code RESERVA.OPERACION} a sus manejadores.
      */
     @Override
-    public String execute(HttpServletRequest request, HttpServletResponse response) {
-        // TODO: Implementar la lógica de la acción de reservas
-
-        return "";
+    public Map<String, ManejadorAccion> getRutas() {
+        // TODO: Implementar las operaciones de las reservas
+        return Map.of();
     }
 }
@@ -1,10 +1,11 @@
 package com.voyageclub.action;
 
 import com.voyageclub.beans.UsuarioSesionBeans;
-import com.voyageclub.dao.ReservaDAO;
 import com.voyageclub.dao.UsuarioDAO;
-import com.voyageclub.model.Reserva;
+import com.voyageclub.dto.UsuarioResumen;
 import com.voyageclub.model.Usuario;
+import com.voyageclub.sesion.GestorSesion;
+import com.voyageclub.util.PaginacionUtil;
 import com.voyageclub.util.UsuarioUtil;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -14,12 +15,16 @@ import jakarta.servlet.http.HttpSession;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Implementación de la interfaz {@link UsuarioAction} que proporciona operaciones relacionadas con los usuarios.
  *
- * <p>Este componente utiliza inyección de dependencias para obtener instancias de {@link UsuarioDAO} y {@link ReservaDAO}.
+ * <p>Este componente utiliza inyección de dependencias para obtener instancias de {@link UsuarioDAO} y
+ * {@link GestorSesion}.
  *
  * <p>La anotación {@link ApplicationScoped} indica que este bean de CDI tiene un ciclo de vida asociado al contexto de la aplicación.
  *
@@ -29,41 +34,37 @@ import java.util.Optional;
 @ApplicationScoped
 public class UsuarioActionImpl implements UsuarioAction {
 
+    private static final Logger LOGGER = Logger.getLogger(UsuarioActionImpl.class.getName());
+
     @Inject
     private UsuarioDAO usuarioDAO;
 
     @Inject
-    private ReservaDAO reservaDAO;
+    private GestorSesion gestorSesion;
+
+    /**
+     * Operaciones de los usuarios, por su ruta {@code USUARIO.OPERACION}.
+     */
+    private final Map<String, ManejadorAccion> rutas = Map.of(
+            "USUARIO.FIND_ALL", this::findAll,
+            "USUARIO.REGISTER", this::register,
+            "USUARIO.LOGIN", this::login,
+            "USUARIO.LOGOUT", this::logout);
 
     /**
-     * Ejecuta la acción correspondiente según el parámetro "ACTION" proporcionado en la solicitud.
+     * Obtiene las operaciones de los usuarios.
      *
-     * @param request  La solicitud HTTP recibida.
-     * @param response La respuesta HTTP que se enviará.
-     * @return La página de destino a la que se redirigirá después de ejecutar la acción.
+     * @return Mapa inmutable de rutas {@code USUARIO.OPERACION} a sus manejadores.
      */
     @Override
-    public String execute(HttpServletRequest request, HttpServletResponse response) {
-        String pagDestino ="";
-        String action = request.getParameter("ACTION");
-        //Objeto "USUARIO.LISTAR"
-        String[] arrayAction = action.split("\\.");
-        switch(arrayAction[1]){
-            case "FIND_ALL":
-                pagDestino = findAll(request, response);
-                break;
-            case "REGISTER":
-                pagDestino = register(request, response);
-                break;
-            case "LOGIN":
-                pagDestino = login(request, response);
-                break;
-        }
-        return pagDestino;
+    public Map<String, ManejadorAccion> getRutas() {
+        return rutas;
     }
 
     /**
-     * Recupera todos los usuarios de la base de datos y los almacena en la solicitud para su visualización.
+     * Recupera los usuarios de la base de datos por bloques y los almacena en la solicitud para su visualización.
+     * Se utiliza paginación por clave: cada bloque empieza después del último usuario mostrado ({@code ULTIMO_ID}),
+     * y si el bloque está completo se indica en {@code SIGUIENTE_ID} desde dónde continuar.
      *
      * @param request  La solicitud HTTP recibida.
      * @param response La respuesta HTTP que se enviará.
@@ -74,10 +75,14 @@ public class UsuarioActionImpl implements UsuarioAction {
         // 1º) Leer variables que vengan desde la pantalla
         // 2º) Gestionar DAO--> Data Access Object - ORM
 
-        List<Usuario> lstUsuarios = usuarioDAO.getAll();
+        List<UsuarioResumen> lstUsuarios = usuarioDAO.getSiguientesResumen(PaginacionUtil.leerUltimoId(request),
+                PaginacionUtil.TAMANO_PAGINA);
         // 3º) Devolver variables a la pantalla
         request.setAttribute("LISTA_USUARIOS",
                 lstUsuarios);
+        if (lstUsuarios.size() == PaginacionUtil.TAMANO_PAGINA) {
+            request.setAttribute("SIGUIENTE_ID", lstUsuarios.get(lstUsuarios.size() - 1).getId());
+        }
         // 4º) Definir página de retorno
         return "/index.jsp";
     }
@@ -102,18 +107,16 @@ public class UsuarioActionImpl implements UsuarioAction {
                 // Usuario autenticado
                 Usuario userLogin = usuarioOptional.get();
 
-                // Obtener reservas del usuario
-                List<Reserva> reservasUserBeans = reservaDAO.findByUsuario(userLogin.getId());
-
-                // Crear una instancia de UsuarioSesionBeans y transferir la información
+                // Crear una instancia de UsuarioSesionBeans y transferir la información; la sesión no guarda las
+                // reservas, las páginas las consultan por el identificador del usuario en cada petición
                 UsuarioSesionBeans usuarioSesionBeans = new UsuarioSesionBeans(
                         userLogin.getId(), userLogin.getNombre(), userLogin.getApellido1(),
                         userLogin.getApellido2(), userLogin.getCorreoElectronico(),
-                        userLogin.getDni(), userLogin.getCodigoUsuario(), reservasUserBeans
+                        userLogin.getDni(), userLogin.getCodigoUsuario()
                 );
 
-                // Almacenar el UsuarioSesionBeans en la sesión
-                request.getSession().setAttribute("usuarioSesion", usuarioSesionBeans);
+                // Almacenar el UsuarioSesionBeans en el almacén de sesiones compartido por todos los nodos
+                gestorSesion.iniciar(request, response, usuarioSesionBeans);
 
                 // Devolver la ruta de la página de destino (importante, ya que la redirección ya ocurrió)
                 return "/home.jsp";
@@ -127,15 +130,28 @@ public class UsuarioActionImpl implements UsuarioAction {
                 return "/login.jsp";
             }
         } catch (Exception e) {
-            // Manejar la excepción de manera adecuada (por ejemplo, loggearla)
-            e.printStackTrace();
-            System.out.println(e.toString());
+            LOGGER.log(Level.SEVERE, "Error al iniciar sesión", e);
 
             // Redirigir a una página de error
             return "error.jsp";
         }
     }
 
+    /**
+     * Maneja la acción de cierre de sesión: elimina la sesión del almacén compartido y la cookie del navegador.
+     * Los demás nodos dejan de aceptar la sesión en cuanto caduca su caché local
+     * ({@link GestorSesion#DURACION_CACHE_LOCAL}).
+     *
+     * @param request  La solicitud HTTP recibida.
+     * @param response La respuesta HTTP que se enviará.
+     * @return La página de inicio de sesión.
+     */
+    private String logout(HttpServletRequest request, HttpServletResponse response) {
+        gestorSesion.cerrar(request, response);
+        request.setAttribute("MENSAJE_USUARIO", "Ha cerrado la sesión.");
+        return "/login.jsp";
+    }
+
     /**
      * Maneja la acción de registro de un nuevo usuario.
      *
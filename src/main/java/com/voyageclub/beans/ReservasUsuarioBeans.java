@@ -0,0 +1,55 @@
+package com.voyageclub.beans;
+
+import com.voyageclub.dao.ReservaDAO;
+import com.voyageclub.dto.ReservaResumen;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.List;
+
+/**
+ * Bean de petición con el resumen de las reservas del usuario de la sesión.
+ *
+ * <p>La sesión no guarda las reservas: {@link UsuarioSesionBeans}, que el {@link com.voyageclub.sesion.GestorSesion}
+ * deja en la petición, solo tiene el identificador del usuario. Este bean carga el resumen de sus reservas la primera
+ * vez que una página lo pide, con una única consulta por el usuario, y lo reutiliza durante el resto de la petición;
+ * así las reservas hechas después del inicio de sesión aparecen en la siguiente petición y las peticiones que no
+ * muestran reservas no las consultan.
+ *
+ * <p>Las páginas JSP lo usan con {@code ${reservasUsuarioBeans.reservas}}.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@RequestScoped
+@Named
+public class ReservasUsuarioBeans {
+
+    @Inject
+    private ReservaDAO reservaDAO;
+
+    @Inject
+    private HttpServletRequest request;
+
+    /**
+     * Resumen de las reservas, cargado en la primera llamada a {@link #getReservas()}.
+     */
+    private List<ReservaResumen> reservas;
+
+    /**
+     * Obtiene el resumen de las reservas del usuario de la sesión, cargándolo solo la primera vez en cada petición.
+     *
+     * @return Lista con el resumen de las reservas, o una lista vacía si no hay usuario autenticado o no tiene reservas.
+     */
+    public List<ReservaResumen> getReservas() {
+        if (reservas == null) {
+            Object usuarioSesion = request.getAttribute(UsuarioSesionBeans.ATRIBUTO_SESION);
+            reservas = usuarioSesion instanceof UsuarioSesionBeans
+                    ? reservaDAO.findResumenByUsuario(((UsuarioSesionBeans) usuarioSesion).getID())
+                    : List.of();
+        }
+        return reservas;
+    }
+}
@@ -1,29 +1,48 @@
 package com.voyageclub.beans;
 
-import com.voyageclub.model.Reserva;
-import jakarta.enterprise.context.SessionScoped;
-import jakarta.inject.Named;
-
-import java.io.Serializable;
-import java.util.List;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 
 /**
- * Bean de sesión para gestionar la información del usuario durante la sesión.
+ * Bean con la información del usuario autenticado durante la sesión.
  *
- * <p>Este bean almacena información como el nombre, apellidos, correo electrónico, DNI, etc.,
- * así como una lista de reservas asociadas al usuario.
+ * <p>Este bean almacena información como el nombre, apellidos, correo electrónico, DNI, etc. Las reservas del
+ * usuario no se guardan en la sesión, ni siquiera sus identificadores: las páginas que las muestran cargan su resumen
+ * por el identificador del usuario en cada petición con {@link ReservasUsuarioBeans}, de modo que la sesión ocupa
+ * poco y lo mismo en memoria y al replicarse sea cual sea el número de reservas, y las reservas hechas después del
+ * inicio de sesión aparecen en la siguiente petición.
  *
- * <p>La anotación {@link SessionScoped} indica que este bean de CDI tiene un ciclo de vida
- * asociado a la sesión del usuario.
+ * <p>Se serializa con un formato binario propio y versionado ({@link Externalizable}) en lugar de la
+ * serialización por defecto de Java: solo escribe los valores de los campos, sin la descripción de las clases de
+ * cada objeto, de modo que la sesión ocupa menos en el almacén compartido por los nodos
+ * ({@link com.voyageclub.sesion.AlmacenSesion}) y se lee y escribe más rápido. El primer
+ * byte es la versión del formato; si cambian los campos se incrementa {@link #VERSION_FORMATO} y
+ * {@link #readExternal(ObjectInput)} sigue leyendo las versiones anteriores que aún puedan estar replicadas: la
+ * versión 1 incluía los identificadores de las reservas, que se leen y se descartan.
  *
- * <p>La anotación {@link Named} se utiliza para referenciar este bean en las páginas XHTML de JSF.
+ * <p>No es un bean de CDI ni se guarda en la sesión HTTP del contenedor: la sesión la gestiona
+ * {@link com.voyageclub.sesion.GestorSesion}, que lo guarda en el almacén compartido al iniciar sesión y lo deja en el
+ * atributo {@link #ATRIBUTO_SESION} de cada petición del usuario.
  *
  * @author [Tu nombre]
  * @version 1.0
  */
-@SessionScoped
-@Named
-public class UsuarioSesionBeans implements Serializable {
+public class UsuarioSesionBeans implements Externalizable {
+
+    /**
+     * Atributo de la petición en el que se deja el bean del usuario autenticado.
+     */
+    public static final String ATRIBUTO_SESION = "usuarioSesion";
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Versión actual del formato de serialización de {@link #writeExternal(ObjectOutput)}.
+     */
+    static final byte VERSION_FORMATO = 2;
 
     private Long ID;
 
@@ -57,11 +76,6 @@ public class UsuarioSesionBeans implements Serializable {
      */
     private String codigoUsuario;
 
-    /**
-     * Lista de reservas asociadas a este usuario.
-     */
-    private List<Reserva> reservas;
-
     /**
      * Constructor por defecto.
      */
@@ -78,10 +92,9 @@ public class UsuarioSesionBeans implements Serializable {
      * @param correoElectronico Correo electrónico del usuario.
      * @param dni Número de identificación del usuario.
      * @param codigoUsuario Código único del usuario.
-     * @param reservas Lista de reservas asociadas a este usuario.
      */
     public UsuarioSesionBeans(Long ID, String nombre, String apellido1, String apellido2, String correoElectronico,
-                              String dni, String codigoUsuario, List<Reserva> reservas) {
+                              String dni, String codigoUsuario) {
         this.ID = ID;
         this.nombre = nombre;
         this.apellido1 = apellido1;
@@ -89,7 +102,6 @@ public class UsuarioSesionBeans implements Serializable {
         this.correoElectronico = correoElectronico;
         this.dni = dni;
         this.codigoUsuario = codigoUsuario;
-        this.reservas = reservas;
     }
 
     /**
@@ -219,20 +231,63 @@ public class UsuarioSesionBeans implements Serializable {
     }
 
     /**
-     * Obtiene la lista de reservas asociadas a este usuario.
+     * Escribe el estado del bean en el formato compacto: la versión del formato y los campos del usuario.
      *
-     * @return Lista de reservas asociadas al usuario.
+     * @param out El flujo de salida.
+     * @throws IOException Si se produce un error de escritura.
      */
-    public List<Reserva> getReservas() {
-        return reservas;
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeByte(VERSION_FORMATO);
+        out.writeBoolean(ID != null);
+        if (ID != null) {
+            out.writeLong(ID);
+        }
+        escribirTexto(out, nombre);
+        escribirTexto(out, apellido1);
+        escribirTexto(out, apellido2);
+        escribirTexto(out, correoElectronico);
+        escribirTexto(out, dni);
+        escribirTexto(out, codigoUsuario);
     }
 
     /**
-     * Establece la lista de reservas asociadas a este usuario.
+     * Lee el estado del bean escrito por {@link #writeExternal(ObjectOutput)} en la versión actual del formato o en
+     * la versión 1, de la que descarta los identificadores de las reservas.
      *
-     * @param reservas Lista de reservas asociadas al usuario.
+     * @param in El flujo de entrada.
+     * @throws IOException Si se produce un error de lectura o la versión del formato no está soportada.
      */
-    public void setReservas(List<Reserva> reservas) {
-        this.reservas = reservas;
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        byte version = in.readByte();
+        if (version != 1 && version != VERSION_FORMATO) {
+            throw new InvalidClassException(UsuarioSesionBeans.class.getName(),
+                    "Versión del formato de sesión no soportada: " + version);
+        }
+        ID = in.readBoolean() ? in.readLong() : null;
+        nombre = leerTexto(in);
+        apellido1 = leerTexto(in);
+        apellido2 = leerTexto(in);
+        correoElectronico = leerTexto(in);
+        dni = leerTexto(in);
+        codigoUsuario = leerTexto(in);
+        if (version == 1) {
+            int numeroReservas = in.readInt();
+            for (int i = 0; i < numeroReservas; i++) {
+                in.readLong();
+            }
+        }
+    }
+
+    private static void escribirTexto(ObjectOutput out, String texto) throws IOException {
+        out.writeBoolean(texto != null);
+        if (texto != null) {
+            out.writeUTF(texto);
+        }
+    }
+
+    private static String leerTexto(ObjectInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
     }
 }
@@ -1,9 +1,13 @@
 package com.voyageclub.dao;
 
+import com.voyageclub.dto.Pagina;
+import com.voyageclub.metricas.MedirConsultas;
 import com.voyageclub.model.BaseEntity;
 
+import jakarta.persistence.CacheStoreMode;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
 
 import java.io.Serializable;
@@ -11,6 +15,8 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementación base de la interfaz {@link DAO} que proporciona operaciones CRUD
@@ -25,6 +31,9 @@ import java.util.Optional;
  * proporciona la capacidad de establecer el {@link EntityManager} que se utilizará para realizar operaciones en la base
  * de datos.
  *
+ * <p>Las llamadas a los métodos de los DAO se miden con {@link MedirConsultas}: su tiempo, sus filas y sus sentencias
+ * SQL se publican en {@code /metricas} y las más lentas se escriben en el log.
+ *
  * <p>La clase utiliza el nombre de unidad de persistencia "voyageclub-persistence-unit". Si este nombre no es adecuado para
  * tu configuración, asegúrate de ajustarlo en la anotación {@link PersistenceContext}.
  *
@@ -32,6 +41,7 @@ import java.util.Optional;
  * @version 1.0
  */
 @Transactional
+@MedirConsultas
 public class BaseDAO<T extends BaseEntity, ID extends Serializable> implements DAO<T, ID> {
 
     /**
@@ -40,6 +50,17 @@ public class BaseDAO<T extends BaseEntity, ID extends Serializable> implements D
     @PersistenceContext(unitName = "voyageclub-persistence-unit")
     protected EntityManager entityManager;
 
+    /**
+     * Número máximo de entidades que se devuelven en una página.
+     */
+    public static final int TAMANO_MAXIMO_PAGINA = 100;
+
+    /**
+     * Número de filas que se leen de la base de datos en cada viaje al recorrer una tabla, y número de
+     * entidades tras el que se vacía el contexto de persistencia.
+     */
+    public static final int TAMANO_LOTE_RECORRIDO = 500;
+
     /**
      * Clase de la entidad gestionada por este DAO.
      */
@@ -101,12 +122,165 @@ public class BaseDAO<T extends BaseEntity, ID extends Serializable> implements D
 
     /**
      * Recupera todas las entidades del tipo especificado almacenadas en la base de datos.
+     * Utiliza la consulta con nombre {@code <Entidad>.findAll}, que cada entidad declara con {@link jakarta.persistence.NamedQuery}.
      *
      * @return Una lista que contiene todas las entidades del tipo {@code T}.
      */
     @Override
     public List<T> getAll() {
-        return entityManager.createQuery("SELECT e FROM " + entityClass.getSimpleName() + " e", entityClass).getResultList();
+        return entityManager.createNamedQuery(nombreConsulta("findAll"), entityClass).getResultList();
+    }
+
+    /**
+     * Recupera una página de entidades ordenadas por su identificador.
+     * El número de página y el tamaño se ajustan a valores válidos; el tamaño nunca supera {@link #TAMANO_MAXIMO_PAGINA}.
+     *
+     * @param numero Número de la página, empezando en 1.
+     * @param tamano Número máximo de entidades por página.
+     * @return La página solicitada, con el total de entidades para mostrar la paginación.
+     */
+    @Override
+    public Pagina<T> getPagina(int numero, int tamano) {
+        return paginar(nombreConsulta("findPagina"), entityClass, numero, tamano);
+    }
+
+    /**
+     * Recupera las entidades siguientes a un identificador, ordenadas por identificador (paginación por clave).
+     * El tamaño nunca supera {@link #TAMANO_MAXIMO_PAGINA}.
+     *
+     * @param ultimoId Identificador de la última entidad ya recuperada, o {@code null} para empezar por el principio.
+     * @param tamano   Número máximo de entidades a recuperar.
+     * @return Lista con las entidades siguientes; si tiene menos de {@code tamano} elementos no hay más.
+     */
+    @Override
+    public List<T> getSiguientes(ID ultimoId, int tamano) {
+        return siguientes(nombreConsulta("findPagina"), nombreConsulta("findSiguientes"), entityClass, ultimoId, tamano);
+    }
+
+    /**
+     * Obtiene el nombre completo de una consulta con nombre de la entidad, {@code <Entidad>.<consulta>}.
+     *
+     * @param consulta Nombre de la consulta sin el prefijo de la entidad.
+     * @return Nombre de la consulta con el prefijo de la entidad.
+     */
+    protected String nombreConsulta(String consulta) {
+        return entityClass.getSimpleName() + "." + consulta;
+    }
+
+    /**
+     * Ejecuta una consulta con nombre paginada por número de página. El total se obtiene con la consulta
+     * {@code <Entidad>.count}. Permite a los DAO paginar consultas de proyección además de entidades completas.
+     *
+     * @param consulta Nombre de la consulta, ordenada por el identificador de la entidad.
+     * @param tipo     Tipo de los resultados de la consulta.
+     * @param numero   Número de la página, empezando en 1.
+     * @param tamano   Número máximo de resultados por página.
+     * @param <R>      Tipo de los resultados de la consulta.
+     * @return La página solicitada, con el total de entidades para mostrar la paginación.
+     */
+    protected <R> Pagina<R> paginar(String consulta, Class<R> tipo, int numero, int tamano) {
+        int numeroValido = Math.max(1, numero);
+        int tamanoValido = ajustarTamano(tamano);
+        long total = entityManager.createNamedQuery(nombreConsulta("count"), Long.class).getSingleResult();
+        List<R> elementos = entityManager.createNamedQuery(consulta, tipo)
+                .setFirstResult((numeroValido - 1) * tamanoValido)
+                .setMaxResults(tamanoValido)
+                .getResultList();
+        return new Pagina<>(elementos, numeroValido, tamanoValido, total);
+    }
+
+    /**
+     * Ejecuta una consulta con nombre paginada por clave: devuelve los resultados cuyo identificador es posterior a
+     * {@code ultimoId}, ordenados por identificador. Permite a los DAO paginar consultas de proyección.
+     *
+     * @param primeros   Nombre de la consulta de los primeros resultados, ordenada por identificador.
+     * @param siguientes Nombre de la consulta de los resultados posteriores al parámetro {@code ultimoId}, ordenada
+     *                   por identificador.
+     * @param tipo       Tipo de los resultados de la consulta.
+     * @param ultimoId   Identificador del último resultado ya recuperado, o {@code null} para empezar por el principio.
+     * @param tamano     Número máximo de resultados a recuperar.
+     * @param <R>        Tipo de los resultados de la consulta.
+     * @return Lista con los resultados siguientes.
+     */
+    protected <R> List<R> siguientes(String primeros, String siguientes, Class<R> tipo, ID ultimoId, int tamano) {
+        TypedQuery<R> query;
+        if (ultimoId == null) {
+            query = entityManager.createNamedQuery(primeros, tipo);
+        } else {
+            query = entityManager.createNamedQuery(siguientes, tipo);
+            query.setParameter("ultimoId", ultimoId);
+        }
+        return query.setMaxResults(ajustarTamano(tamano)).getResultList();
+    }
+
+    /**
+     * Guarda el resultado de una consulta en la caché de consultas, en la región indicada. Hibernate invalida el
+     * resultado en cuanto se modifica alguna de las tablas que lee la consulta.
+     *
+     * @param query  Consulta a cachear.
+     * @param region Nombre de la región de la caché de consultas, definida en {@code ehcache.xml}.
+     * @param <R>    Tipo de los resultados de la consulta.
+     * @return La misma consulta, para encadenar llamadas.
+     */
+    protected <R> TypedQuery<R> cachear(TypedQuery<R> query, String region) {
+        return query.setHint("org.hibernate.cacheable", true)
+                .setHint("org.hibernate.cacheRegion", region);
+    }
+
+    /**
+     * Carga con la misma consulta las asociaciones de un grafo de entidad con nombre. Las asociaciones son perezosas
+     * por defecto; cada caso de uso indica con su grafo las que va a recorrer, en lugar de lanzar una consulta por
+     * cada fila al acceder a ellas.
+     *
+     * @param query Consulta a la que se aplica el grafo.
+     * @param grafo Nombre del grafo, declarado en la entidad con {@link jakarta.persistence.NamedEntityGraph}.
+     * @param <R>   Tipo de los resultados de la consulta.
+     * @return La misma consulta, para encadenar llamadas.
+     */
+    protected <R> TypedQuery<R> conGrafo(TypedQuery<R> query, String grafo) {
+        return query.setHint("jakarta.persistence.fetchgraph", entityManager.getEntityGraph(grafo));
+    }
+
+    /**
+     * Recorre todas las entidades del tipo especificado, ordenadas por identificador, sin cargarlas todas a la vez.
+     *
+     * <p>La consulta se ejecuta como un flujo ({@link jakarta.persistence.TypedQuery#getResultStream()}) que lee
+     * {@link #TAMANO_LOTE_RECORRIDO} filas en cada viaje a la base de datos. Las entidades se cargan en modo de solo
+     * lectura, de modo que Hibernate no guarda copias para detectar cambios, en un {@link EntityManager} propio del
+     * recorrido que se vacía cada {@link #TAMANO_LOTE_RECORRIDO} entidades, por lo que la memoria utilizada no depende
+     * del tamaño de la tabla. El contexto de persistencia compartido de la transacción no se vacía: sus entidades
+     * gestionadas siguen gestionadas y sus cambios pendientes se envían a la base de datos antes de empezar, para que
+     * el recorrido los vea cuando ambos utilizan la misma conexión (transacciones JTA).
+     * Las entidades recorridas tampoco se guardan en la caché de segundo nivel, para no desplazar de ella las más usadas.
+     *
+     * <p>La consulta es {@code <Entidad>.findPagina}, sin límite de resultados. Con MySQL, el driver solo lee por lotes
+     * si la URL de conexión incluye {@code useCursorFetch=true}.
+     *
+     * @param consumidor Operación que se aplica a cada entidad.
+     * @return Número de entidades recorridas.
+     */
+    @Override
+    public long recorrer(Consumer<T> consumidor) {
+        if (entityManager.isJoinedToTransaction()) {
+            entityManager.flush();
+        }
+        long recorridas = 0;
+        EntityManager lector = entityManager.getEntityManagerFactory().createEntityManager();
+        try (Stream<T> entidades = lector.createNamedQuery(nombreConsulta("findPagina"), entityClass)
+                .setHint("org.hibernate.fetchSize", TAMANO_LOTE_RECORRIDO)
+                .setHint("org.hibernate.readOnly", true)
+                .setHint("jakarta.persistence.cache.storeMode", CacheStoreMode.BYPASS)
+                .getResultStream()) {
+            for (T entidad : (Iterable<T>) entidades::iterator) {
+                consumidor.accept(entidad);
+                if (++recorridas % TAMANO_LOTE_RECORRIDO == 0) {
+                    lector.clear();
+                }
+            }
+        } finally {
+            lector.close();
+        }
+        return recorridas;
     }
 
     /**
@@ -149,4 +323,8 @@ public class BaseDAO<T extends BaseEntity, ID extends Serializable> implements D
     public void setEntityManager(EntityManager entityManager) {
         this.entityManager = entityManager;
     }
+
+    private static int ajustarTamano(int tamano) {
+        return Math.min(Math.max(1, tamano), TAMANO_MAXIMO_PAGINA);
+    }
 }
@@ -1,11 +1,13 @@
 package com.voyageclub.dao;
 
+import com.voyageclub.dto.Pagina;
 import com.voyageclub.model.BaseEntity;
 
 import jakarta.persistence.EntityManager;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Esta interfaz proporciona métodos para realizar operaciones CRUD (Create, Read, Update, Delete)
@@ -39,6 +41,38 @@ public interface DAO<T extends BaseEntity, ID extends Serializable> {
      */
     List<T> getAll();
 
+    /**
+     * Recupera una página de entidades ordenadas por su identificador.
+     *
+     * @param numero Número de la página, empezando en 1.
+     * @param tamano Número máximo de entidades por página.
+     * @return La página solicitada, con el total de entidades para mostrar la paginación.
+     */
+    Pagina<T> getPagina(int numero, int tamano);
+
+    /**
+     * Recupera las entidades siguientes a un identificador, ordenadas por identificador (paginación por clave).
+     * A diferencia de {@link #getPagina(int, int)}, el coste no crece al avanzar, ya que la base de datos
+     * salta directamente al identificador indicado en lugar de descartar las filas anteriores.
+     *
+     * @param ultimoId Identificador de la última entidad ya recuperada, o {@code null} para empezar por el principio.
+     * @param tamano   Número máximo de entidades a recuperar.
+     * @return Lista con las entidades siguientes; si tiene menos de {@code tamano} elementos no hay más.
+     */
+    List<T> getSiguientes(ID ultimoId, int tamano);
+
+    /**
+     * Recorre todas las entidades del tipo especificado, ordenadas por identificador, sin cargarlas todas a la vez.
+     * Las entidades se leen por lotes y se entregan en modo de solo lectura, desde un contexto de persistencia propio
+     * del recorrido que se vacía tras cada lote, por lo que el consumidor no debe conservarlas ni modificarlas.
+     * El contexto de persistencia de la transacción en curso no se vacía: sus cambios pendientes se envían a la base
+     * de datos antes de empezar y sus entidades siguen gestionadas.
+     *
+     * @param consumidor Operación que se aplica a cada entidad.
+     * @return Número de entidades recorridas.
+     */
+    long recorrer(Consumer<T> consumidor);
+
     /**
      * Guarda una nueva entidad en la base de datos.
      *
@@ -0,0 +1,82 @@
+package com.voyageclub.dao;
+
+import com.voyageclub.dto.EstadisticasRegionCache;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Default;
+import jakarta.inject.Named;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Consulta las estadísticas de la caché de segundo nivel y de la caché de consultas de Hibernate.
+ * Las estadísticas solo se recogen si la unidad de persistencia tiene {@code hibernate.generate_statistics} activado.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@Named
+@Default
+@Dependent
+public class EstadisticasCacheDAO {
+
+    /**
+     * El {@link EntityManager} a partir del cual se obtienen las estadísticas de la unidad de persistencia.
+     */
+    @PersistenceContext(unitName = "voyageclub-persistence-unit")
+    private EntityManager entityManager;
+
+    /**
+     * Obtiene las estadísticas de cada región de la caché, ordenadas por nombre de región.
+     * Las regiones de consultas solo aparecen después de que se haya ejecutado alguna consulta cacheada en ellas.
+     *
+     * @return Lista con las estadísticas de cada región.
+     */
+    public List<EstadisticasRegionCache> getRegiones() {
+        Statistics estadisticas = getEstadisticas();
+        String[] regiones = estadisticas.getSecondLevelCacheRegionNames();
+        Arrays.sort(regiones);
+
+        List<EstadisticasRegionCache> resultado = new ArrayList<>(regiones.length);
+        for (String region : regiones) {
+            CacheRegionStatistics estadisticasRegion = estadisticas.getCacheRegionStatistics(region);
+            if (estadisticasRegion != null) {
+                resultado.add(new EstadisticasRegionCache(region, estadisticasRegion.getHitCount(),
+                        estadisticasRegion.getMissCount(), estadisticasRegion.getPutCount(),
+                        estadisticasRegion.getElementCountInMemory()));
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Obtiene las estadísticas globales de la caché de consultas.
+     *
+     * @return Estadísticas de la caché de consultas, con el nombre de región {@code "consultas"}.
+     */
+    public EstadisticasRegionCache getConsultas() {
+        Statistics estadisticas = getEstadisticas();
+        return new EstadisticasRegionCache("consultas", estadisticas.getQueryCacheHitCount(),
+                estadisticas.getQueryCacheMissCount(), estadisticas.getQueryCachePutCount(), -1);
+    }
+
+    /**
+     * Establece el {@link EntityManager} que se utilizará para obtener las estadísticas.
+     *
+     * @param entityManager El {@link EntityManager} que se utilizará.
+     */
+    public void setEntityManager(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    private Statistics getEstadisticas() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,70 @@
+package com.voyageclub.dao;
+
+import com.voyageclub.dto.EstadisticasSentencia;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Default;
+import jakarta.inject.Named;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Consulta las estadísticas de ejecución de las consultas JPQL de Hibernate: número de ejecuciones, filas devueltas
+ * y tiempos. Las estadísticas solo se recogen si la unidad de persistencia tiene {@code hibernate.generate_statistics}
+ * activado.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@Named
+@Default
+@Dependent
+public class EstadisticasConsultasDAO {
+
+    /**
+     * El {@link EntityManager} a partir del cual se obtienen las estadísticas de la unidad de persistencia.
+     */
+    @PersistenceContext(unitName = "voyageclub-persistence-unit")
+    private EntityManager entityManager;
+
+    /**
+     * Obtiene las consultas ejecutadas con mayor tiempo máximo de ejecución; a igual tiempo máximo, primero las de
+     * mayor tiempo total.
+     *
+     * @param numero Número máximo de consultas que se devuelven.
+     * @return Lista con las estadísticas de las consultas más lentas, de más a menos lenta.
+     */
+    public List<EstadisticasSentencia> getMasLentas(int numero) {
+        Statistics estadisticas = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        return Arrays.stream(estadisticas.getQueries())
+                .map(consulta -> resumen(consulta, estadisticas.getQueryStatistics(consulta)))
+                .filter(sentencia -> sentencia.getEjecuciones() > 0)
+                .sorted(Comparator.comparingLong(EstadisticasSentencia::getMaximoMs)
+                        .thenComparingLong(EstadisticasSentencia::getTotalMs)
+                        .reversed())
+                .limit(Math.max(0, numero))
+                .toList();
+    }
+
+    /**
+     * Establece el {@link EntityManager} que se utilizará para obtener las estadísticas.
+     *
+     * @param entityManager El {@link EntityManager} que se utilizará.
+     */
+    public void setEntityManager(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    private static EstadisticasSentencia resumen(String consulta, QueryStatistics estadisticas) {
+        return new EstadisticasSentencia(consulta, estadisticas.getExecutionCount(), estadisticas.getExecutionRowCount(),
+                estadisticas.getExecutionAvgTime(), estadisticas.getExecutionMaxTime(),
+                estadisticas.getExecutionTotalTime());
+    }
+}
@@ -2,6 +2,7 @@ package com.voyageclub.dao;
 
 import com.voyageclub.model.Factura;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,4 +25,11 @@ public interface FacturaDAO extends DAO<Factura, Long> {
      * @return Factura asociada al usuario, o un {@link Optional#empty()} si no hay ninguna factura.
      */
     Optional<Factura> findByUsuario(Long usuarioId);
+
+    /**
+     * Guarda varias facturas, junto con la asociación de sus reservas, en una única transacción.
+     *
+     * @param facturas Las facturas a guardar.
+     */
+    void saveAll(List<Factura> facturas);
 }
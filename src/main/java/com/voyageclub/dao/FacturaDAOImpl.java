@@ -7,6 +7,7 @@ import jakarta.enterprise.inject.Default;
 import jakarta.inject.Named;
 import jakarta.persistence.TypedQuery;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,7 +20,7 @@ import java.util.Optional;
  *
  * <p>Esta implementación de `FacturaDAO` incluye métodos para guardar facturas, obtener todas
  * las facturas almacenadas en la base de datos y recuperar una factura asociada a un usuario específico.
- * Además, al guardar una factura, también se actualizan las reservas asociadas a esa factura.
+ * Además, al guardar una factura, también se asocian a ella sus reservas mediante una actualización masiva.
  *
  * @author Álvaro Bajo
  * @version 1.0
@@ -29,6 +30,11 @@ import java.util.Optional;
 @Dependent
 public class FacturaDAOImpl extends BaseDAO<Factura, Long> implements FacturaDAO {
 
+    /**
+     * Número máximo de reservas que se asocian a una factura en cada sentencia UPDATE.
+     */
+    static final int MAXIMO_RESERVAS_POR_UPDATE = 1000;
+
     /**
      * Constructor que inicializa la clase de la entidad.
      */
@@ -37,25 +43,75 @@ public class FacturaDAOImpl extends BaseDAO<Factura, Long> implements FacturaDAO
     }
 
     /**
-     * Guarda una factura y actualiza las reservas asociadas.
+     * Guarda una factura y asocia a ella sus reservas.
+     *
+     * <p>Las reservas ya guardadas se asocian con una única sentencia UPDATE por cada
+     * {@link #MAXIMO_RESERVAS_POR_UPDATE} reservas, sin leerlas ni actualizarlas una a una.
+     * Las reservas que todavía no se han guardado se guardan ya asociadas a la factura.
      *
      * @param factura La factura a guardar.
      */
     @Override
     public void save(Factura factura) {
-        // Guardar la factura
         super.save(factura);
+        // La factura debe existir en la base de datos antes de que las reservas la referencien
+        entityManager.flush();
+        vincularReservas(factura);
+    }
+
+    /**
+     * Guarda varias facturas en una única transacción. Las facturas se insertan en lotes y después se asocian
+     * las reservas de cada una de ellas como en {@link #save(Factura)}.
+     *
+     * @param facturas Las facturas a guardar.
+     */
+    @Override
+    public void saveAll(List<Factura> facturas) {
+        facturas.forEach(super::save);
+        entityManager.flush();
+        facturas.forEach(this::vincularReservas);
+    }
 
-        // Obtener las reservas asociadas a la factura
+    /**
+     * Asocia las reservas de una factura ya guardada. La actualización masiva no modifica las reservas gestionadas
+     * por el contexto de persistencia, así que se refrescan desde la base de datos: siguen gestionadas y ya
+     * referencian la factura. A las reservas desvinculadas se les asigna la factura en memoria.
+     *
+     * @param factura La factura guardada.
+     */
+    private void vincularReservas(Factura factura) {
         List<Reserva> reservas = factura.getReservas();
+        if (reservas == null || reservas.isEmpty()) {
+            return;
+        }
 
-        // Verificar si hay reservas asociadas
-        if (reservas != null && !reservas.isEmpty()) {
-            // Iterar sobre las reservas y establecer el id de la factura
-            for (Reserva reserva : reservas) {
+        List<Long> reservaIds = new ArrayList<>(reservas.size());
+        for (Reserva reserva : reservas) {
+            if (reserva.getId() == null) {
+                // Reserva nueva: se guarda ya asociada a la factura
                 reserva.setFactura(factura);
-                // Actualizar la reserva en la base de datos
-                entityManager.merge(reserva);
+                entityManager.persist(reserva);
+            } else {
+                reservaIds.add(reserva.getId());
+            }
+        }
+
+        for (int inicio = 0; inicio < reservaIds.size(); inicio += MAXIMO_RESERVAS_POR_UPDATE) {
+            entityManager.createNamedQuery("Reserva.asociarFactura")
+                    .setParameter("factura", factura)
+                    .setParameter("reservaIds",
+                            reservaIds.subList(inicio, Math.min(inicio + MAXIMO_RESERVAS_POR_UPDATE, reservaIds.size())))
+                    .executeUpdate();
+        }
+
+        for (Reserva reserva : reservas) {
+            if (reserva.getId() != null && reserva.getFactura() != factura) {
+                if (entityManager.contains(reserva)) {
+                    // La actualización masiva no modifica las entidades gestionadas: se releen de la base de datos
+                    entityManager.refresh(reserva);
+                } else {
+                    reserva.setFactura(factura);
+                }
             }
         }
     }
@@ -67,22 +123,20 @@ public class FacturaDAOImpl extends BaseDAO<Factura, Long> implements FacturaDAO
      */
     @Override
     public List<Factura> getAll() {
-        TypedQuery<Factura> query = entityManager.createQuery("SELECT f FROM Factura f", Factura.class);
+        TypedQuery<Factura> query = entityManager.createNamedQuery("Factura.findAll", Factura.class);
         return query.getResultList();
     }
 
     /**
-     * Recupera una factura asociada a un usuario específico.
+     * Recupera una factura asociada a un usuario específico, junto con sus reservas, su usuario y su estancia.
      *
      * @param idUsuario Identificador único del usuario.
      * @return Factura asociada al usuario, o un {@link Optional#empty()} si no hay ninguna factura.
      */
     @Override
     public Optional<Factura> findByUsuario(Long idUsuario) {
-        TypedQuery<Factura> query = entityManager.createQuery(
-                "SELECT f FROM Factura f JOIN FETCH f.reservas r WHERE r.usuario.id = :idUsuario",
-                Factura.class
-        );
+        TypedQuery<Factura> query = conGrafo(entityManager.createNamedQuery("Factura.findByUsuario", Factura.class),
+                "Factura.calculoFactura");
         query.setParameter("idUsuario", idUsuario);
         return query.getResultList().stream().findFirst();
     }
@@ -1,7 +1,12 @@
 package com.voyageclub.dao;
 
+import com.voyageclub.dto.HotelResumen;
+import com.voyageclub.dto.ImagenSubida;
+import com.voyageclub.dto.Pagina;
 import com.voyageclub.model.Hotel;
+import com.voyageclub.model.enumerdos.SlotImagen;
 
+import java.io.IOException;
 import java.util.Optional;
 
 /**
@@ -10,7 +15,8 @@ import java.util.Optional;
  *
  * <p>Esta interfaz define métodos adicionales para el acceso a datos y manipulación de hoteles
  * en la base de datos. Incluye operaciones como buscar hoteles por nombre y código, así como
- * operaciones para guardar y recuperar imágenes principales y secundarias de los hoteles.
+ * operaciones para guardar y recuperar imágenes principales y secundarias de los hoteles, que se
+ * almacenan aparte de la entidad en el almacén de imágenes ({@link ImagenDAO}).
  *
  * @author Álvaro Bajo
  * @version 1.0
@@ -64,4 +70,42 @@ public interface HotelDAO extends DAO<Hotel, Long> {
      * @return Un {@link Optional} que contiene los bytes de la imagen secundaria si se encuentra, o vacío si no.
      */
     Optional<byte[]> getImageSecundaria(Long hotelId);
+
+    /**
+     * Guarda un hotel junto con sus imágenes, copiándolas directamente desde la petición al almacén de imágenes.
+     *
+     * @param hotel            El hotel a guardar.
+     * @param imagenPrincipal  Imagen principal subida.
+     * @param imagenSecundaria Imagen secundaria subida.
+     * @throws IOException Si ocurre un error al leer alguna de las imágenes.
+     */
+    void save(Hotel hotel, ImagenSubida imagenPrincipal, ImagenSubida imagenSecundaria) throws IOException;
+
+    /**
+     * Actualiza un hotel y reemplaza las imágenes indicadas. Las imágenes {@code null} se mantienen sin leerlas.
+     *
+     * @param hotel            El hotel a actualizar.
+     * @param imagenPrincipal  Nueva imagen principal, o {@code null} para mantener la actual.
+     * @param imagenSecundaria Nueva imagen secundaria, o {@code null} para mantener la actual.
+     * @throws IOException Si ocurre un error al leer alguna de las imágenes.
+     */
+    void update(Hotel hotel, ImagenSubida imagenPrincipal, ImagenSubida imagenSecundaria) throws IOException;
+
+    /**
+     * Comprueba si un hotel tiene guardada la imagen indicada, sin leer su contenido.
+     *
+     * @param hotelId Identificador único del hotel.
+     * @param slot    Imagen a comprobar ({@link SlotImagen#HOTEL_PRINCIPAL} o {@link SlotImagen#HOTEL_SECUNDARIA}).
+     * @return {@code true} si el hotel tiene la imagen, {@code false} en caso contrario.
+     */
+    boolean tieneImagen(Long hotelId, SlotImagen slot);
+
+    /**
+     * Recupera una página con el resumen de los hoteles que se muestra en el listado.
+     *
+     * @param numero Número de la página, empezando en 1.
+     * @param tamano Número máximo de hoteles por página.
+     * @return La página solicitada con el resumen de los hoteles.
+     */
+    Pagina<HotelResumen> getPaginaResumen(int numero, int tamano);
 }
@@ -1,11 +1,19 @@
 package com.voyageclub.dao;
 
+import com.voyageclub.dto.HotelResumen;
+import com.voyageclub.dto.ImagenSubida;
+import com.voyageclub.dto.Pagina;
 import com.voyageclub.model.Hotel;
+import com.voyageclub.model.enumerdos.SlotImagen;
 
 import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.inject.Default;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.persistence.TypedQuery;
+import jakarta.transaction.Transactional;
+
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +27,7 @@ import java.util.Optional;
  * <p>Esta clase implementa métodos para acceder y manipular datos relacionados con hoteles
  * en la base de datos. Incluye operaciones como obtener todos los hoteles, buscar hoteles por nombre y código,
  * así como operaciones para guardar y recuperar imágenes principales y secundarias de los hoteles.
+ * Las imágenes no forman parte de la entidad {@link Hotel}: se delegan en {@link ImagenDAO}.
  *
  * @author Álvaro Bajo
  * @version 1.0
@@ -28,6 +37,19 @@ import java.util.Optional;
 @Dependent
 public class HotelDAOImpl extends BaseDAO<Hotel, Long> implements HotelDAO {
 
+    /**
+     * Slots de imagen que tiene cada hotel.
+     */
+    private static final List<SlotImagen> SLOTS_HOTEL = List.of(SlotImagen.HOTEL_PRINCIPAL, SlotImagen.HOTEL_SECUNDARIA);
+
+    /**
+     * Región de la caché de consultas para las búsquedas de hoteles.
+     */
+    static final String REGION_CONSULTAS = "consultas.hotel";
+
+    @Inject
+    private ImagenDAO imagenDAO;
+
     /**
      * Constructor que recibe la clase de la entidad como parámetro.
      */
@@ -42,7 +64,7 @@ public class HotelDAOImpl extends BaseDAO<Hotel, Long> implements HotelDAO {
      */
     @Override
     public List<Hotel> getAll() {
-        TypedQuery<Hotel> query = entityManager.createQuery("SELECT h FROM Hotel h", Hotel.class);
+        TypedQuery<Hotel> query = entityManager.createNamedQuery("Hotel.findAll", Hotel.class);
         return query.getResultList();
     }
 
@@ -54,24 +76,90 @@ public class HotelDAOImpl extends BaseDAO<Hotel, Long> implements HotelDAO {
      */
     @Override
     public Optional<Hotel> findByNombre(String nombre) {
-        TypedQuery<Hotel> query = entityManager.createQuery("SELECT h FROM Hotel h WHERE h.nombre = :nombre", Hotel.class);
+        TypedQuery<Hotel> query = entityManager.createNamedQuery("Hotel.findByNombre", Hotel.class);
         query.setParameter("nombre", nombre);
         return query.getResultList().stream().findFirst();
     }
 
     /**
-     * Busca un hotel por su código.
+     * Busca un hotel por su código. El resultado se guarda en la caché de consultas.
      *
      * @param codigoHotel El código del hotel a buscar.
      * @return Un {@link Optional} que contiene el hotel si se encuentra, o vacío si no.
      */
     @Override
     public Optional<Hotel> findByCodigoHotel(String codigoHotel) {
-        TypedQuery<Hotel> query = entityManager.createQuery("SELECT h FROM Hotel h WHERE h.codigoHotel = :codigoHotel", Hotel.class);
+        TypedQuery<Hotel> query = cachear(entityManager.createNamedQuery("Hotel.findByCodigoHotel", Hotel.class),
+                REGION_CONSULTAS);
         query.setParameter("codigoHotel", codigoHotel);
         return query.getResultList().stream().findFirst();
     }
 
+    /**
+     * Guarda un hotel y, si las tiene asignadas, sus imágenes en el almacén de imágenes.
+     *
+     * @param hotel El hotel a guardar.
+     */
+    @Override
+    public void save(Hotel hotel) {
+        super.save(hotel);
+        guardarImagenes(hotel);
+    }
+
+    /**
+     * Actualiza un hotel. Las imágenes solo se reescriben si se han asignado nuevas.
+     *
+     * @param hotel El hotel a actualizar.
+     */
+    @Override
+    public void update(Hotel hotel) {
+        super.update(hotel);
+        guardarImagenes(hotel);
+    }
+
+    /**
+     * Guarda un hotel junto con sus imágenes, copiándolas directamente desde la petición al almacén de imágenes.
+     * Si alguna imagen no se puede leer no se guarda nada.
+     *
+     * @param hotel            El hotel a guardar.
+     * @param imagenPrincipal  Imagen principal subida.
+     * @param imagenSecundaria Imagen secundaria subida.
+     * @throws IOException Si ocurre un error al leer alguna de las imágenes.
+     */
+    @Override
+    @Transactional(rollbackOn = IOException.class)
+    public void save(Hotel hotel, ImagenSubida imagenPrincipal, ImagenSubida imagenSecundaria) throws IOException {
+        save(hotel);
+        guardarImagenesSubidas(hotel.getId(), imagenPrincipal, imagenSecundaria);
+    }
+
+    /**
+     * Actualiza un hotel y reemplaza las imágenes indicadas. Las imágenes {@code null} se mantienen sin leerlas.
+     * Si alguna imagen no se puede leer no se guarda nada.
+     *
+     * @param hotel            El hotel a actualizar.
+     * @param imagenPrincipal  Nueva imagen principal, o {@code null} para mantener la actual.
+     * @param imagenSecundaria Nueva imagen secundaria, o {@code null} para mantener la actual.
+     * @throws IOException Si ocurre un error al leer alguna de las imágenes.
+     */
+    @Override
+    @Transactional(rollbackOn = IOException.class)
+    public void update(Hotel hotel, ImagenSubida imagenPrincipal, ImagenSubida imagenSecundaria) throws IOException {
+        update(hotel);
+        guardarImagenesSubidas(hotel.getId(), imagenPrincipal, imagenSecundaria);
+    }
+
+    /**
+     * Elimina un hotel junto con sus imágenes.
+     *
+     * @param id Identificador único del hotel.
+     */
+    @Override
+    public void delete(Long id) {
+        imagenDAO.eliminar(id, SLOTS_HOTEL);
+        super.delete(id);
+    }
+
     /**
      * Guarda la imagen principal de un hotel.
      *
@@ -80,9 +168,7 @@ public class HotelDAOImpl extends BaseDAO<Hotel, Long> implements HotelDAO {
      */
     @Override
     public void saveImagePrincipal(Long hotelId, byte[] imagenPrincipal) {
-        Hotel hotel = getById(hotelId).orElseThrow(() -> new IllegalArgumentException("Hotel no encontrado"));
-        hotel.setImagenPrincipal(imagenPrincipal);
-        update(hotel);
+        imagenDAO.guardar(hotelId, SlotImagen.HOTEL_PRINCIPAL, imagenPrincipal);
     }
 
     /**
@@ -93,9 +179,7 @@ public class HotelDAOImpl extends BaseDAO<Hotel, Long> implements HotelDAO {
      */
     @Override
     public void saveImageSecundaria(Long hotelId, byte[] imagenSecundaria) {
-        Hotel hotel = getById(hotelId).orElseThrow(() -> new IllegalArgumentException("Hotel no encontrado"));
-        hotel.setImagenSecundaria(imagenSecundaria);
-        update(hotel);
+        imagenDAO.guardar(hotelId, SlotImagen.HOTEL_SECUNDARIA, imagenSecundaria);
     }
 
     /**
@@ -106,8 +190,7 @@ public class HotelDAOImpl extends BaseDAO<Hotel, Long> implements HotelDAO {
      */
     @Override
     public Optional<byte[]> getImagePrincipal(Long hotelId) {
-        Hotel hotel = getById(hotelId).orElseThrow(() -> new IllegalArgumentException("Hotel no encontrado"));
-        return Optional.ofNullable(hotel.getImagenPrincipal());
+        return imagenDAO.getDatos(hotelId, SlotImagen.HOTEL_PRINCIPAL);
     }
 
     /**
@@ -118,7 +201,50 @@ public class HotelDAOImpl extends BaseDAO<Hotel, Long> implements HotelDAO {
      */
     @Override
     public Optional<byte[]> getImageSecundaria(Long hotelId) {
-        Hotel hotel = getById(hotelId).orElseThrow(() -> new IllegalArgumentException("Hotel no encontrado"));
-        return Optional.ofNullable(hotel.getImagenSecundaria());
+        return imagenDAO.getDatos(hotelId, SlotImagen.HOTEL_SECUNDARIA);
+    }
+
+    /**
+     * Comprueba si un hotel tiene guardada la imagen indicada, sin leer su contenido.
+     *
+     * @param hotelId Identificador único del hotel.
+     * @param slot    Imagen a comprobar.
+     * @return {@code true} si el hotel tiene la imagen, {@code false} en caso contrario.
+     */
+    @Override
+    public boolean tieneImagen(Long hotelId, SlotImagen slot) {
+        return imagenDAO.contar(hotelId, List.of(slot)) > 0;
+    }
+
+    private void guardarImagenes(Hotel hotel) {
+        if (hotel.getImagenPrincipal() != null) {
+            imagenDAO.guardar(hotel.getId(), SlotImagen.HOTEL_PRINCIPAL, hotel.getImagenPrincipal());
+        }
+        if (hotel.getImagenSecundaria() != null) {
+            imagenDAO.guardar(hotel.getId(), SlotImagen.HOTEL_SECUNDARIA, hotel.getImagenSecundaria());
+        }
+    }
+
+    private void guardarImagenesSubidas(Long hotelId, ImagenSubida imagenPrincipal, ImagenSubida imagenSecundaria)
+            throws IOException {
+        if (imagenPrincipal != null) {
+            imagenDAO.guardar(hotelId, SlotImagen.HOTEL_PRINCIPAL, imagenPrincipal);
+        }
+        if (imagenSecundaria != null) {
+            imagenDAO.guardar(hotelId, SlotImagen.HOTEL_SECUNDARIA, imagenSecundaria);
+        }
+    }
+
+    /**
+     * Recupera una página con el resumen de los hoteles que se muestra en el listado.
+     * La consulta solo selecciona las columnas del resumen.
+     *
+     * @param numero Número de la página, empezando en 1.
+     * @param tamano Número máximo de hoteles por página.
+     * @return La página solicitada con el resumen de los hoteles.
+     */
+    @Override
+    public Pagina<HotelResumen> getPaginaResumen(int numero, int tamano) {
+        return paginar("Hotel.findPaginaResumen", HotelResumen.class, numero, tamano);
     }
 }
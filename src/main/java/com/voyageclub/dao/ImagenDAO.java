@@ -0,0 +1,146 @@
+package com.voyageclub.dao;
+
+import com.voyageclub.dto.ImagenSubida;
+import com.voyageclub.dto.MetadatosImagen;
+import com.voyageclub.model.Imagen;
+import com.voyageclub.model.enumerdos.SlotImagen;
+import com.voyageclub.model.enumerdos.VarianteImagen;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interfaz que extiende la interfaz genérica {@link DAO} para la entidad {@link Imagen}.
+ * Proporciona el acceso al almacén de imágenes de hoteles y estancias de lujo.
+ *
+ * <p>Las imágenes se identifican por el identificador de su propietario, su {@link SlotImagen} y su
+ * {@link VarianteImagen}. La variante {@link VarianteImagen#FULL} es la imagen original; las demás se
+ * generan a partir de ella.
+ * Los bytes solo se leen bajo demanda, permitiendo consultar los metadatos de una imagen
+ * o copiarla directamente a un flujo de salida sin materializarla en memoria.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public interface ImagenDAO extends DAO<Imagen, Long> {
+
+    /**
+     * Lector que procesa el contenido de una imagen directamente desde el BLOB.
+     *
+     * @param <T> Tipo del resultado de la lectura.
+     */
+    @FunctionalInterface
+    interface Lector<T> {
+
+        /**
+         * Procesa el contenido de la imagen.
+         *
+         * @param datos Flujo con el contenido de la imagen. Solo es válido durante la llamada.
+         * @return El resultado de la lectura.
+         * @throws IOException Si ocurre un error al leer la imagen.
+         */
+        T leer(InputStream datos) throws IOException;
+    }
+
+    /**
+     * Guarda (o reemplaza) la imagen original de un propietario en el slot indicado.
+     * Las variantes reescaladas de la imagen anterior se eliminan, ya que dejan de corresponderse con ella.
+     *
+     * @param propietarioId Identificador del propietario de la imagen.
+     * @param slot          Posición de la imagen.
+     * @param datos         Bytes de la imagen.
+     */
+    void guardar(Long propietarioId, SlotImagen slot, byte[] datos);
+
+    /**
+     * Guarda (o reemplaza) la imagen original de un propietario copiándola en el BLOB directamente
+     * desde su origen, sin cargarla en memoria.
+     * Las variantes reescaladas de la imagen anterior se eliminan, ya que dejan de corresponderse con ella.
+     *
+     * @param propietarioId Identificador del propietario de la imagen.
+     * @param slot          Posición de la imagen.
+     * @param imagen        Imagen subida, con su hash y su tamaño ya calculados.
+     * @throws IOException Si ocurre un error al leer la imagen de su origen.
+     */
+    void guardar(Long propietarioId, SlotImagen slot, ImagenSubida imagen) throws IOException;
+
+    /**
+     * Guarda (o reemplaza) una variante reescalada de la imagen de un propietario, solo si la imagen original sigue
+     * siendo aquella a partir de la que se ha generado la variante.
+     *
+     * @param propietarioId Identificador del propietario de la imagen.
+     * @param slot          Posición de la imagen.
+     * @param variante      Variante de tamaño que se guarda.
+     * @param datos         Bytes de la variante.
+     * @param hashOriginal  Hash de la imagen original a partir de la que se ha generado la variante.
+     * @return {@code true} si se ha guardado la variante, {@code false} si la imagen original ha cambiado o ya no
+     * existe.
+     */
+    boolean guardarVariante(Long propietarioId, SlotImagen slot, VarianteImagen variante, byte[] datos,
+                            String hashOriginal);
+
+    /**
+     * Obtiene los metadatos de una variante de imagen sin leer su contenido.
+     *
+     * @param propietarioId Identificador del propietario de la imagen.
+     * @param slot          Posición de la imagen.
+     * @param variante      Variante de tamaño de la imagen.
+     * @return Un {@link Optional} con los metadatos de la imagen, o vacío si no existe.
+     */
+    Optional<MetadatosImagen> getMetadatos(Long propietarioId, SlotImagen slot, VarianteImagen variante);
+
+    /**
+     * Obtiene los bytes de la imagen original.
+     *
+     * @param propietarioId Identificador del propietario de la imagen.
+     * @param slot          Posición de la imagen.
+     * @return Un {@link Optional} con los bytes de la imagen, o vacío si no existe.
+     */
+    Optional<byte[]> getDatos(Long propietarioId, SlotImagen slot);
+
+    /**
+     * Lee la imagen original directamente desde el BLOB, sin cargar sus bytes en memoria.
+     * El lector se ejecuta dentro de la transacción del DAO, que mantiene abierto el BLOB mientras lo lee.
+     *
+     * @param propietarioId Identificador del propietario de la imagen.
+     * @param slot          Posición de la imagen.
+     * @param lector        Lector que procesa el contenido de la imagen.
+     * @param <T>           Tipo del resultado de la lectura.
+     * @return Un {@link Optional} con el resultado del lector, o vacío si la imagen no existe o el lector devuelve
+     * {@code null}.
+     * @throws IOException Si ocurre un error al leer la imagen.
+     */
+    <T> Optional<T> leer(Long propietarioId, SlotImagen slot, Lector<T> lector) throws IOException;
+
+    /**
+     * Copia el contenido de una variante de imagen en el flujo de salida directamente desde el BLOB.
+     *
+     * @param propietarioId Identificador del propietario de la imagen.
+     * @param slot          Posición de la imagen.
+     * @param variante      Variante de tamaño de la imagen.
+     * @param salida        Flujo en el que se escriben los bytes de la imagen.
+     * @return {@code true} si se ha escrito la imagen, {@code false} si no existe.
+     * @throws IOException Si ocurre un error al escribir en el flujo de salida.
+     */
+    boolean escribir(Long propietarioId, SlotImagen slot, VarianteImagen variante, OutputStream salida) throws IOException;
+
+    /**
+     * Cuenta cuántos de los slots indicados tienen imagen original para un propietario.
+     *
+     * @param propietarioId Identificador del propietario de las imágenes.
+     * @param slots         Slots a comprobar.
+     * @return Número de slots que tienen imagen.
+     */
+    long contar(Long propietarioId, List<SlotImagen> slots);
+
+    /**
+     * Elimina las imágenes de un propietario en los slots indicados, con todas sus variantes.
+     *
+     * @param propietarioId Identificador del propietario de las imágenes.
+     * @param slots         Slots cuyas imágenes se eliminan.
+     */
+    void eliminar(Long propietarioId, List<SlotImagen> slots);
+}
@@ -0,0 +1,287 @@
+package com.voyageclub.dao;
+
+import com.voyageclub.dto.ImagenSubida;
+import com.voyageclub.dto.MetadatosImagen;
+import com.voyageclub.model.Imagen;
+import com.voyageclub.model.enumerdos.SlotImagen;
+import com.voyageclub.model.enumerdos.VarianteImagen;
+import com.voyageclub.util.ImagenUtil;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Default;
+import jakarta.inject.Named;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementación de la interfaz {@link ImagenDAO} que proporciona operaciones específicas
+ * para la entidad {@link Imagen}.
+ *
+ * Esta implementación utiliza el mecanismo de inyección de dependencias de CDI
+ * con las anotaciones {@link Named}, {@link Default}, y {@link Dependent}.
+ *
+ * <p>Ninguna consulta de esta clase carga la entidad {@link Imagen} completa: los metadatos se obtienen
+ * con proyecciones y el contenido se lee como {@link Blob} solo cuando se va a enviar.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@Named
+@Default
+@Dependent
+public class ImagenDAOImpl extends BaseDAO<Imagen, Long> implements ImagenDAO {
+
+    /**
+     * Constructor que recibe la clase de la entidad como parámetro.
+     */
+    public ImagenDAOImpl() {
+        super(Imagen.class);
+    }
+
+    /**
+     * Guarda (o reemplaza) la imagen original de un propietario en el slot indicado.
+     * Las variantes reescaladas de la imagen anterior se eliminan, ya que dejan de corresponderse con ella.
+     *
+     * @param propietarioId Identificador del propietario de la imagen.
+     * @param slot          Posición de la imagen.
+     * @param datos         Bytes de la imagen.
+     */
+    @Override
+    public void guardar(Long propietarioId, SlotImagen slot, byte[] datos) {
+        try {
+            guardar(propietarioId, slot, enMemoria(datos));
+        } catch (IOException e) {
+            // Un flujo en memoria no puede fallar al leerse
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Guarda (o reemplaza) la imagen original de un propietario copiándola en el BLOB directamente
+     * desde su origen, sin cargarla en memoria.
+     * Las variantes reescaladas de la imagen anterior se eliminan, ya que dejan de corresponderse con ella.
+     *
+     * @param propietarioId Identificador del propietario de la imagen.
+     * @param slot          Posición de la imagen.
+     * @param imagen        Imagen subida, con su hash y su tamaño ya calculados.
+     * @throws IOException Si ocurre un error al leer la imagen de su origen.
+     */
+    @Override
+    public void guardar(Long propietarioId, SlotImagen slot, ImagenSubida imagen) throws IOException {
+        // La imagen original se reemplaza antes de eliminar las variantes: la fila queda bloqueada hasta el final de
+        // la transacción, de modo que una variante de la imagen anterior que se esté guardando a la vez, o bien se
+        // guarda antes y se elimina a continuación, o bien espera y encuentra un hash distinto (guardarVariante)
+        escribirImagen(propietarioId, slot, VarianteImagen.FULL, imagen);
+        entityManager.createNamedQuery("Imagen.deleteVariantes")
+                .setParameter("propietarioId", propietarioId)
+                .setParameter("slot", slot)
+                .setParameter("variante", VarianteImagen.FULL)
+                .executeUpdate();
+    }
+
+    /**
+     * Guarda (o reemplaza) una variante de la imagen de un propietario, solo si la imagen original sigue siendo
+     * aquella a partir de la que se ha generado. La imagen original se bloquea hasta el final de la transacción, para
+     * que no pueda reemplazarse entre la comprobación y la escritura.
+     *
+     * @param propietarioId Identificador del propietario de la imagen.
+     * @param slot          Posición de la imagen.
+     * @param variante      Variante de tamaño que se guarda.
+     * @param datos         Bytes de la variante.
+     * @param hashOriginal  Hash de la imagen original a partir de la que se ha generado la variante.
+     * @return {@code true} si se ha guardado la variante, {@code false} si la imagen original ha cambiado o ya no
+     * existe.
+     */
+    @Override
+    public boolean guardarVariante(Long propietarioId, SlotImagen slot, VarianteImagen variante, byte[] datos,
+                                   String hashOriginal) {
+        TypedQuery<String> query = entityManager.createNamedQuery("Imagen.findHash", String.class);
+        query.setParameter("propietarioId", propietarioId);
+        query.setParameter("slot", slot);
+        query.setParameter("variante", VarianteImagen.FULL);
+        query.setLockMode(LockModeType.PESSIMISTIC_WRITE);
+        Optional<String> hashActual = query.getResultList().stream().findFirst();
+        if (hashActual.isEmpty() || !hashActual.get().equals(hashOriginal)) {
+            return false;
+        }
+        try {
+            escribirImagen(propietarioId, slot, variante, enMemoria(datos));
+            return true;
+        } catch (IOException e) {
+            // Un flujo en memoria no puede fallar al leerse
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Obtiene los metadatos de una variante de imagen sin leer su contenido.
+     *
+     * @param propietarioId Identificador del propietario de la imagen.
+     * @param slot          Posición de la imagen.
+     * @param variante      Variante de tamaño de la imagen.
+     * @return Un {@link Optional} con los metadatos de la imagen, o vacío si no existe.
+     */
+    @Override
+    public Optional<MetadatosImagen> getMetadatos(Long propietarioId, SlotImagen slot, VarianteImagen variante) {
+        TypedQuery<MetadatosImagen> query = entityManager.createNamedQuery("Imagen.findMetadatos",
+                MetadatosImagen.class);
+        query.setParameter("propietarioId", propietarioId);
+        query.setParameter("slot", slot);
+        query.setParameter("variante", variante);
+        return query.getResultList().stream().findFirst();
+    }
+
+    /**
+     * Obtiene los bytes de la imagen original.
+     *
+     * @param propietarioId Identificador del propietario de la imagen.
+     * @param slot          Posición de la imagen.
+     * @return Un {@link Optional} con los bytes de la imagen, o vacío si no existe.
+     */
+    @Override
+    public Optional<byte[]> getDatos(Long propietarioId, SlotImagen slot) {
+        Optional<Blob> blob = buscarBlob(propietarioId, slot, VarianteImagen.FULL);
+        if (blob.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(blob.get().getBytes(1, (int) blob.get().length()));
+        } catch (SQLException e) {
+            throw new IllegalStateException("No se ha podido leer la imagen " + slot + " de " + propietarioId, e);
+        }
+    }
+
+    /**
+     * Lee la imagen original directamente desde el BLOB, sin cargar sus bytes en memoria.
+     * El lector se ejecuta dentro de la transacción del DAO, que mantiene abierto el BLOB mientras lo lee.
+     *
+     * @param propietarioId Identificador del propietario de la imagen.
+     * @param slot          Posición de la imagen.
+     * @param lector        Lector que procesa el contenido de la imagen.
+     * @param <T>           Tipo del resultado de la lectura.
+     * @return Un {@link Optional} con el resultado del lector, o vacío si la imagen no existe o el lector devuelve
+     * {@code null}.
+     * @throws IOException Si ocurre un error al leer la imagen.
+     */
+    @Override
+    public <T> Optional<T> leer(Long propietarioId, SlotImagen slot, Lector<T> lector) throws IOException {
+        Optional<Blob> blob = buscarBlob(propietarioId, slot, VarianteImagen.FULL);
+        if (blob.isEmpty()) {
+            return Optional.empty();
+        }
+        try (InputStream imagen = blob.get().getBinaryStream()) {
+            return Optional.ofNullable(lector.leer(imagen));
+        } catch (SQLException e) {
+            throw new IOException("No se ha podido leer la imagen " + slot + " de " + propietarioId, e);
+        }
+    }
+
+    /**
+     * Copia el contenido de una variante de imagen en el flujo de salida directamente desde el BLOB.
+     *
+     * @param propietarioId Identificador del propietario de la imagen.
+     * @param slot          Posición de la imagen.
+     * @param variante      Variante de tamaño de la imagen.
+     * @param salida        Flujo en el que se escriben los bytes de la imagen.
+     * @return {@code true} si se ha escrito la imagen, {@code false} si no existe.
+     * @throws IOException Si ocurre un error al escribir en el flujo de salida.
+     */
+    @Override
+    public boolean escribir(Long propietarioId, SlotImagen slot, VarianteImagen variante, OutputStream salida) throws IOException {
+        Optional<Blob> blob = buscarBlob(propietarioId, slot, variante);
+        if (blob.isEmpty()) {
+            return false;
+        }
+        try (InputStream imagen = blob.get().getBinaryStream()) {
+            imagen.transferTo(salida);
+            return true;
+        } catch (SQLException e) {
+            throw new IOException("No se ha podido leer la imagen " + slot + " de " + propietarioId, e);
+        }
+    }
+
+    /**
+     * Cuenta cuántos de los slots indicados tienen imagen original para un propietario.
+     *
+     * @param propietarioId Identificador del propietario de las imágenes.
+     * @param slots         Slots a comprobar.
+     * @return Número de slots que tienen imagen.
+     */
+    @Override
+    public long contar(Long propietarioId, List<SlotImagen> slots) {
+        TypedQuery<Long> query = entityManager.createNamedQuery("Imagen.contar", Long.class);
+        query.setParameter("propietarioId", propietarioId);
+        query.setParameter("slots", slots);
+        query.setParameter("variante", VarianteImagen.FULL);
+        return query.getSingleResult();
+    }
+
+    /**
+     * Elimina las imágenes de un propietario en los slots indicados, con todas sus variantes.
+     *
+     * @param propietarioId Identificador del propietario de las imágenes.
+     * @param slots         Slots cuyas imágenes se eliminan.
+     */
+    @Override
+    public void eliminar(Long propietarioId, List<SlotImagen> slots) {
+        entityManager.createNamedQuery("Imagen.deleteBySlots")
+                .setParameter("propietarioId", propietarioId)
+                .setParameter("slots", slots)
+                .executeUpdate();
+    }
+
+    private Optional<Long> buscarId(Long propietarioId, SlotImagen slot, VarianteImagen variante) {
+        TypedQuery<Long> query = entityManager.createNamedQuery("Imagen.findId", Long.class);
+        query.setParameter("propietarioId", propietarioId);
+        query.setParameter("slot", slot);
+        query.setParameter("variante", variante);
+        return query.getResultList().stream().findFirst();
+    }
+
+    private Optional<Blob> buscarBlob(Long propietarioId, SlotImagen slot, VarianteImagen variante) {
+        TypedQuery<Blob> query = entityManager.createNamedQuery("Imagen.findDatos", Blob.class);
+        query.setParameter("propietarioId", propietarioId);
+        query.setParameter("slot", slot);
+        query.setParameter("variante", variante);
+        return query.getResultList().stream().findFirst();
+    }
+
+    private void escribirImagen(Long propietarioId, SlotImagen slot, VarianteImagen variante, ImagenSubida imagen)
+            throws IOException {
+        // El driver lee el flujo al ejecutar la sentencia, por lo que debe seguir abierto hasta el flush
+        try (InputStream datos = imagen.abrir()) {
+            Blob blob = entityManager.unwrap(Session.class).getLobHelper().createBlob(datos, imagen.getTamano());
+
+            Optional<Long> idExistente = buscarId(propietarioId, slot, variante);
+            if (idExistente.isPresent()) {
+                // Reemplazar el contenido sin cargar la imagen anterior
+                entityManager.createNamedQuery("Imagen.actualizarDatos")
+                        .setParameter("datos", blob)
+                        .setParameter("hash", imagen.getHash())
+                        .setParameter("tamano", imagen.getTamano())
+                        .setParameter("fecha", Instant.now())
+                        .setParameter("id", idExistente.get())
+                        .executeUpdate();
+            } else {
+                save(new Imagen(propietarioId, slot, variante, blob, imagen.getHash(), imagen.getTamano()));
+                entityManager.flush();
+            }
+        }
+    }
+
+    private ImagenSubida enMemoria(byte[] datos) {
+        return new ImagenSubida(() -> new ByteArrayInputStream(datos), ImagenUtil.calcularHash(datos), datos.length);
+    }
+}
@@ -1,5 +1,7 @@
 package com.voyageclub.dao;
 
+import com.voyageclub.dto.LuxuryStayResumen;
+import com.voyageclub.dto.Pagina;
 import com.voyageclub.model.LuxuryStay;
 
 import java.util.List;
@@ -47,4 +49,13 @@ public interface LuxuryStayDAO extends DAO<LuxuryStay, Long> {
      * @return Lista que contiene todas las estancias de lujo ordenadas por precio descendente.
      */
     List<LuxuryStay> findByPrecioDescendente();
+
+    /**
+     * Recupera una página con el resumen de las estancias de lujo que se muestra en el listado.
+     *
+     * @param numero Número de la página, empezando en 1.
+     * @param tamano Número máximo de estancias de lujo por página.
+     * @return La página solicitada con el resumen de las estancias de lujo.
+     */
+    Pagina<LuxuryStayResumen> getPaginaResumen(int numero, int tamano);
 }
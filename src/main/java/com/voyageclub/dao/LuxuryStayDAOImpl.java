@@ -1,9 +1,13 @@
 package com.voyageclub.dao;
 
+import com.voyageclub.dto.LuxuryStayResumen;
+import com.voyageclub.dto.Pagina;
 import com.voyageclub.model.LuxuryStay;
+import com.voyageclub.model.enumerdos.SlotImagen;
 
 import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.inject.Default;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.persistence.TypedQuery;
 import java.util.List;
@@ -18,6 +22,7 @@ import java.util.Optional;
  *
  * <p>Esta clase implementa las operaciones definidas en la interfaz {@link LuxuryStayDAO},
  * centrándose en el acceso a datos y manipulación de estancias de lujo en la base de datos.
+ * Las imágenes no forman parte de la entidad {@link LuxuryStay}: se delegan en {@link ImagenDAO}.
  *
  * @author [Tu Nombre]
  * @version 1.0
@@ -27,6 +32,20 @@ import java.util.Optional;
 @Dependent
 public class LuxuryStayDAOImpl extends BaseDAO<LuxuryStay, Long> implements LuxuryStayDAO {
 
+    /**
+     * Slots de imagen que tiene cada estancia de lujo.
+     */
+    private static final List<SlotImagen> SLOTS_LUXURY_STAY = List.of(
+            SlotImagen.LUXURY_PRINCIPAL, SlotImagen.LUXURY_DERECHA, SlotImagen.LUXURY_IZQUIERDA);
+
+    /**
+     * Región de la caché de consultas para las búsquedas de estancias de lujo.
+     */
+    static final String REGION_CONSULTAS = "consultas.luxuryStay";
+
+    @Inject
+    private ImagenDAO imagenDAO;
+
     /**
      * Constructor que recibe la clase de la entidad como parámetro.
      */
@@ -41,7 +60,7 @@ public class LuxuryStayDAOImpl extends BaseDAO<LuxuryStay, Long> implements Luxu
      */
     @Override
     public List<LuxuryStay> getAll() {
-        TypedQuery<LuxuryStay> query = entityManager.createQuery("SELECT ls FROM LuxuryStay ls", LuxuryStay.class);
+        TypedQuery<LuxuryStay> query = entityManager.createNamedQuery("LuxuryStay.findAll", LuxuryStay.class);
         return query.getResultList();
     }
 
@@ -53,21 +72,22 @@ public class LuxuryStayDAOImpl extends BaseDAO<LuxuryStay, Long> implements Luxu
      */
     @Override
     public Optional<LuxuryStay> findByNombre(String nombre) {
-        TypedQuery<LuxuryStay> query = entityManager.createQuery("SELECT ls FROM LuxuryStay ls WHERE ls.nombre = :nombre", LuxuryStay.class);
+        TypedQuery<LuxuryStay> query = entityManager.createNamedQuery("LuxuryStay.findByNombre", LuxuryStay.class);
         query.setParameter("nombre", nombre);
         query.setMaxResults(1);
         return query.getResultList().stream().findFirst();
     }
 
     /**
-     * Busca una estancia de lujo por su código.
+     * Busca una estancia de lujo por su código. El resultado se guarda en la caché de consultas.
      *
      * @param codigoLuxuryStay El código de la estancia de lujo a buscar.
      * @return Un Optional que contiene la estancia de lujo si se encuentra, o vacío si no.
      */
     @Override
     public Optional<LuxuryStay> findByCodigoLuxuryStay(String codigoLuxuryStay) {
-        TypedQuery<LuxuryStay> query = entityManager.createQuery("SELECT ls FROM LuxuryStay ls WHERE ls.codigoLuxuryStay = :codigoLuxuryStay", LuxuryStay.class);
+        TypedQuery<LuxuryStay> query = cachear(entityManager.createNamedQuery(
+                "LuxuryStay.findByCodigoLuxuryStay", LuxuryStay.class), REGION_CONSULTAS);
         query.setParameter("codigoLuxuryStay", codigoLuxuryStay);
         query.setMaxResults(1);
         return query.getResultList().stream().findFirst();
@@ -75,25 +95,85 @@ public class LuxuryStayDAOImpl extends BaseDAO<LuxuryStay, Long> implements Luxu
 
     /**
      * Obtiene todas las estancias de lujo ordenadas por precio de forma ascendente.
+     * El resultado se guarda en la caché de consultas.
      *
      * @return Lista que contiene todas las estancias de lujo ordenadas por precio ascendente.
      */
     @Override
     public List<LuxuryStay> findByPrecioAscendente() {
-        TypedQuery<LuxuryStay> query = entityManager.createQuery("SELECT ls FROM LuxuryStay ls WHERE ls.precioNoche IS NOT NULL ORDER BY ls.precioNoche ASC", LuxuryStay.class);
+        TypedQuery<LuxuryStay> query = cachear(entityManager.createNamedQuery(
+                "LuxuryStay.findByPrecioAscendente", LuxuryStay.class), REGION_CONSULTAS);
         return query.getResultList();
     }
 
     /**
      * Obtiene todas las estancias de lujo ordenadas por precio de forma descendente.
+     * El resultado se guarda en la caché de consultas.
      *
      * @return Lista que contiene todas las estancias de lujo ordenadas por precio descendente.
      */
     @Override
     public List<LuxuryStay> findByPrecioDescendente() {
-        TypedQuery<LuxuryStay> query = entityManager.createQuery("SELECT ls FROM LuxuryStay ls WHERE ls.precioNoche IS NOT NULL ORDER BY ls.precioNoche DESC", LuxuryStay.class);
+        TypedQuery<LuxuryStay> query = cachear(entityManager.createNamedQuery(
+                "LuxuryStay.findByPrecioDescendente", LuxuryStay.class), REGION_CONSULTAS);
         return query.getResultList();
     }
 
-    // Puedes añadir implementaciones específicas para LuxuryStay si es necesario
+    /**
+     * Guarda una estancia de lujo y, si las tiene asignadas, sus imágenes en el almacén de imágenes.
+     *
+     * @param luxuryStay La estancia de lujo a guardar.
+     */
+    @Override
+    public void save(LuxuryStay luxuryStay) {
+        super.save(luxuryStay);
+        guardarImagenes(luxuryStay);
+    }
+
+    /**
+     * Actualiza una estancia de lujo. Las imágenes solo se reescriben si se han asignado nuevas.
+     *
+     * @param luxuryStay La estancia de lujo a actualizar.
+     */
+    @Override
+    public void update(LuxuryStay luxuryStay) {
+        super.update(luxuryStay);
+        guardarImagenes(luxuryStay);
+    }
+
+    /**
+     * Elimina una estancia de lujo junto con sus imágenes.
+     *
+     * @param id Identificador único de la estancia de lujo.
+     */
+    @Override
+    public void delete(Long id) {
+        imagenDAO.eliminar(id, SLOTS_LUXURY_STAY);
+        super.delete(id);
+    }
+
+    private void guardarImagenes(LuxuryStay luxuryStay) {
+        if (luxuryStay.getImagenPrincipal() != null) {
+            imagenDAO.guardar(luxuryStay.getId(), SlotImagen.LUXURY_PRINCIPAL, luxuryStay.getImagenPrincipal());
+        }
+        if (luxuryStay.getImagenDerecha() != null) {
+            imagenDAO.guardar(luxuryStay.getId(), SlotImagen.LUXURY_DERECHA, luxuryStay.getImagenDerecha());
+        }
+        if (luxuryStay.getImagenIzquierda() != null) {
+            imagenDAO.guardar(luxuryStay.getId(), SlotImagen.LUXURY_IZQUIERDA, luxuryStay.getImagenIzquierda());
+        }
+    }
+
+    /**
+     * Recupera una página con el resumen de las estancias de lujo que se muestra en el listado.
+     * La consulta solo selecciona las columnas del resumen y el nombre del hotel.
+     *
+     * @param numero Número de la página, empezando en 1.
+     * @param tamano Número máximo de estancias de lujo por página.
+     * @return La página solicitada con el resumen de las estancias de lujo.
+     */
+    @Override
+    public Pagina<LuxuryStayResumen> getPaginaResumen(int numero, int tamano) {
+        return paginar("LuxuryStay.findPaginaResumen", LuxuryStayResumen.class, numero, tamano);
+    }
 }
@@ -1,5 +1,6 @@
 package com.voyageclub.dao;
 
+import com.voyageclub.dto.ReservaResumen;
 import com.voyageclub.model.Reserva;
 
 import java.util.List;
@@ -49,4 +50,20 @@ public interface ReservaDAO extends DAO<Reserva, Long> {
      * @return Lista de reservas asociadas al estado, o una lista vacía si no hay ninguna reserva.
      */
     List<Reserva> findByEstado(String estado);
+
+    /**
+     * Recupera las reservas de un usuario que todavía no tienen factura, listas para calcular su factura.
+     *
+     * @param usuarioId Identificador único del usuario.
+     * @return Lista de reservas sin facturar del usuario, o una lista vacía si no hay ninguna.
+     */
+    List<Reserva> findPendientesDeFacturar(Long usuarioId);
+
+    /**
+     * Recupera el resumen de las reservas de un usuario, ordenadas por fecha de inicio.
+     *
+     * @param usuarioId Identificador único del usuario.
+     * @return Lista con el resumen de las reservas del usuario, o una lista vacía si no tiene ninguna.
+     */
+    List<ReservaResumen> findResumenByUsuario(Long usuarioId);
 }
@@ -1,6 +1,8 @@
 package com.voyageclub.dao;
 
+import com.voyageclub.dto.ReservaResumen;
 import com.voyageclub.model.Reserva;
+import com.voyageclub.model.enumerdos.EstadoReserva;
 
 import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.inject.Default;
@@ -35,44 +37,48 @@ public class ReservaDAOImpl extends BaseDAO<Reserva, Long> implements ReservaDAO
     }
 
     /**
-     * Obtiene todas las reservas almacenadas en la base de datos.
+     * Obtiene todas las reservas almacenadas en la base de datos, junto con su usuario, estancia, hotel y factura.
      *
      * @return Lista que contiene todas las reservas.
      */
     @Override
     public List<Reserva> getAll() {
-        TypedQuery<Reserva> query = entityManager.createQuery("SELECT r FROM Reserva r", Reserva.class);
+        TypedQuery<Reserva> query = conGrafo(entityManager.createNamedQuery("Reserva.findAll", Reserva.class),
+                "Reserva.listadoAdmin");
         return query.getResultList();
     }
 
     /**
-     * Recupera una lista de reservas asociadas a un usuario específico.
+     * Recupera una lista de reservas asociadas a un usuario específico, junto con su estancia y su hotel.
      *
      * @param usuarioId Identificador único del usuario.
      * @return Lista de reservas asociadas al usuario, o una lista vacía si no hay ninguna reserva.
      */
     @Override
     public List<Reserva> findByUsuario(Long usuarioId) {
-        TypedQuery<Reserva> query = entityManager.createQuery("SELECT r FROM Reserva r WHERE r.usuario.id = :usuarioId", Reserva.class);
+        TypedQuery<Reserva> query = conGrafo(entityManager.createNamedQuery("Reserva.findByUsuario", Reserva.class),
+                "Reserva.resumenUsuario");
         query.setParameter("usuarioId", usuarioId);
         return query.getResultList();
     }
 
     /**
-     * Recupera una lista de reservas asociadas a una estancia de lujo específica.
+     * Recupera una lista de reservas asociadas a una estancia de lujo específica, junto con su usuario, estancia,
+     * hotel y factura.
      *
      * @param luxuryStayId Identificador único de la estancia de lujo.
      * @return Lista de reservas asociadas a la estancia de lujo, o una lista vacía si no hay ninguna reserva.
      */
     @Override
     public List<Reserva> findByLuxuryStay(Long luxuryStayId) {
-        TypedQuery<Reserva> query = entityManager.createQuery("SELECT r FROM Reserva r WHERE r.luxuryStay.id = :luxuryStayId", Reserva.class);
+        TypedQuery<Reserva> query = conGrafo(entityManager.createNamedQuery("Reserva.findByLuxuryStay", Reserva.class),
+                "Reserva.listadoAdmin");
         query.setParameter("luxuryStayId", luxuryStayId);
         return query.getResultList();
     }
 
     /**
-     * Recupera una reserva asociada a un usuario y una estancia de lujo específicos.
+     * Recupera una reserva asociada a un usuario y una estancia de lujo específicos, junto con su estancia y su hotel.
      *
      * @param usuarioId    Identificador único del usuario.
      * @param luxuryStayId Identificador único de la estancia de lujo.
@@ -80,22 +86,66 @@ public class ReservaDAOImpl extends BaseDAO<Reserva, Long> implements ReservaDAO
      */
     @Override
     public Optional<Reserva> findByUsuarioAndLuxuryStay(Long usuarioId, Long luxuryStayId) {
-        TypedQuery<Reserva> query = entityManager.createQuery("SELECT r FROM Reserva r WHERE r.usuario.id = :usuarioId AND r.luxuryStay.id = :luxuryStayId", Reserva.class);
+        TypedQuery<Reserva> query = conGrafo(
+                entityManager.createNamedQuery("Reserva.findByUsuarioAndLuxuryStay", Reserva.class),
+                "Reserva.resumenUsuario");
         query.setParameter("usuarioId", usuarioId);
         query.setParameter("luxuryStayId", luxuryStayId);
         return query.getResultList().stream().findFirst();
     }
 
     /**
-     * Recupera una lista de reservas asociadas a un estado específico.
+     * Recupera una lista de reservas asociadas a un estado específico, junto con su usuario, estancia, hotel y factura.
      *
-     * @param estado Estado de las reservas a buscar.
-     * @return Lista de reservas asociadas al estado, o una lista vacía si no hay ninguna reserva.
+     * @param estado Nombre del estado de las reservas a buscar (por ejemplo, {@code PENDIENTE}).
+     * @return Lista de reservas asociadas al estado, o una lista vacía si no hay ninguna reserva o el estado no existe.
      */
     @Override
     public List<Reserva> findByEstado(String estado) {
-        TypedQuery<Reserva> query = entityManager.createQuery("SELECT r FROM Reserva r WHERE r.estado = :estado", Reserva.class);
-        query.setParameter("estado", estado);
+        if (estado == null) {
+            return List.of();
+        }
+        EstadoReserva estadoReserva;
+        try {
+            estadoReserva = EstadoReserva.valueOf(estado);
+        } catch (IllegalArgumentException e) {
+            // El estado no existe: ninguna reserva puede tenerlo
+            return List.of();
+        }
+        TypedQuery<Reserva> query = conGrafo(entityManager.createNamedQuery("Reserva.findByEstado", Reserva.class),
+                "Reserva.listadoAdmin");
+        query.setParameter("estado", estadoReserva);
+        return query.getResultList();
+    }
+
+    /**
+     * Recupera las reservas de un usuario que todavía no tienen factura, junto con su usuario y su estancia, que son
+     * los datos que necesita el cálculo de la factura.
+     *
+     * @param usuarioId Identificador único del usuario.
+     * @return Lista de reservas sin facturar del usuario, o una lista vacía si no hay ninguna.
+     */
+    @Override
+    public List<Reserva> findPendientesDeFacturar(Long usuarioId) {
+        TypedQuery<Reserva> query = conGrafo(
+                entityManager.createNamedQuery("Reserva.findPendientesDeFacturar", Reserva.class),
+                "Reserva.calculoFactura");
+        query.setParameter("usuarioId", usuarioId);
+        return query.getResultList();
+    }
+
+    /**
+     * Recupera el resumen de las reservas de un usuario, ordenadas por fecha de inicio, con una consulta de
+     * proyección.
+     *
+     * @param usuarioId Identificador único del usuario.
+     * @return Lista con el resumen de las reservas del usuario, o una lista vacía si no tiene ninguna.
+     */
+    @Override
+    public List<ReservaResumen> findResumenByUsuario(Long usuarioId) {
+        TypedQuery<ReservaResumen> query = entityManager.createNamedQuery("Reserva.findResumenByUsuario",
+                ReservaResumen.class);
+        query.setParameter("usuarioId", usuarioId);
         return query.getResultList();
     }
 }
@@ -0,0 +1,49 @@
+package com.voyageclub.dao;
+
+import com.voyageclub.model.SesionUsuario;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Interfaz que extiende la interfaz genérica {@link DAO} para la entidad {@link SesionUsuario}.
+ * Proporciona el acceso a las sesiones de los usuarios compartidas entre los nodos de la aplicación.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public interface SesionUsuarioDAO extends DAO<SesionUsuario, Long> {
+
+    /**
+     * Obtiene los datos de una sesión sin cargar la entidad.
+     *
+     * @param token  Token que identifica la sesión.
+     * @param limite Fecha a partir de la cual una sesión sigue vigente; las actualizadas antes se ignoran.
+     * @return Un objeto {@link Optional} con los datos de la sesión, o vacío si no existe o ha caducado.
+     */
+    Optional<byte[]> findDatosByToken(String token, Instant limite);
+
+    /**
+     * Guarda (o reemplaza) los datos de una sesión.
+     *
+     * @param token Token que identifica la sesión.
+     * @param datos Bean de sesión del usuario serializado.
+     */
+    void guardar(String token, byte[] datos);
+
+    /**
+     * Elimina una sesión.
+     *
+     * @param token Token que identifica la sesión.
+     * @return Número de sesiones eliminadas.
+     */
+    int deleteByToken(String token);
+
+    /**
+     * Elimina las sesiones caducadas.
+     *
+     * @param limite Fecha hasta la cual (incluida) las sesiones actualizadas se consideran caducadas.
+     * @return Número de sesiones eliminadas.
+     */
+    int deleteAnteriores(Instant limite);
+}
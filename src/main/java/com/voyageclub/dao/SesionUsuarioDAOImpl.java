@@ -0,0 +1,92 @@
+package com.voyageclub.dao;
+
+import com.voyageclub.model.SesionUsuario;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Default;
+import jakarta.inject.Named;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Implementación de la interfaz {@link SesionUsuarioDAO} que proporciona operaciones específicas
+ * para la entidad {@link SesionUsuario}.
+ *
+ * Esta implementación utiliza el mecanismo de inyección de dependencias de CDI
+ * con las anotaciones {@link Named}, {@link Default}, y {@link Dependent}.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@Named
+@Default
+@Dependent
+public class SesionUsuarioDAOImpl extends BaseDAO<SesionUsuario, Long> implements SesionUsuarioDAO {
+
+    /**
+     * Constructor que recibe la clase de la entidad como parámetro.
+     */
+    public SesionUsuarioDAOImpl() {
+        super(SesionUsuario.class);
+    }
+
+    /**
+     * Obtiene los datos de una sesión sin cargar la entidad.
+     *
+     * @param token  Token que identifica la sesión.
+     * @param limite Fecha a partir de la cual una sesión sigue vigente; las actualizadas antes se ignoran.
+     * @return Un objeto {@link Optional} con los datos de la sesión, o vacío si no existe o ha caducado.
+     */
+    @Override
+    public Optional<byte[]> findDatosByToken(String token, Instant limite) {
+        // Consulta sin tipo: Hibernate interpreta un tipo de resultado byte[] como una fila de varias columnas
+        return entityManager.createNamedQuery("SesionUsuario.findDatosByToken")
+                .setParameter("token", token)
+                .setParameter("limite", limite)
+                .getResultList().stream().findFirst().map(byte[].class::cast);
+    }
+
+    /**
+     * Guarda (o reemplaza) los datos de una sesión.
+     *
+     * @param token Token que identifica la sesión.
+     * @param datos Bean de sesión del usuario serializado.
+     */
+    @Override
+    public void guardar(String token, byte[] datos) {
+        Optional<SesionUsuario> existente = entityManager.createNamedQuery("SesionUsuario.findByToken", SesionUsuario.class)
+                .setParameter("token", token)
+                .getResultList().stream().findFirst();
+        if (existente.isPresent()) {
+            existente.get().setDatos(datos);
+        } else {
+            entityManager.persist(new SesionUsuario(token, datos));
+        }
+    }
+
+    /**
+     * Elimina una sesión.
+     *
+     * @param token Token que identifica la sesión.
+     * @return Número de sesiones eliminadas.
+     */
+    @Override
+    public int deleteByToken(String token) {
+        return entityManager.createNamedQuery("SesionUsuario.deleteByToken")
+                .setParameter("token", token)
+                .executeUpdate();
+    }
+
+    /**
+     * Elimina las sesiones caducadas.
+     *
+     * @param limite Fecha hasta la cual (incluida) las sesiones actualizadas se consideran caducadas.
+     * @return Número de sesiones eliminadas.
+     */
+    @Override
+    public int deleteAnteriores(Instant limite) {
+        return entityManager.createNamedQuery("SesionUsuario.deleteAnteriores")
+                .setParameter("limite", limite)
+                .executeUpdate();
+    }
+}
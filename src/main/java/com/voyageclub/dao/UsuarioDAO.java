@@ -1,5 +1,6 @@
 package com.voyageclub.dao;
 
+import com.voyageclub.dto.UsuarioResumen;
 import com.voyageclub.model.Usuario;
 
 import java.util.List;
@@ -64,4 +65,13 @@ public interface UsuarioDAO extends DAO<Usuario, Long> {
      * @return Lista que contiene todos los usuarios.
      */
     List<Usuario> getAll();
+
+    /**
+     * Recupera el resumen de los usuarios siguientes a un identificador, ordenados por identificador.
+     *
+     * @param ultimoId Identificador del último usuario ya recuperado, o {@code null} para empezar por el principio.
+     * @param tamano   Número máximo de usuarios a recuperar.
+     * @return Lista con el resumen de los usuarios siguientes.
+     */
+    List<UsuarioResumen> getSiguientesResumen(Long ultimoId, int tamano);
 }
@@ -1,5 +1,6 @@
 package com.voyageclub.dao;
 
+import com.voyageclub.dto.UsuarioResumen;
 import com.voyageclub.model.Usuario;
 
 import jakarta.enterprise.context.Dependent;
@@ -40,7 +41,7 @@ public class UsuarioDAOImpl extends BaseDAO<Usuario, Long> implements UsuarioDAO
      */
     @Override
     public List<Usuario> getAll() {
-        TypedQuery<Usuario> query = entityManager.createQuery("SELECT u FROM Usuario u", Usuario.class);
+        TypedQuery<Usuario> query = entityManager.createNamedQuery("Usuario.findAll", Usuario.class);
         return query.getResultList();
     }
 
@@ -52,7 +53,7 @@ public class UsuarioDAOImpl extends BaseDAO<Usuario, Long> implements UsuarioDAO
      */
     @Override
     public Optional<Usuario> findByUsername(String nombre) {
-        TypedQuery<Usuario> query = entityManager.createQuery("SELECT u FROM Usuario u WHERE u.nombre = :nombre", Usuario.class);
+        TypedQuery<Usuario> query = entityManager.createNamedQuery("Usuario.findByNombre", Usuario.class);
         query.setParameter("nombre", nombre);
         query.setMaxResults(1);
         return query.getResultList().stream().findFirst();
@@ -66,7 +67,7 @@ public class UsuarioDAOImpl extends BaseDAO<Usuario, Long> implements UsuarioDAO
      */
     @Override
     public Optional<Usuario> findByCorreoElectronico(String correoElectronico) {
-        TypedQuery<Usuario> query = entityManager.createQuery("SELECT u FROM Usuario u WHERE u.correoElectronico = :correo", Usuario.class);
+        TypedQuery<Usuario> query = entityManager.createNamedQuery("Usuario.findByCorreoElectronico", Usuario.class);
         query.setParameter("correo", correoElectronico);
         query.setMaxResults(1);
         return query.getResultList().stream().findFirst();
@@ -80,7 +81,7 @@ public class UsuarioDAOImpl extends BaseDAO<Usuario, Long> implements UsuarioDAO
      */
     @Override
     public Optional<Usuario> findByDni(String dni) {
-        TypedQuery<Usuario> query = entityManager.createQuery("SELECT u FROM Usuario u WHERE u.dni = :dni", Usuario.class);
+        TypedQuery<Usuario> query = entityManager.createNamedQuery("Usuario.findByDni", Usuario.class);
         query.setParameter("dni", dni);
         query.setMaxResults(1);
         return query.getResultList().stream().findFirst();
@@ -97,7 +98,7 @@ public class UsuarioDAOImpl extends BaseDAO<Usuario, Long> implements UsuarioDAO
     public Optional<Usuario> autenticar(String correoElectronico, String contrasena) {
         try {
             // Crear una consulta JPA para seleccionar un usuario por correo electrónico
-            TypedQuery<Usuario> query = entityManager.createQuery("SELECT u FROM Usuario u WHERE u.correoElectronico = :correo", Usuario.class);
+            TypedQuery<Usuario> query = entityManager.createNamedQuery("Usuario.findByCorreoElectronico", Usuario.class);
             query.setParameter("correo", correoElectronico);
             query.setMaxResults(1);
 
@@ -126,7 +127,7 @@ public class UsuarioDAOImpl extends BaseDAO<Usuario, Long> implements UsuarioDAO
      */
     @Override
     public boolean existeMail(String mail) {
-        TypedQuery<Long> query = entityManager.createQuery("SELECT COUNT(u) FROM Usuario u WHERE u.correoElectronico = :correo", Long.class);
+        TypedQuery<Long> query = entityManager.createNamedQuery("Usuario.contarPorCorreoElectronico", Long.class);
         query.setParameter("correo", mail);
 
         // Obtener el resultado como un valor long
@@ -135,4 +136,18 @@ public class UsuarioDAOImpl extends BaseDAO<Usuario, Long> implements UsuarioDAO
         // Si count es mayor que cero, significa que hay al menos un usuario con ese correo electrónico
         return count > 0;
     }
+
+    /**
+     * Recupera el resumen de los usuarios siguientes a un identificador, ordenados por identificador.
+     * La consulta solo selecciona las columnas del resumen, nunca el hash de la contraseña.
+     *
+     * @param ultimoId Identificador del último usuario ya recuperado, o {@code null} para empezar por el principio.
+     * @param tamano   Número máximo de usuarios a recuperar.
+     * @return Lista con el resumen de los usuarios siguientes.
+     */
+    @Override
+    public List<UsuarioResumen> getSiguientesResumen(Long ultimoId, int tamano) {
+        return siguientes("Usuario.findResumen", "Usuario.findSiguientesResumen", UsuarioResumen.class, ultimoId,
+                tamano);
+    }
 }
@@ -0,0 +1,103 @@
+package com.voyageclub.dto;
+
+/**
+ * Estadísticas de las llamadas a un método de un DAO, con las latencias en milisegundos.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public final class EstadisticasMetodoDAO {
+
+    private final String metodo;
+    private final long llamadas;
+    private final long errores;
+    private final long filas;
+    private final double mediaMs;
+    private final double p99Ms;
+    private final double maximoMs;
+
+    /**
+     * Constructor que inicializa las estadísticas del método.
+     *
+     * @param metodo   Método, con el formato {@code Clase.metodo}.
+     * @param llamadas Número de llamadas terminadas.
+     * @param errores  Número de llamadas que han lanzado una excepción.
+     * @param filas    Número total de filas devueltas.
+     * @param mediaMs  Latencia media.
+     * @param p99Ms    Percentil 99 de la latencia.
+     * @param maximoMs Latencia máxima.
+     */
+    public EstadisticasMetodoDAO(String metodo, long llamadas, long errores, long filas, double mediaMs, double p99Ms,
+                                 double maximoMs) {
+        this.metodo = metodo;
+        this.llamadas = llamadas;
+        this.errores = errores;
+        this.filas = filas;
+        this.mediaMs = mediaMs;
+        this.p99Ms = p99Ms;
+        this.maximoMs = maximoMs;
+    }
+
+    /**
+     * Obtiene el método.
+     *
+     * @return Método, con el formato {@code Clase.metodo}.
+     */
+    public String getMetodo() {
+        return metodo;
+    }
+
+    /**
+     * Obtiene el número de llamadas terminadas al método.
+     *
+     * @return Número de llamadas.
+     */
+    public long getLlamadas() {
+        return llamadas;
+    }
+
+    /**
+     * Obtiene el número de llamadas al método que han lanzado una excepción.
+     *
+     * @return Número de errores.
+     */
+    public long getErrores() {
+        return errores;
+    }
+
+    /**
+     * Obtiene el número total de filas devueltas por el método.
+     *
+     * @return Número de filas.
+     */
+    public long getFilas() {
+        return filas;
+    }
+
+    /**
+     * Obtiene la latencia media del método.
+     *
+     * @return Latencia media, en milisegundos.
+     */
+    public double getMediaMs() {
+        return mediaMs;
+    }
+
+    /**
+     * Obtiene el percentil 99 de la latencia del método.
+     *
+     * @return Percentil 99, en milisegundos.
+     */
+    public double getP99Ms() {
+        return p99Ms;
+    }
+
+    /**
+     * Obtiene la latencia máxima del método.
+     *
+     * @return Latencia máxima, en milisegundos.
+     */
+    public double getMaximoMs() {
+        return maximoMs;
+    }
+}
@@ -0,0 +1,88 @@
+package com.voyageclub.dto;
+
+/**
+ * Estadísticas de uso de una región de la caché de segundo nivel o de la caché de consultas.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public final class EstadisticasRegionCache {
+
+    private final String region;
+    private final long aciertos;
+    private final long fallos;
+    private final long escrituras;
+    private final long elementosEnMemoria;
+
+    /**
+     * Constructor que inicializa las estadísticas de la región.
+     *
+     * @param region             Nombre de la región.
+     * @param aciertos           Número de lecturas resueltas por la caché.
+     * @param fallos             Número de lecturas que no encontraron el elemento en la caché.
+     * @param escrituras         Número de elementos guardados en la caché.
+     * @param elementosEnMemoria Número de elementos que contiene la región, o un valor negativo si el proveedor no lo informa.
+     */
+    public EstadisticasRegionCache(String region, long aciertos, long fallos, long escrituras, long elementosEnMemoria) {
+        this.region = region;
+        this.aciertos = aciertos;
+        this.fallos = fallos;
+        this.escrituras = escrituras;
+        this.elementosEnMemoria = elementosEnMemoria;
+    }
+
+    /**
+     * Obtiene el nombre de la región.
+     *
+     * @return Nombre de la región.
+     */
+    public String getRegion() {
+        return region;
+    }
+
+    /**
+     * Obtiene el número de lecturas resueltas por la caché.
+     *
+     * @return Número de aciertos.
+     */
+    public long getAciertos() {
+        return aciertos;
+    }
+
+    /**
+     * Obtiene el número de lecturas que no encontraron el elemento en la caché.
+     *
+     * @return Número de fallos.
+     */
+    public long getFallos() {
+        return fallos;
+    }
+
+    /**
+     * Obtiene el número de elementos guardados en la caché.
+     *
+     * @return Número de escrituras.
+     */
+    public long getEscrituras() {
+        return escrituras;
+    }
+
+    /**
+     * Obtiene el número de elementos que contiene la región.
+     *
+     * @return Número de elementos, o un valor negativo si el proveedor no lo informa.
+     */
+    public long getElementosEnMemoria() {
+        return elementosEnMemoria;
+    }
+
+    /**
+     * Obtiene la proporción de lecturas resueltas por la caché.
+     *
+     * @return Tasa de aciertos entre 0 y 1, o 0 si todavía no se ha leído de la región.
+     */
+    public double getTasaAciertos() {
+        long lecturas = aciertos + fallos;
+        return lecturas == 0 ? 0 : (double) aciertos / lecturas;
+    }
+}
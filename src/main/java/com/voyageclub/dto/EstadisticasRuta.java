@@ -0,0 +1,127 @@
+package com.voyageclub.dto;
+
+/**
+ * Estadísticas de las ejecuciones de una ruta {@code ENTIDAD.OPERACION}, con las latencias en milisegundos.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public final class EstadisticasRuta {
+
+    private final String ruta;
+    private final long peticiones;
+    private final long errores;
+    private final long enCurso;
+    private final double mediaMs;
+    private final double p50Ms;
+    private final double p90Ms;
+    private final double p99Ms;
+    private final double maximoMs;
+
+    /**
+     * Constructor que inicializa las estadísticas de la ruta.
+     *
+     * @param ruta       Ruta {@code ENTIDAD.OPERACION}.
+     * @param peticiones Número de ejecuciones terminadas.
+     * @param errores    Número de ejecuciones fallidas.
+     * @param enCurso    Número de ejecuciones en curso.
+     * @param mediaMs    Latencia media.
+     * @param p50Ms      Mediana de la latencia.
+     * @param p90Ms      Percentil 90 de la latencia.
+     * @param p99Ms      Percentil 99 de la latencia.
+     * @param maximoMs   Latencia máxima.
+     */
+    public EstadisticasRuta(String ruta, long peticiones, long errores, long enCurso, double mediaMs, double p50Ms,
+                            double p90Ms, double p99Ms, double maximoMs) {
+        this.ruta = ruta;
+        this.peticiones = peticiones;
+        this.errores = errores;
+        this.enCurso = enCurso;
+        this.mediaMs = mediaMs;
+        this.p50Ms = p50Ms;
+        this.p90Ms = p90Ms;
+        this.p99Ms = p99Ms;
+        this.maximoMs = maximoMs;
+    }
+
+    /**
+     * Obtiene la ruta.
+     *
+     * @return Ruta {@code ENTIDAD.OPERACION}.
+     */
+    public String getRuta() {
+        return ruta;
+    }
+
+    /**
+     * Obtiene el número de ejecuciones terminadas de la ruta.
+     *
+     * @return Número de peticiones.
+     */
+    public long getPeticiones() {
+        return peticiones;
+    }
+
+    /**
+     * Obtiene el número de ejecuciones fallidas de la ruta.
+     *
+     * @return Número de errores.
+     */
+    public long getErrores() {
+        return errores;
+    }
+
+    /**
+     * Obtiene el número de ejecuciones de la ruta en curso.
+     *
+     * @return Número de ejecuciones en curso.
+     */
+    public long getEnCurso() {
+        return enCurso;
+    }
+
+    /**
+     * Obtiene la latencia media de la ruta.
+     *
+     * @return Latencia media, en milisegundos.
+     */
+    public double getMediaMs() {
+        return mediaMs;
+    }
+
+    /**
+     * Obtiene la mediana de la latencia de la ruta.
+     *
+     * @return Percentil 50, en milisegundos.
+     */
+    public double getP50Ms() {
+        return p50Ms;
+    }
+
+    /**
+     * Obtiene el percentil 90 de la latencia de la ruta.
+     *
+     * @return Percentil 90, en milisegundos.
+     */
+    public double getP90Ms() {
+        return p90Ms;
+    }
+
+    /**
+     * Obtiene el percentil 99 de la latencia de la ruta.
+     *
+     * @return Percentil 99, en milisegundos.
+     */
+    public double getP99Ms() {
+        return p99Ms;
+    }
+
+    /**
+     * Obtiene la latencia máxima de la ruta.
+     *
+     * @return Latencia máxima, en milisegundos.
+     */
+    public double getMaximoMs() {
+        return maximoMs;
+    }
+}
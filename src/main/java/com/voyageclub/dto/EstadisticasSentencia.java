@@ -0,0 +1,91 @@
+package com.voyageclub.dto;
+
+/**
+ * Estadísticas de las ejecuciones de una consulta JPQL, según las estadísticas de Hibernate.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public final class EstadisticasSentencia {
+
+    private final String consulta;
+    private final long ejecuciones;
+    private final long filas;
+    private final long mediaMs;
+    private final long maximoMs;
+    private final long totalMs;
+
+    /**
+     * Constructor que inicializa las estadísticas de la consulta.
+     *
+     * @param consulta    Texto de la consulta, con los parámetros sin sustituir.
+     * @param ejecuciones Número de ejecuciones.
+     * @param filas       Número total de filas devueltas.
+     * @param mediaMs     Tiempo medio de ejecución.
+     * @param maximoMs    Tiempo máximo de ejecución.
+     * @param totalMs     Tiempo total de ejecución.
+     */
+    public EstadisticasSentencia(String consulta, long ejecuciones, long filas, long mediaMs, long maximoMs,
+                                 long totalMs) {
+        this.consulta = consulta;
+        this.ejecuciones = ejecuciones;
+        this.filas = filas;
+        this.mediaMs = mediaMs;
+        this.maximoMs = maximoMs;
+        this.totalMs = totalMs;
+    }
+
+    /**
+     * Obtiene el texto de la consulta.
+     *
+     * @return Consulta JPQL, con los parámetros sin sustituir.
+     */
+    public String getConsulta() {
+        return consulta;
+    }
+
+    /**
+     * Obtiene el número de ejecuciones de la consulta.
+     *
+     * @return Número de ejecuciones.
+     */
+    public long getEjecuciones() {
+        return ejecuciones;
+    }
+
+    /**
+     * Obtiene el número total de filas devueltas por la consulta.
+     *
+     * @return Número de filas.
+     */
+    public long getFilas() {
+        return filas;
+    }
+
+    /**
+     * Obtiene el tiempo medio de ejecución de la consulta.
+     *
+     * @return Tiempo medio, en milisegundos.
+     */
+    public long getMediaMs() {
+        return mediaMs;
+    }
+
+    /**
+     * Obtiene el tiempo máximo de ejecución de la consulta.
+     *
+     * @return Tiempo máximo, en milisegundos.
+     */
+    public long getMaximoMs() {
+        return maximoMs;
+    }
+
+    /**
+     * Obtiene el tiempo total de ejecución de la consulta.
+     *
+     * @return Tiempo total, en milisegundos.
+     */
+    public long getTotalMs() {
+        return totalMs;
+    }
+}
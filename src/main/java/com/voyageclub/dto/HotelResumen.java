@@ -0,0 +1,129 @@
+package com.voyageclub.dto;
+
+/**
+ * Resumen de un hotel con los datos que se muestran en los listados.
+ * Se obtiene directamente con una consulta de proyección, sin cargar la entidad {@code Hotel}
+ * ni sus estancias de lujo.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public final class HotelResumen {
+
+    private final Long id;
+    private final String nombre;
+    private final String direccion;
+    private final Integer estrellas;
+    private final String email;
+    private final String web;
+    private final String descripcion;
+    private final String telefono;
+    private final String codigoHotel;
+
+    /**
+     * Constructor utilizado por las consultas de proyección.
+     *
+     * @param id          El identificador del hotel.
+     * @param nombre      El nombre del hotel.
+     * @param direccion   La dirección del hotel.
+     * @param estrellas   El número de estrellas del hotel.
+     * @param email       El correo electrónico de contacto del hotel.
+     * @param web         La página web del hotel.
+     * @param descripcion La descripción del hotel.
+     * @param telefono    El número de teléfono del hotel.
+     * @param codigoHotel El código único del hotel.
+     */
+    public HotelResumen(Long id, String nombre, String direccion, Integer estrellas, String email, String web,
+                        String descripcion, String telefono, String codigoHotel) {
+        this.id = id;
+        this.nombre = nombre;
+        this.direccion = direccion;
+        this.estrellas = estrellas;
+        this.email = email;
+        this.web = web;
+        this.descripcion = descripcion;
+        this.telefono = telefono;
+        this.codigoHotel = codigoHotel;
+    }
+
+    /**
+     * Obtiene el identificador del hotel.
+     *
+     * @return El identificador del hotel.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Obtiene el nombre del hotel.
+     *
+     * @return El nombre del hotel.
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * Obtiene la dirección del hotel.
+     *
+     * @return La dirección del hotel.
+     */
+    public String getDireccion() {
+        return direccion;
+    }
+
+    /**
+     * Obtiene el número de estrellas del hotel.
+     *
+     * @return El número de estrellas del hotel.
+     */
+    public Integer getEstrellas() {
+        return estrellas;
+    }
+
+    /**
+     * Obtiene el correo electrónico de contacto del hotel.
+     *
+     * @return El correo electrónico de contacto del hotel.
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Obtiene la página web del hotel.
+     *
+     * @return La página web del hotel.
+     */
+    public String getWeb() {
+        return web;
+    }
+
+    /**
+     * Obtiene la descripción del hotel.
+     *
+     * @return La descripción del hotel.
+     */
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    /**
+     * Obtiene el número de teléfono del hotel.
+     *
+     * @return El número de teléfono del hotel.
+     */
+    public String getTelefono() {
+        return telefono;
+    }
+
+    /**
+     * Obtiene el código único del hotel.
+     *
+     * @return El código único del hotel.
+     */
+    public String getCodigoHotel() {
+        return codigoHotel;
+    }
+}
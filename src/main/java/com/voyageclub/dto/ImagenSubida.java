@@ -0,0 +1,112 @@
+package com.voyageclub.dto;
+
+import com.voyageclub.util.ImagenDemasiadoGrandeException;
+import com.voyageclub.util.ImagenUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+
+/**
+ * Imagen recibida en una petición, pendiente de guardar en el almacén de imágenes.
+ * No contiene los bytes de la imagen sino el origen del que se pueden volver a leer (por ejemplo, la parte
+ * multipart de la petición), junto con su hash y su tamaño, calculados en una única lectura previa.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public final class ImagenSubida {
+
+    /**
+     * Origen del que se lee el contenido de la imagen. Cada llamada debe devolver un flujo nuevo
+     * situado al principio de la imagen.
+     */
+    @FunctionalInterface
+    public interface Origen {
+
+        /**
+         * Abre un flujo con el contenido de la imagen.
+         *
+         * @return Flujo con el contenido de la imagen.
+         * @throws IOException Si ocurre un error al abrir el flujo.
+         */
+        InputStream abrir() throws IOException;
+    }
+
+    /**
+     * Tamaño del búfer utilizado al recorrer la imagen.
+     */
+    private static final int TAMANO_BUFER = 8192;
+
+    private final Origen origen;
+    private final String hash;
+    private final long tamano;
+
+    /**
+     * Constructor que recibe el origen de la imagen y sus metadatos ya calculados.
+     *
+     * @param origen Origen del que se lee el contenido de la imagen.
+     * @param hash   Hash SHA-256 del contenido.
+     * @param tamano Tamaño de la imagen en bytes.
+     */
+    public ImagenSubida(Origen origen, String hash, long tamano) {
+        this.origen = origen;
+        this.hash = hash;
+        this.tamano = tamano;
+    }
+
+    /**
+     * Recorre la imagen una vez para calcular su hash y su tamaño sin cargarla en memoria,
+     * comprobando durante la lectura que no supera el tamaño máximo.
+     *
+     * @param origen       Origen del que se lee el contenido de la imagen.
+     * @param tamanoMaximo Tamaño máximo permitido en bytes.
+     * @return La imagen subida con sus metadatos.
+     * @throws ImagenDemasiadoGrandeException Si la imagen supera el tamaño máximo.
+     * @throws IOException                    Si ocurre un error al leer la imagen.
+     */
+    public static ImagenSubida de(Origen origen, long tamanoMaximo) throws IOException {
+        MessageDigest digest = ImagenUtil.nuevoDigest();
+        byte[] bufer = new byte[TAMANO_BUFER];
+        long tamano = 0;
+        try (InputStream entrada = origen.abrir()) {
+            int leidos;
+            while ((leidos = entrada.read(bufer)) != -1) {
+                tamano += leidos;
+                if (tamano > tamanoMaximo) {
+                    throw new ImagenDemasiadoGrandeException(tamanoMaximo);
+                }
+                digest.update(bufer, 0, leidos);
+            }
+        }
+        return new ImagenSubida(origen, ImagenUtil.aHexadecimal(digest.digest()), tamano);
+    }
+
+    /**
+     * Abre un flujo con el contenido de la imagen.
+     *
+     * @return Flujo con el contenido de la imagen.
+     * @throws IOException Si ocurre un error al abrir el flujo.
+     */
+    public InputStream abrir() throws IOException {
+        return origen.abrir();
+    }
+
+    /**
+     * Obtiene el hash SHA-256 del contenido de la imagen.
+     *
+     * @return Hash de la imagen.
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * Obtiene el tamaño de la imagen en bytes.
+     *
+     * @return Tamaño de la imagen.
+     */
+    public long getTamano() {
+        return tamano;
+    }
+}
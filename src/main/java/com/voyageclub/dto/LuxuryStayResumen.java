@@ -0,0 +1,121 @@
+package com.voyageclub.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Resumen de una estancia de lujo con los datos que se muestran en los listados.
+ * Se obtiene directamente con una consulta de proyección, sin cargar la entidad {@code LuxuryStay},
+ * sus amenidades, sus reservas ni su hotel.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public final class LuxuryStayResumen {
+
+    private final Long id;
+    private final String nombre;
+    private final String descripcion;
+    private final BigDecimal precioNoche;
+    private final String codigoLuxuryStay;
+    private final String nombreHotel;
+    private final LocalDate fechaInicioDisponible;
+    private final LocalDate fechaFinDisponible;
+
+    /**
+     * Constructor utilizado por las consultas de proyección.
+     *
+     * @param id                    El identificador de la estancia de lujo.
+     * @param nombre                El nombre de la estancia de lujo.
+     * @param descripcion           La descripción de la estancia de lujo.
+     * @param precioNoche           El precio por noche de la estancia de lujo.
+     * @param codigoLuxuryStay      El código único de la estancia de lujo.
+     * @param nombreHotel           El nombre del hotel al que pertenece la estancia de lujo.
+     * @param fechaInicioDisponible La fecha de inicio de disponibilidad de la estancia de lujo.
+     * @param fechaFinDisponible    La fecha de fin de disponibilidad de la estancia de lujo.
+     */
+    public LuxuryStayResumen(Long id, String nombre, String descripcion, BigDecimal precioNoche,
+                             String codigoLuxuryStay, String nombreHotel, LocalDate fechaInicioDisponible,
+                             LocalDate fechaFinDisponible) {
+        this.id = id;
+        this.nombre = nombre;
+        this.descripcion = descripcion;
+        this.precioNoche = precioNoche;
+        this.codigoLuxuryStay = codigoLuxuryStay;
+        this.nombreHotel = nombreHotel;
+        this.fechaInicioDisponible = fechaInicioDisponible;
+        this.fechaFinDisponible = fechaFinDisponible;
+    }
+
+    /**
+     * Obtiene el identificador de la estancia de lujo.
+     *
+     * @return El identificador de la estancia de lujo.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Obtiene el nombre de la estancia de lujo.
+     *
+     * @return El nombre de la estancia de lujo.
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * Obtiene la descripción de la estancia de lujo.
+     *
+     * @return La descripción de la estancia de lujo.
+     */
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    /**
+     * Obtiene el precio por noche de la estancia de lujo.
+     *
+     * @return El precio por noche de la estancia de lujo.
+     */
+    public BigDecimal getPrecioNoche() {
+        return precioNoche;
+    }
+
+    /**
+     * Obtiene el código único de la estancia de lujo.
+     *
+     * @return El código único de la estancia de lujo.
+     */
+    public String getCodigoLuxuryStay() {
+        return codigoLuxuryStay;
+    }
+
+    /**
+     * Obtiene el nombre del hotel al que pertenece la estancia de lujo.
+     *
+     * @return El nombre del hotel al que pertenece la estancia de lujo.
+     */
+    public String getNombreHotel() {
+        return nombreHotel;
+    }
+
+    /**
+     * Obtiene la fecha de inicio de disponibilidad de la estancia de lujo.
+     *
+     * @return La fecha de inicio de disponibilidad de la estancia de lujo.
+     */
+    public LocalDate getFechaInicioDisponible() {
+        return fechaInicioDisponible;
+    }
+
+    /**
+     * Obtiene la fecha de fin de disponibilidad de la estancia de lujo.
+     *
+     * @return La fecha de fin de disponibilidad de la estancia de lujo.
+     */
+    public LocalDate getFechaFinDisponible() {
+        return fechaFinDisponible;
+    }
+}
@@ -0,0 +1,77 @@
+package com.voyageclub.dto;
+
+import java.time.Instant;
+
+/**
+ * Metadatos de una imagen almacenada: el hash de su contenido, su tamaño y la fecha de su última modificación.
+ * Permiten responder a peticiones condicionales sin leer los bytes de la imagen.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public final class MetadatosImagen {
+
+    /**
+     * Hash SHA-256 del contenido de la imagen.
+     */
+    private final String hash;
+
+    /**
+     * Fecha de la última modificación de la imagen.
+     */
+    private final Instant fechaActualizacion;
+
+    /**
+     * Tamaño de la imagen en bytes.
+     */
+    private final Long tamano;
+
+    /**
+     * Constructor utilizado por las consultas de proyección.
+     *
+     * @param hash               Hash SHA-256 del contenido de la imagen.
+     * @param fechaActualizacion Fecha de la última modificación de la imagen.
+     * @param tamano             Tamaño de la imagen en bytes.
+     */
+    public MetadatosImagen(String hash, Instant fechaActualizacion, Long tamano) {
+        this.hash = hash;
+        this.fechaActualizacion = fechaActualizacion;
+        this.tamano = tamano;
+    }
+
+    /**
+     * Obtiene el hash SHA-256 del contenido de la imagen.
+     *
+     * @return Hash de la imagen, o {@code null} si no se conoce.
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * Obtiene la fecha de la última modificación de la imagen.
+     *
+     * @return Fecha de actualización, o {@code null} si no se conoce.
+     */
+    public Instant getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+
+    /**
+     * Obtiene el tamaño de la imagen en bytes.
+     *
+     * @return Tamaño de la imagen, o {@code null} si no se conoce.
+     */
+    public Long getTamano() {
+        return tamano;
+    }
+
+    /**
+     * Devuelve el valor de la cabecera ETag correspondiente a esta imagen.
+     *
+     * @return ETag entrecomillado, o {@code null} si no se conoce el hash.
+     */
+    public String getEtag() {
+        return hash == null ? null : "\"" + hash + "\"";
+    }
+}
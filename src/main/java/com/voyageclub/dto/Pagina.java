@@ -0,0 +1,98 @@
+package com.voyageclub.dto;
+
+import java.util.List;
+
+/**
+ * Página de resultados de una consulta paginada.
+ * Contiene los elementos de la página junto con la información necesaria para mostrar los controles de paginación.
+ *
+ * @param <T> Tipo de los elementos de la página.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public final class Pagina<T> {
+
+    private final List<T> elementos;
+    private final int numero;
+    private final int tamano;
+    private final long totalElementos;
+
+    /**
+     * Constructor que inicializa la página.
+     *
+     * @param elementos      Elementos de la página.
+     * @param numero         Número de la página, empezando en 1.
+     * @param tamano         Número máximo de elementos por página.
+     * @param totalElementos Número total de elementos de la consulta.
+     */
+    public Pagina(List<T> elementos, int numero, int tamano, long totalElementos) {
+        this.elementos = elementos;
+        this.numero = numero;
+        this.tamano = tamano;
+        this.totalElementos = totalElementos;
+    }
+
+    /**
+     * Obtiene los elementos de la página.
+     *
+     * @return Lista con los elementos de la página.
+     */
+    public List<T> getElementos() {
+        return elementos;
+    }
+
+    /**
+     * Obtiene el número de la página, empezando en 1.
+     *
+     * @return Número de la página.
+     */
+    public int getNumero() {
+        return numero;
+    }
+
+    /**
+     * Obtiene el número máximo de elementos por página.
+     *
+     * @return Tamaño de la página.
+     */
+    public int getTamano() {
+        return tamano;
+    }
+
+    /**
+     * Obtiene el número total de elementos de la consulta.
+     *
+     * @return Total de elementos.
+     */
+    public long getTotalElementos() {
+        return totalElementos;
+    }
+
+    /**
+     * Obtiene el número total de páginas. Una consulta sin resultados tiene una única página vacía.
+     *
+     * @return Total de páginas.
+     */
+    public int getTotalPaginas() {
+        return (int) Math.max(1, (totalElementos + tamano - 1) / tamano);
+    }
+
+    /**
+     * Indica si esta es la primera página.
+     *
+     * @return {@code true} si no hay páginas anteriores.
+     */
+    public boolean isPrimera() {
+        return numero <= 1;
+    }
+
+    /**
+     * Indica si esta es la última página.
+     *
+     * @return {@code true} si no hay páginas siguientes.
+     */
+    public boolean isUltima() {
+        return numero >= getTotalPaginas();
+    }
+}
@@ -0,0 +1,122 @@
+package com.voyageclub.dto;
+
+import com.voyageclub.model.enumerdos.EstadoReserva;
+
+import java.time.LocalDate;
+
+/**
+ * Resumen de una reserva con los datos que se muestran al usuario: la estancia, su hotel, las fechas y el estado.
+ * Se obtiene directamente con una consulta de proyección, sin cargar las entidades {@code Reserva},
+ * {@code LuxuryStay} (con sus imágenes) ni {@code Hotel}.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public final class ReservaResumen {
+
+    private final Long id;
+    private final String nombreLuxuryStay;
+    private final String nombreHotel;
+    private final LocalDate fechaInicio;
+    private final LocalDate fechaFin;
+    private final int cantidadPersonas;
+    private final EstadoReserva estado;
+    private final String numeroFactura;
+
+    /**
+     * Constructor utilizado por las consultas de proyección.
+     *
+     * @param id               El identificador de la reserva.
+     * @param nombreLuxuryStay El nombre de la estancia de lujo reservada.
+     * @param nombreHotel      El nombre del hotel de la estancia, o {@code null} si no tiene hotel.
+     * @param fechaInicio      La fecha de inicio de la reserva.
+     * @param fechaFin         La fecha de fin de la reserva.
+     * @param cantidadPersonas La cantidad de personas de la reserva.
+     * @param estado           El nombre del estado de la reserva; la consulta lo convierte a texto porque Hibernate no
+     *                         asocia un argumento enumerado con el constructor.
+     * @param numeroFactura    El número de la factura de la reserva, o {@code null} si no está facturada.
+     */
+    public ReservaResumen(Long id, String nombreLuxuryStay, String nombreHotel, LocalDate fechaInicio,
+                          LocalDate fechaFin, Integer cantidadPersonas, String estado, String numeroFactura) {
+        this.id = id;
+        this.nombreLuxuryStay = nombreLuxuryStay;
+        this.nombreHotel = nombreHotel;
+        this.fechaInicio = fechaInicio;
+        this.fechaFin = fechaFin;
+        this.cantidadPersonas = cantidadPersonas;
+        this.estado = EstadoReserva.valueOf(estado);
+        this.numeroFactura = numeroFactura;
+    }
+
+    /**
+     * Obtiene el identificador de la reserva.
+     *
+     * @return El identificador de la reserva.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Obtiene el nombre de la estancia de lujo reservada.
+     *
+     * @return El nombre de la estancia de lujo.
+     */
+    public String getNombreLuxuryStay() {
+        return nombreLuxuryStay;
+    }
+
+    /**
+     * Obtiene el nombre del hotel de la estancia.
+     *
+     * @return El nombre del hotel, o {@code null} si la estancia no tiene hotel.
+     */
+    public String getNombreHotel() {
+        return nombreHotel;
+    }
+
+    /**
+     * Obtiene la fecha de inicio de la reserva.
+     *
+     * @return La fecha de inicio de la reserva.
+     */
+    public LocalDate getFechaInicio() {
+        return fechaInicio;
+    }
+
+    /**
+     * Obtiene la fecha de fin de la reserva.
+     *
+     * @return La fecha de fin de la reserva.
+     */
+    public LocalDate getFechaFin() {
+        return fechaFin;
+    }
+
+    /**
+     * Obtiene la cantidad de personas de la reserva.
+     *
+     * @return La cantidad de personas de la reserva.
+     */
+    public int getCantidadPersonas() {
+        return cantidadPersonas;
+    }
+
+    /**
+     * Obtiene el estado de la reserva.
+     *
+     * @return El estado de la reserva.
+     */
+    public EstadoReserva getEstado() {
+        return estado;
+    }
+
+    /**
+     * Obtiene el número de la factura de la reserva.
+     *
+     * @return El número de la factura, o {@code null} si la reserva no está facturada.
+     */
+    public String getNumeroFactura() {
+        return numeroFactura;
+    }
+}
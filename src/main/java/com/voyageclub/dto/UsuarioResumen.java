@@ -0,0 +1,93 @@
+package com.voyageclub.dto;
+
+/**
+ * Resumen de un usuario con los datos que se muestran en los listados.
+ * Se obtiene directamente con una consulta de proyección, sin cargar la entidad {@code Usuario},
+ * de modo que ni el hash de la contraseña ni las reservas salen de la capa de datos.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public final class UsuarioResumen {
+
+    private final Long id;
+    private final String nombre;
+    private final String apellido1;
+    private final String apellido2;
+    private final String correoElectronico;
+    private final String codigoUsuario;
+
+    /**
+     * Constructor utilizado por las consultas de proyección.
+     *
+     * @param id                El identificador del usuario.
+     * @param nombre            El nombre del usuario.
+     * @param apellido1         El primer apellido del usuario.
+     * @param apellido2         El segundo apellido del usuario.
+     * @param correoElectronico El correo electrónico del usuario.
+     * @param codigoUsuario     El código único del usuario.
+     */
+    public UsuarioResumen(Long id, String nombre, String apellido1, String apellido2, String correoElectronico,
+                          String codigoUsuario) {
+        this.id = id;
+        this.nombre = nombre;
+        this.apellido1 = apellido1;
+        this.apellido2 = apellido2;
+        this.correoElectronico = correoElectronico;
+        this.codigoUsuario = codigoUsuario;
+    }
+
+    /**
+     * Obtiene el identificador del usuario.
+     *
+     * @return El identificador del usuario.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Obtiene el nombre del usuario.
+     *
+     * @return El nombre del usuario.
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * Obtiene el primer apellido del usuario.
+     *
+     * @return El primer apellido del usuario.
+     */
+    public String getApellido1() {
+        return apellido1;
+    }
+
+    /**
+     * Obtiene el segundo apellido del usuario.
+     *
+     * @return El segundo apellido del usuario.
+     */
+    public String getApellido2() {
+        return apellido2;
+    }
+
+    /**
+     * Obtiene el correo electrónico del usuario.
+     *
+     * @return El correo electrónico del usuario.
+     */
+    public String getCorreoElectronico() {
+        return correoElectronico;
+    }
+
+    /**
+     * Obtiene el código único del usuario.
+     *
+     * @return El código único del usuario.
+     */
+    public String getCodigoUsuario() {
+        return codigoUsuario;
+    }
+}
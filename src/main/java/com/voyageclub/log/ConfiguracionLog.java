@@ -0,0 +1,150 @@
+package com.voyageclub.log;
+
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedThreadFactory;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.BeforeDestroyed;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.servlet.ServletContext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Configura el log de la aplicación al arrancar: los registros de los loggers de {@code com.voyageclub} se escriben
+ * con un {@link ManejadorLogAsincrono}, con el formato de {@link FormateadorLog}, en la salida de error del
+ * servidor, y cada paquete tiene el nivel indicado en el parámetro de contexto {@link #PARAM_NIVELES}.
+ *
+ * <p>Las clases de la aplicación escriben en el log con {@link Logger} de {@code java.util.logging}. Comprobar un
+ * nivel desactivado no reserva memoria; los mensajes con parámetros que hay que convertir en objetos, como los
+ * números, se protegen con {@link Logger#isLoggable(Level)} para no crear los objetos cuando el nivel no está activo.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@ApplicationScoped
+public class ConfiguracionLog {
+
+    /**
+     * Parámetro de contexto con los niveles de cada paquete, con el formato {@code paquete=NIVEL,paquete=NIVEL}.
+     */
+    public static final String PARAM_NIVELES = "voyageclub.log.niveles";
+
+    /**
+     * Parámetro de contexto con el número máximo de registros pendientes de escribir.
+     */
+    public static final String PARAM_CAPACIDAD = "voyageclub.log.capacidad";
+
+    /**
+     * Logger raíz de la aplicación, en el que se instala el manejador asíncrono.
+     */
+    static final String LOGGER_APLICACION = "com.voyageclub";
+
+    private static final int CAPACIDAD = 8_192;
+
+    @Resource
+    private ManagedThreadFactory fabricaHilos;
+
+    /**
+     * Referencias a los loggers configurados: {@link Logger} solo guarda referencias débiles, y un logger que se
+     * recolecta pierde su nivel.
+     */
+    private final List<Logger> loggers = new ArrayList<>();
+    private ManejadorLogAsincrono manejador;
+
+    /**
+     * Configura el log cuando se inicializa el contexto de aplicación.
+     *
+     * @param contexto Contexto de la aplicación, con los parámetros {@link #PARAM_NIVELES} y {@link #PARAM_CAPACIDAD}.
+     */
+    public void alArrancar(@Observes @Initialized(ApplicationScoped.class) ServletContext contexto) {
+        configurar(contexto.getInitParameter(PARAM_NIVELES), leerCapacidad(contexto.getInitParameter(PARAM_CAPACIDAD)),
+                fabricaHilos);
+    }
+
+    /**
+     * Escribe los registros pendientes y retira el manejador asíncrono antes de detener la aplicación.
+     *
+     * @param evento Evento de destrucción del contexto de aplicación.
+     */
+    public void alDetener(@Observes @BeforeDestroyed(ApplicationScoped.class) Object evento) {
+        if (manejador != null) {
+            Logger aplicacion = Logger.getLogger(LOGGER_APLICACION);
+            aplicacion.removeHandler(manejador);
+            aplicacion.setUseParentHandlers(true);
+            manejador.close();
+            manejador = null;
+        }
+    }
+
+    /**
+     * Instala el manejador asíncrono en el logger de la aplicación y aplica los niveles de cada paquete.
+     *
+     * @param niveles     Niveles de cada paquete, con el formato de {@link #PARAM_NIVELES}; puede ser {@code null}.
+     * @param capacidad   Número máximo de registros pendientes de escribir.
+     * @param fabricaHilo Fábrica del hilo que escribe los registros.
+     * @return El manejador instalado.
+     */
+    ManejadorLogAsincrono configurar(String niveles, int capacidad, ThreadFactory fabricaHilo) {
+        leerNiveles(niveles).forEach((paquete, nivel) -> {
+            Logger logger = Logger.getLogger(paquete);
+            logger.setLevel(nivel);
+            loggers.add(logger);
+        });
+
+        Handler consola = new ConsoleHandler();
+        consola.setLevel(Level.ALL);
+        consola.setFormatter(new FormateadorLog());
+        manejador = new ManejadorLogAsincrono(consola, capacidad, fabricaHilo);
+        Logger aplicacion = Logger.getLogger(LOGGER_APLICACION);
+        aplicacion.addHandler(manejador);
+        // Los registros de la aplicación solo se escriben una vez, por el manejador asíncrono
+        aplicacion.setUseParentHandlers(false);
+        loggers.add(aplicacion);
+        return manejador;
+    }
+
+    /**
+     * Lee los niveles de cada paquete. Las entradas mal formadas o con un nivel desconocido se ignoran.
+     *
+     * @param niveles Niveles con el formato {@code paquete=NIVEL,paquete=NIVEL}; puede ser {@code null}.
+     * @return Mapa con el nivel de cada paquete, en el orden en el que aparecen.
+     */
+    static Map<String, Level> leerNiveles(String niveles) {
+        Map<String, Level> resultado = new LinkedHashMap<>();
+        if (niveles == null) {
+            return resultado;
+        }
+        for (String entrada : niveles.split(",")) {
+            String[] partes = entrada.split("=");
+            if (partes.length != 2 || partes[0].isBlank()) {
+                continue;
+            }
+            try {
+                resultado.put(partes[0].trim(), Level.parse(partes[1].trim()));
+            } catch (IllegalArgumentException e) {
+                // Nivel desconocido: el paquete conserva el nivel que hereda
+            }
+        }
+        return resultado;
+    }
+
+    private static int leerCapacidad(String valor) {
+        if (valor == null || valor.isBlank()) {
+            return CAPACIDAD;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(valor.trim()));
+        } catch (NumberFormatException e) {
+            return CAPACIDAD;
+        }
+    }
+}
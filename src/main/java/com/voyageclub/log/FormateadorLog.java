@@ -0,0 +1,65 @@
+package com.voyageclub.log;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.temporal.ChronoUnit;
+import java.util.logging.Formatter;
+import java.util.logging.LogRecord;
+
+/**
+ * Formatea cada registro del log en una línea de pares {@code clave=valor}, fácil de filtrar y de procesar:
+ *
+ * <pre>{@code
+ * fecha=2024-03-01T10:15:30.123Z nivel=WARNING hilo=42 logger=com.voyageclub.dao.HotelDAOImpl mensaje="Consulta lenta"
+ * }</pre>
+ *
+ * <p>El mensaje va entre comillas, con las comillas, barras y saltos de línea escapados. Si el registro tiene una
+ * excepción, se añade con la clave {@code excepcion} y su traza en las líneas siguientes.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public class FormateadorLog extends Formatter {
+
+    /**
+     * Formatea un registro del log.
+     *
+     * @param registro Registro del log.
+     * @return Línea con el registro formateado, y la traza de la excepción si la hay.
+     */
+    @Override
+    public String format(LogRecord registro) {
+        StringBuilder linea = new StringBuilder(160)
+                .append("fecha=").append(registro.getInstant().truncatedTo(ChronoUnit.MILLIS))
+                .append(" nivel=").append(registro.getLevel().getName())
+                .append(" hilo=").append(registro.getLongThreadID())
+                .append(" logger=").append(registro.getLoggerName())
+                .append(" mensaje=");
+        entrecomillar(linea, formatMessage(registro));
+        Throwable excepcion = registro.getThrown();
+        if (excepcion != null) {
+            linea.append(" excepcion=");
+            entrecomillar(linea, excepcion.toString());
+            StringWriter traza = new StringWriter();
+            excepcion.printStackTrace(new PrintWriter(traza));
+            linea.append(System.lineSeparator()).append(traza.toString().stripTrailing());
+        }
+        return linea.append(System.lineSeparator()).toString();
+    }
+
+    private static void entrecomillar(StringBuilder linea, String valor) {
+        linea.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"' -> linea.append("\\\"");
+                case '\\' -> linea.append("\\\\");
+                case '\n' -> linea.append("\\n");
+                case '\r' -> linea.append("\\r");
+                case '\t' -> linea.append("\\t");
+                default -> linea.append(c);
+            }
+        }
+        linea.append('"');
+    }
+}
@@ -0,0 +1,140 @@
+package com.voyageclub.log;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Manejador de log asíncrono: los hilos que escriben en el log solo dejan el registro en una cola acotada, y un hilo
+ * propio lo formatea y lo escribe en el manejador de destino. Así las peticiones no se detienen esperando a la
+ * consola ni compiten por su bloqueo.
+ *
+ * <p>Si la cola está llena, el registro se descarta en lugar de detener al hilo que escribe; el número de registros
+ * descartados se escribe en el log en cuanto la cola vuelve a tener sitio. Los parámetros de los mensajes se
+ * formatean en el hilo del manejador, por lo que deben ser valores que no cambien después de escribir en el log.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public class ManejadorLogAsincrono extends Handler {
+
+    private static final long ESPERA_MAXIMA_FLUSH = TimeUnit.SECONDS.toMillis(5);
+
+    private final Handler destino;
+    private final BlockingQueue<LogRecord> cola;
+    private final AtomicLong pendientes = new AtomicLong();
+    private final LongAdder descartados = new LongAdder();
+    private final Thread hilo;
+    private volatile boolean cerrado;
+
+    /**
+     * Constructor que recibe el manejador de destino y arranca el hilo que escribe en él.
+     *
+     * @param destino     Manejador en el que se escriben los registros; solo lo utiliza el hilo del manejador.
+     * @param capacidad   Número máximo de registros pendientes de escribir.
+     * @param fabricaHilo Fábrica del hilo que escribe los registros.
+     */
+    public ManejadorLogAsincrono(Handler destino, int capacidad, ThreadFactory fabricaHilo) {
+        this.destino = destino;
+        this.cola = new ArrayBlockingQueue<>(capacidad);
+        this.hilo = fabricaHilo.newThread(this::escribir);
+        hilo.setDaemon(true);
+        hilo.start();
+    }
+
+    /**
+     * Deja un registro en la cola, o lo descarta si el nivel no está activo, el manejador está cerrado o la cola
+     * está llena.
+     *
+     * @param registro Registro del log.
+     */
+    @Override
+    public void publish(LogRecord registro) {
+        if (cerrado || !isLoggable(registro)) {
+            return;
+        }
+        pendientes.incrementAndGet();
+        if (!cola.offer(registro)) {
+            pendientes.decrementAndGet();
+            descartados.increment();
+        }
+    }
+
+    /**
+     * Espera, como mucho cinco segundos, a que se escriban los registros pendientes.
+     */
+    @Override
+    public void flush() {
+        long limite = System.currentTimeMillis() + ESPERA_MAXIMA_FLUSH;
+        while (pendientes.get() > 0 && hilo.isAlive() && System.currentTimeMillis() < limite) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Escribe los registros pendientes, detiene el hilo del manejador y cierra el manejador de destino.
+     */
+    @Override
+    public void close() {
+        cerrado = true;
+        flush();
+        hilo.interrupt();
+        try {
+            hilo.join(ESPERA_MAXIMA_FLUSH);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        destino.close();
+    }
+
+    /**
+     * Obtiene el número de registros descartados porque la cola estaba llena.
+     *
+     * @return Número de registros descartados desde que se creó el manejador.
+     */
+    public long getDescartados() {
+        return descartados.sum();
+    }
+
+    private void escribir() {
+        long descartadosAvisados = 0;
+        while (true) {
+            LogRecord registro;
+            try {
+                registro = cola.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            long descartadosAhora = descartados.sum();
+            if (descartadosAhora > descartadosAvisados) {
+                destino.publish(avisoDescartados(descartadosAhora - descartadosAvisados));
+                descartadosAvisados = descartadosAhora;
+            }
+            try {
+                destino.publish(registro);
+            } catch (RuntimeException e) {
+                reportError("No se ha podido escribir un registro del log", e, 0);
+            } finally {
+                pendientes.decrementAndGet();
+            }
+        }
+    }
+
+    private static LogRecord avisoDescartados(long numero) {
+        LogRecord aviso = new LogRecord(Level.WARNING, "Cola del log llena: se han descartado {0} registros");
+        aviso.setParameters(new Object[]{ numero });
+        aviso.setLoggerName(ManejadorLogAsincrono.class.getName());
+        return aviso;
+    }
+}
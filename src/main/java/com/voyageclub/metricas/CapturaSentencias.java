@@ -0,0 +1,75 @@
+package com.voyageclub.metricas;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Guarda las sentencias SQL que Hibernate prepara en el hilo actual mientras el {@link RegistroConsultas} mide una
+ * llamada, para mostrarlas si la llamada resulta lenta. Fuera de una llamada medida no guarda nada.
+ *
+ * <p>Las sentencias se guardan tal como las prepara Hibernate, con marcadores {@code ?} en lugar de los valores de
+ * los parámetros. Se guardan como mucho {@value #MAXIMO_SENTENCIAS} por llamada.
+ *
+ * <p>Se registra en la unidad de persistencia con la propiedad {@code hibernate.session_factory.statement_inspector}.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public class CapturaSentencias implements StatementInspector {
+
+    /**
+     * Número máximo de sentencias que se guardan por llamada.
+     */
+    public static final int MAXIMO_SENTENCIAS = 20;
+
+    private static final ThreadLocal<List<String>> SENTENCIAS = new ThreadLocal<>();
+
+    /**
+     * Guarda la sentencia si el hilo actual está dentro de una llamada medida.
+     *
+     * @param sql Sentencia SQL que se va a preparar.
+     * @return La misma sentencia, sin cambios.
+     */
+    @Override
+    public String inspect(String sql) {
+        List<String> sentencias = SENTENCIAS.get();
+        if (sentencias != null && sentencias.size() < MAXIMO_SENTENCIAS) {
+            sentencias.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Empieza a guardar las sentencias del hilo actual.
+     *
+     * @return Las sentencias de la llamada medida que contiene a esta, o {@code null} si no hay ninguna; se pasan a
+     * {@link #terminar(List)}.
+     */
+    static List<String> iniciar() {
+        List<String> anteriores = SENTENCIAS.get();
+        SENTENCIAS.set(new ArrayList<>());
+        return anteriores;
+    }
+
+    /**
+     * Deja de guardar las sentencias de la llamada actual. Si la llamada estaba dentro de otra llamada medida, sus
+     * sentencias se añaden también a las de esta.
+     *
+     * @param anteriores Valor devuelto por {@link #iniciar()}.
+     * @return Las sentencias preparadas desde {@link #iniciar()}.
+     */
+    static List<String> terminar(List<String> anteriores) {
+        List<String> sentencias = SENTENCIAS.get();
+        if (anteriores == null) {
+            SENTENCIAS.remove();
+        } else {
+            for (int i = 0; i < sentencias.size() && anteriores.size() < MAXIMO_SENTENCIAS; i++) {
+                anteriores.add(sentencias.get(i));
+            }
+            SENTENCIAS.set(anteriores);
+        }
+        return sentencias;
+    }
+}
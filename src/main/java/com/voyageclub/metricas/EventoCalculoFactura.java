@@ -0,0 +1,28 @@
+package com.voyageclub.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de JDK Flight Recorder con el cálculo de los importes de una factura.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@Name("com.voyageclub.CalculoFactura")
+@Label("Cálculo de factura")
+@Category({ "VoyageClub", "Facturación" })
+@Description("Cálculo del precio total, el IVA y el número de una factura a partir de sus reservas")
+@StackTrace(false)
+public class EventoCalculoFactura extends Event {
+
+    /**
+     * Número de reservas de la factura.
+     */
+    @Label("Reservas")
+    public int reservas;
+}
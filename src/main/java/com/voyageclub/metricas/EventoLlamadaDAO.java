@@ -0,0 +1,64 @@
+package com.voyageclub.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de JDK Flight Recorder con una llamada a un método de un DAO, medida por el {@link RegistroConsultas}.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@Name("com.voyageclub.LlamadaDAO")
+@Label("Llamada a un DAO")
+@Category({ "VoyageClub", "Base de datos" })
+@Description("Llamada a un método de un DAO, con la transacción y las sentencias SQL que ejecuta")
+@StackTrace(false)
+public class EventoLlamadaDAO extends Event {
+
+    /**
+     * Entidad que gestiona el DAO, deducida del nombre de la clase ({@code HotelDAOImpl} gestiona {@code Hotel}).
+     */
+    @Label("Entidad")
+    public String entidad;
+
+    /**
+     * Método llamado, con el formato {@code Clase.metodo}.
+     */
+    @Label("Método")
+    public String metodo;
+
+    /**
+     * Número de filas devueltas.
+     */
+    @Label("Filas")
+    public long filas;
+
+    /**
+     * Indica si la llamada ha lanzado una excepción.
+     */
+    @Label("Error")
+    public boolean error;
+
+    /**
+     * Deduce la entidad de un DAO a partir del nombre de su método.
+     *
+     * @param metodo Método, con el formato {@code Clase.metodo}.
+     * @return El nombre de la clase sin los sufijos {@code Impl} y {@code DAO}.
+     */
+    static String entidad(String metodo) {
+        int punto = metodo.lastIndexOf('.');
+        String clase = punto < 0 ? metodo : metodo.substring(0, punto);
+        if (clase.endsWith("Impl")) {
+            clase = clase.substring(0, clase.length() - "Impl".length());
+        }
+        if (clase.endsWith("DAO")) {
+            clase = clase.substring(0, clase.length() - "DAO".length());
+        }
+        return clase;
+    }
+}
@@ -0,0 +1,44 @@
+package com.voyageclub.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de JDK Flight Recorder con la ejecución de una ruta {@code ENTIDAD.OPERACION} por el controlador frontal,
+ * desde que se localiza su manejador hasta que devuelve la página de destino.
+ *
+ * <p>Cuando la grabación no está activa o el evento está desactivado, {@link #shouldCommit()} devuelve
+ * {@code false} sin leer el reloj y los campos no se rellenan.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@Name("com.voyageclub.Peticion")
+@Label("Petición")
+@Category({ "VoyageClub", "Peticiones" })
+@Description("Ejecución de una ruta ENTIDAD.OPERACION por el controlador frontal")
+@StackTrace(false)
+public class EventoPeticion extends Event {
+
+    /**
+     * Ruta {@code ENTIDAD.OPERACION} ejecutada.
+     */
+    @Label("Ruta")
+    public String ruta;
+
+    /**
+     * Página de destino devuelta por la acción, o {@code null} si la acción ha fallado.
+     */
+    @Label("Destino")
+    public String destino;
+
+    /**
+     * Indica si la ejecución ha fallado.
+     */
+    @Label("Error")
+    public boolean error;
+}
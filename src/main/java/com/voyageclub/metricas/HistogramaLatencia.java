@@ -0,0 +1,135 @@
+package com.voyageclub.metricas;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias sin bloqueos, con cubos logarítmico-lineales al estilo de HdrHistogram.
+ *
+ * <p>Las latencias se guardan en microsegundos. Los valores menores que 64 µs tienen un cubo propio; a partir de
+ * ahí, cada potencia de dos se divide en 32 cubos del mismo ancho, de modo que el error relativo de un percentil es
+ * como mucho del 3 %. Las latencias de más de una hora se cuentan en el último cubo. Registrar una latencia es un incremento atómico en un array de tamaño fijo, sin reservar memoria.
+ *
+ * <p>Las lecturas no detienen las escrituras: si se lee mientras se registran latencias, los percentiles, la cuenta
+ * y la suma pueden no corresponder exactamente al mismo instante.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public class HistogramaLatencia {
+
+    private static final int BITS_EXACTOS = 6;
+    private static final int VALORES_EXACTOS = 1 << BITS_EXACTOS;
+    private static final int CUBOS_POR_OCTAVA = VALORES_EXACTOS / 2;
+
+    /**
+     * Mayor latencia que se distingue, en microsegundos.
+     */
+    static final long MAXIMO_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final AtomicLongArray cubos = new AtomicLongArray(indice(MAXIMO_MICROS) + 1);
+    private final LongAdder sumaMicros = new LongAdder();
+    private final AtomicLong maximoMicros = new AtomicLong();
+
+    /**
+     * Registra una latencia.
+     *
+     * @param nanos Latencia en nanosegundos; los valores negativos se registran como 0.
+     */
+    public void registrar(long nanos) {
+        long micros = Math.min(Math.max(nanos, 0) / 1_000, MAXIMO_MICROS);
+        cubos.incrementAndGet(indice(micros));
+        sumaMicros.add(micros);
+        if (micros > maximoMicros.get()) {
+            maximoMicros.accumulateAndGet(micros, Math::max);
+        }
+    }
+
+    /**
+     * Obtiene el número de latencias registradas.
+     *
+     * @return Número de latencias.
+     */
+    public long getCuenta() {
+        long cuenta = 0;
+        for (int i = 0; i < cubos.length(); i++) {
+            cuenta += cubos.get(i);
+        }
+        return cuenta;
+    }
+
+    /**
+     * Obtiene la suma de las latencias registradas.
+     *
+     * @return Suma de las latencias, en microsegundos.
+     */
+    public long getSumaMicros() {
+        return sumaMicros.sum();
+    }
+
+    /**
+     * Obtiene la mayor latencia registrada.
+     *
+     * @return Mayor latencia, en microsegundos, o 0 si no se ha registrado ninguna.
+     */
+    public long getMaximoMicros() {
+        return maximoMicros.get();
+    }
+
+    /**
+     * Obtiene un percentil de las latencias registradas.
+     *
+     * @param percentil Percentil entre 0 y 100.
+     * @return Latencia, en microsegundos, por debajo de la cual está el porcentaje indicado de las latencias; 0 si no
+     * se ha registrado ninguna.
+     * @throws IllegalArgumentException Si el percentil no está entre 0 y 100.
+     */
+    public long getPercentilMicros(double percentil) {
+        if (percentil < 0 || percentil > 100) {
+            throw new IllegalArgumentException("El percentil debe estar entre 0 y 100: " + percentil);
+        }
+        long[] copia = new long[cubos.length()];
+        long cuenta = 0;
+        for (int i = 0; i < copia.length; i++) {
+            copia[i] = cubos.get(i);
+            cuenta += copia[i];
+        }
+        if (cuenta == 0) {
+            return 0;
+        }
+        long posicion = Math.max(1, (long) Math.ceil(percentil / 100 * cuenta));
+        long acumulado = 0;
+        for (int i = 0; i < copia.length; i++) {
+            acumulado += copia[i];
+            if (acumulado >= posicion) {
+                return Math.min(limiteSuperior(i), getMaximoMicros());
+            }
+        }
+        return getMaximoMicros();
+    }
+
+    /**
+     * Obtiene el cubo de una latencia.
+     */
+    static int indice(long micros) {
+        if (micros < VALORES_EXACTOS) {
+            return (int) micros;
+        }
+        int desplazamiento = 63 - Long.numberOfLeadingZeros(micros) - BITS_EXACTOS + 1;
+        return desplazamiento * CUBOS_POR_OCTAVA + (int) (micros >>> desplazamiento);
+    }
+
+    /**
+     * Obtiene la mayor latencia que se cuenta en un cubo.
+     */
+    static long limiteSuperior(int indice) {
+        if (indice < VALORES_EXACTOS) {
+            return indice;
+        }
+        int desplazamiento = indice / CUBOS_POR_OCTAVA - 1;
+        long mantisa = indice - (long) desplazamiento * CUBOS_POR_OCTAVA;
+        return ((mantisa + 1) << desplazamiento) - 1;
+    }
+}
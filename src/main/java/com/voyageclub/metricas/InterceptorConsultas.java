@@ -0,0 +1,56 @@
+package com.voyageclub.metricas;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import java.lang.reflect.Modifier;
+
+/**
+ * Interceptor de los métodos anotados con {@link MedirConsultas}, que registra cada llamada a un método público en
+ * el {@link RegistroConsultas} con el nombre {@code Clase.metodo}.
+ *
+ * <p>Se ejecuta por fuera del interceptor de {@link jakarta.transaction.Transactional}, de modo que el tiempo medido
+ * incluye el vaciado del contexto de persistencia y la confirmación de la transacción, donde se ejecutan las
+ * inserciones y actualizaciones agrupadas en lotes.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@Interceptor
+@MedirConsultas
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class InterceptorConsultas {
+
+    @Inject
+    private RegistroConsultas registroConsultas;
+
+    /**
+     * Mide la llamada interceptada.
+     *
+     * @param contexto Contexto de la llamada.
+     * @return El resultado de la llamada.
+     * @throws Exception La excepción que lance la llamada.
+     */
+    @AroundInvoke
+    public Object medir(InvocationContext contexto) throws Exception {
+        if (!Modifier.isPublic(contexto.getMethod().getModifiers())) {
+            // Los métodos protegidos los llaman los propios DAO y ya se miden dentro del método público
+            return contexto.proceed();
+        }
+        String metodo = nombreClase(contexto.getTarget().getClass()) + "." + contexto.getMethod().getName();
+        return registroConsultas.medir(metodo, contexto.getMethod().getParameterTypes(), contexto::proceed);
+    }
+
+    /**
+     * Obtiene el nombre de la clase del bean, sin las subclases que genera el contenedor.
+     */
+    private static String nombreClase(Class<?> clase) {
+        while (clase.getSuperclass() != null && (clase.isSynthetic() || clase.getSimpleName().contains("$"))) {
+            clase = clase.getSuperclass();
+        }
+        return clase.getSimpleName();
+    }
+}
@@ -0,0 +1,23 @@
+package com.voyageclub.metricas;
+
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mide con el {@link InterceptorConsultas} el tiempo, las filas devueltas y las sentencias SQL de los métodos de la
+ * clase anotada. Se hereda, de modo que basta con anotar la clase base de los DAO.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@Inherited
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface MedirConsultas {
+}
@@ -0,0 +1,61 @@
+package com.voyageclub.metricas;
+
+import com.voyageclub.dto.EstadisticasMetodoDAO;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas de un método de un DAO: el histograma de latencias de sus llamadas, el número de llamadas fallidas y el
+ * número total de filas devueltas.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public class MetricasMetodoDAO {
+
+    private final String metodo;
+    private final HistogramaLatencia latencias = new HistogramaLatencia();
+    private final LongAdder errores = new LongAdder();
+    private final LongAdder filas = new LongAdder();
+
+    /**
+     * Constructor que inicializa las métricas vacías de un método.
+     *
+     * @param metodo Método medido, con el formato {@code Clase.metodo}.
+     */
+    public MetricasMetodoDAO(String metodo) {
+        this.metodo = metodo;
+    }
+
+    /**
+     * Registra una llamada al método.
+     *
+     * @param nanos Duración de la llamada, en nanosegundos.
+     * @param error {@code true} si la llamada ha lanzado una excepción.
+     * @param filas Número de filas devueltas.
+     */
+    public void registrar(long nanos, boolean error, long filas) {
+        latencias.registrar(nanos);
+        if (error) {
+            errores.increment();
+        }
+        this.filas.add(filas);
+    }
+
+    /**
+     * Obtiene un resumen de las métricas actuales del método.
+     *
+     * @return Estadísticas del método, con las latencias en milisegundos.
+     */
+    public EstadisticasMetodoDAO getEstadisticas() {
+        long cuenta = latencias.getCuenta();
+        return new EstadisticasMetodoDAO(metodo, cuenta, errores.sum(), filas.sum(),
+                milisegundos(cuenta == 0 ? 0 : latencias.getSumaMicros() / cuenta),
+                milisegundos(latencias.getPercentilMicros(99)), milisegundos(latencias.getMaximoMicros()));
+    }
+
+    private static double milisegundos(long micros) {
+        return (double) micros / TimeUnit.MILLISECONDS.toMicros(1);
+    }
+}
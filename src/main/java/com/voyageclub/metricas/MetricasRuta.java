@@ -0,0 +1,83 @@
+package com.voyageclub.metricas;
+
+import com.voyageclub.dto.EstadisticasRuta;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas de una ruta {@code ENTIDAD.OPERACION}: el histograma de latencias de sus ejecuciones, el número de
+ * ejecuciones fallidas y el número de ejecuciones en curso.
+ *
+ * <p>Cada ejecución se mide entre {@link #iniciar()} y {@link #terminar(long, boolean)}, que solo actualizan
+ * contadores atómicos.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public class MetricasRuta {
+
+    private final String ruta;
+    private final HistogramaLatencia latencias = new HistogramaLatencia();
+    private final LongAdder errores = new LongAdder();
+    private final LongAdder enCurso = new LongAdder();
+
+    /**
+     * Constructor que inicializa las métricas vacías de una ruta.
+     *
+     * @param ruta Ruta {@code ENTIDAD.OPERACION} medida.
+     */
+    public MetricasRuta(String ruta) {
+        this.ruta = ruta;
+    }
+
+    /**
+     * Registra el inicio de una ejecución de la ruta.
+     *
+     * @return El instante de inicio, en nanosegundos, que se pasa a {@link #terminar(long, boolean)}.
+     */
+    public long iniciar() {
+        enCurso.increment();
+        return System.nanoTime();
+    }
+
+    /**
+     * Registra el final de una ejecución de la ruta.
+     *
+     * @param inicio Instante de inicio devuelto por {@link #iniciar()}.
+     * @param error  {@code true} si la ejecución ha fallado.
+     */
+    public void terminar(long inicio, boolean error) {
+        latencias.registrar(System.nanoTime() - inicio);
+        if (error) {
+            errores.increment();
+        }
+        enCurso.decrement();
+    }
+
+    /**
+     * Obtiene el histograma de latencias de la ruta.
+     *
+     * @return Histograma de latencias.
+     */
+    public HistogramaLatencia getLatencias() {
+        return latencias;
+    }
+
+    /**
+     * Obtiene un resumen de las métricas actuales de la ruta.
+     *
+     * @return Estadísticas de la ruta, con las latencias en milisegundos.
+     */
+    public EstadisticasRuta getEstadisticas() {
+        long cuenta = latencias.getCuenta();
+        return new EstadisticasRuta(ruta, cuenta, errores.sum(), enCurso.sum(),
+                milisegundos(cuenta == 0 ? 0 : latencias.getSumaMicros() / cuenta),
+                milisegundos(latencias.getPercentilMicros(50)), milisegundos(latencias.getPercentilMicros(90)),
+                milisegundos(latencias.getPercentilMicros(99)), milisegundos(latencias.getMaximoMicros()));
+    }
+
+    private static double milisegundos(long micros) {
+        return (double) micros / TimeUnit.MILLISECONDS.toMicros(1);
+    }
+}
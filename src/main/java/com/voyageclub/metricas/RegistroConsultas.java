@@ -0,0 +1,203 @@
+package com.voyageclub.metricas;
+
+import com.voyageclub.dto.EstadisticasMetodoDAO;
+import com.voyageclub.dto.Pagina;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.servlet.ServletContext;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Registro de las métricas de los métodos de los DAO, con una {@link MetricasMetodoDAO} por método, y registro de las
+ * consultas lentas.
+ *
+ * <p>Las llamadas que tardan al menos el umbral configurado en el parámetro de contexto {@link #PARAM_UMBRAL_LENTA}
+ * se escriben en el log con nivel {@code WARNING}, junto con las sentencias SQL que han preparado
+ * ({@link CapturaSentencias}). El log nunca incluye valores: de los argumentos del método solo se escriben los
+ * tipos, las sentencias llevan marcadores {@code ?} en lugar de los parámetros y los literales de texto se sustituyen
+ * por {@code '?'}.
+ *
+ * <p>Cada llamada emite además un {@link EventoLlamadaDAO} de JDK Flight Recorder.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@ApplicationScoped
+public class RegistroConsultas {
+
+    /**
+     * Parámetro de contexto con el tiempo, en milisegundos, a partir del cual una llamada a un DAO es lenta.
+     */
+    public static final String PARAM_UMBRAL_LENTA = "voyageclub.consultas.umbralLenta";
+
+    private static final Duration UMBRAL_LENTA = Duration.ofMillis(500);
+
+    /**
+     * Longitud máxima de cada sentencia en el log de consultas lentas.
+     */
+    static final int LONGITUD_MAXIMA_SENTENCIA = 1_000;
+
+    private static final Pattern LITERAL_TEXTO = Pattern.compile("'(?:[^']|'')*'");
+
+    private static final Logger LOGGER = Logger.getLogger(RegistroConsultas.class.getName());
+
+    @Inject
+    private ServletContext contexto;
+
+    private final Map<String, MetricasMetodoDAO> metodos = new ConcurrentHashMap<>();
+    private long umbralNanos;
+
+    /**
+     * Constructor por defecto, utilizado por CDI.
+     */
+    public RegistroConsultas() {
+        this(UMBRAL_LENTA);
+    }
+
+    /**
+     * Constructor que recibe el umbral de las consultas lentas, para utilizar el registro fuera de CDI.
+     *
+     * @param umbralLenta Tiempo a partir del cual una llamada es lenta.
+     */
+    public RegistroConsultas(Duration umbralLenta) {
+        this.umbralNanos = umbralLenta.toNanos();
+    }
+
+    /**
+     * Lee el umbral de las consultas lentas del contexto de la aplicación.
+     */
+    @PostConstruct
+    void configurar() {
+        String valor = contexto.getInitParameter(PARAM_UMBRAL_LENTA);
+        if (valor != null && !valor.isBlank()) {
+            try {
+                umbralNanos = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(valor.trim()));
+            } catch (NumberFormatException e) {
+                LOGGER.log(Level.WARNING, "Umbral de consultas lentas no válido: {0}", valor);
+            }
+        }
+    }
+
+    /**
+     * Ejecuta y mide una llamada a un método de un DAO.
+     *
+     * @param metodo   Método llamado, con el formato {@code Clase.metodo}.
+     * @param tipos    Tipos de los parámetros del método, que se escriben en el log si la llamada es lenta.
+     * @param llamada  Llamada al método.
+     * @return El resultado de la llamada.
+     * @throws Exception La excepción que lance la llamada.
+     */
+    public Object medir(String metodo, Class<?>[] tipos, Callable<Object> llamada) throws Exception {
+        MetricasMetodoDAO metricas = getMetodo(metodo);
+        List<String> anteriores = CapturaSentencias.iniciar();
+        EventoLlamadaDAO evento = new EventoLlamadaDAO();
+        evento.begin();
+        long inicio = System.nanoTime();
+        Object resultado = null;
+        boolean error = true;
+        try {
+            resultado = llamada.call();
+            error = false;
+            return resultado;
+        } finally {
+            long nanos = System.nanoTime() - inicio;
+            List<String> sentencias = CapturaSentencias.terminar(anteriores);
+            long filas = contarFilas(resultado);
+            metricas.registrar(nanos, error, filas);
+            if (evento.shouldCommit()) {
+                evento.entidad = EventoLlamadaDAO.entidad(metodo);
+                evento.metodo = metodo;
+                evento.filas = filas;
+                evento.error = error;
+                evento.commit();
+            }
+            if (nanos >= umbralNanos && LOGGER.isLoggable(Level.WARNING)) {
+                LOGGER.warning(mensajeConsultaLenta(metodo, tipos, nanos, error, filas, sentencias));
+            }
+        }
+    }
+
+    /**
+     * Obtiene las métricas de un método, creándolas la primera vez que se llama.
+     *
+     * @param metodo Método, con el formato {@code Clase.metodo}.
+     * @return Métricas del método.
+     */
+    public MetricasMetodoDAO getMetodo(String metodo) {
+        MetricasMetodoDAO metricas = metodos.get(metodo);
+        return metricas != null ? metricas : metodos.computeIfAbsent(metodo, MetricasMetodoDAO::new);
+    }
+
+    /**
+     * Obtiene las estadísticas actuales de todos los métodos llamados.
+     *
+     * @return Lista con las estadísticas de cada método, ordenada por método.
+     */
+    public List<EstadisticasMetodoDAO> getEstadisticas() {
+        return metodos.values().stream()
+                .map(MetricasMetodoDAO::getEstadisticas)
+                .sorted(Comparator.comparing(EstadisticasMetodoDAO::getMetodo))
+                .toList();
+    }
+
+    /**
+     * Obtiene el número de filas de un resultado: los elementos de una colección o de una página, 0 o 1 para un
+     * {@link Optional} y 1 para cualquier otro objeto. Los flujos no se cuentan, para no consumirlos.
+     */
+    static long contarFilas(Object resultado) {
+        if (resultado == null || resultado instanceof Stream) {
+            return 0;
+        }
+        if (resultado instanceof Collection<?> coleccion) {
+            return coleccion.size();
+        }
+        if (resultado instanceof Pagina<?> pagina) {
+            return pagina.getElementos().size();
+        }
+        if (resultado instanceof Optional<?> opcional) {
+            return opcional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+
+    /**
+     * Sustituye los literales de texto de una sentencia por {@code '?'} y la recorta a
+     * {@link #LONGITUD_MAXIMA_SENTENCIA} caracteres.
+     */
+    static String redactar(String sql) {
+        String redactada = LITERAL_TEXTO.matcher(sql).replaceAll("'?'").replaceAll("\\s+", " ").trim();
+        return redactada.length() <= LONGITUD_MAXIMA_SENTENCIA ? redactada
+                : redactada.substring(0, LONGITUD_MAXIMA_SENTENCIA) + "...";
+    }
+
+    private static String mensajeConsultaLenta(String metodo, Class<?>[] tipos, long nanos, boolean error, long filas,
+                                               List<String> sentencias) {
+        StringBuilder mensaje = new StringBuilder("Consulta lenta: ")
+                .append(metodo)
+                .append(Arrays.stream(tipos).map(Class::getSimpleName).collect(Collectors.joining(", ", "(", ")")))
+                .append(' ').append(TimeUnit.NANOSECONDS.toMillis(nanos)).append(" ms")
+                .append(error ? ", con error" : ", " + filas + " filas")
+                .append(", ").append(sentencias.size()).append(" sentencias");
+        for (String sql : sentencias) {
+            mensaje.append("\n    ").append(redactar(sql));
+        }
+        return mensaje.toString();
+    }
+}
@@ -0,0 +1,67 @@
+package com.voyageclub.metricas;
+
+import com.voyageclub.dto.EstadisticasRuta;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registro de las métricas de las peticiones de la aplicación, con una {@link MetricasRuta} por cada ruta
+ * {@code ENTIDAD.OPERACION} ejecutada y un contador de las peticiones a rutas desconocidas.
+ *
+ * <p>Solo se crean métricas para las rutas que atiende alguna acción, de modo que el número de entradas está acotado
+ * por el {@code RegistroRutas}; las rutas desconocidas, que puede inventar cualquier cliente, solo se cuentan.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@ApplicationScoped
+public class RegistroMetricas {
+
+    private final Map<String, MetricasRuta> rutas = new ConcurrentHashMap<>();
+    private final LongAdder rutasDesconocidas = new LongAdder();
+
+    /**
+     * Obtiene las métricas de una ruta, creándolas la primera vez que se ejecuta.
+     *
+     * @param ruta Ruta {@code ENTIDAD.OPERACION} que atiende alguna acción.
+     * @return Métricas de la ruta.
+     */
+    public MetricasRuta getRuta(String ruta) {
+        MetricasRuta metricas = rutas.get(ruta);
+        return metricas != null ? metricas : rutas.computeIfAbsent(ruta, MetricasRuta::new);
+    }
+
+    /**
+     * Cuenta una petición a una ruta que no atiende ninguna acción.
+     */
+    public void contarRutaDesconocida() {
+        rutasDesconocidas.increment();
+    }
+
+    /**
+     * Obtiene el número de peticiones a rutas que no atiende ninguna acción.
+     *
+     * @return Número de peticiones a rutas desconocidas.
+     */
+    public long getRutasDesconocidas() {
+        return rutasDesconocidas.sum();
+    }
+
+    /**
+     * Obtiene las estadísticas actuales de todas las rutas ejecutadas.
+     *
+     * @return Lista con las estadísticas de cada ruta, ordenada por ruta.
+     */
+    public List<EstadisticasRuta> getEstadisticas() {
+        return rutas.values().stream()
+                .map(MetricasRuta::getEstadisticas)
+                .sorted(Comparator.comparing(EstadisticasRuta::getRuta))
+                .toList();
+    }
+}
@@ -17,10 +17,13 @@ import jakarta.persistence.MappedSuperclass;
 public abstract class BaseEntity {
 
     /**
-     * Identificador único de la entidad, generado automáticamente por la base de datos.
+     * Identificador único de la entidad, generado a partir de una secuencia por entidad ({@code <tabla>_SEQ}).
+     * Hibernate reserva los identificadores de 50 en 50 (optimizador {@code pooled}), por lo que no necesita ejecutar
+     * cada INSERT para conocer su identificador y puede agruparlos en lotes JDBC. En MySQL, que no tiene secuencias,
+     * la secuencia se emula con una tabla.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     /**
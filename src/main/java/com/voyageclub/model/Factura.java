@@ -1,5 +1,7 @@
 package com.voyageclub.model;
 
+import com.voyageclub.metricas.EventoCalculoFactura;
+
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -7,6 +9,8 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * La clase Factura representa una factura generada a partir de reservas en el sistema.
@@ -19,8 +23,23 @@ import java.util.Random;
  * @version 1.0
  */
 @Entity
+@NamedQuery(name = "Factura.findAll", query = "SELECT f FROM Factura f")
+@NamedQuery(name = "Factura.count", query = "SELECT COUNT(f) FROM Factura f")
+@NamedQuery(name = "Factura.findPagina", query = "SELECT f FROM Factura f ORDER BY f.id")
+@NamedQuery(name = "Factura.findSiguientes",
+        query = "SELECT f FROM Factura f WHERE f.id > :ultimoId ORDER BY f.id")
+@NamedQuery(name = "Factura.findByUsuario",
+        query = "SELECT f FROM Factura f WHERE EXISTS "
+                + "(SELECT r FROM Reserva r WHERE r.factura = f AND r.usuario.id = :idUsuario)")
+// Cálculo de la factura: reservas con su usuario y su estancia
+@NamedEntityGraph(name = "Factura.calculoFactura",
+        attributeNodes = @NamedAttributeNode(value = "reservas", subgraph = "reservas"),
+        subgraphs = @NamedSubgraph(name = "reservas",
+                attributeNodes = {@NamedAttributeNode("usuario"), @NamedAttributeNode("luxuryStay")}))
 public class Factura extends BaseEntity {
 
+    private static final Logger LOGGER = Logger.getLogger(Factura.class.getName());
+
     /**
      * Lista de reservas asociadas a la factura.
      */
@@ -82,6 +101,8 @@ public class Factura extends BaseEntity {
      * Calcula automáticamente el precio total, el IVA y otros detalles de la factura.
      */
     private void calcularFactura() {
+        EventoCalculoFactura evento = new EventoCalculoFactura();
+        evento.begin();
         this.fechaEmision = LocalDate.now();
 
         // Calcular precioTotal, precioSinIva, precioDelIva (el IVA es 21%)
@@ -106,12 +127,19 @@ public class Factura extends BaseEntity {
         this.precioDelIva = this.precioTotal.multiply(porcentajeIva).setScale(2, RoundingMode.HALF_UP);
         this.precioSinIva = this.precioTotal.subtract(this.precioDelIva).setScale(2, RoundingMode.HALF_UP);
 
-        System.out.println("Precio total antes del IVA: " + this.precioTotal.setScale(2, RoundingMode.HALF_UP));
-        System.out.println("Precio del IVA: " + this.precioDelIva);
-        System.out.println("Precio sin IVA: " + this.precioSinIva);
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Factura calculada: precioTotal={0} precioDelIva={1} precioSinIva={2}",
+                    new Object[]{ this.precioTotal.setScale(2, RoundingMode.HALF_UP), this.precioDelIva,
+                            this.precioSinIva });
+        }
 
         // Generar un número de factura (puedes implementar tu lógica aquí)
         this.numeroFactura = generarNumeroFactura();
+
+        if (evento.shouldCommit()) {
+            evento.reservas = reservas.size();
+            evento.commit();
+        }
     }
 
 
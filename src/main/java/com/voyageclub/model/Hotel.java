@@ -1,6 +1,8 @@
 package com.voyageclub.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -13,11 +15,28 @@ import java.util.List;
  * Contiene información detallada sobre el hotel y métodos para generar un código único y vistoso.
  *
  * Esta clase extiende la clase BaseEntity, que proporciona un identificador único para todas las entidades.
+ * Los hoteles se guardan en la caché de segundo nivel: se leen en casi todas las páginas y solo los modifica un administrador.
  *
  * @author Álvaro Bajo
  * @version 1.0
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_hotel_codigo", columnList = "codigoHotel"),
+        @Index(name = "idx_hotel_nombre", columnList = "nombre")
+})
+@NamedQuery(name = "Hotel.findAll", query = "SELECT h FROM Hotel h")
+@NamedQuery(name = "Hotel.count", query = "SELECT COUNT(h) FROM Hotel h")
+@NamedQuery(name = "Hotel.findPagina", query = "SELECT h FROM Hotel h ORDER BY h.id")
+@NamedQuery(name = "Hotel.findSiguientes",
+        query = "SELECT h FROM Hotel h WHERE h.id > :ultimoId ORDER BY h.id")
+@NamedQuery(name = "Hotel.findPaginaResumen",
+        query = "SELECT new com.voyageclub.dto.HotelResumen(h.id, h.nombre, h.direccion, h.estrellas, h.email, h.web, "
+                + "h.descripcion, h.telefono, h.codigoHotel) FROM Hotel h ORDER BY h.id")
+@NamedQuery(name = "Hotel.findByNombre", query = "SELECT h FROM Hotel h WHERE h.nombre = :nombre")
+@NamedQuery(name = "Hotel.findByCodigoHotel", query = "SELECT h FROM Hotel h WHERE h.codigoHotel = :codigoHotel")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Hotel extends BaseEntity {
 
     /**
@@ -68,12 +87,18 @@ public class Hotel extends BaseEntity {
      */
     private String codigoHotel;
 
-    @Lob
-    @Column(name = "imagen-secundario", columnDefinition = "LONGBLOB")
+    /**
+     * Imagen secundaria pendiente de guardar. No se persiste con el hotel: el DAO la guarda
+     * en el almacén de imágenes, de modo que los listados de hoteles no leen columnas BLOB.
+     */
+    @Transient
     private byte[] imagenSecundaria;
 
-    @Lob
-    @Column(name = "imagen-principal", columnDefinition = "LONGBLOB")
+    /**
+     * Imagen principal pendiente de guardar. No se persiste con el hotel: el DAO la guarda
+     * en el almacén de imágenes, de modo que los listados de hoteles no leen columnas BLOB.
+     */
+    @Transient
     private byte[] imagenPrincipal;
 
     /**
@@ -307,9 +332,9 @@ public class Hotel extends BaseEntity {
     }
 
     /**
-     * Obtiene la imagen secundaria del hotel.
+     * Obtiene la imagen secundaria del hotel pendiente de guardar.
      *
-     * @return La imagen secundaria del hotel.
+     * @return La imagen secundaria del hotel, o {@code null} si no se ha asignado una nueva.
      */
     public byte[] getImagenSecundaria() {
         return imagenSecundaria;
@@ -325,9 +350,9 @@ public class Hotel extends BaseEntity {
     }
 
     /**
-     * Obtiene la imagen principal del hotel.
+     * Obtiene la imagen principal del hotel pendiente de guardar.
      *
-     * @return La imagen principal del hotel.
+     * @return La imagen principal del hotel, o {@code null} si no se ha asignado una nueva.
      */
     public byte[] getImagenPrincipal() {
         return imagenPrincipal;
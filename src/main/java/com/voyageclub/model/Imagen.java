@@ -0,0 +1,197 @@
+package com.voyageclub.model;
+
+import com.voyageclub.model.enumerdos.SlotImagen;
+import com.voyageclub.model.enumerdos.VarianteImagen;
+import jakarta.persistence.*;
+
+import java.sql.Blob;
+import java.time.Instant;
+
+/**
+ * La clase Imagen representa una imagen almacenada en el sistema, separada de la entidad a la que pertenece.
+ * Cada imagen se identifica por el identificador de su propietario (hotel o estancia de lujo), su slot
+ * y su variante de tamaño.
+ *
+ * Las imágenes viven en su propia tabla para que los listados de hoteles y estancias de lujo no lean nunca
+ * columnas BLOB: los bytes solo se consultan cuando el servlet de imágenes los necesita.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@Entity
+@Table(name = "imagen", uniqueConstraints = @UniqueConstraint(columnNames = {"propietarioId", "slot", "variante"}))
+@NamedQuery(name = "Imagen.findAll", query = "SELECT i FROM Imagen i")
+@NamedQuery(name = "Imagen.count", query = "SELECT COUNT(i) FROM Imagen i")
+@NamedQuery(name = "Imagen.findPagina", query = "SELECT i FROM Imagen i ORDER BY i.id")
+@NamedQuery(name = "Imagen.findSiguientes",
+        query = "SELECT i FROM Imagen i WHERE i.id > :ultimoId ORDER BY i.id")
+@NamedQuery(name = "Imagen.findId", query = "SELECT i.id FROM Imagen i WHERE i.propietarioId = :propietarioId "
+        + "AND i.slot = :slot AND i.variante = :variante")
+@NamedQuery(name = "Imagen.findHash", query = "SELECT i.hash FROM Imagen i WHERE i.propietarioId = :propietarioId "
+        + "AND i.slot = :slot AND i.variante = :variante")
+@NamedQuery(name = "Imagen.findMetadatos",
+        query = "SELECT new com.voyageclub.dto.MetadatosImagen(i.hash, i.fechaActualizacion, i.tamano) FROM Imagen i "
+                + "WHERE i.propietarioId = :propietarioId AND i.slot = :slot AND i.variante = :variante")
+@NamedQuery(name = "Imagen.findDatos", query = "SELECT i.datos FROM Imagen i WHERE i.propietarioId = :propietarioId "
+        + "AND i.slot = :slot AND i.variante = :variante")
+@NamedQuery(name = "Imagen.contar", query = "SELECT COUNT(i) FROM Imagen i WHERE i.propietarioId = :propietarioId "
+        + "AND i.slot IN :slots AND i.variante = :variante")
+@NamedQuery(name = "Imagen.actualizarDatos", query = "UPDATE Imagen i SET i.datos = :datos, i.hash = :hash, "
+        + "i.tamano = :tamano, i.fechaActualizacion = :fecha WHERE i.id = :id")
+@NamedQuery(name = "Imagen.deleteVariantes", query = "DELETE FROM Imagen i WHERE i.propietarioId = :propietarioId "
+        + "AND i.slot = :slot AND i.variante <> :variante")
+@NamedQuery(name = "Imagen.deleteBySlots",
+        query = "DELETE FROM Imagen i WHERE i.propietarioId = :propietarioId AND i.slot IN :slots")
+public class Imagen extends BaseEntity {
+
+    /**
+     * Identificador del hotel o estancia de lujo al que pertenece la imagen.
+     */
+    @Column(nullable = false)
+    private Long propietarioId;
+
+    /**
+     * Posición de la imagen dentro de su propietario.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private SlotImagen slot;
+
+    /**
+     * Variante de tamaño de la imagen.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private VarianteImagen variante = VarianteImagen.FULL;
+
+    /**
+     * Contenido de la imagen.
+     */
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(columnDefinition = "LONGBLOB")
+    private Blob datos;
+
+    /**
+     * Hash SHA-256 del contenido, utilizado como ETag al servir la imagen.
+     */
+    @Column(length = 64)
+    private String hash;
+
+    /**
+     * Tamaño de la imagen en bytes.
+     */
+    private Long tamano;
+
+    /**
+     * Fecha de la última modificación de la imagen.
+     */
+    private Instant fechaActualizacion;
+
+    /**
+     * Constructor vacío necesario para JPA.
+     */
+    public Imagen() {
+        // Constructor vacío necesario para JPA
+    }
+
+    /**
+     * Constructor que inicializa una imagen con su contenido.
+     *
+     * @param propietarioId Identificador del propietario de la imagen.
+     * @param slot          Posición de la imagen dentro de su propietario.
+     * @param variante      Variante de tamaño de la imagen.
+     * @param datos         Contenido de la imagen.
+     * @param hash          Hash SHA-256 del contenido.
+     * @param tamano        Tamaño de la imagen en bytes.
+     */
+    public Imagen(Long propietarioId, SlotImagen slot, VarianteImagen variante, Blob datos, String hash, Long tamano) {
+        this.propietarioId = propietarioId;
+        this.slot = slot;
+        this.variante = variante;
+        this.datos = datos;
+        this.hash = hash;
+        this.tamano = tamano;
+        this.fechaActualizacion = Instant.now();
+    }
+
+    /**
+     * Obtiene el identificador del propietario de la imagen.
+     *
+     * @return Identificador del propietario.
+     */
+    public Long getPropietarioId() {
+        return propietarioId;
+    }
+
+    /**
+     * Obtiene la posición de la imagen dentro de su propietario.
+     *
+     * @return Slot de la imagen.
+     */
+    public SlotImagen getSlot() {
+        return slot;
+    }
+
+    /**
+     * Obtiene la variante de tamaño de la imagen.
+     *
+     * @return Variante de la imagen.
+     */
+    public VarianteImagen getVariante() {
+        return variante;
+    }
+
+    /**
+     * Obtiene el contenido de la imagen.
+     *
+     * @return Contenido de la imagen.
+     */
+    public Blob getDatos() {
+        return datos;
+    }
+
+    /**
+     * Obtiene el hash SHA-256 del contenido de la imagen.
+     *
+     * @return Hash de la imagen.
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * Obtiene el tamaño de la imagen en bytes.
+     *
+     * @return Tamaño de la imagen.
+     */
+    public Long getTamano() {
+        return tamano;
+    }
+
+    /**
+     * Obtiene la fecha de la última modificación de la imagen.
+     *
+     * @return Fecha de actualización de la imagen.
+     */
+    public Instant getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+
+    /**
+     * Devuelve una representación de cadena de esta imagen (sin su contenido).
+     *
+     * @return Una cadena que representa esta imagen.
+     */
+    @Override
+    public String toString() {
+        return "Imagen{" +
+                "propietarioId=" + propietarioId +
+                ", slot=" + slot +
+                ", variante=" + variante +
+                ", hash='" + hash + '\'' +
+                ", tamano=" + tamano +
+                ", fechaActualizacion=" + fechaActualizacion +
+                '}';
+    }
+}
@@ -2,6 +2,8 @@ package com.voyageclub.model;
 
 import com.voyageclub.model.enumerdos.Amenity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
@@ -16,11 +18,36 @@ import java.util.UUID;
  *
  * Esta clase extiende la clase BaseEntity, que proporciona un identificador único para todas las entidades.
  * Cada estancia de lujo está asociada a un hotel y puede tener amenidades y reservas.
+ * Las estancias de lujo y sus amenidades se mantienen en la caché de segundo nivel (regiones en ehcache.xml).
  *
  * @author Álvaro Bajo
  * @version 1.0
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_luxury_stay_nombre", columnList = "nombre"),
+        // Un índice por cada sentido de ordenación: H2 no recorre los índices en sentido inverso
+        @Index(name = "idx_luxury_stay_precio", columnList = "precioNoche ASC"),
+        @Index(name = "idx_luxury_stay_precio_desc", columnList = "precioNoche DESC")
+})
+@NamedQuery(name = "LuxuryStay.findAll", query = "SELECT ls FROM LuxuryStay ls")
+@NamedQuery(name = "LuxuryStay.count", query = "SELECT COUNT(ls) FROM LuxuryStay ls")
+@NamedQuery(name = "LuxuryStay.findPagina", query = "SELECT ls FROM LuxuryStay ls ORDER BY ls.id")
+@NamedQuery(name = "LuxuryStay.findSiguientes",
+        query = "SELECT ls FROM LuxuryStay ls WHERE ls.id > :ultimoId ORDER BY ls.id")
+@NamedQuery(name = "LuxuryStay.findPaginaResumen",
+        query = "SELECT new com.voyageclub.dto.LuxuryStayResumen(ls.id, ls.nombre, ls.descripcion, ls.precioNoche, "
+                + "ls.codigoLuxuryStay, h.nombre, ls.fechaInicioDisponible, ls.fechaFinDisponible) "
+                + "FROM LuxuryStay ls LEFT JOIN ls.hotel h ORDER BY ls.id")
+@NamedQuery(name = "LuxuryStay.findByNombre", query = "SELECT ls FROM LuxuryStay ls WHERE ls.nombre = :nombre")
+@NamedQuery(name = "LuxuryStay.findByCodigoLuxuryStay",
+        query = "SELECT ls FROM LuxuryStay ls WHERE ls.codigoLuxuryStay = :codigoLuxuryStay")
+@NamedQuery(name = "LuxuryStay.findByPrecioAscendente",
+        query = "SELECT ls FROM LuxuryStay ls WHERE ls.precioNoche IS NOT NULL ORDER BY ls.precioNoche ASC")
+@NamedQuery(name = "LuxuryStay.findByPrecioDescendente",
+        query = "SELECT ls FROM LuxuryStay ls WHERE ls.precioNoche IS NOT NULL ORDER BY ls.precioNoche DESC")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class LuxuryStay extends BaseEntity {
 
     /**
@@ -49,6 +76,7 @@ public class LuxuryStay extends BaseEntity {
      */
     @ElementCollection
     @Enumerated(EnumType.STRING)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<Amenity> amenidades;
 
     /**
@@ -60,7 +88,7 @@ public class LuxuryStay extends BaseEntity {
     /**
      * Hotel al que pertenece esta estancia de lujo.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "hotel_id")
     private Hotel hotel;
 
@@ -81,16 +109,17 @@ public class LuxuryStay extends BaseEntity {
      */
     private LocalDate fechaFinDisponible;
 
-    @Lob
-    @Column(name = "imagen-principal", columnDefinition = "LONGBLOB")
+    /**
+     * Imágenes pendientes de guardar. No se persisten con la estancia de lujo: el DAO las guarda
+     * en el almacén de imágenes, de modo que los listados de estancias no leen columnas BLOB.
+     */
+    @Transient
     private byte[] imagenPrincipal;
 
-    @Lob
-    @Column(name = "imagen-derecha", columnDefinition = "LONGBLOB")
+    @Transient
     private byte[] imagenDerecha;
 
-    @Lob
-    @Column(name = "imagen-izquierda", columnDefinition = "LONGBLOB")
+    @Transient
     private byte[] imagenIzquierda;
 
     /**
@@ -420,7 +449,7 @@ public class LuxuryStay extends BaseEntity {
                 ", precioNoche=" + precioNoche +
                 ", amenidades=" + amenidades +
                 ", reservas=" + reservas +
-                ", hotel=" + hotel +
+                ", hotelId=" + (hotel != null ? hotel.getId() : null) +
                 ", codigoLuxuryStay='" + codigoLuxuryStay + '\'' +
                 ", fechaInicioDisponible=" + fechaInicioDisponible +
                 ", fechaFinDisponible=" + fechaFinDisponible +
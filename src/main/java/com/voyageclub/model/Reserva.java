@@ -16,26 +16,66 @@ import java.time.LocalDate;
  * @version 1.0
  */
 @Entity
+@Table(indexes = {
+        // También sirve para las búsquedas solo por usuario
+        @Index(name = "idx_reserva_usuario_luxury_stay", columnList = "usuario_id, luxury_stay_id"),
+        @Index(name = "idx_reserva_luxury_stay", columnList = "luxury_stay_id"),
+        @Index(name = "idx_reserva_factura", columnList = "factura_id"),
+        @Index(name = "idx_reserva_estado", columnList = "estado")
+})
+@NamedQuery(name = "Reserva.findAll", query = "SELECT r FROM Reserva r")
+@NamedQuery(name = "Reserva.count", query = "SELECT COUNT(r) FROM Reserva r")
+@NamedQuery(name = "Reserva.findPagina", query = "SELECT r FROM Reserva r ORDER BY r.id")
+@NamedQuery(name = "Reserva.findSiguientes",
+        query = "SELECT r FROM Reserva r WHERE r.id > :ultimoId ORDER BY r.id")
+@NamedQuery(name = "Reserva.findByUsuario", query = "SELECT r FROM Reserva r WHERE r.usuario.id = :usuarioId")
+@NamedQuery(name = "Reserva.findByLuxuryStay", query = "SELECT r FROM Reserva r WHERE r.luxuryStay.id = :luxuryStayId")
+@NamedQuery(name = "Reserva.findByUsuarioAndLuxuryStay",
+        query = "SELECT r FROM Reserva r WHERE r.usuario.id = :usuarioId AND r.luxuryStay.id = :luxuryStayId")
+@NamedQuery(name = "Reserva.findByEstado", query = "SELECT r FROM Reserva r WHERE r.estado = :estado")
+@NamedQuery(name = "Reserva.findPendientesDeFacturar",
+        query = "SELECT r FROM Reserva r WHERE r.usuario.id = :usuarioId AND r.factura IS NULL")
+@NamedQuery(name = "Reserva.findResumenByUsuario",
+        query = "SELECT new com.voyageclub.dto.ReservaResumen(r.id, ls.nombre, h.nombre, r.fechaInicio, r.fechaFin, "
+                + "r.cantidadPersonas, CAST(r.estado AS String), f.numeroFactura) FROM Reserva r JOIN r.luxuryStay ls "
+                + "LEFT JOIN ls.hotel h LEFT JOIN r.factura f WHERE r.usuario.id = :usuarioId ORDER BY r.fechaInicio, r.id")
+@NamedQuery(name = "Reserva.asociarFactura",
+        query = "UPDATE Reserva r SET r.factura = :factura WHERE r.id IN :reservaIds")
+// Resumen de reservas del usuario al iniciar sesión: estancia y hotel
+@NamedEntityGraph(name = "Reserva.resumenUsuario",
+        attributeNodes = @NamedAttributeNode(value = "luxuryStay", subgraph = "luxuryStay"),
+        subgraphs = @NamedSubgraph(name = "luxuryStay", attributeNodes = @NamedAttributeNode("hotel")))
+// Cálculo de una factura: precio de la estancia y código del usuario
+@NamedEntityGraph(name = "Reserva.calculoFactura",
+        attributeNodes = {@NamedAttributeNode("usuario"), @NamedAttributeNode("luxuryStay")})
+// Listado de administración: todas las asociaciones
+@NamedEntityGraph(name = "Reserva.listadoAdmin",
+        attributeNodes = {
+                @NamedAttributeNode("usuario"),
+                @NamedAttributeNode(value = "luxuryStay", subgraph = "luxuryStay"),
+                @NamedAttributeNode("factura")
+        },
+        subgraphs = @NamedSubgraph(name = "luxuryStay", attributeNodes = @NamedAttributeNode("hotel")))
 public class Reserva extends BaseEntity {
 
     /**
      * Usuario que realiza la reserva.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "usuario_id", nullable = false)
     private Usuario usuario;
 
     /**
      * Estancia de lujo asociada a la reserva.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "luxury_stay_id", nullable = false)
     private LuxuryStay luxuryStay;
 
     /**
      * Factura asociada a la reserva.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "factura_id")
     private Factura factura;
 
@@ -215,16 +255,17 @@ public class Reserva extends BaseEntity {
     }
 
     /**
-     * Devuelve una representación de cadena de esta reserva.
+     * Devuelve una representación de cadena de esta reserva. Las asociaciones se muestran solo por su identificador,
+     * para no cargarlas de la base de datos ni recorrer la factura, que a su vez muestra sus reservas.
      *
      * @return Una cadena que representa esta reserva.
      */
     @Override
     public String toString() {
         return "Reserva{" +
-                "usuario=" + usuario +
-                ", luxuryStay=" + luxuryStay +
-                ", factura=" + factura +
+                "usuarioId=" + (usuario != null ? usuario.getId() : null) +
+                ", luxuryStayId=" + (luxuryStay != null ? luxuryStay.getId() : null) +
+                ", facturaId=" + (factura != null ? factura.getId() : null) +
                 ", fechaInicio=" + fechaInicio +
                 ", fechaFin=" + fechaFin +
                 ", cantidadPersonas=" + cantidadPersonas +
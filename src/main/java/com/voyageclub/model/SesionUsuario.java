@@ -0,0 +1,129 @@
+package com.voyageclub.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * La clase SesionUsuario representa el estado de la sesión de un usuario autenticado guardado en la base de datos,
+ * de modo que cualquier nodo de la aplicación pueda atender sus peticiones sin depender de la memoria del nodo en el
+ * que inició sesión.
+ *
+ * <p>La sesión se identifica por un token aleatorio que el navegador envía en una cookie. Los datos son el bean de
+ * sesión del usuario serializado con su formato compacto.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@Entity
+@Table(name = "sesion_usuario",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sesion_usuario_token", columnNames = "token"),
+        indexes = @Index(name = "idx_sesion_usuario_fecha", columnList = "fechaActualizacion"))
+@NamedQuery(name = "SesionUsuario.findAll", query = "SELECT s FROM SesionUsuario s")
+@NamedQuery(name = "SesionUsuario.count", query = "SELECT COUNT(s) FROM SesionUsuario s")
+@NamedQuery(name = "SesionUsuario.findPagina", query = "SELECT s FROM SesionUsuario s ORDER BY s.id")
+@NamedQuery(name = "SesionUsuario.findSiguientes",
+        query = "SELECT s FROM SesionUsuario s WHERE s.id > :ultimoId ORDER BY s.id")
+@NamedQuery(name = "SesionUsuario.findByToken",
+        query = "SELECT s FROM SesionUsuario s WHERE s.token = :token")
+@NamedQuery(name = "SesionUsuario.findDatosByToken",
+        query = "SELECT s.datos FROM SesionUsuario s WHERE s.token = :token AND s.fechaActualizacion > :limite")
+@NamedQuery(name = "SesionUsuario.deleteByToken",
+        query = "DELETE FROM SesionUsuario s WHERE s.token = :token")
+@NamedQuery(name = "SesionUsuario.deleteAnteriores",
+        query = "DELETE FROM SesionUsuario s WHERE s.fechaActualizacion <= :limite")
+public class SesionUsuario extends BaseEntity {
+
+    /**
+     * Longitud máxima, en bytes, de los datos serializados de una sesión. El bean de sesión solo tiene el
+     * identificador y los textos del usuario, que con la longitud máxima de sus columnas (255 caracteres de hasta 3
+     * bytes en UTF-8) ocupan unos 4,7 KB; el resto queda de margen.
+     */
+    public static final int TAMANO_MAXIMO_DATOS = 8192;
+
+    /**
+     * Token aleatorio que identifica la sesión.
+     */
+    @Column(nullable = false, length = 64)
+    private String token;
+
+    /**
+     * Bean de sesión del usuario serializado.
+     */
+    @Column(nullable = false, length = TAMANO_MAXIMO_DATOS)
+    private byte[] datos;
+
+    /**
+     * Fecha en la que se guardaron los datos de la sesión por última vez.
+     */
+    @Column(nullable = false)
+    private Instant fechaActualizacion;
+
+    /**
+     * Constructor vacío necesario para JPA.
+     */
+    public SesionUsuario() {
+        // Constructor vacío necesario para JPA
+    }
+
+    /**
+     * Constructor que inicializa una sesión con sus datos.
+     *
+     * @param token Token aleatorio que identifica la sesión.
+     * @param datos Bean de sesión del usuario serializado.
+     */
+    public SesionUsuario(String token, byte[] datos) {
+        this.token = token;
+        setDatos(datos);
+    }
+
+    /**
+     * Obtiene el token que identifica la sesión.
+     *
+     * @return Token de la sesión.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Obtiene el bean de sesión del usuario serializado.
+     *
+     * @return Datos de la sesión.
+     */
+    public byte[] getDatos() {
+        return datos;
+    }
+
+    /**
+     * Establece el bean de sesión del usuario serializado y actualiza la fecha de la sesión.
+     *
+     * @param datos Datos de la sesión.
+     */
+    public void setDatos(byte[] datos) {
+        this.datos = datos;
+        this.fechaActualizacion = Instant.now();
+    }
+
+    /**
+     * Obtiene la fecha en la que se guardaron los datos de la sesión por última vez.
+     *
+     * @return Fecha de la última actualización.
+     */
+    public Instant getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+
+    /**
+     * Devuelve una representación en forma de cadena de la sesión, sin el token ni los datos.
+     *
+     * @return Cadena que representa la sesión.
+     */
+    @Override
+    public String toString() {
+        return "SesionUsuario{" +
+                "id=" + getId() +
+                ", fechaActualizacion=" + fechaActualizacion +
+                '}';
+    }
+}
@@ -18,6 +18,27 @@ import java.util.Locale;
  * Contiene información básica del usuario y métodos para manejar contraseñas de manera segura.
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_usuario_nombre", columnList = "nombre"),
+        @Index(name = "uk_usuario_correo", columnList = "correoElectronico", unique = true)
+})
+@NamedQuery(name = "Usuario.findAll", query = "SELECT u FROM Usuario u")
+@NamedQuery(name = "Usuario.count", query = "SELECT COUNT(u) FROM Usuario u")
+@NamedQuery(name = "Usuario.findPagina", query = "SELECT u FROM Usuario u ORDER BY u.id")
+@NamedQuery(name = "Usuario.findSiguientes",
+        query = "SELECT u FROM Usuario u WHERE u.id > :ultimoId ORDER BY u.id")
+@NamedQuery(name = "Usuario.findResumen",
+        query = "SELECT new com.voyageclub.dto.UsuarioResumen(u.id, u.nombre, u.apellido1, u.apellido2, "
+                + "u.correoElectronico, u.codigoUsuario) FROM Usuario u ORDER BY u.id")
+@NamedQuery(name = "Usuario.findSiguientesResumen",
+        query = "SELECT new com.voyageclub.dto.UsuarioResumen(u.id, u.nombre, u.apellido1, u.apellido2, "
+                + "u.correoElectronico, u.codigoUsuario) FROM Usuario u WHERE u.id > :ultimoId ORDER BY u.id")
+@NamedQuery(name = "Usuario.findByNombre", query = "SELECT u FROM Usuario u WHERE u.nombre = :nombre")
+@NamedQuery(name = "Usuario.findByCorreoElectronico",
+        query = "SELECT u FROM Usuario u WHERE u.correoElectronico = :correo")
+@NamedQuery(name = "Usuario.findByDni", query = "SELECT u FROM Usuario u WHERE u.dni = :dni")
+@NamedQuery(name = "Usuario.contarPorCorreoElectronico",
+        query = "SELECT COUNT(u) FROM Usuario u WHERE u.correoElectronico = :correo")
 public class Usuario extends BaseEntity {
 
     /**
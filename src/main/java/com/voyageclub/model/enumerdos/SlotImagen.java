@@ -0,0 +1,92 @@
+package com.voyageclub.model.enumerdos;
+
+/**
+ * Enumeración que representa las posiciones (slots) de imagen que puede tener cada propietario.
+ * Cada slot identifica el tipo de propietario (hotel o estancia de lujo) y el tipo de imagen,
+ * de modo que el par (identificador del propietario, slot) identifica una única imagen original.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public enum SlotImagen {
+
+    /**
+     * Imagen principal de un hotel.
+     */
+    HOTEL_PRINCIPAL("principal"),
+
+    /**
+     * Imagen secundaria de un hotel.
+     */
+    HOTEL_SECUNDARIA("secundaria"),
+
+    /**
+     * Imagen principal de una estancia de lujo.
+     */
+    LUXURY_PRINCIPAL("principal"),
+
+    /**
+     * Imagen derecha de una estancia de lujo.
+     */
+    LUXURY_DERECHA("derecha"),
+
+    /**
+     * Imagen izquierda de una estancia de lujo.
+     */
+    LUXURY_IZQUIERDA("izquierda");
+
+    private final String tipo;
+
+    /**
+     * Constructor privado que asigna el tipo de imagen utilizado en las peticiones.
+     *
+     * @param tipo Tipo de imagen tal y como llega en el parámetro {@code type}.
+     */
+    SlotImagen(String tipo) {
+        this.tipo = tipo;
+    }
+
+    /**
+     * Obtiene el tipo de imagen utilizado en las peticiones.
+     *
+     * @return Tipo de imagen.
+     */
+    public String getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Obtiene el slot de una imagen de hotel a partir de su tipo.
+     *
+     * @param tipo Tipo de imagen ({@code principal} o {@code secundaria}).
+     * @return El slot correspondiente, o {@code null} si el tipo no es válido.
+     */
+    public static SlotImagen deHotel(String tipo) {
+        if (HOTEL_PRINCIPAL.tipo.equals(tipo)) {
+            return HOTEL_PRINCIPAL;
+        }
+        if (HOTEL_SECUNDARIA.tipo.equals(tipo)) {
+            return HOTEL_SECUNDARIA;
+        }
+        return null;
+    }
+
+    /**
+     * Obtiene el slot de una imagen de estancia de lujo a partir de su tipo.
+     *
+     * @param tipo Tipo de imagen ({@code principal}, {@code derecha} o {@code izquierda}).
+     * @return El slot correspondiente, o {@code null} si el tipo no es válido.
+     */
+    public static SlotImagen deLuxuryStay(String tipo) {
+        if (LUXURY_PRINCIPAL.tipo.equals(tipo)) {
+            return LUXURY_PRINCIPAL;
+        }
+        if (LUXURY_DERECHA.tipo.equals(tipo)) {
+            return LUXURY_DERECHA;
+        }
+        if (LUXURY_IZQUIERDA.tipo.equals(tipo)) {
+            return LUXURY_IZQUIERDA;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,78 @@
+package com.voyageclub.model.enumerdos;
+
+/**
+ * Enumeración que representa los tamaños en los que se guarda cada imagen.
+ * La variante {@link #FULL} es la imagen original subida por el usuario; el resto son copias
+ * reescaladas que se generan a partir de ella para los listados y las vistas previas.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public enum VarianteImagen {
+
+    /**
+     * Miniatura para las tablas de listado.
+     */
+    THUMB("thumb", 160),
+
+    /**
+     * Tamaño intermedio para tarjetas y vistas previas.
+     */
+    CARD("card", 480),
+
+    /**
+     * Imagen original, sin reescalar.
+     */
+    FULL("full", 0);
+
+    private final String tamano;
+    private final int anchoMaximo;
+
+    /**
+     * Constructor privado que asigna el nombre de la variante y su ancho máximo.
+     *
+     * @param tamano      Nombre de la variante tal y como llega en el parámetro {@code size}.
+     * @param anchoMaximo Ancho máximo en píxeles, o 0 si la imagen no se reescala.
+     */
+    VarianteImagen(String tamano, int anchoMaximo) {
+        this.tamano = tamano;
+        this.anchoMaximo = anchoMaximo;
+    }
+
+    /**
+     * Obtiene el nombre de la variante utilizado en las peticiones.
+     *
+     * @return Nombre de la variante.
+     */
+    public String getTamano() {
+        return tamano;
+    }
+
+    /**
+     * Obtiene el ancho máximo en píxeles de la variante.
+     *
+     * @return Ancho máximo, o 0 si la imagen no se reescala.
+     */
+    public int getAnchoMaximo() {
+        return anchoMaximo;
+    }
+
+    /**
+     * Obtiene la variante correspondiente al parámetro {@code size} de una petición.
+     * Si no se indica tamaño se utiliza la imagen original.
+     *
+     * @param tamano Nombre de la variante ({@code thumb}, {@code card} o {@code full}).
+     * @return La variante correspondiente, o {@code null} si el nombre no es válido.
+     */
+    public static VarianteImagen deTamano(String tamano) {
+        if (tamano == null || tamano.isEmpty()) {
+            return FULL;
+        }
+        for (VarianteImagen variante : values()) {
+            if (variante.tamano.equals(tamano)) {
+                return variante;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,89 @@
+package com.voyageclub.servlet;
+
+import jakarta.servlet.MultipartConfigElement;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.ServletRegistration;
+import jakarta.servlet.annotation.WebListener;
+
+/**
+ * Registra el {@link FrontControllerServlet} al arrancar la aplicación, con la configuración multipart calculada a
+ * partir del parámetro de contexto {@link #PARAM_TAMANO_MAXIMO_IMAGEN}.
+ *
+ * <p>El servlet se registra aquí y no con anotaciones porque {@code @MultipartConfig} solo admite constantes: así el
+ * tamaño máximo de imagen del web.xml es a la vez el {@code maxFileSize} con el que el contenedor rechaza las partes
+ * y el límite que comprueban las acciones al leerlas ({@link #tamanoMaximoImagen(ServletContext)}), y se puede
+ * subir o bajar sin recompilar.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@WebListener
+public class ConfiguracionFrontController implements ServletContextListener {
+
+    /**
+     * Parámetro de contexto con el tamaño máximo de cada imagen subida, en bytes.
+     */
+    public static final String PARAM_TAMANO_MAXIMO_IMAGEN = "voyageclub.imagenes.tamanoMaximo";
+
+    /**
+     * Nombre con el que se registra el servlet.
+     */
+    static final String NOMBRE_SERVLET = "app";
+
+    private static final String RUTA_SERVLET = "/app";
+    private static final long TAMANO_MAXIMO_IMAGEN = 10L * 1024 * 1024;
+
+    /**
+     * Número máximo de imágenes de un formulario (las dos imágenes de un hotel).
+     */
+    private static final int MAX_IMAGENES_POR_PETICION = 2;
+
+    /**
+     * Espacio de la petición reservado para los campos de texto del formulario, además de las imágenes.
+     */
+    private static final long TAMANO_CAMPOS = 5L * 1024 * 1024;
+
+    /**
+     * Las partes de más de 1 MB se vuelcan a disco en lugar de mantenerse en memoria.
+     */
+    private static final int UMBRAL_DISCO = 1024 * 1024;
+
+    /**
+     * Registra el servlet de la aplicación con su configuración multipart.
+     *
+     * @param evento Evento de inicialización, con el contexto de la aplicación.
+     */
+    @Override
+    public void contextInitialized(ServletContextEvent evento) {
+        ServletContext contexto = evento.getServletContext();
+        long tamanoMaximo = tamanoMaximoImagen(contexto);
+
+        ServletRegistration.Dynamic registro = contexto.addServlet(NOMBRE_SERVLET, FrontControllerServlet.class);
+        registro.addMapping(RUTA_SERVLET);
+        registro.setAsyncSupported(true);
+        registro.setMultipartConfig(new MultipartConfigElement("", tamanoMaximo,
+                MAX_IMAGENES_POR_PETICION * tamanoMaximo + TAMANO_CAMPOS, UMBRAL_DISCO));
+    }
+
+    /**
+     * Obtiene el tamaño máximo de cada imagen subida configurado en el web.xml. Si el parámetro no existe o no es un
+     * número positivo se utilizan 10 MB.
+     *
+     * @param contexto Contexto de la aplicación.
+     * @return Tamaño máximo de imagen en bytes.
+     */
+    public static long tamanoMaximoImagen(ServletContext contexto) {
+        String tamanoMaximo = contexto.getInitParameter(PARAM_TAMANO_MAXIMO_IMAGEN);
+        if (tamanoMaximo == null || tamanoMaximo.isBlank()) {
+            return TAMANO_MAXIMO_IMAGEN;
+        }
+        try {
+            long valor = Long.parseLong(tamanoMaximo.trim());
+            return valor > 0 ? valor : TAMANO_MAXIMO_IMAGEN;
+        } catch (NumberFormatException e) {
+            return TAMANO_MAXIMO_IMAGEN;
+        }
+    }
+}
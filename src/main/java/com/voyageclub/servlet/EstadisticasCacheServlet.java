@@ -0,0 +1,58 @@
+package com.voyageclub.servlet;
+
+import com.voyageclub.dao.EstadisticasCacheDAO;
+import com.voyageclub.dto.EstadisticasRegionCache;
+
+import jakarta.inject.Inject;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.HttpConstraint;
+import jakarta.servlet.annotation.ServletSecurity;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+/**
+ * El servlet que muestra las estadísticas de la caché de segundo nivel en texto plano: una línea por región con
+ * los aciertos, fallos, escrituras, elementos y tasa de aciertos, más una línea con el total de la caché de consultas.
+ * Solo lo pueden consultar los usuarios con el rol {@code administrador}.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@WebServlet(name = "EstadisticasCacheServlet", urlPatterns = { "/estadisticas/cache" })
+@ServletSecurity(@HttpConstraint(rolesAllowed = { "administrador" }))
+public class EstadisticasCacheServlet extends HttpServlet {
+
+    @Inject
+    private EstadisticasCacheDAO estadisticasCacheDAO;
+
+    /**
+     * Maneja las solicitudes GET devolviendo las estadísticas actuales de la caché.
+     *
+     * @param request  La solicitud HTTP.
+     * @param response La respuesta HTTP que contendrá las estadísticas.
+     * @throws ServletException Si ocurre un error de servlet.
+     * @throws IOException      Si ocurre un error de entrada/salida.
+     */
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        response.setContentType("text/plain;charset=UTF-8");
+        response.setHeader("Cache-Control", "no-store");
+
+        PrintWriter out = response.getWriter();
+        for (EstadisticasRegionCache region : estadisticasCacheDAO.getRegiones()) {
+            escribir(out, region);
+        }
+        escribir(out, estadisticasCacheDAO.getConsultas());
+    }
+
+    private void escribir(PrintWriter out, EstadisticasRegionCache region) {
+        out.printf(Locale.ROOT, "%s aciertos=%d fallos=%d escrituras=%d elementos=%d tasaAciertos=%.3f%n",
+                region.getRegion(), region.getAciertos(), region.getFallos(), region.getEscrituras(),
+                region.getElementosEnMemoria(), region.getTasaAciertos());
+    }
+}
@@ -1,6 +1,12 @@
 package com.voyageclub.servlet;
 
 import com.voyageclub.action.*;
+import com.voyageclub.action.paginas.PageNames;
+import com.voyageclub.metricas.EventoPeticion;
+import com.voyageclub.metricas.MetricasRuta;
+import com.voyageclub.metricas.RegistroMetricas;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
 import jakarta.inject.Inject;
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.ServletException;
@@ -21,27 +27,48 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 
-@WebServlet(name = "app", value = "/app")
-@MultipartConfig
+// Se registra al arrancar en ConfiguracionFrontController, que calcula su configuración multipart a partir del
+// tamaño máximo de imagen del web.xml (voyageclub.imagenes.tamanoMaximo)
 public class FrontControllerServlet extends HttpServlet {
 
+    private static final Logger LOGGER = Logger.getLogger(FrontControllerServlet.class.getName());
+
     @Inject
     private InicializacionDatosAction inicializacionDatosAction;
+
+    // Rutas ENTIDAD.OPERACION de todas las acciones, construidas al arrancar
     @Inject
-    private UsuarioActionImpl usuarioAction;
+    private RegistroRutas registroRutas;
 
+    // Latencias, errores y ejecuciones en curso de cada ruta, publicados en /metricas
     @Inject
-    private HotelActionImpl hotelAction;
+    private RegistroMetricas registroMetricas;
+
+    @Resource
+    private ManagedExecutorService executor;
+
+    private ProcesadorAsincrono procesador;
+
+    @Override
+    public void init() throws ServletException {
+        procesador = ProcesadorAsincrono.configurado(executor, getServletContext());
+    }
 
     protected void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
         // Inicializar datos primero
        //inicializacionDatosAction.inicializarDatos();
 
-        // Redirigir a login.jsp
-        RequestDispatcher dispatcher = request.getRequestDispatcher("/login.jsp");
-        dispatcher.forward(request, response);
+        if (request.getParameter(Action.PARAMETRO_ACCION) == null) {
+            // Sin acción: redirigir a login.jsp
+            RequestDispatcher dispatcher = request.getRequestDispatcher("/login.jsp");
+            dispatcher.forward(request, response);
+            return;
+        }
 
         // Configurar el servlet para manejar datos de formulario multipartes
         if (request.getContentType() != null && request.getContentType().startsWith("multipart/form-data")) {
@@ -59,38 +86,51 @@ public class FrontControllerServlet extends HttpServlet {
 
     protected void processRequest(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
+        // La acción se ejecuta fuera del hilo del contenedor, que queda libre mientras se consulta la base de datos
+        procesador.procesar(request, response, this::atender);
+    }
+
+    /**
+     * Ejecuta la acción solicitada.
+     *
+     * @return La página de destino de la acción, o {@code null} si ya se ha escrito la respuesta.
+     */
+    private String atender(HttpServletRequest request, HttpServletResponse response) throws IOException {
         response.setContentType("text/html;charset=UTF-8");
-        System.out.println("esto es lo que llega: "+request.getParameter("ACTION"));
-        String action = request.getParameter("ACTION");
-        String[] arrayAction = action.split("\\.");
-        String pagDestino = "";
-
-        switch (arrayAction[0]) {
-            case "USUARIO":
-                pagDestino = usuarioAction.execute(request, response);
-                break;
-            // Agregar más casos según sea necesario
-            case "HOTEL":
-                pagDestino = hotelAction.execute(request, response);
-                break;
-            default:
-                // Manejar el caso cuando no coincide con ningún caso
-                pagDestino = "/error.jsp";
-                break;
+        String ruta = request.getParameter(Action.PARAMETRO_ACCION);
+        Optional<ManejadorAccion> manejador = registroRutas.buscar(ruta);
+        if (manejador.isEmpty()) {
+            // Ninguna acción atiende la ruta solicitada
+            registroMetricas.contarRutaDesconocida();
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, "Acción desconocida");
+            return null;
+        }
+        MetricasRuta metricas = registroMetricas.getRuta(ruta);
+        EventoPeticion evento = new EventoPeticion();
+        evento.begin();
+        long inicio = metricas.iniciar();
+        String pagDestino = null;
+        try {
+            pagDestino = manejador.get().manejar(request, response);
+        } finally {
+            // Una excepción, un destino vacío o la página de error cuentan como ejecución fallida
+            boolean error = pagDestino == null || pagDestino.isEmpty() || PageNames.ERROR_PAGE.equals(pagDestino);
+            metricas.terminar(inicio, error);
+            if (evento.shouldCommit()) {
+                evento.ruta = ruta;
+                evento.destino = pagDestino;
+                evento.error = error;
+                evento.commit();
+            }
         }
 
         // Verificar que pagDestino no esté vacío o nulo antes de forward
-        if (pagDestino != null && !pagDestino.isEmpty()) {
-            try {
-                request.getRequestDispatcher(pagDestino).forward(request, response);
-            } catch (Exception e) {
-                // Manejar la excepción en caso de un error durante el forward
-                e.printStackTrace(); // Puedes cambiar esto según tus necesidades
-            }
-        } else {
+        if (pagDestino == null || pagDestino.isEmpty()) {
             // Manejar el caso cuando pagDestino es vacío o nulo
             response.sendRedirect("/error.jsp");
+            return null;
         }
+        return pagDestino;
     }
 
 
@@ -128,8 +168,8 @@ public class FrontControllerServlet extends HttpServlet {
                 }
             }
         } catch (IOException | ServletException e) {
-            e.printStackTrace();
             // Manejar cualquier excepción al procesar la solicitud multipartes
+            LOGGER.log(Level.SEVERE, "Error al procesar la solicitud multipartes", e);
         }
     }
 
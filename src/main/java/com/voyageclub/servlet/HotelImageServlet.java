@@ -1,8 +1,13 @@
 package com.voyageclub.servlet;
 
-import com.voyageclub.dao.HotelDAO;
-import com.voyageclub.model.Hotel;
+import com.voyageclub.dao.ImagenDAO;
+import com.voyageclub.dto.MetadatosImagen;
+import com.voyageclub.model.enumerdos.SlotImagen;
+import com.voyageclub.model.enumerdos.VarianteImagen;
+import com.voyageclub.util.GeneradorVariantesImagen;
 
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
 import jakarta.inject.Inject;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletOutputStream;
@@ -15,21 +20,58 @@ import java.io.IOException;
 import java.util.Optional;
 
 /**
- * El servlet para obtener imágenes de hoteles.
- * Este servlet maneja solicitudes GET para obtener imágenes de hoteles según el tipo de imagen especificado (principal o secundaria) y el ID del hotel.
- * Requiere la inyección de un HotelDAO para acceder a la base de datos.
+ * El servlet para obtener imágenes de hoteles y estancias de lujo.
+ * Este servlet maneja solicitudes GET para obtener imágenes según el tipo de imagen especificado y el ID del hotel
+ * ({@code hotelId}, tipos principal o secundaria) o de la estancia de lujo ({@code luxuryStayId}, tipos principal,
+ * derecha o izquierda). Requiere la inyección de un ImagenDAO para acceder al almacén de imágenes.
+ *
+ * <p>El parámetro opcional {@code size} ({@code thumb}, {@code card} o {@code full}) selecciona una variante
+ * reescalada de la imagen. Si la variante todavía no se ha generado se sirve la imagen original con
+ * {@code Cache-Control: no-cache}, de modo que ni el navegador ni los proxies la reutilizan como si fuera la variante
+ * sin preguntar antes y la variante se sirve en cuanto existe. Además se vuelve a solicitar su generación
+ * ({@link GeneradorVariantesImagen}), por si la solicitud que siguió a la subida se descartó.
+ *
+ * <p>Las respuestas incluyen las cabeceras {@code ETag}, {@code Last-Modified} y {@code Cache-Control}, de modo que
+ * las peticiones condicionales ({@code If-None-Match} / {@code If-Modified-Since}) se responden con un 304 consultando
+ * solo los metadatos de la imagen. Cuando hay que enviarla, los bytes se copian directamente desde el BLOB a la respuesta.
  *
  * @author Álvaro Bajo
  * @version 1.0
  */
-@WebServlet(name = "HotelImageServlet", urlPatterns = { "/hotelImage" })
+@WebServlet(name = "HotelImageServlet", urlPatterns = { "/hotelImage" }, asyncSupported = true)
 public class HotelImageServlet extends HttpServlet {
 
+    /**
+     * Valor de la cabecera Cache-Control: el navegador puede reutilizar la imagen durante una hora
+     * y después debe revalidarla con el ETag.
+     */
+    private static final String CACHE_CONTROL = "public, max-age=3600, must-revalidate";
+
+    /**
+     * Valor de la cabecera Cache-Control cuando se sirve la imagen original en lugar de una variante que aún no
+     * existe: la respuesta se puede guardar, pero hay que revalidarla en cada uso.
+     */
+    private static final String CACHE_CONTROL_SUSTITUTA = "no-cache";
+
     @Inject
-    private HotelDAO hotelDAO;
+    private ImagenDAO imagenDAO;
+
+    @Inject
+    private GeneradorVariantesImagen generadorVariantes;
+
+    @Resource
+    private ManagedExecutorService executor;
+
+    private ProcesadorAsincrono procesador;
+
+    @Override
+    public void init() throws ServletException {
+        procesador = ProcesadorAsincrono.configurado(executor, getServletContext());
+    }
 
     /**
-     * Maneja las solicitudes GET para obtener imágenes de hoteles.
+     * Maneja las solicitudes GET para obtener imágenes de hoteles y estancias de lujo. La imagen se consulta y se
+     * copia a la respuesta fuera del hilo del contenedor ({@link ProcesadorAsincrono}).
      *
      * @param request  La solicitud HTTP.
      * @param response La respuesta HTTP que contendrá la imagen.
@@ -37,51 +79,144 @@ public class HotelImageServlet extends HttpServlet {
      * @throws IOException      Si ocurre un error de entrada/salida.
      */
     protected void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        procesador.procesar(request, response, this::servirImagen);
+    }
+
+    /**
+     * Escribe en la respuesta la imagen solicitada, un 304 si el cliente ya la tiene o el error correspondiente.
+     *
+     * @param request  La solicitud HTTP.
+     * @param response La respuesta HTTP que contendrá la imagen.
+     * @return Siempre {@code null}: la respuesta se escribe directamente.
+     * @throws IOException Si ocurre un error de entrada/salida.
+     */
+    private String servirImagen(HttpServletRequest request, HttpServletResponse response) throws IOException {
         // Obtener parámetros del request
         String hotelIdParam = request.getParameter("hotelId");
+        String luxuryStayIdParam = request.getParameter("luxuryStayId");
         String type = request.getParameter("type");
+        VarianteImagen variante = VarianteImagen.deTamano(request.getParameter("size"));
 
-        if (hotelIdParam != null && type != null) {
-            try {
-                // Convertir el hotelId a Long
-                Long hotelId = Long.parseLong(hotelIdParam);
-
-                // Obtener el hotel desde la base de datos
-                Optional<Hotel> hotelOptional = hotelDAO.getById(hotelId);
-
-                if (hotelOptional.isPresent()) {
-                    Hotel hotel = hotelOptional.get();
-
-                    // Determinar qué tipo de imagen cargar
-                    byte[] imageBytes;
-                    if ("principal".equals(type)) {
-                        imageBytes = hotel.getImagenPrincipal();
-                    } else if ("secundaria".equals(type)) {
-                        imageBytes = hotel.getImagenSecundaria();
-                    } else {
-                        // Tipo de imagen no válido
-                        response.sendError(HttpServletResponse.SC_BAD_REQUEST);
-                        return;
-                    }
-
-                    // Configurar el tipo de contenido de la respuesta
-                    response.setContentType("image/jpeg");
-
-                    // Escribir la imagen al ServletOutputStream de la respuesta
-                    try (ServletOutputStream outputStream = response.getOutputStream()) {
-                        outputStream.write(imageBytes);
-                    }
-                } else {
-                    // Hotel no encontrado
-                    response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        if ((hotelIdParam == null) == (luxuryStayIdParam == null) || type == null || variante == null) {
+            // Parámetros incompletos, ambiguos o tamaño no válido
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return null;
+        }
+
+        SlotImagen slot = hotelIdParam != null ? SlotImagen.deHotel(type) : SlotImagen.deLuxuryStay(type);
+        if (slot == null) {
+            // Tipo de imagen no válido
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return null;
+        }
+
+        Long propietarioId;
+        try {
+            // Convertir el identificador del propietario a Long
+            propietarioId = Long.parseLong(hotelIdParam != null ? hotelIdParam : luxuryStayIdParam);
+        } catch (NumberFormatException e) {
+            // El identificador no es un número válido
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return null;
+        }
+
+        // Consultar solo los metadatos de la imagen, sin cargar el propietario ni el BLOB
+        Optional<MetadatosImagen> metadatosOptional = imagenDAO.getMetadatos(propietarioId, slot, variante);
+        String cacheControl = CACHE_CONTROL;
+        if (metadatosOptional.isEmpty() && variante != VarianteImagen.FULL) {
+            // La variante aún no se ha generado: servir la imagen original sin que se guarde como la variante
+            variante = VarianteImagen.FULL;
+            cacheControl = CACHE_CONTROL_SUSTITUTA;
+            metadatosOptional = imagenDAO.getMetadatos(propietarioId, slot, variante);
+            if (metadatosOptional.isPresent()) {
+                generadorVariantes.generar(propietarioId, slot);
+            }
+        }
+        if (metadatosOptional.isEmpty()) {
+            // Imagen no encontrada
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return null;
+        }
+
+        MetadatosImagen metadatos = metadatosOptional.get();
+        if (noModificada(request, metadatos)) {
+            escribirCabecerasCache(response, metadatos, cacheControl);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return null;
+        }
+
+        // Configurar el tipo de contenido y las cabeceras de caché de la respuesta
+        response.setContentType("image/jpeg");
+        if (metadatos.getTamano() != null) {
+            response.setContentLengthLong(metadatos.getTamano());
+        }
+        escribirCabecerasCache(response, metadatos, cacheControl);
+
+        // Copiar la imagen desde el BLOB al ServletOutputStream de la respuesta
+        ServletOutputStream outputStream = response.getOutputStream();
+        if (!imagenDAO.escribir(propietarioId, slot, variante, outputStream)) {
+            // La imagen se ha eliminado entre la consulta de metadatos y la lectura
+            response.reset();
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
+        return null;
+    }
+
+    /**
+     * Comprueba si la copia que tiene el cliente sigue siendo válida según las cabeceras condicionales.
+     * {@code If-None-Match} tiene prioridad sobre {@code If-Modified-Since}.
+     *
+     * @param request   La solicitud HTTP.
+     * @param metadatos Metadatos de la imagen solicitada.
+     * @return {@code true} si se puede responder con un 304.
+     */
+    private boolean noModificada(HttpServletRequest request, MetadatosImagen metadatos) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            String etag = metadatos.getEtag();
+            if (etag == null) {
+                return false;
+            }
+            for (String candidato : ifNoneMatch.split(",")) {
+                String valor = candidato.trim();
+                if (valor.startsWith("W/")) {
+                    valor = valor.substring(2);
+                }
+                if (valor.equals(etag) || valor.equals("*")) {
+                    return true;
                 }
-            } catch (NumberFormatException e) {
-                // hotelId no es un número válido
-                response.sendError(HttpServletResponse.SC_BAD_REQUEST);
             }
-        } else {
-            // Parámetros incompletos
-            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return false;
+        }
+
+        if (metadatos.getFechaActualizacion() != null) {
+            long ifModifiedSince;
+            try {
+                ifModifiedSince = request.getDateHeader("If-Modified-Since");
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+            // Las fechas HTTP tienen precisión de segundos
+            long ultimaModificacion = metadatos.getFechaActualizacion().getEpochSecond() * 1000;
+            return ifModifiedSince != -1 && ultimaModificacion <= ifModifiedSince;
+        }
+        return false;
+    }
+
+    /**
+     * Escribe las cabeceras ETag, Last-Modified y Cache-Control en la respuesta.
+     *
+     * @param response     La respuesta HTTP.
+     * @param metadatos    Metadatos de la imagen servida.
+     * @param cacheControl Valor de la cabecera Cache-Control.
+     */
+    private void escribirCabecerasCache(HttpServletResponse response, MetadatosImagen metadatos, String cacheControl) {
+        response.setHeader("Cache-Control", cacheControl);
+        if (metadatos.getEtag() != null) {
+            response.setHeader("ETag", metadatos.getEtag());
+        }
+        if (metadatos.getFechaActualizacion() != null) {
+            response.setDateHeader("Last-Modified", metadatos.getFechaActualizacion().toEpochMilli());
         }
     }
 }
@@ -0,0 +1,110 @@
+package com.voyageclub.servlet;
+
+import com.voyageclub.dao.EstadisticasConsultasDAO;
+import com.voyageclub.dto.EstadisticasMetodoDAO;
+import com.voyageclub.dto.EstadisticasRuta;
+import com.voyageclub.dto.EstadisticasSentencia;
+import com.voyageclub.metricas.RegistroConsultas;
+import com.voyageclub.metricas.RegistroMetricas;
+
+import jakarta.inject.Inject;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.HttpConstraint;
+import jakarta.servlet.annotation.ServletSecurity;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * El servlet que muestra las métricas de las peticiones por ruta {@code ENTIDAD.OPERACION}: ejecuciones, errores,
+ * ejecuciones en curso y latencias media, p50, p90, p99 y máxima en milisegundos. Muestra también las métricas de
+ * cada método de los DAO y las {@value #SENTENCIAS_MAS_LENTAS} consultas JPQL con mayor tiempo máximo de ejecución.
+ *
+ * <p>Por defecto responde en texto plano: una línea por ruta, una línea con las peticiones a rutas desconocidas, una
+ * línea por método de DAO, que empieza por {@code dao}, y una línea por consulta, que empieza por {@code sql} y
+ * termina con el texto de la consulta. Con el parámetro {@code formato=json} responde con el mismo contenido en JSON.
+ *
+ * <p>Las consultas incluyen el texto de las sentencias, por lo que solo lo pueden consultar los usuarios con el rol
+ * {@code administrador}.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@WebServlet(name = "MetricasServlet", urlPatterns = { "/metricas" })
+@ServletSecurity(@HttpConstraint(rolesAllowed = { "administrador" }))
+public class MetricasServlet extends HttpServlet {
+
+    /**
+     * Número de consultas más lentas que se muestran.
+     */
+    public static final int SENTENCIAS_MAS_LENTAS = 10;
+
+    @Inject
+    private RegistroMetricas registroMetricas;
+
+    @Inject
+    private RegistroConsultas registroConsultas;
+
+    @Inject
+    private EstadisticasConsultasDAO estadisticasConsultasDAO;
+
+    /**
+     * Maneja las solicitudes GET devolviendo las métricas actuales.
+     *
+     * @param request  La solicitud HTTP, con el parámetro opcional {@code formato}.
+     * @param response La respuesta HTTP que contendrá las métricas.
+     * @throws ServletException Si ocurre un error de servlet.
+     * @throws IOException      Si ocurre un error de entrada/salida.
+     */
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        response.setHeader("Cache-Control", "no-store");
+        List<EstadisticasRuta> rutas = registroMetricas.getEstadisticas();
+        List<EstadisticasMetodoDAO> metodos = registroConsultas.getEstadisticas();
+        List<EstadisticasSentencia> sentencias = estadisticasConsultasDAO.getMasLentas(SENTENCIAS_MAS_LENTAS);
+
+        if ("json".equals(request.getParameter("formato"))) {
+            response.setContentType("application/json;charset=UTF-8");
+            Map<String, Object> metricas = new LinkedHashMap<>();
+            metricas.put("rutas", rutas);
+            metricas.put("rutasDesconocidas", registroMetricas.getRutasDesconocidas());
+            metricas.put("metodosDAO", metodos);
+            metricas.put("sentenciasMasLentas", sentencias);
+            try (Jsonb jsonb = JsonbBuilder.create()) {
+                jsonb.toJson(metricas, response.getWriter());
+            } catch (Exception e) {
+                throw new ServletException("No se han podido escribir las métricas", e);
+            }
+            return;
+        }
+
+        response.setContentType("text/plain;charset=UTF-8");
+        PrintWriter out = response.getWriter();
+        for (EstadisticasRuta ruta : rutas) {
+            out.printf(Locale.ROOT, "%s peticiones=%d errores=%d enCurso=%d mediaMs=%.3f p50Ms=%.3f p90Ms=%.3f "
+                            + "p99Ms=%.3f maximoMs=%.3f%n", ruta.getRuta(), ruta.getPeticiones(), ruta.getErrores(),
+                    ruta.getEnCurso(), ruta.getMediaMs(), ruta.getP50Ms(), ruta.getP90Ms(), ruta.getP99Ms(),
+                    ruta.getMaximoMs());
+        }
+        out.printf(Locale.ROOT, "rutasDesconocidas=%d%n", registroMetricas.getRutasDesconocidas());
+        for (EstadisticasMetodoDAO metodo : metodos) {
+            out.printf(Locale.ROOT, "dao %s llamadas=%d errores=%d filas=%d mediaMs=%.3f p99Ms=%.3f maximoMs=%.3f%n",
+                    metodo.getMetodo(), metodo.getLlamadas(), metodo.getErrores(), metodo.getFilas(),
+                    metodo.getMediaMs(), metodo.getP99Ms(), metodo.getMaximoMs());
+        }
+        for (EstadisticasSentencia sentencia : sentencias) {
+            out.printf(Locale.ROOT, "sql ejecuciones=%d filas=%d mediaMs=%d maximoMs=%d totalMs=%d consulta=%s%n",
+                    sentencia.getEjecuciones(), sentencia.getFilas(), sentencia.getMediaMs(), sentencia.getMaximoMs(),
+                    sentencia.getTotalMs(), sentencia.getConsulta().replaceAll("\\s+", " ").trim());
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.voyageclub.servlet;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Atiende peticiones de forma asíncrona: el hilo del contenedor que recibe la petición la entrega a un
+ * {@link Executor} y queda libre para otras peticiones mientras la tarea espera a la base de datos.
+ *
+ * <p>Como mucho se atienden {@code maxConcurrentes} peticiones asíncronas a la vez. Cuando el límite se alcanza, o el
+ * ejecutor rechaza la tarea, la petición se atiende en el hilo que la recibe, como antes, de modo que el trabajo
+ * pendiente nunca crece sin límite. Si una petición asíncrona no termina en {@code timeout} milisegundos, se responde
+ * con un 503 y se cancela la tarea: si aún no ha empezado ya no empieza y, si está en marcha, se interrumpe.
+ *
+ * <p>La tarea asíncrona no recibe la solicitud y la respuesta del contenedor, que este puede reutilizar en cuanto la
+ * petición termina, sino una {@link SolicitudAsincrona} con los parámetros leídos antes de entregarla al ejecutor y
+ * una {@link RespuestaAsincrona}. Ambas comprueban en cada uso que la petición no ha terminado, de modo que una tarea
+ * que sigue en marcha tras caducar la petición falla en lugar de leer o escribir la petición de otro usuario.
+ *
+ * <p>Los límites se configuran en el web.xml con los parámetros de contexto {@link #PARAM_MAX_CONCURRENTES} y
+ * {@link #PARAM_TIMEOUT}.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public class ProcesadorAsincrono {
+
+    /**
+     * Parámetro de contexto con el número máximo de peticiones asíncronas simultáneas de cada servlet.
+     */
+    public static final String PARAM_MAX_CONCURRENTES = "voyageclub.peticiones.maxConcurrentes";
+
+    /**
+     * Parámetro de contexto con el tiempo máximo de una petición asíncrona, en milisegundos.
+     */
+    public static final String PARAM_TIMEOUT = "voyageclub.peticiones.timeout";
+
+    private static final int MAX_CONCURRENTES = 64;
+    private static final long TIMEOUT = 30_000;
+
+    private static final Logger LOGGER = Logger.getLogger(ProcesadorAsincrono.class.getName());
+
+    /**
+     * Tarea que atiende una petición.
+     */
+    @FunctionalInterface
+    public interface Tarea {
+
+        /**
+         * Atiende la petición.
+         *
+         * @param request  La solicitud HTTP recibida.
+         * @param response La respuesta HTTP que se enviará.
+         * @return La página a la que se redirige la petición, o {@code null} si la tarea ya ha escrito la respuesta.
+         * @throws ServletException Si ocurre un error de servlet.
+         * @throws IOException      Si ocurre un error de entrada/salida.
+         */
+        String atender(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException;
+    }
+
+    private final Executor executor;
+    private final Semaphore permisos;
+    private final long timeout;
+
+    /**
+     * Constructor que recibe el ejecutor de las tareas y sus límites.
+     *
+     * @param executor        Ejecutor de las tareas.
+     * @param maxConcurrentes Número máximo de peticiones asíncronas simultáneas.
+     * @param timeout         Tiempo máximo de una petición asíncrona, en milisegundos.
+     */
+    public ProcesadorAsincrono(Executor executor, int maxConcurrentes, long timeout) {
+        this.executor = executor;
+        this.permisos = new Semaphore(maxConcurrentes);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Crea un procesador con los límites configurados en el contexto de la aplicación.
+     *
+     * @param executor Ejecutor de las tareas.
+     * @param contexto Contexto de la aplicación, con los parámetros {@link #PARAM_MAX_CONCURRENTES} y
+     *                 {@link #PARAM_TIMEOUT}.
+     * @return El procesador.
+     */
+    public static ProcesadorAsincrono configurado(Executor executor, ServletContext contexto) {
+        return new ProcesadorAsincrono(executor,
+                (int) leerParametro(contexto, PARAM_MAX_CONCURRENTES, MAX_CONCURRENTES),
+                leerParametro(contexto, PARAM_TIMEOUT, TIMEOUT));
+    }
+
+    /**
+     * Atiende una petición en el ejecutor o, si no hay capacidad, en el hilo actual.
+     *
+     * @param request  La solicitud HTTP recibida.
+     * @param response La respuesta HTTP que se enviará.
+     * @param tarea    Tarea que atiende la petición.
+     * @throws ServletException Si la petición se atiende en el hilo actual y la tarea falla.
+     * @throws IOException      Si la petición se atiende en el hilo actual y falla la entrada/salida.
+     */
+    public void procesar(HttpServletRequest request, HttpServletResponse response, Tarea tarea)
+            throws ServletException, IOException {
+        if (!request.isAsyncSupported()) {
+            atenderSincrona(request, response, tarea);
+            return;
+        }
+        // Los parámetros se leen en este hilo, mientras la petición sigue siendo del contenedor
+        AtomicBoolean terminada = new AtomicBoolean();
+        SolicitudAsincrona solicitud = new SolicitudAsincrona(request, terminada);
+        if (!permisos.tryAcquire()) {
+            // Sin capacidad asíncrona: se aplica contrapresión atendiendo la petición en este hilo
+            atenderSincrona(request, response, tarea);
+            return;
+        }
+        AsyncContext contexto = request.startAsync(request, response);
+        contexto.setTimeout(timeout);
+        RespuestaAsincrona respuesta = new RespuestaAsincrona(response, terminada);
+        PeticionAsincrona peticion = new PeticionAsincrona(
+                () -> atenderAsincrona(contexto, terminada, solicitud, respuesta, tarea));
+        contexto.addListener(new FinalizacionAnticipada(terminada, peticion));
+        try {
+            executor.execute(peticion);
+        } catch (RejectedExecutionException e) {
+            // La petición ya es asíncrona: se atiende en este hilo y se termina igual
+            peticion.run();
+        }
+    }
+
+    private static void atenderSincrona(HttpServletRequest request, HttpServletResponse response, Tarea tarea)
+            throws ServletException, IOException {
+        String destino = tarea.atender(request, response);
+        if (destino != null) {
+            request.getRequestDispatcher(destino).forward(request, response);
+        }
+    }
+
+    private void atenderAsincrona(AsyncContext contexto, AtomicBoolean terminada, SolicitudAsincrona solicitud,
+                                  RespuestaAsincrona respuesta, Tarea tarea) {
+        try {
+            if (terminada.get()) {
+                // La petición ha caducado antes de que la tarea empezara
+                return;
+            }
+            String destino = tarea.atender(solicitud, respuesta);
+            if (terminada.compareAndSet(false, true)) {
+                if (destino != null) {
+                    contexto.dispatch(destino);
+                } else {
+                    contexto.complete();
+                }
+            }
+        } catch (ServletException | IOException | RuntimeException e) {
+            if (terminada.compareAndSet(false, true)) {
+                LOGGER.log(Level.SEVERE, "Error al atender la petición", e);
+                enviarError(contexto, HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            } else {
+                // Lo normal tras cancelar la tarea: la petición ya ha terminado y no se puede utilizar
+                LOGGER.log(Level.FINE, "La tarea de una petición ya terminada ha fallado", e);
+            }
+        } finally {
+            permisos.release();
+        }
+    }
+
+    private static void enviarError(AsyncContext contexto, int estado) {
+        HttpServletResponse response = (HttpServletResponse) contexto.getResponse();
+        try {
+            if (!response.isCommitted()) {
+                response.sendError(estado);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "No se ha podido enviar el error al cliente", e);
+        } finally {
+            contexto.complete();
+        }
+    }
+
+    private static long leerParametro(ServletContext contexto, String nombre, long porDefecto) {
+        String valor = contexto.getInitParameter(nombre);
+        if (valor == null || valor.isBlank()) {
+            return porDefecto;
+        }
+        try {
+            return Long.parseLong(valor.trim());
+        } catch (NumberFormatException e) {
+            return porDefecto;
+        }
+    }
+
+    /**
+     * Tarea del ejecutor que atiende una petición asíncrona y que se puede cancelar. El permiso de la petición se
+     * devuelve una sola vez: al terminar {@link #atenderAsincrona} o, si la tarea se cancela antes de empezar, al
+     * cancelarla.
+     */
+    private final class PeticionAsincrona extends FutureTask<Void> {
+
+        private final AtomicBoolean iniciada;
+
+        private PeticionAsincrona(Runnable atender) {
+            this(atender, new AtomicBoolean());
+        }
+
+        private PeticionAsincrona(Runnable atender, AtomicBoolean iniciada) {
+            super(() -> {
+                if (iniciada.compareAndSet(false, true)) {
+                    atender.run();
+                }
+            }, null);
+            this.iniciada = iniciada;
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled() && iniciada.compareAndSet(false, true)) {
+                permisos.release();
+            }
+        }
+    }
+
+    /**
+     * Responde a las peticiones asíncronas que caducan o fallan antes de que la tarea termine y cancela la tarea.
+     */
+    private static final class FinalizacionAnticipada implements AsyncListener {
+
+        private final AtomicBoolean terminada;
+        private final Future<?> tarea;
+
+        private FinalizacionAnticipada(AtomicBoolean terminada, Future<?> tarea) {
+            this.terminada = terminada;
+            this.tarea = tarea;
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent evento) {
+            if (terminada.compareAndSet(false, true)) {
+                tarea.cancel(true);
+                enviarError(evento.getAsyncContext(), HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            }
+        }
+
+        @Override
+        public void onError(AsyncEvent evento) {
+            // Normalmente el cliente ha cerrado la conexión: no hay nada que responder
+            if (terminada.compareAndSet(false, true)) {
+                tarea.cancel(true);
+                evento.getAsyncContext().complete();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent evento) {
+            terminada.set(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent evento) {
+            // Sin uso: el listener se registra después de iniciar el modo asíncrono
+        }
+    }
+}
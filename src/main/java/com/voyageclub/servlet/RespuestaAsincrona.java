@@ -0,0 +1,247 @@
+package com.voyageclub.servlet;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Respuesta que recibe la tarea de una petición asíncrona ({@link ProcesadorAsincrono}).
+ *
+ * <p>Cada método que modifica o escribe la respuesta comprueba antes de llegar a la respuesta del contenedor que la
+ * petición no ha terminado, también los flujos de salida que la tarea obtuvo antes. Así una tarea que sigue en marcha
+ * cuando la petición caduca no escribe en una respuesta ya enviada, que el contenedor puede estar reutilizando: los
+ * métodos lanzan una {@link IllegalStateException} y los flujos una {@link IOException}.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+final class RespuestaAsincrona extends HttpServletResponseWrapper {
+
+    private static final String MENSAJE_TERMINADA = "La petición asíncrona ya ha terminado";
+
+    private final AtomicBoolean terminada;
+    private ServletOutputStream salida;
+    private PrintWriter escritor;
+
+    /**
+     * Constructor que recibe la respuesta del contenedor.
+     *
+     * @param response  La respuesta HTTP que se enviará.
+     * @param terminada Indica si la petición asíncrona ya ha terminado.
+     */
+    RespuestaAsincrona(HttpServletResponse response, AtomicBoolean terminada) {
+        super(response);
+        this.terminada = terminada;
+    }
+
+    @Override
+    public void setStatus(int estado) {
+        comprobar();
+        super.setStatus(estado);
+    }
+
+    @Override
+    public void sendError(int estado) throws IOException {
+        comprobar();
+        super.sendError(estado);
+    }
+
+    @Override
+    public void sendError(int estado, String mensaje) throws IOException {
+        comprobar();
+        super.sendError(estado, mensaje);
+    }
+
+    @Override
+    public void sendRedirect(String ubicacion) throws IOException {
+        comprobar();
+        super.sendRedirect(ubicacion);
+    }
+
+    @Override
+    public void setHeader(String nombre, String valor) {
+        comprobar();
+        super.setHeader(nombre, valor);
+    }
+
+    @Override
+    public void addHeader(String nombre, String valor) {
+        comprobar();
+        super.addHeader(nombre, valor);
+    }
+
+    @Override
+    public void setDateHeader(String nombre, long fecha) {
+        comprobar();
+        super.setDateHeader(nombre, fecha);
+    }
+
+    @Override
+    public void addCookie(Cookie cookie) {
+        comprobar();
+        super.addCookie(cookie);
+    }
+
+    @Override
+    public void setContentType(String tipo) {
+        comprobar();
+        super.setContentType(tipo);
+    }
+
+    @Override
+    public void setCharacterEncoding(String codificacion) {
+        comprobar();
+        super.setCharacterEncoding(codificacion);
+    }
+
+    @Override
+    public void setContentLength(int longitud) {
+        comprobar();
+        super.setContentLength(longitud);
+    }
+
+    @Override
+    public void setContentLengthLong(long longitud) {
+        comprobar();
+        super.setContentLengthLong(longitud);
+    }
+
+    @Override
+    public boolean isCommitted() {
+        comprobar();
+        return super.isCommitted();
+    }
+
+    @Override
+    public void reset() {
+        comprobar();
+        super.reset();
+    }
+
+    @Override
+    public void resetBuffer() {
+        comprobar();
+        super.resetBuffer();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        comprobar();
+        super.flushBuffer();
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        comprobar();
+        if (salida == null) {
+            salida = new SalidaAsincrona(super.getOutputStream());
+        }
+        return salida;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        comprobar();
+        if (escritor == null) {
+            escritor = new PrintWriter(new EscritorAsincrono(super.getWriter()));
+        }
+        return escritor;
+    }
+
+    private void comprobar() {
+        if (terminada.get()) {
+            throw new IllegalStateException(MENSAJE_TERMINADA);
+        }
+    }
+
+    private void comprobarEscritura() throws IOException {
+        if (terminada.get()) {
+            throw new IOException(MENSAJE_TERMINADA);
+        }
+    }
+
+    /**
+     * Flujo de salida binario que deja de escribir cuando la petición termina.
+     */
+    private final class SalidaAsincrona extends ServletOutputStream {
+
+        private final ServletOutputStream salida;
+
+        private SalidaAsincrona(ServletOutputStream salida) {
+            this.salida = salida;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            comprobarEscritura();
+            salida.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int desde, int longitud) throws IOException {
+            comprobarEscritura();
+            salida.write(b, desde, longitud);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            comprobarEscritura();
+            salida.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            comprobarEscritura();
+            salida.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            comprobar();
+            return salida.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            comprobar();
+            salida.setWriteListener(listener);
+        }
+    }
+
+    /**
+     * Flujo de salida de texto que deja de escribir cuando la petición termina.
+     */
+    private final class EscritorAsincrono extends Writer {
+
+        private final Writer escritor;
+
+        private EscritorAsincrono(Writer escritor) {
+            this.escritor = escritor;
+        }
+
+        @Override
+        public void write(char[] texto, int desde, int longitud) throws IOException {
+            comprobarEscritura();
+            escritor.write(texto, desde, longitud);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            comprobarEscritura();
+            escritor.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            comprobarEscritura();
+            escritor.close();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.voyageclub.servlet;
+
+import com.voyageclub.sesion.GestorSesion;
+import jakarta.inject.Inject;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * Filtro que recupera la sesión del usuario autenticado antes de atender cada petición, a partir de la cookie de
+ * sesión y del almacén compartido ({@link GestorSesion}), de modo que cualquier nodo puede atender la petición.
+ * Las imágenes, hojas de estilo y scripts no necesitan la sesión y no pasan por el filtro.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+// Admite peticiones asíncronas porque FrontControllerServlet las atiende de forma asíncrona
+@WebFilter(filterName = "sesion", urlPatterns = {"/app", "*.jsp"}, asyncSupported = true)
+public class SesionFilter extends HttpFilter {
+
+    @Inject
+    private GestorSesion gestorSesion;
+
+    @Override
+    protected void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        gestorSesion.restaurar(request);
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,530 @@
+package com.voyageclub.servlet;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletMapping;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpUpgradeHandler;
+import jakarta.servlet.http.Part;
+import jakarta.servlet.http.PushBuilder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.security.Principal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Solicitud que recibe la tarea de una petición asíncrona ({@link ProcesadorAsincrono}).
+ *
+ * <p>Los parámetros se copian al crearla, en el hilo del contenedor, y la tarea los lee de la copia. Todos los demás
+ * métodos, incluido {@link #getRequest()}, comprueban antes de llegar a la solicitud del contenedor que la petición no
+ * ha terminado: cuando la petición caduca, el contenedor puede reutilizar la solicitud para otra petición mientras la
+ * tarea sigue en marcha, y a partir de ese momento cualquier acceso lanza una {@link IllegalStateException}.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+final class SolicitudAsincrona extends HttpServletRequestWrapper {
+
+    private final AtomicBoolean terminada;
+    private final Map<String, String[]> parametros;
+
+    /**
+     * Constructor que copia los parámetros de la solicitud.
+     *
+     * @param request   La solicitud HTTP recibida.
+     * @param terminada Indica si la petición asíncrona ya ha terminado.
+     */
+    SolicitudAsincrona(HttpServletRequest request, AtomicBoolean terminada) {
+        super(request);
+        this.terminada = terminada;
+        Map<String, String[]> copia = new LinkedHashMap<>();
+        request.getParameterMap().forEach((nombre, valores) -> copia.put(nombre, valores.clone()));
+        this.parametros = Collections.unmodifiableMap(copia);
+    }
+
+    @Override
+    public String getParameter(String nombre) {
+        String[] valores = parametros.get(nombre);
+        return valores == null || valores.length == 0 ? null : valores[0];
+    }
+
+    @Override
+    public String[] getParameterValues(String nombre) {
+        String[] valores = parametros.get(nombre);
+        return valores == null ? null : valores.clone();
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parametros.keySet());
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return parametros;
+    }
+
+    @Override
+    public ServletRequest getRequest() {
+        comprobar();
+        return super.getRequest();
+    }
+
+    @Override
+    public void setRequest(ServletRequest solicitud) {
+        comprobar();
+        super.setRequest(solicitud);
+    }
+
+    @Override
+    public boolean isWrapperFor(ServletRequest solicitud) {
+        comprobar();
+        return super.isWrapperFor(solicitud);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> tipo) {
+        comprobar();
+        return super.isWrapperFor(tipo);
+    }
+
+    @Override
+    public Object getAttribute(String nombre) {
+        comprobar();
+        return super.getAttribute(nombre);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        comprobar();
+        return super.getAttributeNames();
+    }
+
+    @Override
+    public void setAttribute(String nombre, Object valor) {
+        comprobar();
+        super.setAttribute(nombre, valor);
+    }
+
+    @Override
+    public void removeAttribute(String nombre) {
+        comprobar();
+        super.removeAttribute(nombre);
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        comprobar();
+        return super.getCharacterEncoding();
+    }
+
+    @Override
+    public void setCharacterEncoding(String codificacion) throws UnsupportedEncodingException {
+        comprobar();
+        super.setCharacterEncoding(codificacion);
+    }
+
+    @Override
+    public int getContentLength() {
+        comprobar();
+        return super.getContentLength();
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        comprobar();
+        return super.getContentLengthLong();
+    }
+
+    @Override
+    public String getContentType() {
+        comprobar();
+        return super.getContentType();
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        comprobar();
+        return super.getInputStream();
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        comprobar();
+        return super.getReader();
+    }
+
+    @Override
+    public String getProtocol() {
+        comprobar();
+        return super.getProtocol();
+    }
+
+    @Override
+    public String getScheme() {
+        comprobar();
+        return super.getScheme();
+    }
+
+    @Override
+    public String getServerName() {
+        comprobar();
+        return super.getServerName();
+    }
+
+    @Override
+    public int getServerPort() {
+        comprobar();
+        return super.getServerPort();
+    }
+
+    @Override
+    public String getRemoteAddr() {
+        comprobar();
+        return super.getRemoteAddr();
+    }
+
+    @Override
+    public String getRemoteHost() {
+        comprobar();
+        return super.getRemoteHost();
+    }
+
+    @Override
+    public int getRemotePort() {
+        comprobar();
+        return super.getRemotePort();
+    }
+
+    @Override
+    public String getLocalName() {
+        comprobar();
+        return super.getLocalName();
+    }
+
+    @Override
+    public String getLocalAddr() {
+        comprobar();
+        return super.getLocalAddr();
+    }
+
+    @Override
+    public int getLocalPort() {
+        comprobar();
+        return super.getLocalPort();
+    }
+
+    @Override
+    public Locale getLocale() {
+        comprobar();
+        return super.getLocale();
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        comprobar();
+        return super.getLocales();
+    }
+
+    @Override
+    @Deprecated
+    public String getRealPath(String ruta) {
+        comprobar();
+        return super.getRealPath(ruta);
+    }
+
+    @Override
+    public boolean isSecure() {
+        comprobar();
+        return super.isSecure();
+    }
+
+    @Override
+    public RequestDispatcher getRequestDispatcher(String ruta) {
+        comprobar();
+        return super.getRequestDispatcher(ruta);
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        comprobar();
+        return super.getServletContext();
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        comprobar();
+        return super.startAsync();
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest solicitud, ServletResponse respuesta) {
+        comprobar();
+        return super.startAsync(solicitud, respuesta);
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        comprobar();
+        return super.isAsyncStarted();
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        comprobar();
+        return super.isAsyncSupported();
+    }
+
+    @Override
+    public AsyncContext getAsyncContext() {
+        comprobar();
+        return super.getAsyncContext();
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        comprobar();
+        return super.getDispatcherType();
+    }
+
+    @Override
+    public String getAuthType() {
+        comprobar();
+        return super.getAuthType();
+    }
+
+    @Override
+    public Cookie[] getCookies() {
+        comprobar();
+        return super.getCookies();
+    }
+
+    @Override
+    public long getDateHeader(String nombre) {
+        comprobar();
+        return super.getDateHeader(nombre);
+    }
+
+    @Override
+    public String getHeader(String nombre) {
+        comprobar();
+        return super.getHeader(nombre);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String nombre) {
+        comprobar();
+        return super.getHeaders(nombre);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        comprobar();
+        return super.getHeaderNames();
+    }
+
+    @Override
+    public int getIntHeader(String nombre) {
+        comprobar();
+        return super.getIntHeader(nombre);
+    }
+
+    @Override
+    public HttpServletMapping getHttpServletMapping() {
+        comprobar();
+        return super.getHttpServletMapping();
+    }
+
+    @Override
+    public String getMethod() {
+        comprobar();
+        return super.getMethod();
+    }
+
+    @Override
+    public String getPathInfo() {
+        comprobar();
+        return super.getPathInfo();
+    }
+
+    @Override
+    public String getPathTranslated() {
+        comprobar();
+        return super.getPathTranslated();
+    }
+
+    @Override
+    public String getContextPath() {
+        comprobar();
+        return super.getContextPath();
+    }
+
+    @Override
+    public String getQueryString() {
+        comprobar();
+        return super.getQueryString();
+    }
+
+    @Override
+    public String getRemoteUser() {
+        comprobar();
+        return super.getRemoteUser();
+    }
+
+    @Override
+    public boolean isUserInRole(String rol) {
+        comprobar();
+        return super.isUserInRole(rol);
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        comprobar();
+        return super.getUserPrincipal();
+    }
+
+    @Override
+    public String getRequestedSessionId() {
+        comprobar();
+        return super.getRequestedSessionId();
+    }
+
+    @Override
+    public String getRequestURI() {
+        comprobar();
+        return super.getRequestURI();
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        comprobar();
+        return super.getRequestURL();
+    }
+
+    @Override
+    public String getServletPath() {
+        comprobar();
+        return super.getServletPath();
+    }
+
+    @Override
+    public HttpSession getSession(boolean crear) {
+        comprobar();
+        return super.getSession(crear);
+    }
+
+    @Override
+    public HttpSession getSession() {
+        comprobar();
+        return super.getSession();
+    }
+
+    @Override
+    public String changeSessionId() {
+        comprobar();
+        return super.changeSessionId();
+    }
+
+    @Override
+    public boolean isRequestedSessionIdValid() {
+        comprobar();
+        return super.isRequestedSessionIdValid();
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromCookie() {
+        comprobar();
+        return super.isRequestedSessionIdFromCookie();
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromURL() {
+        comprobar();
+        return super.isRequestedSessionIdFromURL();
+    }
+
+    @Override
+    @Deprecated
+    public boolean isRequestedSessionIdFromUrl() {
+        comprobar();
+        return super.isRequestedSessionIdFromUrl();
+    }
+
+    @Override
+    public boolean authenticate(HttpServletResponse respuesta) throws IOException, ServletException {
+        comprobar();
+        return super.authenticate(respuesta);
+    }
+
+    @Override
+    public void login(String usuario, String contrasena) throws ServletException {
+        comprobar();
+        super.login(usuario, contrasena);
+    }
+
+    @Override
+    public void logout() throws ServletException {
+        comprobar();
+        super.logout();
+    }
+
+    @Override
+    public Collection<Part> getParts() throws IOException, ServletException {
+        comprobar();
+        return super.getParts();
+    }
+
+    @Override
+    public Part getPart(String nombre) throws IOException, ServletException {
+        comprobar();
+        return super.getPart(nombre);
+    }
+
+    @Override
+    public <T extends HttpUpgradeHandler> T upgrade(Class<T> tipo) throws IOException, ServletException {
+        comprobar();
+        return super.upgrade(tipo);
+    }
+
+    @Override
+    public PushBuilder newPushBuilder() {
+        comprobar();
+        return super.newPushBuilder();
+    }
+
+    @Override
+    public Map<String, String> getTrailerFields() {
+        comprobar();
+        return super.getTrailerFields();
+    }
+
+    @Override
+    public boolean isTrailerFieldsReady() {
+        comprobar();
+        return super.isTrailerFieldsReady();
+    }
+
+    private void comprobar() {
+        if (terminada.get()) {
+            throw new IllegalStateException("La petición asíncrona ya ha terminado");
+        }
+    }
+}
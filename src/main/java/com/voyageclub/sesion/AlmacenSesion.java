@@ -0,0 +1,42 @@
+package com.voyageclub.sesion;
+
+import java.util.Optional;
+
+/**
+ * Almacén de las sesiones de los usuarios autenticados, compartido por todos los nodos de la aplicación.
+ *
+ * <p>Guarda el bean de sesión de cada usuario ya serializado, identificado por el token aleatorio que el navegador
+ * envía en la cookie de sesión ({@link GestorSesion}). Como ningún nodo guarda la sesión solo en su memoria, el
+ * balanceador puede enviar cada petición a cualquier nodo.
+ *
+ * <p>La implementación por defecto es {@link AlmacenSesionBaseDatos}; {@link AlmacenSesionMemoria} mantiene las
+ * sesiones en el propio proceso, para las pruebas y los despliegues con un único nodo.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public interface AlmacenSesion {
+
+    /**
+     * Obtiene los datos de una sesión vigente.
+     *
+     * @param token Token que identifica la sesión.
+     * @return Un objeto {@link Optional} con los datos de la sesión, o vacío si no existe o ha caducado.
+     */
+    Optional<byte[]> obtener(String token);
+
+    /**
+     * Guarda (o reemplaza) los datos de una sesión.
+     *
+     * @param token Token que identifica la sesión.
+     * @param datos Bean de sesión del usuario serializado.
+     */
+    void guardar(String token, byte[] datos);
+
+    /**
+     * Elimina una sesión.
+     *
+     * @param token Token que identifica la sesión.
+     */
+    void eliminar(String token);
+}
@@ -0,0 +1,69 @@
+package com.voyageclub.sesion;
+
+import com.voyageclub.dao.SesionUsuarioDAO;
+import com.voyageclub.model.SesionUsuario;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Implementación de {@link AlmacenSesion} que guarda las sesiones en la tabla {@code sesion_usuario} de la base de
+ * datos de la aplicación, compartida por todos los nodos.
+ *
+ * <p>Las sesiones duran {@link GestorSesion#DURACION_SESION} desde que el usuario inicia sesión. Las caducadas se
+ * ignoran al leerlas y se eliminan cada vez que se guarda una sesión nueva.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@ApplicationScoped
+public class AlmacenSesionBaseDatos implements AlmacenSesion {
+
+    @Inject
+    private SesionUsuarioDAO sesionUsuarioDAO;
+
+    /**
+     * Obtiene los datos de una sesión vigente.
+     *
+     * @param token Token que identifica la sesión.
+     * @return Un objeto {@link Optional} con los datos de la sesión, o vacío si no existe o ha caducado.
+     */
+    @Override
+    public Optional<byte[]> obtener(String token) {
+        return sesionUsuarioDAO.findDatosByToken(token, limiteCaducidad());
+    }
+
+    /**
+     * Guarda (o reemplaza) los datos de una sesión y elimina las sesiones caducadas.
+     *
+     * @param token Token que identifica la sesión.
+     * @param datos Bean de sesión del usuario serializado.
+     * @throws IllegalArgumentException Si los datos superan {@link SesionUsuario#TAMANO_MAXIMO_DATOS} bytes.
+     */
+    @Override
+    public void guardar(String token, byte[] datos) {
+        if (datos.length > SesionUsuario.TAMANO_MAXIMO_DATOS) {
+            throw new IllegalArgumentException("La sesión ocupa " + datos.length + " bytes; el máximo es "
+                    + SesionUsuario.TAMANO_MAXIMO_DATOS);
+        }
+        sesionUsuarioDAO.deleteAnteriores(limiteCaducidad());
+        sesionUsuarioDAO.guardar(token, datos);
+    }
+
+    /**
+     * Elimina una sesión.
+     *
+     * @param token Token que identifica la sesión.
+     */
+    @Override
+    public void eliminar(String token) {
+        sesionUsuarioDAO.deleteByToken(token);
+    }
+
+    private static Instant limiteCaducidad() {
+        return Instant.now().minus(GestorSesion.DURACION_SESION);
+    }
+}
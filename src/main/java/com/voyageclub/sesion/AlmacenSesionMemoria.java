@@ -0,0 +1,79 @@
+package com.voyageclub.sesion;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementación de {@link AlmacenSesion} que mantiene las sesiones en la memoria del propio proceso.
+ *
+ * <p>Solo sirve cuando la aplicación se despliega en un único nodo, y en las pruebas. Es una alternativa de CDI:
+ * para utilizarla en lugar de {@link AlmacenSesionBaseDatos} se habilita en el {@code beans.xml}. Como el almacén
+ * compartido, guarda una copia de los datos y aplica la misma duración de las sesiones.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@ApplicationScoped
+@Alternative
+public class AlmacenSesionMemoria implements AlmacenSesion {
+
+    private final Map<String, Entrada> sesiones = new ConcurrentHashMap<>();
+
+    /**
+     * Obtiene los datos de una sesión vigente.
+     *
+     * @param token Token que identifica la sesión.
+     * @return Un objeto {@link Optional} con una copia de los datos de la sesión, o vacío si no existe o ha caducado.
+     */
+    @Override
+    public Optional<byte[]> obtener(String token) {
+        Entrada entrada = sesiones.get(token);
+        if (entrada == null || entrada.haCaducado(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(entrada.datos.clone());
+    }
+
+    /**
+     * Guarda (o reemplaza) una copia de los datos de una sesión y elimina las sesiones caducadas.
+     *
+     * @param token Token que identifica la sesión.
+     * @param datos Bean de sesión del usuario serializado.
+     */
+    @Override
+    public void guardar(String token, byte[] datos) {
+        Instant ahora = Instant.now();
+        sesiones.values().removeIf(entrada -> entrada.haCaducado(ahora));
+        sesiones.put(token, new Entrada(datos.clone(), ahora));
+    }
+
+    /**
+     * Elimina una sesión.
+     *
+     * @param token Token que identifica la sesión.
+     */
+    @Override
+    public void eliminar(String token) {
+        sesiones.remove(token);
+    }
+
+    private static final class Entrada {
+
+        private final byte[] datos;
+        private final Instant fechaActualizacion;
+
+        private Entrada(byte[] datos, Instant fechaActualizacion) {
+            this.datos = datos;
+            this.fechaActualizacion = fechaActualizacion;
+        }
+
+        private boolean haCaducado(Instant ahora) {
+            return !fechaActualizacion.plus(GestorSesion.DURACION_SESION).isAfter(ahora);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.voyageclub.sesion;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Caché cercana de las sesiones en la memoria de cada nodo, delante del {@link AlmacenSesion} compartido.
+ *
+ * <p>Las lecturas de una misma sesión en un nodo solo consultan el almacén compartido una vez cada
+ * {@code duracion}; las escrituras y eliminaciones hechas en el nodo se aplican a la vez en la caché y en el
+ * almacén. También se recuerdan los tokens que no existen, para que las cookies caducadas o inventadas no consulten
+ * el almacén en cada petición. Una sesión eliminada desde otro nodo puede seguir leyéndose en este durante, como
+ * mucho, {@code duracion}.
+ *
+ * <p>La caché guarda como máximo {@code maxEntradas} sesiones; al superarlo se descartan primero las caducadas y,
+ * si no basta, todas.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public class CacheLocalSesion implements AlmacenSesion {
+
+    private final AlmacenSesion almacen;
+    private final long duracionNanos;
+    private final int maxEntradas;
+    private final LongSupplier reloj;
+
+    private final Map<String, Entrada> entradas = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor que recibe el almacén compartido y los límites de la caché.
+     *
+     * @param almacen     Almacén compartido de las sesiones.
+     * @param duracion    Tiempo durante el que se reutiliza una lectura del almacén.
+     * @param maxEntradas Número máximo de sesiones en la caché.
+     */
+    public CacheLocalSesion(AlmacenSesion almacen, Duration duracion, int maxEntradas) {
+        this(almacen, duracion, maxEntradas, System::nanoTime);
+    }
+
+    /**
+     * Constructor que además recibe el reloj, en nanosegundos, con el que caducan las entradas.
+     */
+    CacheLocalSesion(AlmacenSesion almacen, Duration duracion, int maxEntradas, LongSupplier reloj) {
+        this.almacen = almacen;
+        this.duracionNanos = duracion.toNanos();
+        this.maxEntradas = maxEntradas;
+        this.reloj = reloj;
+    }
+
+    /**
+     * Obtiene los datos de una sesión de la caché o, si no están o han caducado, del almacén compartido.
+     *
+     * @param token Token que identifica la sesión.
+     * @return Un objeto {@link Optional} con los datos de la sesión, o vacío si no existe o ha caducado.
+     */
+    @Override
+    public Optional<byte[]> obtener(String token) {
+        long ahora = reloj.getAsLong();
+        Entrada entrada = entradas.get(token);
+        if (entrada == null || entrada.haCaducado(ahora)) {
+            entrada = new Entrada(almacen.obtener(token).orElse(null), ahora + duracionNanos);
+            poner(token, entrada, ahora);
+        }
+        return Optional.ofNullable(entrada.datos);
+    }
+
+    /**
+     * Guarda los datos de una sesión en el almacén compartido y en la caché.
+     *
+     * @param token Token que identifica la sesión.
+     * @param datos Bean de sesión del usuario serializado.
+     */
+    @Override
+    public void guardar(String token, byte[] datos) {
+        almacen.guardar(token, datos);
+        long ahora = reloj.getAsLong();
+        poner(token, new Entrada(datos, ahora + duracionNanos), ahora);
+    }
+
+    /**
+     * Elimina una sesión del almacén compartido y de la caché.
+     *
+     * @param token Token que identifica la sesión.
+     */
+    @Override
+    public void eliminar(String token) {
+        entradas.remove(token);
+        almacen.eliminar(token);
+    }
+
+    /**
+     * Obtiene el número de sesiones, vigentes o no, en la caché.
+     *
+     * @return Número de entradas de la caché.
+     */
+    public int getNumeroEntradas() {
+        return entradas.size();
+    }
+
+    private void poner(String token, Entrada entrada, long ahora) {
+        if (entradas.size() >= maxEntradas && !entradas.containsKey(token)) {
+            entradas.values().removeIf(existente -> existente.haCaducado(ahora));
+            if (entradas.size() >= maxEntradas) {
+                entradas.clear();
+            }
+        }
+        entradas.put(token, entrada);
+    }
+
+    private static final class Entrada {
+
+        /**
+         * Datos de la sesión, o {@code null} si no existe en el almacén.
+         */
+        private final byte[] datos;
+        private final long caducaNanos;
+
+        private Entrada(byte[] datos, long caducaNanos) {
+            this.datos = datos;
+            this.caducaNanos = caducaNanos;
+        }
+
+        private boolean haCaducado(long ahora) {
+            return ahora - caducaNanos >= 0;
+        }
+    }
+}
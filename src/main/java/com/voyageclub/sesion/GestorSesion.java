@@ -0,0 +1,209 @@
+package com.voyageclub.sesion;
+
+import com.voyageclub.beans.UsuarioSesionBeans;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Gestiona la sesión del usuario autenticado sin depender de la memoria del nodo que atiende la petición.
+ *
+ * <p>Al iniciar sesión, el bean del usuario ({@link UsuarioSesionBeans}) se guarda en el {@link AlmacenSesion}
+ * compartido con un token aleatorio, que se envía al navegador en la cookie {@link #COOKIE_SESION}. En cada petición,
+ * {@link #restaurar(HttpServletRequest)} recupera el bean a partir de la cookie y lo deja en el atributo
+ * {@link UsuarioSesionBeans#ATRIBUTO_SESION} de la petición, donde lo leen las acciones y las páginas JSP. Así
+ * cualquier nodo puede atender cualquier petición y el balanceador no necesita sesiones persistentes.
+ *
+ * <p>Las lecturas pasan por una {@link CacheLocalSesion} en cada nodo, de modo que las peticiones seguidas de un
+ * usuario no consultan el almacén compartido. El bean se serializa con su formato compacto
+ * ({@link UsuarioSesionBeans#writeExternal}) y se lee con {@link UsuarioSesionBeans#readExternal}, que solo lee
+ * valores primitivos: los datos del almacén nunca se deserializan como objetos arbitrarios.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@ApplicationScoped
+public class GestorSesion {
+
+    /**
+     * Nombre de la cookie con el token de la sesión.
+     */
+    public static final String COOKIE_SESION = "VOYAGECLUB_SESION";
+
+    /**
+     * Duración de una sesión desde que el usuario la inicia.
+     */
+    public static final Duration DURACION_SESION = Duration.ofHours(8);
+
+    /**
+     * Tiempo durante el que cada nodo reutiliza una sesión leída del almacén compartido. Es también el tiempo que
+     * una sesión cerrada en otro nodo puede seguir siendo válida en este.
+     */
+    public static final Duration DURACION_CACHE_LOCAL = Duration.ofSeconds(30);
+
+    /**
+     * Número máximo de sesiones en la caché de cada nodo.
+     */
+    static final int MAX_SESIONES_CACHE_LOCAL = 10_000;
+
+    private static final int BYTES_TOKEN = 32;
+
+    private static final Logger LOGGER = Logger.getLogger(GestorSesion.class.getName());
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Inject
+    private AlmacenSesion almacen;
+
+    private CacheLocalSesion cache;
+
+    /**
+     * Constructor por defecto, utilizado por CDI.
+     */
+    public GestorSesion() {
+    }
+
+    /**
+     * Constructor que recibe el almacén de las sesiones, para utilizar el gestor fuera de CDI.
+     *
+     * @param almacen Almacén compartido de las sesiones.
+     */
+    public GestorSesion(AlmacenSesion almacen) {
+        this.almacen = almacen;
+        crearCache();
+    }
+
+    /**
+     * Constructor que además recibe el reloj, en nanosegundos, con el que caduca la caché local.
+     */
+    GestorSesion(AlmacenSesion almacen, LongSupplier reloj) {
+        this.almacen = almacen;
+        this.cache = new CacheLocalSesion(almacen, DURACION_CACHE_LOCAL, MAX_SESIONES_CACHE_LOCAL, reloj);
+    }
+
+    /**
+     * Crea la caché local delante del almacén inyectado.
+     */
+    @PostConstruct
+    void crearCache() {
+        cache = new CacheLocalSesion(almacen, DURACION_CACHE_LOCAL, MAX_SESIONES_CACHE_LOCAL);
+    }
+
+    /**
+     * Inicia la sesión de un usuario autenticado: guarda su bean en el almacén con un token nuevo, envía el token en
+     * la cookie de sesión y deja el bean en la petición. Si la petición traía una sesión anterior, se elimina.
+     *
+     * @param request       La solicitud HTTP recibida.
+     * @param response      La respuesta HTTP que se enviará.
+     * @param usuarioSesion Bean de sesión del usuario autenticado.
+     */
+    public void iniciar(HttpServletRequest request, HttpServletResponse response, UsuarioSesionBeans usuarioSesion) {
+        leerToken(request).ifPresent(cache::eliminar);
+        String token = nuevoToken();
+        cache.guardar(token, serializar(usuarioSesion));
+        // Cookie sin caducidad propia: se borra al cerrar el navegador y la sesión caduca en el almacén
+        response.addCookie(cookie(request, token, -1));
+        request.setAttribute(UsuarioSesionBeans.ATRIBUTO_SESION, usuarioSesion);
+    }
+
+    /**
+     * Recupera el bean del usuario de la cookie de sesión y lo deja en el atributo
+     * {@link UsuarioSesionBeans#ATRIBUTO_SESION} de la petición.
+     *
+     * @param request La solicitud HTTP recibida.
+     * @return Un objeto {@link Optional} con el bean del usuario, o vacío si la petición no tiene una sesión vigente.
+     */
+    public Optional<UsuarioSesionBeans> restaurar(HttpServletRequest request) {
+        Optional<UsuarioSesionBeans> usuarioSesion = leerToken(request).flatMap(cache::obtener)
+                .flatMap(GestorSesion::deserializar);
+        usuarioSesion.ifPresent(bean -> request.setAttribute(UsuarioSesionBeans.ATRIBUTO_SESION, bean));
+        return usuarioSesion;
+    }
+
+    /**
+     * Cierra la sesión de la petición: la elimina del almacén y borra la cookie del navegador. Los demás nodos que ya
+     * la habían leído la siguen aceptando hasta que caduca su caché local, como mucho {@link #DURACION_CACHE_LOCAL}.
+     *
+     * @param request  La solicitud HTTP recibida.
+     * @param response La respuesta HTTP que se enviará.
+     */
+    public void cerrar(HttpServletRequest request, HttpServletResponse response) {
+        leerToken(request).ifPresent(token -> {
+            cache.eliminar(token);
+            response.addCookie(cookie(request, "", 0));
+        });
+        request.removeAttribute(UsuarioSesionBeans.ATRIBUTO_SESION);
+    }
+
+    private static Optional<String> leerToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return Optional.empty();
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_SESION.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                return Optional.of(cookie.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private String nuevoToken() {
+        byte[] bytes = new byte[BYTES_TOKEN];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static Cookie cookie(HttpServletRequest request, String valor, int maxAge) {
+        Cookie cookie = new Cookie(COOKIE_SESION, valor);
+        cookie.setPath(request.getContextPath().isEmpty() ? "/" : request.getContextPath());
+        cookie.setHttpOnly(true);
+        cookie.setSecure(request.isSecure());
+        cookie.setMaxAge(maxAge);
+        return cookie;
+    }
+
+    static byte[] serializar(UsuarioSesionBeans usuarioSesion) {
+        ByteArrayOutputStream datos = new ByteArrayOutputStream();
+        try (ObjectOutputStream salida = new ObjectOutputStream(datos)) {
+            usuarioSesion.writeExternal(salida);
+        } catch (IOException e) {
+            // Un flujo en memoria no puede fallar al escribirse
+            throw new UncheckedIOException(e);
+        }
+        return datos.toByteArray();
+    }
+
+    /**
+     * Lee un bean de sesión serializado. Los datos que no se pueden leer, por ejemplo los de una versión del formato
+     * que este nodo no conoce, se tratan como una sesión inexistente y el usuario tiene que volver a iniciar sesión.
+     */
+    static Optional<UsuarioSesionBeans> deserializar(byte[] datos) {
+        UsuarioSesionBeans usuarioSesion = new UsuarioSesionBeans();
+        try (ObjectInputStream entrada = new ObjectInputStream(new ByteArrayInputStream(datos))) {
+            usuarioSesion.readExternal(entrada);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Datos de sesión no válidos", e);
+            return Optional.empty();
+        }
+        return Optional.of(usuarioSesion);
+    }
+}
@@ -0,0 +1,179 @@
+package com.voyageclub.util;
+
+import com.voyageclub.dao.ImagenDAO;
+import com.voyageclub.model.enumerdos.SlotImagen;
+import com.voyageclub.model.enumerdos.VarianteImagen;
+
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Genera las variantes reescaladas ({@link VarianteImagen#THUMB}, {@link VarianteImagen#CARD}) de las imágenes
+ * subidas, fuera del hilo de la petición.
+ *
+ * <p>Las tareas se ejecutan en el {@link ManagedExecutorService} del servidor, limitadas a
+ * {@link #MAX_GENERACIONES} generaciones simultáneas y a una por imagen. Cuando el límite se alcanza o el executor
+ * rechaza la tarea, la generación se descarta: nunca se ejecuta en el hilo que la solicita, que suele ser el de una
+ * petición. Mientras una variante no existe, el servlet de imágenes sirve la imagen original y vuelve a solicitar su
+ * generación, de modo que las variantes descartadas se generan más adelante.
+ *
+ * <p>La imagen original nunca se carga entera en memoria: se decodifica directamente desde el BLOB, submuestreada
+ * al ancho de la variante más grande, y se descarta sin decodificarla si sus dimensiones superan
+ * {@link ImagenUtil#MAX_PIXELES}.
+ *
+ * <p>Cada variante se guarda solo si la imagen original conserva el hash de la imagen a partir de la que se ha
+ * generado: si la imagen se ha reemplazado entretanto, la variante se descarta en lugar de sobrescribir las de la
+ * imagen nueva.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@ApplicationScoped
+public class GeneradorVariantesImagen {
+
+    /**
+     * Número máximo de generaciones de variantes en curso a la vez.
+     */
+    private static final int MAX_GENERACIONES = 4;
+
+    /**
+     * Ancho al que se decodifica la imagen original: el de la variante más grande.
+     */
+    private static final int ANCHO_DECODIFICADO = Arrays.stream(VarianteImagen.values())
+            .mapToInt(VarianteImagen::getAnchoMaximo)
+            .max()
+            .orElse(0);
+
+    private static final Logger LOGGER = Logger.getLogger(GeneradorVariantesImagen.class.getName());
+
+    private final Semaphore permisos = new Semaphore(MAX_GENERACIONES);
+
+    /**
+     * Imágenes cuyas variantes se están generando, para no generarlas dos veces a la vez.
+     */
+    private final Set<String> enCurso = ConcurrentHashMap.newKeySet();
+
+    @Resource
+    private ManagedExecutorService executor;
+
+    @Inject
+    private ImagenDAO imagenDAO;
+
+    /**
+     * Solicita la generación de las variantes reescaladas de una imagen original ya guardada.
+     * La imagen original se lee del almacén de imágenes en el hilo que genera las variantes, directamente desde el
+     * BLOB y decodificada solo al ancho de la variante más grande ({@link ImagenUtil#leer(InputStream, int)}). Si ya hay
+     * {@link #MAX_GENERACIONES} generaciones en curso, o una de la misma imagen, la solicitud se descarta.
+     *
+     * @param propietarioId Identificador del propietario de la imagen.
+     * @param slot          Posición de la imagen.
+     */
+    public void generar(Long propietarioId, SlotImagen slot) {
+        String clave = slot + ":" + propietarioId;
+        if (!enCurso.add(clave)) {
+            return;
+        }
+        if (!permisos.tryAcquire()) {
+            enCurso.remove(clave);
+            LOGGER.fine(() -> "Generación de variantes descartada por exceso de carga: " + clave);
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generarVariantes(propietarioId, slot);
+                } finally {
+                    enCurso.remove(clave);
+                    permisos.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            enCurso.remove(clave);
+            permisos.release();
+            LOGGER.log(Level.FINE, e, () -> "Generación de variantes rechazada por el executor: " + clave);
+        }
+    }
+
+    private void generarVariantes(Long propietarioId, SlotImagen slot) {
+        Optional<ImagenOriginal> imagenOriginal;
+        try {
+            imagenOriginal = imagenDAO.leer(propietarioId, slot, this::decodificar);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, e, () -> "No se ha podido leer la imagen " + slot + " de " + propietarioId);
+            return;
+        }
+        if (imagenOriginal.isEmpty()) {
+            return;
+        }
+        ImagenOriginal original = imagenOriginal.get();
+        if (original.imagen == null) {
+            // Formato no reconocido: se servirá siempre la imagen original
+            return;
+        }
+        for (VarianteImagen variante : VarianteImagen.values()) {
+            if (variante == VarianteImagen.FULL) {
+                continue;
+            }
+            try {
+                byte[] escalada = ImagenUtil.escalar(original.imagen, variante.getAnchoMaximo());
+                if (!imagenDAO.guardarVariante(propietarioId, slot, variante, escalada, original.hash)) {
+                    // La imagen se ha reemplazado mientras se generaban sus variantes: la nueva genera las suyas
+                    LOGGER.fine(() -> "Variantes descartadas de la imagen anterior de " + slot + " " + propietarioId);
+                    return;
+                }
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(Level.WARNING, e, () -> "No se ha podido generar la variante " + variante + " de " + slot
+                        + " " + propietarioId);
+            }
+        }
+    }
+
+    /**
+     * Decodifica la imagen original desde el BLOB al ancho de la variante más grande, calculando a la vez el hash de
+     * los bytes leídos.
+     *
+     * @param datos Flujo con el contenido de la imagen original.
+     * @return La imagen decodificada, o sin imagen si su formato no se reconoce, junto con su hash.
+     * @throws IOException Si la imagen es demasiado grande o no se puede leer.
+     */
+    private ImagenOriginal decodificar(InputStream datos) throws IOException {
+        DigestInputStream entrada = new DigestInputStream(datos, ImagenUtil.nuevoDigest());
+        BufferedImage imagen = ImagenUtil.leer(entrada, ANCHO_DECODIFICADO);
+        if (imagen == null) {
+            return new ImagenOriginal(null, null);
+        }
+        // El decodificador puede no llegar al final del flujo: el hash debe cubrir la imagen completa
+        entrada.transferTo(OutputStream.nullOutputStream());
+        return new ImagenOriginal(imagen, ImagenUtil.aHexadecimal(entrada.getMessageDigest().digest()));
+    }
+
+    /**
+     * Imagen original decodificada junto con el hash de su contenido.
+     */
+    private static final class ImagenOriginal {
+
+        private final BufferedImage imagen;
+        private final String hash;
+
+        private ImagenOriginal(BufferedImage imagen, String hash) {
+            this.imagen = imagen;
+            this.hash = hash;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.voyageclub.util;
+
+import java.io.IOException;
+
+/**
+ * Excepción lanzada cuando una imagen subida supera el tamaño máximo permitido.
+ * Se detecta mientras se lee la imagen, sin llegar a leerla entera.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public class ImagenDemasiadoGrandeException extends IOException {
+
+    private final long tamanoMaximo;
+
+    /**
+     * Constructor que recibe el tamaño máximo superado.
+     *
+     * @param tamanoMaximo Tamaño máximo permitido en bytes.
+     */
+    public ImagenDemasiadoGrandeException(long tamanoMaximo) {
+        super("La imagen supera el tamaño máximo de " + tamanoMaximo + " bytes");
+        this.tamanoMaximo = tamanoMaximo;
+    }
+
+    /**
+     * Obtiene el tamaño máximo permitido que se ha superado.
+     *
+     * @return Tamaño máximo en bytes.
+     */
+    public long getTamanoMaximo() {
+        return tamanoMaximo;
+    }
+}
@@ -0,0 +1,144 @@
+package com.voyageclub.util;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * Utilidades para el tratamiento de las imágenes almacenadas en la aplicación.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public class ImagenUtil {
+
+    private ImagenUtil() {
+        // Clase de utilidades, no instanciable
+    }
+
+    /**
+     * Calcula el hash SHA-256 del contenido de una imagen en formato hexadecimal.
+     * Se utiliza como identificador del contenido (ETag) al servir la imagen.
+     *
+     * @param imagen Bytes de la imagen.
+     * @return Hash hexadecimal de la imagen, o {@code null} si la imagen es nula o vacía.
+     */
+    public static String calcularHash(byte[] imagen) {
+        if (imagen == null || imagen.length == 0) {
+            return null;
+        }
+        MessageDigest digest = nuevoDigest();
+        return aHexadecimal(digest.digest(imagen));
+    }
+
+    /**
+     * Crea un nuevo {@link MessageDigest} SHA-256.
+     *
+     * @return Digest SHA-256 listo para usarse.
+     */
+    public static MessageDigest nuevoDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible en esta JVM", e);
+        }
+    }
+
+    /**
+     * Convierte un array de bytes a su representación hexadecimal.
+     *
+     * @param bytes Bytes a convertir.
+     * @return Cadena hexadecimal en minúsculas.
+     */
+    public static String aHexadecimal(byte[] bytes) {
+        StringBuilder hexString = new StringBuilder(2 * bytes.length);
+        for (byte b : bytes) {
+            String hex = Integer.toHexString(0xff & b);
+            if (hex.length() == 1) hexString.append('0');
+            hexString.append(hex);
+        }
+        return hexString.toString();
+    }
+
+    /**
+     * Número máximo de píxeles de una imagen que se decodifica. Las dimensiones se leen de la cabecera antes de
+     * decodificarla, de modo que una imagen mayor se rechaza sin reservar memoria para ella.
+     */
+    public static final long MAX_PIXELES = 25_000_000L;
+
+    /**
+     * Decodifica una imagen leyéndola del flujo, sin cargar antes sus bytes en memoria.
+     *
+     * <p>Las dimensiones se leen primero de la cabecera: si la imagen supera {@link #MAX_PIXELES} se rechaza, y si es
+     * más ancha de lo necesario se decodifica submuestreada, tomando uno de cada {@code n} píxeles, de modo que el
+     * resultado mide al menos {@code anchoMinimo} de ancho pero no ocupa la memoria de la imagen completa.
+     *
+     * @param entrada     Flujo con el contenido de la imagen. No se cierra.
+     * @param anchoMinimo Ancho mínimo en píxeles que debe conservar la imagen decodificada.
+     * @return La imagen decodificada, o {@code null} si el formato de la imagen no se reconoce.
+     * @throws IOException Si la imagen supera {@link #MAX_PIXELES} o si ocurre un error al decodificarla.
+     */
+    public static BufferedImage leer(InputStream entrada, int anchoMinimo) throws IOException {
+        try (ImageInputStream imagen = ImageIO.createImageInputStream(entrada)) {
+            Iterator<ImageReader> lectores = imagen == null ? Collections.emptyIterator() : ImageIO.getImageReaders(imagen);
+            if (!lectores.hasNext()) {
+                return null;
+            }
+            ImageReader lector = lectores.next();
+            try {
+                lector.setInput(imagen, true, true);
+                int ancho = lector.getWidth(0);
+                int alto = lector.getHeight(0);
+                if ((long) ancho * alto > MAX_PIXELES) {
+                    throw new IOException("La imagen de " + ancho + "x" + alto + " supera el máximo de "
+                            + MAX_PIXELES + " píxeles");
+                }
+                ImageReadParam parametros = lector.getDefaultReadParam();
+                int paso = Math.max(1, ancho / Math.max(1, anchoMinimo));
+                parametros.setSourceSubsampling(paso, paso, 0, 0);
+                return lector.read(0, parametros);
+            } finally {
+                lector.dispose();
+            }
+        }
+    }
+
+    /**
+     * Reescala una imagen para que no supere el ancho indicado, manteniendo su proporción, y la codifica en JPEG.
+     * Si la imagen ya es más estrecha que el ancho máximo se codifica sin reescalarla.
+     *
+     * @param original    Imagen decodificada ({@link #leer(InputStream, int)}).
+     * @param anchoMaximo Ancho máximo en píxeles.
+     * @return Bytes JPEG de la imagen reescalada.
+     * @throws IOException Si ocurre un error al codificar la imagen.
+     */
+    public static byte[] escalar(BufferedImage original, int anchoMaximo) throws IOException {
+        int ancho = Math.min(anchoMaximo, original.getWidth());
+        int alto = Math.max(1, (int) Math.round((double) original.getHeight() * ancho / original.getWidth()));
+        // JPEG no admite transparencia: se dibuja sobre una imagen RGB
+        BufferedImage escalada = new BufferedImage(ancho, alto, BufferedImage.TYPE_INT_RGB);
+        Graphics2D grafico = escalada.createGraphics();
+        try {
+            grafico.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            grafico.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            grafico.drawImage(original, 0, 0, ancho, alto, null);
+        } finally {
+            grafico.dispose();
+        }
+
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        ImageIO.write(escalada, "jpg", salida);
+        return salida.toByteArray();
+    }
+}
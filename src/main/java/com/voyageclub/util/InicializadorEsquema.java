@@ -0,0 +1,48 @@
+package com.voyageclub.util;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Aplica las migraciones del esquema ({@link MigradorEsquema}) al arrancar la aplicación, antes de atender peticiones.
+ * Si alguna migración falla, el despliegue se detiene.
+ *
+ * <p>Hibernate arranca sin generar ni validar el esquema ({@code hibernate.hbm2ddl.auto=none}): el esquema lo
+ * mantienen únicamente las migraciones.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+@ApplicationScoped
+public class InicializadorEsquema {
+
+    @PersistenceUnit(unitName = "voyageclub-persistence-unit")
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Aplica las migraciones pendientes cuando se inicializa el contexto de aplicación.
+     *
+     * @param evento Evento de inicialización del contexto de aplicación.
+     * @throws SQLException Si falla alguna migración.
+     */
+    public void alArrancar(@Observes @Initialized(ApplicationScoped.class) Object evento) throws SQLException {
+        // La conexión se obtiene directamente del proveedor de conexiones de Hibernate, fuera de cualquier
+        // transacción, para que el migrador controle sus propias transacciones
+        ConnectionProvider proveedor = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(ConnectionProvider.class);
+        Connection conexion = proveedor.getConnection();
+        try {
+            new MigradorEsquema().migrar(conexion);
+        } finally {
+            proveedor.closeConnection(conexion);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.voyageclub.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Aplica las migraciones versionadas del esquema de la base de datos.
+ *
+ * <p>Los scripts SQL están en {@code db/migracion/} y se listan, en orden, en {@code db/migracion/migraciones.txt}.
+ * Cada script se llama {@code V<versión>__<descripción>.sql} y se aplica una sola vez: la versión, el checksum SHA-256
+ * del script y la fecha de aplicación se registran en la tabla {@link #TABLA_HISTORIAL}. En cada arranque solo se
+ * ejecutan los scripts pendientes; si un script ya aplicado ha cambiado, el arranque se detiene.
+ *
+ * <p>Si la base de datos no tiene historial pero ya contiene las tablas (porque la creó Hibernate con
+ * {@code hbm2ddl}), la versión 1, el esquema inicial, se da por aplicada sin ejecutarla. Por eso la versión 1 es
+ * exactamente el esquema que creaba Hibernate y cualquier tabla o columna nueva va en una versión posterior.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public class MigradorEsquema {
+
+    /**
+     * Tabla en la que se registran las migraciones aplicadas.
+     */
+    public static final String TABLA_HISTORIAL = "historial_migraciones";
+
+    /**
+     * Directorio del classpath con los scripts de migración.
+     */
+    private static final String DIRECTORIO = "db/migracion/";
+
+    private static final Pattern NOMBRE_SCRIPT = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    private static final Logger LOGGER = Logger.getLogger(MigradorEsquema.class.getName());
+
+    private final ClassLoader classLoader;
+
+    /**
+     * Constructor que carga los scripts con el class loader de esta clase.
+     */
+    public MigradorEsquema() {
+        this(MigradorEsquema.class.getClassLoader());
+    }
+
+    /**
+     * Constructor que recibe el class loader con el que se cargan los scripts.
+     *
+     * @param classLoader Class loader que contiene el directorio {@code db/migracion/}.
+     */
+    public MigradorEsquema(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Aplica las migraciones pendientes. Cada script se ejecuta en su propia transacción junto con su registro en el
+     * historial (en MySQL las sentencias DDL confirman la transacción, por lo que un script que falla a medias debe
+     * corregirse a mano antes de volver a arrancar).
+     *
+     * @param conexion Conexión a la base de datos. Se restaura su modo de auto-commit al terminar.
+     * @return Número de migraciones aplicadas.
+     * @throws SQLException          Si falla alguna sentencia de un script.
+     * @throws IllegalStateException Si algún script ya aplicado ha cambiado o la lista de scripts no es válida.
+     */
+    public int migrar(Connection conexion) throws SQLException {
+        long inicio = System.nanoTime();
+        boolean autoCommit = conexion.getAutoCommit();
+        conexion.setAutoCommit(false);
+        try {
+            boolean esquemaExistente = !existeTabla(conexion, TABLA_HISTORIAL) && existeTabla(conexion, "Usuario");
+            crearHistorial(conexion);
+            Map<Integer, String> aplicadas = leerHistorial(conexion);
+
+            int aplicadasAhora = 0;
+            for (Migracion migracion : leerMigraciones()) {
+                String checksum = aplicadas.get(migracion.version);
+                if (checksum != null) {
+                    if (!checksum.equals(migracion.checksum)) {
+                        throw new IllegalStateException("El script de migración " + migracion.script
+                                + " ha cambiado después de aplicarse");
+                    }
+                } else if (migracion.version == 1 && esquemaExistente) {
+                    registrar(conexion, migracion, 0);
+                    conexion.commit();
+                    LOGGER.info("Esquema existente: se da por aplicada la migración " + migracion.script);
+                } else {
+                    aplicar(conexion, migracion);
+                    aplicadasAhora++;
+                }
+            }
+
+            LOGGER.info("Esquema actualizado en " + (System.nanoTime() - inicio) / 1_000_000 + " ms ("
+                    + aplicadasAhora + " migraciones aplicadas)");
+            return aplicadasAhora;
+        } catch (SQLException | RuntimeException e) {
+            conexion.rollback();
+            throw e;
+        } finally {
+            conexion.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void aplicar(Connection conexion, Migracion migracion) throws SQLException {
+        long inicio = System.nanoTime();
+        try (Statement statement = conexion.createStatement()) {
+            for (String sentencia : dividirSentencias(migracion.contenido)) {
+                statement.execute(sentencia);
+            }
+        } catch (SQLException e) {
+            throw new SQLException("Error al aplicar la migración " + migracion.script + ": " + e.getMessage(),
+                    e.getSQLState(), e.getErrorCode(), e);
+        }
+        long duracion = (System.nanoTime() - inicio) / 1_000_000;
+        registrar(conexion, migracion, duracion);
+        conexion.commit();
+        LOGGER.info("Migración " + migracion.script + " aplicada en " + duracion + " ms");
+    }
+
+    private void crearHistorial(Connection conexion) throws SQLException {
+        if (existeTabla(conexion, TABLA_HISTORIAL)) {
+            return;
+        }
+        try (Statement statement = conexion.createStatement()) {
+            statement.execute("CREATE TABLE " + TABLA_HISTORIAL + " ("
+                    + "version INTEGER NOT NULL, "
+                    + "script VARCHAR(200) NOT NULL, "
+                    + "checksum VARCHAR(64) NOT NULL, "
+                    + "fecha_aplicacion TIMESTAMP NOT NULL, "
+                    + "duracion_ms BIGINT NOT NULL, "
+                    + "PRIMARY KEY (version))");
+        }
+        conexion.commit();
+    }
+
+    private Map<Integer, String> leerHistorial(Connection conexion) throws SQLException {
+        Map<Integer, String> aplicadas = new HashMap<>();
+        try (Statement statement = conexion.createStatement();
+             ResultSet resultado = statement.executeQuery("SELECT version, checksum FROM " + TABLA_HISTORIAL)) {
+            while (resultado.next()) {
+                aplicadas.put(resultado.getInt(1), resultado.getString(2));
+            }
+        }
+        return aplicadas;
+    }
+
+    private void registrar(Connection conexion, Migracion migracion, long duracion) throws SQLException {
+        try (PreparedStatement insert = conexion.prepareStatement("INSERT INTO " + TABLA_HISTORIAL
+                + " (version, script, checksum, fecha_aplicacion, duracion_ms) VALUES (?, ?, ?, ?, ?)")) {
+            insert.setInt(1, migracion.version);
+            insert.setString(2, migracion.script);
+            insert.setString(3, migracion.checksum);
+            insert.setTimestamp(4, Timestamp.from(Instant.now()));
+            insert.setLong(5, duracion);
+            insert.executeUpdate();
+        }
+    }
+
+    private boolean existeTabla(Connection conexion, String tabla) throws SQLException {
+        DatabaseMetaData metaData = conexion.getMetaData();
+        // Según la base de datos, los nombres se guardan en mayúsculas, en minúsculas o tal cual
+        for (String nombre : List.of(tabla, tabla.toUpperCase(), tabla.toLowerCase())) {
+            try (ResultSet resultado = metaData.getTables(conexion.getCatalog(), null, nombre, new String[]{"TABLE"})) {
+                if (resultado.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private List<Migracion> leerMigraciones() {
+        List<Migracion> migraciones = new ArrayList<>();
+        int versionAnterior = 0;
+        for (String linea : leerRecurso("migraciones.txt").split("\n")) {
+            String script = linea.trim();
+            if (script.isEmpty() || script.startsWith("#")) {
+                continue;
+            }
+            Matcher matcher = NOMBRE_SCRIPT.matcher(script);
+            if (!matcher.matches()) {
+                throw new IllegalStateException("Nombre de script de migración no válido: " + script);
+            }
+            int version = Integer.parseInt(matcher.group(1));
+            if (version <= versionAnterior) {
+                throw new IllegalStateException("Los scripts de migración no están en orden de versión: " + script);
+            }
+            versionAnterior = version;
+
+            String contenido = leerRecurso(script);
+            byte[] bytes = contenido.getBytes(StandardCharsets.UTF_8);
+            migraciones.add(new Migracion(version, script, contenido,
+                    ImagenUtil.aHexadecimal(ImagenUtil.nuevoDigest().digest(bytes))));
+        }
+        return migraciones;
+    }
+
+    private String leerRecurso(String nombre) {
+        try (InputStream entrada = classLoader.getResourceAsStream(DIRECTORIO + nombre)) {
+            if (entrada == null) {
+                throw new IllegalStateException("No se encuentra el script de migración " + DIRECTORIO + nombre);
+            }
+            // Los finales de línea no forman parte del checksum, para que no dependa del sistema operativo
+            return new String(entrada.readAllBytes(), StandardCharsets.UTF_8).replace("\r\n", "\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Divide un script en sentencias. Cada sentencia termina con {@code ;} al final de una línea y las líneas que
+     * empiezan por {@code --} son comentarios.
+     *
+     * @param script Contenido del script.
+     * @return Lista de sentencias sin el {@code ;} final.
+     */
+    static List<String> dividirSentencias(String script) {
+        List<String> sentencias = new ArrayList<>();
+        StringBuilder actual = new StringBuilder();
+        for (String linea : script.split("\n")) {
+            String recortada = linea.trim();
+            if (recortada.isEmpty() || recortada.startsWith("--")) {
+                continue;
+            }
+            if (recortada.endsWith(";")) {
+                actual.append(recortada, 0, recortada.length() - 1);
+                sentencias.add(actual.toString());
+                actual.setLength(0);
+            } else {
+                actual.append(recortada).append('\n');
+            }
+        }
+        if (!actual.toString().isBlank()) {
+            sentencias.add(actual.toString());
+        }
+        return sentencias;
+    }
+
+    /**
+     * Script de migración leído del classpath.
+     */
+    private static final class Migracion {
+        private final int version;
+        private final String script;
+        private final String contenido;
+        private final String checksum;
+
+        private Migracion(int version, String script, String contenido, String checksum) {
+            this.version = version;
+            this.script = script;
+            this.contenido = contenido;
+            this.checksum = checksum;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.voyageclub.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Utilidades para leer los parámetros de paginación de las peticiones de listado.
+ *
+ * @author Álvaro Bajo
+ * @version 1.0
+ */
+public class PaginacionUtil {
+
+    /**
+     * Parámetro con el número de página solicitado (paginación por número de página).
+     */
+    public static final String PARAM_PAGINA = "PAGINA";
+
+    /**
+     * Parámetro con el identificador del último elemento mostrado (paginación por clave).
+     */
+    public static final String PARAM_ULTIMO_ID = "ULTIMO_ID";
+
+    /**
+     * Número de elementos que se muestran por página en los listados.
+     */
+    public static final int TAMANO_PAGINA = 20;
+
+    private PaginacionUtil() {
+        // Clase de utilidades, no instanciable
+    }
+
+    /**
+     * Obtiene el número de página solicitado.
+     *
+     * @param request La solicitud HTTP.
+     * @return Número de página, o 1 si no se indica o no es válido.
+     */
+    public static int leerNumeroPagina(HttpServletRequest request) {
+        String pagina = request.getParameter(PARAM_PAGINA);
+        if (pagina == null || pagina.isBlank()) {
+            return 1;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(pagina.trim()));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    /**
+     * Obtiene el identificador del último elemento mostrado.
+     *
+     * @param request La solicitud HTTP.
+     * @return Identificador del último elemento, o {@code null} si se empieza por el principio.
+     */
+    public static Long leerUltimoId(HttpServletRequest request) {
+        String ultimoId = request.getParameter(PARAM_ULTIMO_ID);
+        if (ultimoId == null || ultimoId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(ultimoId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+-- Esquema inicial: las tablas que creaba Hibernate (hbm2ddl=update) antes de las migraciones, con sus claves primarias,
+-- restricciones de unicidad y claves ajenas. En las bases de datos creadas así esta versión no se ejecuta, se da por
+-- aplicada, por lo que debe coincidir exactamente con ese esquema: los cambios posteriores van en sus propios scripts.
+
+CREATE TABLE Usuario (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    apellido1 VARCHAR(255),
+    apellido2 VARCHAR(255),
+    codigoUsuario VARCHAR(255),
+    contrasenaHash VARCHAR(255),
+    correoElectronico VARCHAR(255),
+    dni VARCHAR(255),
+    nombre VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_usuario_codigo UNIQUE (codigoUsuario),
+    CONSTRAINT uk_usuario_dni UNIQUE (dni)
+) ENGINE=InnoDB;
+
+CREATE TABLE Hotel (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    codigoHotel VARCHAR(255),
+    descripcion VARCHAR(255),
+    direccion VARCHAR(255),
+    email VARCHAR(255),
+    estrellas INTEGER,
+    `imagen-principal` LONGBLOB,
+    `imagen-secundario` LONGBLOB,
+    nombre VARCHAR(255),
+    telefono VARCHAR(255),
+    web VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE LuxuryStay (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    codigoLuxuryStay VARCHAR(255),
+    descripcion VARCHAR(255),
+    fechaFinDisponible DATE,
+    fechaInicioDisponible DATE,
+    `imagen-derecha` LONGBLOB,
+    `imagen-izquierda` LONGBLOB,
+    `imagen-principal` LONGBLOB,
+    nombre VARCHAR(255),
+    precioNoche DECIMAL(10,2),
+    hotel_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_luxury_stay_codigo UNIQUE (codigoLuxuryStay),
+    CONSTRAINT fk_luxury_stay_hotel FOREIGN KEY (hotel_id) REFERENCES Hotel (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE LuxuryStay_amenidades (
+    LuxuryStay_id BIGINT NOT NULL,
+    amenidades VARCHAR(255),
+    CONSTRAINT fk_amenidades_luxury_stay FOREIGN KEY (LuxuryStay_id) REFERENCES LuxuryStay (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE Factura (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    fechaEmision DATE NOT NULL,
+    numeroFactura VARCHAR(255),
+    precioTotal DECIMAL(38,2),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE Reserva (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    cantidadPersonas INTEGER NOT NULL,
+    estado VARCHAR(255) NOT NULL,
+    fechaFin DATE NOT NULL,
+    fechaInicio DATE NOT NULL,
+    factura_id BIGINT,
+    luxury_stay_id BIGINT NOT NULL,
+    usuario_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reserva_factura FOREIGN KEY (factura_id) REFERENCES Factura (id),
+    CONSTRAINT fk_reserva_luxury_stay FOREIGN KEY (luxury_stay_id) REFERENCES LuxuryStay (id),
+    CONSTRAINT fk_reserva_usuario FOREIGN KEY (usuario_id) REFERENCES Usuario (id)
+) ENGINE=InnoDB;
@@ -0,0 +1,41 @@
+-- Tabla de las imágenes de los hoteles y las estancias de lujo (Imagen), separadas de sus propietarios para que los
+-- listados no lean columnas BLOB. Cada imagen se identifica por su propietario, su slot y su variante de tamaño.
+
+CREATE TABLE imagen (
+    id BIGINT NOT NULL,
+    datos LONGBLOB,
+    fechaActualizacion DATETIME(6),
+    hash VARCHAR(64),
+    propietarioId BIGINT NOT NULL,
+    slot VARCHAR(30) NOT NULL,
+    tamano BIGINT,
+    variante VARCHAR(10) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_imagen_propietario_slot_variante UNIQUE (propietarioId, slot, variante)
+) ENGINE=InnoDB;
+
+-- Las imágenes de las columnas LONGBLOB del esquema inicial pasan a la tabla como imágenes originales (FULL), con el
+-- hash SHA-256 que el servlet de imágenes utiliza como ETag. Sus variantes reescaladas se generan al volver a subirlas;
+-- mientras tanto se sirve la original. Los identificadores empiezan en 1: la secuencia de las imágenes (V4) empieza por
+-- encima del mayor de ellos.
+INSERT INTO imagen (id, datos, fechaActualizacion, hash, propietarioId, slot, tamano, variante)
+SELECT ROW_NUMBER() OVER (ORDER BY slot, propietarioId), datos, CURRENT_TIMESTAMP(6), SHA2(datos, 256),
+       propietarioId, slot, LENGTH(datos), 'FULL'
+FROM (
+    SELECT id AS propietarioId, 'HOTEL_PRINCIPAL' AS slot, `imagen-principal` AS datos
+    FROM Hotel WHERE `imagen-principal` IS NOT NULL
+    UNION ALL
+    SELECT id, 'HOTEL_SECUNDARIA', `imagen-secundario` FROM Hotel WHERE `imagen-secundario` IS NOT NULL
+    UNION ALL
+    SELECT id, 'LUXURY_PRINCIPAL', `imagen-principal` FROM LuxuryStay WHERE `imagen-principal` IS NOT NULL
+    UNION ALL
+    SELECT id, 'LUXURY_DERECHA', `imagen-derecha` FROM LuxuryStay WHERE `imagen-derecha` IS NOT NULL
+    UNION ALL
+    SELECT id, 'LUXURY_IZQUIERDA', `imagen-izquierda` FROM LuxuryStay WHERE `imagen-izquierda` IS NOT NULL
+) imagenes_anteriores;
+
+ALTER TABLE Hotel DROP COLUMN `imagen-principal`;
+ALTER TABLE Hotel DROP COLUMN `imagen-secundario`;
+ALTER TABLE LuxuryStay DROP COLUMN `imagen-principal`;
+ALTER TABLE LuxuryStay DROP COLUMN `imagen-derecha`;
+ALTER TABLE LuxuryStay DROP COLUMN `imagen-izquierda`;
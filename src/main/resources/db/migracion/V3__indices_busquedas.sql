@@ -0,0 +1,23 @@
+-- Índices para las búsquedas de los DAO. Deben coincidir con los @Index declarados en las entidades.
+-- Se aplica después del esquema inicial (V1) y de la tabla de imágenes (V2).
+
+-- UsuarioDAOImpl: findByUsername, findByCorreoElectronico, autenticar y existeMail.
+-- Antes de aplicarla hay que eliminar los usuarios con el correo electrónico repetido.
+CREATE INDEX idx_usuario_nombre ON Usuario (nombre);
+CREATE UNIQUE INDEX uk_usuario_correo ON Usuario (correoElectronico);
+
+-- HotelDAOImpl: findByCodigoHotel y findByNombre. El código del hotel no es único.
+CREATE INDEX idx_hotel_codigo ON Hotel (codigoHotel);
+CREATE INDEX idx_hotel_nombre ON Hotel (nombre);
+
+-- LuxuryStayDAOImpl: findByNombre y las consultas ordenadas por precio.
+CREATE INDEX idx_luxury_stay_nombre ON LuxuryStay (nombre);
+CREATE INDEX idx_luxury_stay_precio ON LuxuryStay (precioNoche ASC);
+CREATE INDEX idx_luxury_stay_precio_desc ON LuxuryStay (precioNoche DESC);
+
+-- ReservaDAOImpl: findByUsuario, findByUsuarioAndLuxuryStay, findByLuxuryStay y findByEstado;
+-- FacturaDAOImpl: asociación de las reservas a la factura.
+CREATE INDEX idx_reserva_usuario_luxury_stay ON Reserva (usuario_id, luxury_stay_id);
+CREATE INDEX idx_reserva_luxury_stay ON Reserva (luxury_stay_id);
+CREATE INDEX idx_reserva_factura ON Reserva (factura_id);
+CREATE INDEX idx_reserva_estado ON Reserva (estado);
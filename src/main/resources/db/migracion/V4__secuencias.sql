@@ -0,0 +1,20 @@
+-- Tablas con las que Hibernate emula en MySQL las secuencias de identificadores (<tabla>_SEQ), que reserva
+-- de 50 en 50. Empiezan por encima del mayor identificador existente para no repetir los ya asignados.
+
+CREATE TABLE Usuario_SEQ (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO Usuario_SEQ SELECT COALESCE(MAX(id), 0) + 51 FROM Usuario;
+
+CREATE TABLE Hotel_SEQ (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO Hotel_SEQ SELECT COALESCE(MAX(id), 0) + 51 FROM Hotel;
+
+CREATE TABLE LuxuryStay_SEQ (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO LuxuryStay_SEQ SELECT COALESCE(MAX(id), 0) + 51 FROM LuxuryStay;
+
+CREATE TABLE Factura_SEQ (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO Factura_SEQ SELECT COALESCE(MAX(id), 0) + 51 FROM Factura;
+
+CREATE TABLE Reserva_SEQ (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO Reserva_SEQ SELECT COALESCE(MAX(id), 0) + 51 FROM Reserva;
+
+CREATE TABLE imagen_SEQ (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO imagen_SEQ SELECT COALESCE(MAX(id), 0) + 51 FROM imagen;
@@ -0,0 +1,17 @@
+-- Sesiones de los usuarios autenticados compartidas entre los nodos (SesionUsuario), de modo que el balanceador
+-- no necesita enviar siempre al mismo nodo las peticiones de un usuario.
+
+CREATE TABLE sesion_usuario (
+    id BIGINT NOT NULL,
+    datos VARBINARY(4096) NOT NULL,
+    fechaActualizacion DATETIME(6) NOT NULL,
+    token VARCHAR(64) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_sesion_usuario_token UNIQUE (token)
+) ENGINE=InnoDB;
+
+-- AlmacenSesionBaseDatos: eliminación de las sesiones caducadas.
+CREATE INDEX idx_sesion_usuario_fecha ON sesion_usuario (fechaActualizacion);
+
+CREATE TABLE sesion_usuario_SEQ (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO sesion_usuario_SEQ VALUES (1);
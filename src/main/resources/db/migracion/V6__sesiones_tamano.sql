@@ -0,0 +1,4 @@
+-- Los datos de una sesión (SesionUsuario.TAMANO_MAXIMO_DATOS) caben aunque todos los textos del usuario ocupen la
+-- longitud máxima de sus columnas.
+
+ALTER TABLE sesion_usuario MODIFY datos VARBINARY(8192) NOT NULL;
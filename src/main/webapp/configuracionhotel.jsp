@@ -51,10 +51,10 @@
                 <td>${hotel.telefono}</td>
                 <td>${hotel.codigoHotel}</td>
                 <td>
-                    <img src="/hotelImage?hotelId=${hotel.id}&type=principal" alt="Imagen Principal" style="max-width: 100px; max-height: 100px;">
+                    <img src="${pageContext.request.contextPath}/hotelImage?hotelId=${hotel.id}&type=principal&size=thumb" alt="Imagen Principal" style="max-width: 100px; max-height: 100px;">
                 </td>
                 <td>
-                    <img src="/HotelImageServlet?hotelId=${hotel.id}&type=secundaria" alt="Imagen Secundaria" style="max-width: 100px; max-height: 100px;">
+                    <img src="${pageContext.request.contextPath}/hotelImage?hotelId=${hotel.id}&type=secundaria&size=thumb" alt="Imagen Secundaria" style="max-width: 100px; max-height: 100px;">
                 </td>
                 <td class="actions">
                     <form action="app" method="POST" style="display:inline;">
@@ -72,6 +72,23 @@
         </c:forEach>
         </tbody>
     </table>
+
+    <!-- Controles de paginación -->
+    <c:if test="${not empty PAGINA_HOTELES}">
+        <div class="d-flex align-items-center mb-5">
+            <form action="app" method="POST" style="display:inline;">
+                <input type="hidden" name="ACTION" value="HOTEL.FIND_ALL">
+                <input type="hidden" name="PAGINA" value="${PAGINA_HOTELES.numero - 1}">
+                <button type="submit" class="btn btn-secondary" ${PAGINA_HOTELES.primera ? 'disabled' : ''}>Anterior</button>
+            </form>
+            <span class="mx-3">Página ${PAGINA_HOTELES.numero} de ${PAGINA_HOTELES.totalPaginas} (${PAGINA_HOTELES.totalElementos} hoteles)</span>
+            <form action="app" method="POST" style="display:inline;">
+                <input type="hidden" name="ACTION" value="HOTEL.FIND_ALL">
+                <input type="hidden" name="PAGINA" value="${PAGINA_HOTELES.numero + 1}">
+                <button type="submit" class="btn btn-secondary" ${PAGINA_HOTELES.ultima ? 'disabled' : ''}>Siguiente</button>
+            </form>
+        </div>
+    </c:if>
 </div>
 
 </body>
@@ -108,9 +108,11 @@
             </div>
         </div>
 
-        <!-- Campos ocultos para la imagen principal y secundaria actual -->
-        <input type="hidden" name="IMAGENPRINCIPAL_ACTUAL" value="<c:if test='${not empty hotel and not empty hotel.imagenPrincipal}'>${hotel.imagenPrincipal}</c:if>">
-        <input type="hidden" name="IMAGENSECUNDARIA_ACTUAL" value="<c:if test='${not empty hotel and not empty hotel.imagenSecundaria}'>${hotel.imagenSecundaria}</c:if>">
+        <!-- Marcadores para conservar la imagen principal y secundaria actuales si no se adjunta una nueva -->
+        <c:if test="${not empty hotel and not empty hotel.id}">
+            <input type="hidden" name="MANTENER_IMAGENPRINCIPAL" value="true">
+            <input type="hidden" name="MANTENER_IMAGENSECUNDARIA" value="true">
+        </c:if>
 
         <!-- Imagen Principal -->
         <div class="form-row">
@@ -118,8 +120,8 @@
                 <label for="IMAGENPRINCIPAL">Imagen Principal:</label>
                 <input type="file" class="form-control-file" id="IMAGENPRINCIPAL" name="IMAGENPRINCIPAL" accept="image/*" onchange="previewImage('imagenPrincipal', 'previewImagenPrincipal')">
 
-                <c:if test="${not empty hotel and not empty hotel.imagenPrincipal}">
-                    <img id="previewImagenPrincipal" src="${pageContext.request.contextPath}/hotelImage?hotelId=${hotel.id}&type=principal" alt="Vista previa" style="max-width: 100%; height: auto; display: block; margin-top: 10px;">
+                <c:if test="${not empty hotel and not empty hotel.id}">
+                    <img id="previewImagenPrincipal" src="${pageContext.request.contextPath}/hotelImage?hotelId=${hotel.id}&type=principal&size=card" alt="Vista previa" style="max-width: 100%; height: auto; display: block; margin-top: 10px;">
                 </c:if>
             </div>
         </div>
@@ -130,8 +132,8 @@
                 <label for="IMAGENSECUNDARIA">Imagen Secundaria:</label>
                 <input type="file" class="form-control-file" id="IMAGENSECUNDARIA" name="IMAGENSECUNDARIA" accept="image/*" onchange="previewImage('imagenSecundaria', 'previewImagenSecundaria')">
 
-                <c:if test="${not empty hotel and not empty hotel.imagenSecundaria}">
-                    <img id="previewImagenSecundaria" src="${pageContext.request.contextPath}/hotelImage?hotelId=${hotel.id}&type=secundaria" alt="Vista previa" style="max-width: 100%; height: auto; display: block; margin-top: 10px;">
+                <c:if test="${not empty hotel and not empty hotel.id}">
+                    <img id="previewImagenSecundaria" src="${pageContext.request.contextPath}/hotelImage?hotelId=${hotel.id}&type=secundaria&size=card" alt="Vista previa" style="max-width: 100%; height: auto; display: block; margin-top: 10px;">
                 </c:if>
             </div>
         </div>
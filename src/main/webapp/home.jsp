@@ -41,7 +41,7 @@
                 <div class="account-dropdown-content">
                     <a href="#">Perfil</a>
                     <a href="#">Configuración</a>
-                    <a href="#">Cerrar Sesión</a>
+                    <a href="app?ACTION=USUARIO.LOGOUT">Cerrar Sesión</a>
                 </div>
             </div>
         </div>
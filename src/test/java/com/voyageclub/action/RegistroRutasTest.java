@@ -0,0 +1,65 @@
+package com.voyageclub.action;
+
+import com.voyageclub.action.paginas.PageNames;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de prueba para el registro de rutas de las acciones.
+ */
+public class RegistroRutasTest {
+
+    private final RegistroRutas registro = new RegistroRutas(List.of(new UsuarioActionImpl(), new HotelActionImpl(),
+            new LuxuryStayActionImpl(), new ReservaActionImpl(), new FacturaActionImpl()));
+
+    @Test
+    public void registraLasRutasDeTodasLasAcciones() {
+        // Rutas que envían las páginas JSP
+        assertEquals(Set.of("USUARIO.FIND_ALL", "USUARIO.REGISTER", "USUARIO.LOGIN", "USUARIO.LOGOUT",
+                "HOTEL.FIND_ALL",
+                "HOTEL.DIRIGENEW", "HOTEL.ELIMINAR", "HOTEL.DIRIGEMODIFICAR", "HOTEL.MODIFICAR", "HOTEL.CREAR",
+                "LUXURY_STAY.LISTAR"), registro.getRutas());
+        assertEquals(PageNames.CREATE_HOTEL_PAGE, registro.buscar("HOTEL.DIRIGENEW").orElseThrow()
+                .manejar(mock(HttpServletRequest.class), mock(HttpServletResponse.class)));
+    }
+
+    @Test
+    public void lasRutasDesconocidasNoTienenManejador() {
+        assertTrue(registro.buscar(null).isEmpty());
+        assertTrue(registro.buscar("USUARIO").isEmpty());
+        assertTrue(registro.buscar("USUARIO.BORRAR").isEmpty());
+        assertTrue(registro.buscar("usuario.login").isEmpty());
+    }
+
+    @Test
+    public void unaRutaDuplicadaImpideElArranque() {
+        Action<?, ?> duplicada = new ReservaActionImpl() {
+            @Override
+            public Map<String, ManejadorAccion> getRutas() {
+                return Map.of("HOTEL.CREAR", (request, response) -> PageNames.ERROR_PAGE);
+            }
+        };
+
+        IllegalStateException excepcion = assertThrows(IllegalStateException.class,
+                () -> new RegistroRutas(List.of(new HotelActionImpl(), duplicada)));
+        assertTrue(excepcion.getMessage().contains("HOTEL.CREAR"));
+    }
+
+    @Test
+    public void executeDeUnaOperacionDesconocidaDevuelveLaPaginaDeError() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getParameter(Action.PARAMETRO_ACCION)).thenReturn("USUARIO.BORRAR");
+
+        assertEquals(PageNames.ERROR_PAGE, new UsuarioActionImpl().execute(request, mock(HttpServletResponse.class)));
+        assertEquals(PageNames.ERROR_PAGE, new HotelActionImpl().execute(mock(HttpServletRequest.class),
+                mock(HttpServletResponse.class)));
+    }
+}
@@ -0,0 +1,291 @@
+package com.voyageclub.action;
+
+import com.voyageclub.beans.UsuarioSesionBeans;
+import com.voyageclub.dao.BaseDAO;
+import com.voyageclub.dao.HotelDAOImpl;
+import com.voyageclub.dao.ImagenDAOImpl;
+import com.voyageclub.dao.LuxuryStayDAOImpl;
+import com.voyageclub.dao.ReservaDAOImpl;
+import com.voyageclub.dao.UsuarioDAOImpl;
+import com.voyageclub.model.Hotel;
+import com.voyageclub.model.LuxuryStay;
+import com.voyageclub.model.Reserva;
+import com.voyageclub.model.Usuario;
+import com.voyageclub.model.enumerdos.Amenity;
+import com.voyageclub.model.enumerdos.SlotImagen;
+import com.voyageclub.sesion.AlmacenSesionMemoria;
+import com.voyageclub.sesion.GestorSesion;
+import com.voyageclub.util.ContadorSentencias;
+import com.voyageclub.util.GeneradorVariantesImagen;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Comprueba el número máximo de sentencias SQL de cada manejador de las acciones, con los DAO sobre la base de datos
+ * H2 de pruebas. Cada acción se ejecuta en una transacción, como la que abren los DAO en el servidor.
+ */
+public class SentenciasActionTest {
+
+    private static final int NUMERO_HOTELES = 3;
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+    private ContadorSentencias contador;
+
+    private UsuarioActionImpl usuarioAction;
+    private GestorSesion gestorSesion;
+    private HotelActionImpl hotelAction;
+    private LuxuryStayActionImpl luxuryStayAction;
+    private ReservaActionImpl reservaAction;
+    private FacturaActionImpl facturaAction;
+
+    private Hotel hotel;
+
+    @BeforeEach
+    public void setUp() throws ReflectiveOperationException {
+        emf = ContadorSentencias.crearEntityManagerFactory();
+        em = emf.createEntityManager();
+        contador = new ContadorSentencias(emf);
+
+        UsuarioDAOImpl usuarioDAO = new UsuarioDAOImpl();
+        HotelDAOImpl hotelDAO = new HotelDAOImpl();
+        LuxuryStayDAOImpl luxuryStayDAO = new LuxuryStayDAOImpl();
+        ReservaDAOImpl reservaDAO = new ReservaDAOImpl();
+        ImagenDAOImpl imagenDAO = new ImagenDAOImpl();
+        for (BaseDAO<?, Long> dao : List.of(usuarioDAO, hotelDAO, luxuryStayDAO, reservaDAO, imagenDAO)) {
+            dao.setEntityManager(em);
+        }
+        inyectar(hotelDAO, "imagenDAO", imagenDAO);
+
+        usuarioAction = new UsuarioActionImpl();
+        inyectar(usuarioAction, "usuarioDAO", usuarioDAO);
+        gestorSesion = new GestorSesion(new AlmacenSesionMemoria());
+        inyectar(usuarioAction, "gestorSesion", gestorSesion);
+        hotelAction = new HotelActionImpl();
+        inyectar(hotelAction, "hotelDAO", hotelDAO);
+        // La generación de variantes es asíncrona y no forma parte de la petición
+        inyectar(hotelAction, "generadorVariantes", mock(GeneradorVariantesImagen.class));
+        luxuryStayAction = new LuxuryStayActionImpl();
+        inyectar(luxuryStayAction, "luxuryStayDAO", luxuryStayDAO);
+        reservaAction = new ReservaActionImpl();
+        inyectar(reservaAction, "reservaDAO", reservaDAO);
+        facturaAction = new FacturaActionImpl();
+
+        Usuario usuario = new Usuario("Alvaro", "Bajo", "Tabero", "alvarobajo893@gmail.com", "12345678", "123456");
+        em.getTransaction().begin();
+        em.persist(usuario);
+        for (int i = 0; i < NUMERO_HOTELES; i++) {
+            hotel = new Hotel("Hotel " + i, "Dirección " + i, 4, "hotel" + i + "@example.com",
+                    "www.hotel" + i + ".com", "Descripción del hotel", "123456789");
+            LuxuryStay luxuryStay = new LuxuryStay("Estancia " + i, "Descripción de la estancia",
+                    BigDecimal.valueOf(100 + i), List.of(Amenity.WIFI), hotel);
+            em.persist(hotel);
+            em.persist(luxuryStay);
+            em.persist(new Reserva(usuario, luxuryStay, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 3), 2));
+        }
+        imagenDAO.guardar(hotel.getId(), SlotImagen.HOTEL_PRINCIPAL, new byte[]{1, 2, 3});
+        imagenDAO.guardar(hotel.getId(), SlotImagen.HOTEL_SECUNDARIA, new byte[]{4, 5, 6});
+        em.getTransaction().commit();
+        em.clear();
+        // Sin la caché de segundo nivel, cada asociación no cargada costaría una consulta
+        emf.getCache().evictAll();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        em.close();
+        emf.close();
+    }
+
+    @Test
+    public void usuarioLogin() {
+        HttpServletRequest request = peticion(Map.of("ACTION", "USUARIO.LOGIN",
+                "EMAIL", "alvarobajo893@gmail.com", "PASS", "123456"));
+
+        // Solo la autenticación: la sesión no guarda las reservas y se guarda en memoria
+        assertEquals("/home.jsp", ejecutar(1, usuarioAction, request));
+
+        ArgumentCaptor<Object> usuarioSesion = ArgumentCaptor.forClass(Object.class);
+        verify(request).setAttribute(eq(UsuarioSesionBeans.ATRIBUTO_SESION), usuarioSesion.capture());
+        assertEquals("alvarobajo893@gmail.com",
+                ((UsuarioSesionBeans) usuarioSesion.getValue()).getCorreoElectronico());
+    }
+
+    @Test
+    public void usuarioLoginIncorrecto() {
+        assertEquals("/login.jsp", ejecutar(1, usuarioAction, peticion(Map.of("ACTION", "USUARIO.LOGIN",
+                "EMAIL", "nadie@example.com", "PASS", "123456"))));
+    }
+
+    @Test
+    public void usuarioLogout() {
+        HttpServletRequest login = peticion(Map.of("ACTION", "USUARIO.LOGIN",
+                "EMAIL", "alvarobajo893@gmail.com", "PASS", "123456"));
+        HttpServletResponse respuestaLogin = mock(HttpServletResponse.class);
+        usuarioAction.getRutas().get("USUARIO.LOGIN").manejar(login, respuestaLogin);
+        ArgumentCaptor<Cookie> cookie = ArgumentCaptor.forClass(Cookie.class);
+        verify(respuestaLogin).addCookie(cookie.capture());
+
+        HttpServletRequest logout = peticion(Map.of("ACTION", "USUARIO.LOGOUT"));
+        when(logout.getCookies()).thenReturn(new Cookie[]{cookie.getValue()});
+
+        // La sesión está en el almacén de sesiones, no en la base de datos
+        assertEquals("/login.jsp", ejecutar(0, usuarioAction, logout));
+        verify(logout).removeAttribute(UsuarioSesionBeans.ATRIBUTO_SESION);
+        assertTrue(gestorSesion.restaurar(logout).isEmpty());
+    }
+
+    @Test
+    public void usuarioFindAll() {
+        assertEquals("/index.jsp", ejecutar(1, usuarioAction, peticion(Map.of("ACTION", "USUARIO.FIND_ALL"))));
+    }
+
+    @Test
+    public void usuarioRegister() {
+        // Comprobación del correo, secuencia e inserción
+        assertEquals("login.jsp", ejecutar(3, usuarioAction, peticion(Map.of("ACTION", "USUARIO.REGISTER",
+                "NOMBRE", "María", "APELLIDO1", "Martínez", "APELLIDO2", "Fernández", "DNI", "23456789A",
+                "EMAIL", "maria@example.com", "PASS", "password2", "PASS_REPEAT", "password2"))));
+    }
+
+    @Test
+    public void hotelFindAll() {
+        assertEquals("/configuracionhotel.jsp", ejecutar(2, hotelAction, peticion(Map.of("ACTION", "HOTEL.FIND_ALL"))));
+    }
+
+    @Test
+    public void hotelDirigeNew() {
+        assertEquals("/crearhotel.jsp", ejecutar(0, hotelAction, peticion(Map.of("ACTION", "HOTEL.DIRIGENEW"))));
+    }
+
+    @Test
+    public void hotelEliminar() {
+        assertEquals("/configuracionhotel.jsp", ejecutar(2, hotelAction, peticion(Map.of("ACTION", "HOTEL.ELIMINAR",
+                "HOTELID", hotel.getId().toString()))));
+    }
+
+    @Test
+    public void hotelDirigeModificar() {
+        assertEquals("/crearhotel.jsp", ejecutar(1, hotelAction, peticion(Map.of("ACTION", "HOTEL.DIRIGEMODIFICAR",
+                "HOTELID", hotel.getId().toString()))));
+    }
+
+    @Test
+    public void hotelModificarConservandoLasImagenes() throws Exception {
+        HttpServletRequest request = peticion(Map.ofEntries(Map.entry("ACTION", "HOTEL.MODIFICAR"),
+                Map.entry("HOTELID", hotel.getId().toString()), Map.entry("NOMBRE", "Hotel modificado"),
+                Map.entry("DIRECCION", "Dirección"), Map.entry("ESTRELLAS", "5"),
+                Map.entry("EMAIL", "hotel@example.com"), Map.entry("WEB", "www.hotel.com"),
+                Map.entry("DESCRIPCION", "Descripción del hotel"), Map.entry("TELEFONO", "123456789"),
+                Map.entry("MANTENER_IMAGENPRINCIPAL", "true"), Map.entry("MANTENER_IMAGENSECUNDARIA", "true")));
+
+        // Hotel, comprobación de cada imagen conservada y actualización
+        assertEquals("/crearhotel.jsp", ejecutar(4, hotelAction, request));
+        verify(request, never()).setAttribute(eq("ERROR_IMAGENES"), any());
+    }
+
+    @Test
+    public void hotelCrear() throws Exception {
+        HttpServletRequest request = peticion(Map.of("ACTION", "HOTEL.CREAR", "NOMBRE", "Hotel nuevo",
+                "DIRECCION", "Dirección", "ESTRELLAS", "3", "EMAIL", "nuevo@example.com", "WEB", "www.nuevo.com",
+                "DESCRIPCION", "Descripción del hotel", "TELEFONO", "987654321"));
+        Part imagenPrincipal = imagen(new byte[]{1, 2, 3});
+        Part imagenSecundaria = imagen(new byte[]{4, 5, 6});
+        when(request.getPart("IMAGENPRINCIPAL")).thenReturn(imagenPrincipal);
+        when(request.getPart("IMAGENSECUNDARIA")).thenReturn(imagenSecundaria);
+
+        // Hotel e imágenes con sus secuencias, y la primera página de hoteles
+        assertEquals("/configuracionhotel.jsp", ejecutar(9, hotelAction, request));
+    }
+
+    @Test
+    public void hotelCrearConUnaImagenMayorQueElLimiteDelContenedor() throws Exception {
+        HttpServletRequest request = peticion(Map.of("ACTION", "HOTEL.CREAR", "NOMBRE", "Hotel nuevo",
+                "DIRECCION", "Dirección", "ESTRELLAS", "3", "EMAIL", "nuevo@example.com", "WEB", "www.nuevo.com",
+                "DESCRIPCION", "Descripción del hotel", "TELEFONO", "987654321"));
+        // El contenedor rechaza las partes que superan el maxFileSize del servlet de la aplicación
+        when(request.getPart("IMAGENPRINCIPAL")).thenThrow(new IllegalStateException("maxFileSize"));
+
+        assertEquals("/crearhotel.jsp", ejecutar(0, hotelAction, request));
+        verify(request).setAttribute("ERROR_IMAGENES", "Las imágenes no pueden superar los 10 MB");
+    }
+
+    @Test
+    public void hotelModificarConUnaImagenMayorQueElLimiteDelContenedor() throws Exception {
+        HttpServletRequest request = peticion(Map.ofEntries(Map.entry("ACTION", "HOTEL.MODIFICAR"),
+                Map.entry("HOTELID", hotel.getId().toString()), Map.entry("NOMBRE", "Hotel modificado"),
+                Map.entry("DIRECCION", "Dirección"), Map.entry("ESTRELLAS", "5"),
+                Map.entry("EMAIL", "hotel@example.com"), Map.entry("WEB", "www.hotel.com"),
+                Map.entry("DESCRIPCION", "Descripción del hotel"), Map.entry("TELEFONO", "123456789")));
+        when(request.getPart("IMAGENSECUNDARIA")).thenThrow(new IllegalStateException("maxFileSize"));
+
+        // Lectura del hotel; la actualización solo se envía porque en la prueba el hotel modificado sigue en el
+        // contexto de persistencia de la transacción que envuelve la acción. Las imágenes no se tocan
+        assertEquals("/crearhotel.jsp", ejecutar(2, hotelAction, request));
+        verify(request).setAttribute("ERROR_IMAGENES", "Las imágenes no pueden superar los 10 MB");
+    }
+
+    @Test
+    public void luxuryStayListar() {
+        assertEquals("/luxury_stays/listar.jsp", ejecutar(2, luxuryStayAction, peticion(Map.of("ACTION", "LUXURY_STAY.LISTAR"))));
+    }
+
+    @Test
+    public void reservaYFacturaNoConsultanLaBaseDeDatos() {
+        ejecutar(0, reservaAction, peticion(Map.of("ACTION", "RESERVA.LISTAR")));
+        ejecutar(0, facturaAction, peticion(Map.of("ACTION", "FACTURA.LISTAR")));
+    }
+
+    /**
+     * Ejecuta una acción en una transacción y comprueba el número máximo de sentencias, incluidas las que se envían
+     * al confirmar la transacción.
+     */
+    private String ejecutar(long maximo, Action<?, ?> accion, HttpServletRequest request) {
+        return contador.assertComoMaximo(maximo, () -> {
+            em.getTransaction().begin();
+            String pagDestino = accion.execute(request, mock(HttpServletResponse.class));
+            em.getTransaction().commit();
+            return pagDestino;
+        });
+    }
+
+    private static HttpServletRequest peticion(Map<String, String> parametros) {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        parametros.forEach((nombre, valor) -> when(request.getParameter(nombre)).thenReturn(valor));
+        when(request.getServletContext()).thenReturn(mock(ServletContext.class));
+        when(request.getContextPath()).thenReturn("");
+        return request;
+    }
+
+    private static Part imagen(byte[] datos) throws Exception {
+        Part part = mock(Part.class);
+        when(part.getSize()).thenReturn((long) datos.length);
+        when(part.getInputStream()).thenAnswer(invocacion -> new ByteArrayInputStream(datos));
+        return part;
+    }
+
+    private static void inyectar(Object destino, String campo, Object valor) throws ReflectiveOperationException {
+        Field field = destino.getClass().getDeclaredField(campo);
+        field.setAccessible(true);
+        field.set(destino, valor);
+    }
+}
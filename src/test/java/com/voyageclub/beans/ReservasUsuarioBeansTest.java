@@ -0,0 +1,144 @@
+package com.voyageclub.beans;
+
+import com.voyageclub.dao.ReservaDAOImpl;
+import com.voyageclub.dto.ReservaResumen;
+import com.voyageclub.model.Hotel;
+import com.voyageclub.model.LuxuryStay;
+import com.voyageclub.model.Reserva;
+import com.voyageclub.model.Usuario;
+import com.voyageclub.model.enumerdos.Amenity;
+import com.voyageclub.model.enumerdos.EstadoReserva;
+import com.voyageclub.util.ContadorSentencias;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de prueba para los beans de sesión y de petición del usuario sobre la base de datos H2 de pruebas.
+ */
+public class ReservasUsuarioBeansTest {
+
+    private static final int NUMERO_RESERVAS = 20;
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+    private ContadorSentencias contador;
+    private ReservaDAOImpl reservaDAO;
+    private UsuarioSesionBeans usuarioSesion;
+    private LuxuryStay luxuryStay;
+
+    @BeforeEach
+    public void setUp() {
+        emf = ContadorSentencias.crearEntityManagerFactory();
+        em = emf.createEntityManager();
+        contador = new ContadorSentencias(emf);
+        reservaDAO = new ReservaDAOImpl();
+        reservaDAO.setEntityManager(em);
+
+        Usuario usuario = new Usuario("Alvaro", "Bajo", "Tabero", "alvarobajo893@gmail.com", "12345678", "123456");
+        Hotel hotel = new Hotel("NombreHotel", "DirecciónHotel", 5, "hotel@example.com", "www.hotel.com",
+                "Descripción del hotel", "123456789");
+        luxuryStay = new LuxuryStay("NombreEstancia", "Descripción de la estancia",
+                BigDecimal.valueOf(200.00), List.of(Amenity.WIFI), hotel);
+        // Las imágenes de la estancia no deben llegar a la sesión ni al resumen
+        luxuryStay.setImagenPrincipal(new byte[64 * 1024]);
+        em.getTransaction().begin();
+        em.persist(usuario);
+        em.persist(hotel);
+        em.persist(luxuryStay);
+        for (int i = 0; i < NUMERO_RESERVAS; i++) {
+            em.persist(new Reserva(usuario, luxuryStay, LocalDate.of(2023, 1, 1).plusDays(NUMERO_RESERVAS - i),
+                    LocalDate.of(2023, 2, 1), 2));
+        }
+        em.getTransaction().commit();
+        em.clear();
+
+        usuarioSesion = new UsuarioSesionBeans(usuario.getId(), usuario.getNombre(), usuario.getApellido1(),
+                usuario.getApellido2(), usuario.getCorreoElectronico(), usuario.getDni(), usuario.getCodigoUsuario());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        em.close();
+        emf.close();
+    }
+
+    @Test
+    public void laSesionNoGuardaLasReservas() throws IOException {
+        ByteArrayOutputStream serializado = new ByteArrayOutputStream();
+        try (ObjectOutputStream salida = new ObjectOutputStream(serializado)) {
+            salida.writeObject(usuarioSesion);
+        }
+
+        assertTrue(serializado.size() < 1024, "Tamaño de la sesión: " + serializado.size());
+    }
+
+    @Test
+    public void getReservasCargaElResumenUnaVezPorPeticion() throws ReflectiveOperationException {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getAttribute(UsuarioSesionBeans.ATRIBUTO_SESION)).thenReturn(usuarioSesion);
+        ReservasUsuarioBeans peticion = nuevaPeticion(request);
+
+        List<ReservaResumen> reservas = contador.assertComoMaximo(1, peticion::getReservas);
+        assertSame(reservas, contador.assertComoMaximo(0, peticion::getReservas));
+
+        assertEquals(NUMERO_RESERVAS, reservas.size());
+        assertEquals("NombreEstancia", reservas.get(0).getNombreLuxuryStay());
+        assertEquals("NombreHotel", reservas.get(0).getNombreHotel());
+        assertEquals(EstadoReserva.PENDIENTE, reservas.get(0).getEstado());
+        assertNull(reservas.get(0).getNumeroFactura());
+        assertTrue(reservas.get(0).getFechaInicio().isBefore(reservas.get(1).getFechaInicio()));
+        // La proyección no deja entidades en el contexto de persistencia
+        assertEquals(0, em.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    public void getReservasIncluyeLasReservasHechasDespuesDelInicioDeSesion() throws ReflectiveOperationException {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getAttribute(UsuarioSesionBeans.ATRIBUTO_SESION)).thenReturn(usuarioSesion);
+        assertEquals(NUMERO_RESERVAS, nuevaPeticion(request).getReservas().size());
+
+        em.getTransaction().begin();
+        em.persist(new Reserva(em.find(Usuario.class, usuarioSesion.getID()), em.find(LuxuryStay.class,
+                luxuryStay.getId()), LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 3), 2));
+        em.getTransaction().commit();
+        em.clear();
+
+        assertEquals(NUMERO_RESERVAS + 1, nuevaPeticion(request).getReservas().size());
+    }
+
+    @Test
+    public void getReservasSinUsuarioAutenticadoNoConsulta() throws ReflectiveOperationException {
+        ReservasUsuarioBeans peticion = nuevaPeticion(mock(HttpServletRequest.class));
+
+        assertTrue(contador.assertComoMaximo(0, peticion::getReservas).isEmpty());
+    }
+
+    private ReservasUsuarioBeans nuevaPeticion(HttpServletRequest request) throws ReflectiveOperationException {
+        ReservasUsuarioBeans peticion = new ReservasUsuarioBeans();
+        inyectar(peticion, "reservaDAO", reservaDAO);
+        inyectar(peticion, "request", request);
+        return peticion;
+    }
+
+    private static void inyectar(Object destino, String campo, Object valor) throws ReflectiveOperationException {
+        Field field = destino.getClass().getDeclaredField(campo);
+        field.setAccessible(true);
+        field.set(destino, valor);
+    }
+}
@@ -0,0 +1,159 @@
+package com.voyageclub.beans;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para el formato de serialización compacto de {@link UsuarioSesionBeans}, con una comparación de
+ * tamaño y velocidad frente a la serialización por defecto de Java.
+ */
+public class UsuarioSesionBeansTest {
+
+    private static final int ITERACIONES = 20_000;
+
+    @Test
+    public void serializacionConservaElEstado() throws Exception {
+        UsuarioSesionBeans original = usuarioSesion();
+
+        UsuarioSesionBeans copia = (UsuarioSesionBeans) deserializar(serializar(original));
+
+        assertEquals(original.getID(), copia.getID());
+        assertEquals(original.getNombre(), copia.getNombre());
+        assertEquals(original.getApellido1(), copia.getApellido1());
+        assertEquals(original.getApellido2(), copia.getApellido2());
+        assertEquals(original.getCorreoElectronico(), copia.getCorreoElectronico());
+        assertEquals(original.getDni(), copia.getDni());
+        assertEquals(original.getCodigoUsuario(), copia.getCodigoUsuario());
+    }
+
+    @Test
+    public void serializacionDeUnBeanVacio() throws Exception {
+        UsuarioSesionBeans copia = (UsuarioSesionBeans) deserializar(serializar(new UsuarioSesionBeans()));
+
+        assertNull(copia.getID());
+        assertNull(copia.getNombre());
+        assertNull(copia.getCodigoUsuario());
+    }
+
+    @Test
+    public void formatoVersion1DescartaLosIdentificadoresDeLasReservas() throws Exception {
+        ByteArrayOutputStream datos = new ByteArrayOutputStream();
+        try (ObjectOutputStream salida = new ObjectOutputStream(datos)) {
+            salida.writeByte(1);
+            salida.writeBoolean(true);
+            salida.writeLong(42L);
+            for (String texto : List.of("Alvaro", "Bajo", "Tabero", "alvarobajo893@gmail.com", "12345678", "123456")) {
+                salida.writeBoolean(true);
+                salida.writeUTF(texto);
+            }
+            salida.writeInt(2);
+            salida.writeLong(1L);
+            salida.writeLong(2L);
+        }
+
+        UsuarioSesionBeans usuarioSesion = new UsuarioSesionBeans();
+        try (ObjectInputStream entrada = new ObjectInputStream(new ByteArrayInputStream(datos.toByteArray()))) {
+            usuarioSesion.readExternal(entrada);
+            assertEquals(-1, entrada.read());
+        }
+        assertEquals(42L, usuarioSesion.getID());
+        assertEquals("123456", usuarioSesion.getCodigoUsuario());
+    }
+
+    @Test
+    public void versionDeFormatoDesconocidaSeRechaza() throws Exception {
+        ByteArrayOutputStream datos = new ByteArrayOutputStream();
+        try (ObjectOutputStream salida = new ObjectOutputStream(datos)) {
+            salida.writeByte(UsuarioSesionBeans.VERSION_FORMATO + 1);
+        }
+
+        try (ObjectInputStream entrada = new ObjectInputStream(new ByteArrayInputStream(datos.toByteArray()))) {
+            assertThrows(InvalidClassException.class, () -> new UsuarioSesionBeans().readExternal(entrada));
+        }
+    }
+
+    @Test
+    public void formatoCompactoFrenteASerializacionPorDefecto() throws Exception {
+        UsuarioSesionBeans compacto = usuarioSesion();
+        SesionPorDefecto porDefecto = new SesionPorDefecto(compacto);
+
+        int tamanoCompacto = serializar(compacto).length;
+        int tamanoPorDefecto = serializar(porDefecto).length;
+        long nanosCompacto = medir(compacto);
+        long nanosPorDefecto = medir(porDefecto);
+
+        assertTrue(tamanoCompacto * 2 < tamanoPorDefecto,
+                "Compacto: " + tamanoCompacto + " bytes y " + nanosCompacto / ITERACIONES + " ns/ida y vuelta, "
+                        + "por defecto: " + tamanoPorDefecto + " bytes y " + nanosPorDefecto / ITERACIONES
+                        + " ns/ida y vuelta");
+    }
+
+    private static UsuarioSesionBeans usuarioSesion() {
+        return new UsuarioSesionBeans(42L, "Alvaro", "Bajo", "Tabero", "alvarobajo893@gmail.com", "12345678",
+                "123456");
+    }
+
+    /**
+     * Serializa y deserializa el objeto {@link #ITERACIONES} veces, tras un calentamiento.
+     *
+     * @return Los nanosegundos empleados en las iteraciones medidas.
+     */
+    private static long medir(Serializable objeto) throws Exception {
+        for (int i = 0; i < ITERACIONES; i++) {
+            deserializar(serializar(objeto));
+        }
+        long inicio = System.nanoTime();
+        for (int i = 0; i < ITERACIONES; i++) {
+            deserializar(serializar(objeto));
+        }
+        return System.nanoTime() - inicio;
+    }
+
+    private static byte[] serializar(Object objeto) throws IOException {
+        ByteArrayOutputStream datos = new ByteArrayOutputStream();
+        try (ObjectOutputStream salida = new ObjectOutputStream(datos)) {
+            salida.writeObject(objeto);
+        }
+        return datos.toByteArray();
+    }
+
+    private static Object deserializar(byte[] datos) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream entrada = new ObjectInputStream(new ByteArrayInputStream(datos))) {
+            return entrada.readObject();
+        }
+    }
+
+    /**
+     * Mismo estado que {@link UsuarioSesionBeans} con la serialización por defecto de Java.
+     */
+    private static final class SesionPorDefecto implements Serializable {
+
+        private final Long ID;
+        private final String nombre;
+        private final String apellido1;
+        private final String apellido2;
+        private final String correoElectronico;
+        private final String dni;
+        private final String codigoUsuario;
+
+        private SesionPorDefecto(UsuarioSesionBeans usuarioSesion) {
+            this.ID = usuarioSesion.getID();
+            this.nombre = usuarioSesion.getNombre();
+            this.apellido1 = usuarioSesion.getApellido1();
+            this.apellido2 = usuarioSesion.getApellido2();
+            this.correoElectronico = usuarioSesion.getCorreoElectronico();
+            this.dni = usuarioSesion.getDni();
+            this.codigoUsuario = usuarioSesion.getCodigoUsuario();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.voyageclub.dao;
+
+import com.voyageclub.model.Factura;
+import com.voyageclub.model.Hotel;
+import com.voyageclub.model.Imagen;
+import com.voyageclub.model.LuxuryStay;
+import com.voyageclub.model.Reserva;
+import com.voyageclub.model.SesionUsuario;
+import com.voyageclub.model.Usuario;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprueba que las consultas con nombre de las entidades se validan al arrancar la unidad de persistencia.
+ */
+public class ConsultasNombradasTest {
+
+    /**
+     * Entidad de prueba con una consulta con nombre que hace referencia a un atributo inexistente.
+     */
+    @Entity
+    @NamedQuery(name = "EntidadConsultaErronea.findByInexistente",
+            query = "SELECT e FROM EntidadConsultaErronea e WHERE e.inexistente = :valor")
+    public static class EntidadConsultaErronea {
+        @Id
+        private Long id;
+    }
+
+    @Test
+    public void todasLasEntidadesDeclaranSusConsultasConNombre() {
+        EntityManagerFactory emf = Persistence.createEntityManagerFactory("testPU");
+        try {
+            EntityManager em = emf.createEntityManager();
+            for (Class<?> entidad : List.of(Usuario.class, Hotel.class, LuxuryStay.class, Reserva.class,
+                    Factura.class, Imagen.class, SesionUsuario.class)) {
+                NamedQuery[] consultas = entidad.getAnnotationsByType(NamedQuery.class);
+                assertTrue(consultas.length > 0, entidad.getSimpleName());
+                for (NamedQuery consulta : consultas) {
+                    assertTrue(consulta.name().startsWith(entidad.getSimpleName() + "."), consulta.name());
+                    assertNotNull(em.createNamedQuery(consulta.name()));
+                }
+                // BaseDAO depende de estas consultas: getAll, la paginación y recorrer
+                assertNotNull(em.createNamedQuery(entidad.getSimpleName() + ".findAll", entidad));
+                assertNotNull(em.createNamedQuery(entidad.getSimpleName() + ".count", Long.class));
+                assertNotNull(em.createNamedQuery(entidad.getSimpleName() + ".findPagina", entidad));
+                assertNotNull(em.createNamedQuery(entidad.getSimpleName() + ".findSiguientes", entidad)
+                        .setParameter("ultimoId", 0L));
+            }
+            em.close();
+        } finally {
+            emf.close();
+        }
+    }
+
+    @Test
+    public void unaConsultaConNombreErroneaImpideElArranque() {
+        assertThrows(PersistenceException.class, () -> Persistence.createEntityManagerFactory("testPU",
+                Map.of("hibernate.loaded_classes", List.of(EntidadConsultaErronea.class))).close());
+    }
+}
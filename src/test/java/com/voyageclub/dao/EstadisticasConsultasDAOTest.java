@@ -0,0 +1,68 @@
+package com.voyageclub.dao;
+
+import com.voyageclub.dto.EstadisticasSentencia;
+import com.voyageclub.model.Usuario;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para las estadísticas de las consultas JPQL sobre la base de datos H2 de pruebas.
+ */
+public class EstadisticasConsultasDAOTest {
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+    private UsuarioDAOImpl usuarioDAO;
+    private EstadisticasConsultasDAO estadisticasConsultasDAO;
+
+    @BeforeEach
+    public void setUp() {
+        emf = Persistence.createEntityManagerFactory("testPU");
+        em = emf.createEntityManager();
+        usuarioDAO = new UsuarioDAOImpl();
+        usuarioDAO.setEntityManager(em);
+        estadisticasConsultasDAO = new EstadisticasConsultasDAO();
+        estadisticasConsultasDAO.setEntityManager(em);
+
+        em.getTransaction().begin();
+        em.persist(new Usuario("Alvaro", "Bajo", "Tabero", "alvarobajo893@gmail.com", "12345678", "123456"));
+        em.persist(new Usuario("Ana", "Ruiz", "Gil", "ana@example.com", "87654321", "654321"));
+        em.getTransaction().commit();
+        emf.unwrap(SessionFactory.class).getStatistics().clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        em.close();
+        emf.close();
+    }
+
+    @Test
+    public void lasConsultasEjecutadasSeOrdenanDeMasAMenosLenta() {
+        usuarioDAO.getAll();
+        usuarioDAO.getAll();
+        usuarioDAO.findByDni("12345678");
+
+        List<EstadisticasSentencia> sentencias = estadisticasConsultasDAO.getMasLentas(10);
+
+        assertEquals(2, sentencias.size());
+        for (int i = 1; i < sentencias.size(); i++) {
+            assertTrue(sentencias.get(i - 1).getMaximoMs() >= sentencias.get(i).getMaximoMs());
+        }
+        EstadisticasSentencia findAll = sentencias.stream()
+                .filter(sentencia -> sentencia.getEjecuciones() == 2)
+                .findFirst().orElseThrow();
+        assertEquals(4, findAll.getFilas());
+        assertFalse(findAll.getConsulta().contains("12345678"));
+        assertEquals(1, estadisticasConsultasDAO.getMasLentas(1).size());
+    }
+}
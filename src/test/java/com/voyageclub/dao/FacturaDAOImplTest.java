@@ -1,4 +1,133 @@
 package com.voyageclub.dao;
 
+import com.voyageclub.model.Factura;
+import com.voyageclub.model.Hotel;
+import com.voyageclub.model.LuxuryStay;
+import com.voyageclub.model.Reserva;
+import com.voyageclub.model.Usuario;
+import com.voyageclub.model.enumerdos.Amenity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la clase FacturaDAOImpl sobre la base de datos H2 de pruebas.
+ */
 public class FacturaDAOImplTest {
+
+    private static final int NUMERO_RESERVAS = 1500;
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+    private FacturaDAOImpl facturaDAO;
+
+    @BeforeEach
+    public void setUp() {
+        emf = Persistence.createEntityManagerFactory("testPU");
+        em = emf.createEntityManager();
+        facturaDAO = new FacturaDAOImpl();
+        facturaDAO.setEntityManager(em);
+
+        Usuario usuario = new Usuario("Alvaro", "Bajo", "Tabero", "alvarobajo893@gmail.com", "12345678", "123456");
+        Hotel hotel = new Hotel("NombreHotel", "DirecciónHotel", 5, "hotel@example.com", "www.hotel.com",
+                "Descripción del hotel", "123456789");
+        LuxuryStay luxuryStay = new LuxuryStay("NombreEstancia", "Descripción de la estancia",
+                BigDecimal.valueOf(200.00), List.of(Amenity.WIFI), hotel);
+
+        em.getTransaction().begin();
+        em.persist(usuario);
+        em.persist(hotel);
+        em.persist(luxuryStay);
+        for (int i = 0; i < NUMERO_RESERVAS; i++) {
+            em.persist(new Reserva(usuario, luxuryStay, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 3), 2));
+        }
+        em.getTransaction().commit();
+        em.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        em.close();
+        emf.close();
+    }
+
+    @Test
+    public void saveAsociaLasReservasSinActualizarlasUnaAUna() {
+        em.getTransaction().begin();
+        ReservaDAOImpl reservaDAO = new ReservaDAOImpl();
+        reservaDAO.setEntityManager(em);
+        Long usuarioId = em.createQuery("SELECT u.id FROM Usuario u", Long.class).getSingleResult();
+        List<Reserva> reservas = reservaDAO.findPendientesDeFacturar(usuarioId);
+        Statistics estadisticas = emf.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+
+        Factura factura = new Factura(reservas);
+        facturaDAO.save(factura);
+        em.getTransaction().commit();
+
+        // Ninguna reserva se actualiza como entidad: se asocian con una sentencia por cada bloque de reservas
+        assertEquals(0, estadisticas.getEntityUpdateCount());
+        assertEquals(NUMERO_RESERVAS, contarReservas(factura));
+        // Las reservas del llamador siguen gestionadas y, tras refrescarse, referencian la factura
+        assertTrue(reservas.stream().allMatch(reserva -> reserva.getFactura() == factura));
+        assertTrue(reservas.stream().allMatch(em::contains));
+    }
+
+    @Test
+    public void saveAllAsociaLasReservasDeCadaFactura() {
+        em.getTransaction().begin();
+        List<Reserva> reservas = em.createQuery("SELECT r FROM Reserva r ORDER BY r.id", Reserva.class)
+                .getResultList();
+        List<Factura> facturas = new ArrayList<>();
+        for (int inicio = 0; inicio < NUMERO_RESERVAS; inicio += 100) {
+            facturas.add(new Factura(new ArrayList<>(reservas.subList(inicio, inicio + 100))));
+        }
+
+        facturaDAO.saveAll(facturas);
+        em.getTransaction().commit();
+        em.clear();
+
+        for (Factura factura : facturas) {
+            assertNotNull(factura.getId());
+            assertEquals(100, contarReservas(factura));
+        }
+    }
+
+    @Test
+    public void findByUsuarioCargaLasReservasConSuEstanciaEnUnaConsulta() {
+        em.getTransaction().begin();
+        Long usuarioId = em.createQuery("SELECT u.id FROM Usuario u", Long.class).getSingleResult();
+        facturaDAO.save(new Factura(em.createQuery("SELECT r FROM Reserva r", Reserva.class).getResultList()));
+        em.getTransaction().commit();
+        em.clear();
+        emf.getCache().evictAll();
+        Statistics estadisticas = emf.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+
+        Factura factura = facturaDAO.findByUsuario(usuarioId).orElseThrow();
+        em.clear();
+
+        assertEquals(NUMERO_RESERVAS, factura.getReservas().size());
+        assertTrue(factura.getReservas().stream()
+                .allMatch(reserva -> reserva.getLuxuryStay().getPrecioNoche().compareTo(BigDecimal.valueOf(200)) == 0));
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+    }
+
+    private long contarReservas(Factura factura) {
+        return em.createQuery("SELECT COUNT(r) FROM Reserva r WHERE r.factura.id = :facturaId", Long.class)
+                .setParameter("facturaId", factura.getId())
+                .getSingleResult();
+    }
 }
@@ -1,4 +1,187 @@
 package com.voyageclub.dao;
 
+import com.voyageclub.dto.EstadisticasRegionCache;
+import com.voyageclub.dto.HotelResumen;
+import com.voyageclub.dto.Pagina;
+import com.voyageclub.model.Hotel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la clase HotelDAOImpl sobre la base de datos H2 de pruebas.
+ */
 public class HotelDAOImplTest {
+
+    private static final int NUMERO_HOTELES = 1100;
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+    private HotelDAOImpl hotelDAO;
+
+    @BeforeEach
+    public void setUp() {
+        emf = Persistence.createEntityManagerFactory("testPU");
+        em = emf.createEntityManager();
+        hotelDAO = new HotelDAOImpl();
+        hotelDAO.setEntityManager(em);
+
+        em.getTransaction().begin();
+        for (int i = 0; i < NUMERO_HOTELES; i++) {
+            em.persist(new Hotel("Hotel " + i, "Dirección " + i, 4, "hotel" + i + "@example.com",
+                    "www.hotel" + i + ".com", "Descripción del hotel", "123456789"));
+        }
+        em.getTransaction().commit();
+        em.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        em.close();
+        emf.close();
+    }
+
+    @Test
+    public void saveAgrupaLasInsercionesEnLotes() {
+        Statistics estadisticas = emf.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+
+        em.getTransaction().begin();
+        for (int i = 0; i < NUMERO_HOTELES; i++) {
+            hotelDAO.save(new Hotel("Hotel nuevo " + i, "Dirección " + i, 3, "nuevo" + i + "@example.com",
+                    "www.nuevo" + i + ".com", "Descripción del hotel", "987654321"));
+        }
+        em.getTransaction().commit();
+
+        // Un INSERT por cada lote de 50 hoteles y una consulta a la secuencia por cada 50 identificadores,
+        // en lugar de un INSERT por hotel
+        assertEquals(NUMERO_HOTELES, estadisticas.getEntityInsertCount());
+        assertTrue(estadisticas.getPrepareStatementCount() <= 2 * (NUMERO_HOTELES / 50 + 1),
+                "Sentencias preparadas: " + estadisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    public void getPaginaDevuelveLaPaginaSolicitada() {
+        Pagina<Hotel> pagina = hotelDAO.getPagina(2, 20);
+
+        assertEquals(20, pagina.getElementos().size());
+        assertEquals("Hotel 20", pagina.getElementos().get(0).getNombre());
+        assertEquals(NUMERO_HOTELES, pagina.getTotalElementos());
+        assertEquals(55, pagina.getTotalPaginas());
+    }
+
+    @Test
+    public void getPaginaLimitaElTamano() {
+        Pagina<Hotel> pagina = hotelDAO.getPagina(1, 10000);
+
+        assertEquals(BaseDAO.TAMANO_MAXIMO_PAGINA, pagina.getElementos().size());
+    }
+
+    @Test
+    public void getPaginaResumenNoCargaEntidades() {
+        Pagina<HotelResumen> pagina = hotelDAO.getPaginaResumen(2, 20);
+
+        assertEquals(20, pagina.getElementos().size());
+        assertEquals("Hotel 20", pagina.getElementos().get(0).getNombre());
+        assertNotNull(pagina.getElementos().get(0).getCodigoHotel());
+        assertEquals(NUMERO_HOTELES, pagina.getTotalElementos());
+        // La proyección no deja hoteles gestionados en el contexto de persistencia
+        assertEquals(0, em.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    public void getSiguientesContinuaDespuesDelUltimoId() {
+        List<Hotel> primeros = hotelDAO.getSiguientes(null, 10);
+        Long ultimoId = primeros.get(primeros.size() - 1).getId();
+
+        List<Hotel> siguientes = hotelDAO.getSiguientes(ultimoId, 10);
+
+        assertEquals(10, siguientes.size());
+        assertTrue(siguientes.get(0).getId() > ultimoId);
+        assertEquals("Hotel 10", siguientes.get(0).getNombre());
+    }
+
+    @Test
+    public void findByCodigoHotelSeCacheaHastaQueSeModificaElHotel() {
+        Hotel hotel = hotelDAO.getSiguientes(null, 1).get(0);
+        String codigoHotel = hotel.getCodigoHotel();
+        EstadisticasCacheDAO estadisticasCacheDAO = new EstadisticasCacheDAO();
+        estadisticasCacheDAO.setEntityManager(em);
+
+        // Cada búsqueda usa un EntityManager nuevo, como cada petición de la aplicación
+        assertEquals("Hotel 0", buscarEnNuevaSesion(codigoHotel).getNombre());
+        assertEquals("Hotel 0", buscarEnNuevaSesion(codigoHotel).getNombre());
+        EstadisticasRegionCache consultas = estadisticasCacheDAO.getConsultas();
+        assertEquals(1, consultas.getFallos());
+        assertEquals(1, consultas.getAciertos());
+
+        EntityManager escritura = emf.createEntityManager();
+        hotelDAO.setEntityManager(escritura);
+        escritura.getTransaction().begin();
+        Hotel modificado = escritura.find(Hotel.class, hotel.getId());
+        modificado.setNombre("Hotel modificado");
+        hotelDAO.update(modificado);
+        escritura.getTransaction().commit();
+        escritura.close();
+
+        // La modificación invalida el resultado cacheado de la consulta
+        assertEquals("Hotel modificado", buscarEnNuevaSesion(codigoHotel).getNombre());
+        assertEquals(2, estadisticasCacheDAO.getConsultas().getFallos());
+        assertTrue(estadisticasCacheDAO.getRegiones().stream()
+                .anyMatch(region -> region.getRegion().equals(HotelDAOImpl.REGION_CONSULTAS)));
+    }
+
+    @Test
+    public void recorrerVisitaTodosLosHotelesSinAcumularlos() {
+        List<Long> ids = new ArrayList<>();
+
+        em.getTransaction().begin();
+        long recorridos = hotelDAO.recorrer(hotel -> {
+            ids.add(hotel.getId());
+            // Los hoteles recorridos no se acumulan en el contexto de persistencia de la transacción
+            assertFalse(em.contains(hotel));
+        });
+        em.getTransaction().commit();
+
+        assertEquals(NUMERO_HOTELES, recorridos);
+        assertEquals(NUMERO_HOTELES, ids.stream().distinct().count());
+        assertEquals(0, em.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    public void recorrerNoDesvinculaLasEntidadesDeLaTransaccion() {
+        em.getTransaction().begin();
+        Hotel gestionado = hotelDAO.getSiguientes(null, 1).get(0);
+        gestionado.setNombre("Hotel modificado");
+
+        hotelDAO.recorrer(hotel -> { });
+
+        // La entidad sigue gestionada y su cambio pendiente se guarda al confirmar
+        assertTrue(em.contains(gestionado));
+        em.getTransaction().commit();
+        em.clear();
+        assertEquals("Hotel modificado", em.find(Hotel.class, gestionado.getId()).getNombre());
+    }
+
+    private Hotel buscarEnNuevaSesion(String codigoHotel) {
+        EntityManager sesion = emf.createEntityManager();
+        try {
+            hotelDAO.setEntityManager(sesion);
+            return hotelDAO.findByCodigoHotel(codigoHotel).orElseThrow();
+        } finally {
+            sesion.close();
+            hotelDAO.setEntityManager(em);
+        }
+    }
 }
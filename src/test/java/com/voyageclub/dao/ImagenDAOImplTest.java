@@ -0,0 +1,125 @@
+package com.voyageclub.dao;
+
+import com.voyageclub.model.enumerdos.SlotImagen;
+import com.voyageclub.model.enumerdos.VarianteImagen;
+import com.voyageclub.util.ImagenUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la clase ImagenDAOImpl sobre la base de datos H2 de pruebas.
+ */
+public class ImagenDAOImplTest {
+
+    private static final Long HOTEL_ID = 1L;
+    private static final byte[] ANTERIOR = {1, 2, 3};
+    private static final byte[] NUEVA = {4, 5, 6};
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+    private ImagenDAOImpl imagenDAO;
+
+    @BeforeEach
+    public void setUp() {
+        emf = Persistence.createEntityManagerFactory("testPU");
+        em = emf.createEntityManager();
+        imagenDAO = new ImagenDAOImpl();
+        imagenDAO.setEntityManager(em);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        em.close();
+        emf.close();
+    }
+
+    @Test
+    public void guardarVarianteGuardaLaVarianteDeLaImagenActual() {
+        enTransaccion(() -> {
+            imagenDAO.guardar(HOTEL_ID, SlotImagen.HOTEL_PRINCIPAL, ANTERIOR);
+            return null;
+        });
+
+        assertTrue(enTransaccion(() -> imagenDAO.guardarVariante(HOTEL_ID, SlotImagen.HOTEL_PRINCIPAL,
+                VarianteImagen.THUMB, new byte[]{9}, ImagenUtil.calcularHash(ANTERIOR))));
+        assertTrue(imagenDAO.getMetadatos(HOTEL_ID, SlotImagen.HOTEL_PRINCIPAL, VarianteImagen.THUMB).isPresent());
+    }
+
+    @Test
+    public void guardarVarianteDescartaLaVarianteDeUnaImagenReemplazada() {
+        enTransaccion(() -> {
+            imagenDAO.guardar(HOTEL_ID, SlotImagen.HOTEL_PRINCIPAL, ANTERIOR);
+            return null;
+        });
+        // La imagen se reemplaza antes de que termine la generación de las variantes de la anterior
+        enTransaccion(() -> {
+            imagenDAO.guardar(HOTEL_ID, SlotImagen.HOTEL_PRINCIPAL, NUEVA);
+            return null;
+        });
+
+        assertFalse(enTransaccion(() -> imagenDAO.guardarVariante(HOTEL_ID, SlotImagen.HOTEL_PRINCIPAL,
+                VarianteImagen.THUMB, new byte[]{9}, ImagenUtil.calcularHash(ANTERIOR))));
+        assertTrue(imagenDAO.getMetadatos(HOTEL_ID, SlotImagen.HOTEL_PRINCIPAL, VarianteImagen.THUMB).isEmpty());
+    }
+
+    @Test
+    public void guardarVarianteDescartaLaVarianteDeUnaImagenEliminada() {
+        assertFalse(enTransaccion(() -> imagenDAO.guardarVariante(HOTEL_ID, SlotImagen.HOTEL_PRINCIPAL,
+                VarianteImagen.CARD, new byte[]{9}, ImagenUtil.calcularHash(ANTERIOR))));
+        assertTrue(imagenDAO.getMetadatos(HOTEL_ID, SlotImagen.HOTEL_PRINCIPAL, VarianteImagen.CARD).isEmpty());
+    }
+
+    @Test
+    public void guardarEliminaLasVariantesDeLaImagenAnterior() {
+        enTransaccion(() -> {
+            imagenDAO.guardar(HOTEL_ID, SlotImagen.HOTEL_PRINCIPAL, ANTERIOR);
+            return imagenDAO.guardarVariante(HOTEL_ID, SlotImagen.HOTEL_PRINCIPAL, VarianteImagen.THUMB,
+                    new byte[]{9}, ImagenUtil.calcularHash(ANTERIOR));
+        });
+
+        enTransaccion(() -> {
+            imagenDAO.guardar(HOTEL_ID, SlotImagen.HOTEL_PRINCIPAL, NUEVA);
+            return null;
+        });
+
+        assertTrue(imagenDAO.getMetadatos(HOTEL_ID, SlotImagen.HOTEL_PRINCIPAL, VarianteImagen.THUMB).isEmpty());
+        assertEquals(ImagenUtil.calcularHash(NUEVA), imagenDAO.getMetadatos(HOTEL_ID, SlotImagen.HOTEL_PRINCIPAL,
+                VarianteImagen.FULL).orElseThrow().getHash());
+    }
+
+    @Test
+    public void leerEntregaAlLectorElContenidoDeLaImagenOriginal() throws IOException {
+        enTransaccion(() -> {
+            imagenDAO.guardar(HOTEL_ID, SlotImagen.HOTEL_PRINCIPAL, ANTERIOR);
+            return null;
+        });
+
+        em.getTransaction().begin();
+        try {
+            assertArrayEquals(ANTERIOR, imagenDAO.leer(HOTEL_ID, SlotImagen.HOTEL_PRINCIPAL, InputStream::readAllBytes)
+                    .orElseThrow());
+            // Sin imagen no se llama al lector
+            assertTrue(imagenDAO.leer(HOTEL_ID, SlotImagen.HOTEL_SECUNDARIA, datos -> fail("Sin imagen")).isEmpty());
+        } finally {
+            em.getTransaction().commit();
+        }
+    }
+
+    private <T> T enTransaccion(Supplier<T> operacion) {
+        em.getTransaction().begin();
+        T resultado = operacion.get();
+        em.getTransaction().commit();
+        em.clear();
+        return resultado;
+    }
+}
@@ -0,0 +1,148 @@
+package com.voyageclub.dao;
+
+import com.voyageclub.model.Hotel;
+import com.voyageclub.model.LuxuryStay;
+import com.voyageclub.model.Reserva;
+import com.voyageclub.model.Usuario;
+import com.voyageclub.util.ContadorSentencias;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprueba con {@code EXPLAIN} sobre la base de datos H2 de pruebas que las consultas de los DAO se resuelven con
+ * un índice y no recorriendo la tabla entera.
+ */
+public class IndicesConsultasTest {
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+    private ContadorSentencias contador;
+
+    @BeforeEach
+    public void setUp() {
+        emf = ContadorSentencias.crearEntityManagerFactory();
+        em = emf.createEntityManager();
+        contador = new ContadorSentencias(emf);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        em.close();
+        emf.close();
+    }
+
+    @Test
+    public void usuarioDAOUsaIndices() {
+        UsuarioDAOImpl usuarioDAO = new UsuarioDAOImpl();
+        usuarioDAO.setEntityManager(em);
+
+        assertUsaIndice(() -> usuarioDAO.findByUsername("Alvaro"), "Alvaro");
+        assertUsaIndice(() -> usuarioDAO.findByCorreoElectronico("alvaro@example.com"), "alvaro@example.com");
+        assertUsaIndice(() -> usuarioDAO.findByDni("12345678"), "12345678");
+        assertUsaIndice(() -> usuarioDAO.autenticar("alvaro@example.com", "123456"), "alvaro@example.com");
+        assertUsaIndice(() -> usuarioDAO.existeMail("alvaro@example.com"), "alvaro@example.com");
+    }
+
+    @Test
+    public void hotelDAOUsaIndices() {
+        HotelDAOImpl hotelDAO = new HotelDAOImpl();
+        hotelDAO.setEntityManager(em);
+
+        assertUsaIndice(() -> hotelDAO.findByNombre("Hotel"), "Hotel");
+        assertUsaIndice(() -> hotelDAO.findByCodigoHotel("VOYAGEHO-4-hm"), "VOYAGEHO-4-hm");
+    }
+
+    @Test
+    public void luxuryStayDAOUsaIndices() {
+        LuxuryStayDAOImpl luxuryStayDAO = new LuxuryStayDAOImpl();
+        luxuryStayDAO.setEntityManager(em);
+
+        assertUsaIndice(() -> luxuryStayDAO.findByNombre("Suite"), "Suite");
+        assertUsaIndice(() -> luxuryStayDAO.findByCodigoLuxuryStay("LS-1"), "LS-1");
+        assertUsaIndice(luxuryStayDAO::findByPrecioAscendente);
+        assertUsaIndice(luxuryStayDAO::findByPrecioDescendente);
+    }
+
+    @Test
+    public void reservaDAOUsaIndices() {
+        ReservaDAOImpl reservaDAO = new ReservaDAOImpl();
+        reservaDAO.setEntityManager(em);
+
+        assertUsaIndice(() -> reservaDAO.findByUsuario(1L), 1L);
+        assertUsaIndice(() -> reservaDAO.findByLuxuryStay(1L), 1L);
+        assertUsaIndice(() -> reservaDAO.findByUsuarioAndLuxuryStay(1L, 1L), 1L, 1L);
+        assertUsaIndice(() -> reservaDAO.findByEstado("PENDIENTE"), "PENDIENTE");
+        assertUsaIndice(() -> reservaDAO.findPendientesDeFacturar(1L), 1L);
+        assertUsaIndice(() -> reservaDAO.findResumenByUsuario(1L), 1L);
+    }
+
+    @Test
+    public void laMigracionCreaLosIndicesDeLasEntidades() throws IOException {
+        Set<String> indicesMigracion = new TreeSet<>();
+        try (InputStream script = getClass().getResourceAsStream("/db/migracion/V3__indices_busquedas.sql")) {
+            assertNotNull(script);
+            Matcher matcher = Pattern.compile("CREATE (?:UNIQUE )?INDEX (\\w+)")
+                    .matcher(new String(script.readAllBytes(), StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                indicesMigracion.add(matcher.group(1).toUpperCase());
+            }
+        }
+
+        Set<String> indicesEntidades = new TreeSet<>();
+        for (Class<?> entidad : List.of(Usuario.class, Hotel.class, LuxuryStay.class, Reserva.class)) {
+            for (Index indice : entidad.getAnnotation(Table.class).indexes()) {
+                indicesEntidades.add(indice.name().toUpperCase());
+            }
+        }
+
+        assertEquals(indicesEntidades, indicesMigracion);
+    }
+
+    /**
+     * Ejecuta la consulta de un DAO y comprueba que el plan de su primera sentencia SQL no recorre ninguna tabla entera.
+     *
+     * @param consulta   Llamada al DAO.
+     * @param parametros Valores de los parámetros de la sentencia, en orden; el resto se enlazan con el valor 1.
+     */
+    private void assertUsaIndice(Runnable consulta, Object... parametros) {
+        contador.reiniciar();
+        consulta.run();
+        List<String> sentencias = contador.getSentencias();
+        assertFalse(sentencias.isEmpty());
+        String sql = sentencias.get(0);
+
+        String plan = em.unwrap(Session.class).doReturningWork(conexion -> {
+            try (PreparedStatement explain = conexion.prepareStatement("EXPLAIN " + sql)) {
+                int numeroParametros = explain.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= numeroParametros; i++) {
+                    explain.setObject(i, i <= parametros.length ? parametros[i - 1] : 1);
+                }
+                try (ResultSet resultado = explain.executeQuery()) {
+                    resultado.next();
+                    return resultado.getString(1);
+                }
+            }
+        });
+
+        assertFalse(plan.contains("tableScan"), "La consulta recorre la tabla entera:\n" + plan);
+    }
+}
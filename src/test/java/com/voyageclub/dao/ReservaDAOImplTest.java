@@ -1,4 +1,123 @@
 package com.voyageclub.dao;
 
+import com.voyageclub.model.Factura;
+import com.voyageclub.model.Hotel;
+import com.voyageclub.model.LuxuryStay;
+import com.voyageclub.model.Reserva;
+import com.voyageclub.model.Usuario;
+import com.voyageclub.model.enumerdos.Amenity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.hibernate.LazyInitializationException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la clase ReservaDAOImpl sobre la base de datos H2 de pruebas.
+ */
 public class ReservaDAOImplTest {
+
+    private static final int NUMERO_HOTELES = 5;
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+    private ReservaDAOImpl reservaDAO;
+    private Statistics estadisticas;
+    private Long usuarioId;
+
+    @BeforeEach
+    public void setUp() {
+        emf = Persistence.createEntityManagerFactory("testPU");
+        em = emf.createEntityManager();
+        reservaDAO = new ReservaDAOImpl();
+        reservaDAO.setEntityManager(em);
+        estadisticas = emf.unwrap(SessionFactory.class).getStatistics();
+
+        Usuario usuario = new Usuario("Alvaro", "Bajo", "Tabero", "alvarobajo893@gmail.com", "12345678", "123456");
+        em.getTransaction().begin();
+        em.persist(usuario);
+        // Cada reserva es de una estancia y un hotel distintos
+        for (int i = 0; i < NUMERO_HOTELES; i++) {
+            Hotel hotel = new Hotel("Hotel " + i, "Dirección " + i, 4, "hotel" + i + "@example.com",
+                    "www.hotel" + i + ".com", "Descripción del hotel", "123456789");
+            LuxuryStay luxuryStay = new LuxuryStay("Estancia " + i, "Descripción de la estancia",
+                    BigDecimal.valueOf(100 + i), List.of(Amenity.WIFI), hotel);
+            em.persist(hotel);
+            em.persist(luxuryStay);
+            em.persist(new Reserva(usuario, luxuryStay, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 3), 2));
+        }
+        em.getTransaction().commit();
+        usuarioId = usuario.getId();
+        em.clear();
+        // Sin la caché de segundo nivel, cada asociación no cargada costaría una consulta
+        emf.getCache().evictAll();
+        estadisticas.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        em.close();
+        emf.close();
+    }
+
+    @Test
+    public void findByUsuarioCargaEstanciaYHotelEnUnaConsulta() {
+        List<Reserva> reservas = reservaDAO.findByUsuario(usuarioId);
+        em.clear();
+
+        assertEquals(NUMERO_HOTELES, reservas.size());
+        for (Reserva reserva : reservas) {
+            assertTrue(reserva.getLuxuryStay().getHotel().getNombre().startsWith("Hotel "));
+        }
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+        // El resumen no incluye el usuario, que sigue siendo perezoso
+        assertThrows(LazyInitializationException.class, () -> reservas.get(0).getUsuario().getNombre());
+    }
+
+    @Test
+    public void findByEstadoCargaTodasLasAsociacionesEnUnaConsulta() {
+        List<Reserva> reservas = reservaDAO.findByEstado("PENDIENTE");
+        em.clear();
+
+        assertEquals(NUMERO_HOTELES, reservas.size());
+        for (Reserva reserva : reservas) {
+            assertEquals("Alvaro", reserva.getUsuario().getNombre());
+            assertNotNull(reserva.getLuxuryStay().getHotel().getCodigoHotel());
+            assertNull(reserva.getFactura());
+        }
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    public void findPendientesDeFacturarPermiteCalcularLaFacturaSinMasConsultas() {
+        List<Reserva> reservas = reservaDAO.findPendientesDeFacturar(usuarioId);
+        em.clear();
+
+        Factura factura = new Factura(reservas);
+
+        // Dos noches en cada estancia, a 100, 101, 102, 103 y 104 por noche
+        assertEquals(0, BigDecimal.valueOf(1020).compareTo(factura.getPrecioTotal()));
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    public void toStringNoCargaLasAsociaciones() {
+        Reserva reserva = em.createQuery("SELECT r FROM Reserva r", Reserva.class).setMaxResults(1).getSingleResult();
+        em.clear();
+
+        String texto = reserva.toString();
+
+        assertTrue(texto.contains("usuarioId=" + usuarioId));
+        assertTrue(texto.contains("facturaId=null"));
+    }
 }
@@ -0,0 +1,284 @@
+package com.voyageclub.dao;
+
+import com.voyageclub.dto.ImagenSubida;
+import com.voyageclub.model.Factura;
+import com.voyageclub.model.Hotel;
+import com.voyageclub.model.LuxuryStay;
+import com.voyageclub.model.Reserva;
+import com.voyageclub.model.Usuario;
+import com.voyageclub.model.enumerdos.Amenity;
+import com.voyageclub.model.enumerdos.SlotImagen;
+import com.voyageclub.model.enumerdos.VarianteImagen;
+import com.voyageclub.util.ContadorSentencias;
+import com.voyageclub.util.ImagenUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprueba el número máximo de sentencias SQL de cada método de los DAO. Los datos de prueba tienen varias filas
+ * relacionadas, de modo que una consulta por fila (N+1) supera el máximo. Las asociaciones que usa cada caso de uso
+ * se recorren dentro de la llamada contada.
+ */
+public class SentenciasDAOTest {
+
+    private static final int NUMERO_HOTELES = 3;
+    private static final int ESTANCIAS_POR_HOTEL = 2;
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+    private ContadorSentencias contador;
+
+    private UsuarioDAOImpl usuarioDAO;
+    private HotelDAOImpl hotelDAO;
+    private LuxuryStayDAOImpl luxuryStayDAO;
+    private ReservaDAOImpl reservaDAO;
+    private FacturaDAOImpl facturaDAO;
+    private ImagenDAOImpl imagenDAO;
+
+    private Usuario usuario;
+    private Hotel hotel;
+    private LuxuryStay luxuryStay;
+
+    @BeforeEach
+    public void setUp() throws ReflectiveOperationException {
+        emf = ContadorSentencias.crearEntityManagerFactory();
+        em = emf.createEntityManager();
+        contador = new ContadorSentencias(emf);
+        usuarioDAO = new UsuarioDAOImpl();
+        hotelDAO = new HotelDAOImpl();
+        luxuryStayDAO = new LuxuryStayDAOImpl();
+        reservaDAO = new ReservaDAOImpl();
+        facturaDAO = new FacturaDAOImpl();
+        imagenDAO = new ImagenDAOImpl();
+        for (BaseDAO<?, Long> dao : List.of(usuarioDAO, hotelDAO, luxuryStayDAO, reservaDAO, facturaDAO, imagenDAO)) {
+            dao.setEntityManager(em);
+        }
+        Field campoImagenDAO = HotelDAOImpl.class.getDeclaredField("imagenDAO");
+        campoImagenDAO.setAccessible(true);
+        campoImagenDAO.set(hotelDAO, imagenDAO);
+
+        usuario = new Usuario("Alvaro", "Bajo", "Tabero", "alvarobajo893@gmail.com", "12345678", "123456");
+        List<Reserva> reservas = new ArrayList<>();
+        em.getTransaction().begin();
+        em.persist(usuario);
+        for (int i = 0; i < NUMERO_HOTELES; i++) {
+            Hotel nuevoHotel = new Hotel("Hotel " + i, "Dirección " + i, 4, "hotel" + i + "@example.com",
+                    "www.hotel" + i + ".com", "Descripción del hotel", "123456789");
+            em.persist(nuevoHotel);
+            for (int j = 0; j < ESTANCIAS_POR_HOTEL; j++) {
+                LuxuryStay estancia = new LuxuryStay("Estancia " + i + "-" + j, "Descripción de la estancia",
+                        BigDecimal.valueOf(100 + j), List.of(Amenity.WIFI, Amenity.SPA), nuevoHotel);
+                em.persist(estancia);
+                Reserva reserva = new Reserva(usuario, estancia, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 3), 2);
+                em.persist(reserva);
+                reservas.add(reserva);
+                luxuryStay = estancia;
+            }
+            hotel = nuevoHotel;
+        }
+        em.getTransaction().commit();
+
+        // La mitad de las reservas ya están facturadas
+        em.getTransaction().begin();
+        facturaDAO.save(new Factura(new ArrayList<>(reservas.subList(0, reservas.size() / 2))));
+        imagenDAO.guardar(hotel.getId(), SlotImagen.HOTEL_PRINCIPAL, new byte[]{1, 2, 3});
+        em.getTransaction().commit();
+
+        em.clear();
+        // Sin la caché de segundo nivel, cada asociación no cargada costaría una consulta
+        emf.getCache().evictAll();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        em.close();
+        emf.close();
+    }
+
+    @Test
+    public void usuarioDAO() {
+        contador.assertComoMaximo(1, () -> usuarioDAO.findByUsername("Alvaro"));
+        contador.assertComoMaximo(1, () -> usuarioDAO.findByCorreoElectronico("alvarobajo893@gmail.com"));
+        contador.assertComoMaximo(1, () -> usuarioDAO.findByDni("12345678"));
+        contador.assertComoMaximo(1, () -> usuarioDAO.autenticar("alvarobajo893@gmail.com", "123456"));
+        contador.assertComoMaximo(1, () -> usuarioDAO.existeMail("alvarobajo893@gmail.com"));
+        contador.assertComoMaximo(1, () -> usuarioDAO.getAll());
+        contador.assertComoMaximo(1, () -> usuarioDAO.getSiguientesResumen(null, 10));
+        contador.assertComoMaximo(1, () -> usuarioDAO.getById(usuario.getId()));
+    }
+
+    @Test
+    public void usuarioDAOEscrituras() {
+        enTransaccion(3, () -> usuarioDAO.save(
+                new Usuario("María", "Martínez", "Fernández", "maria@example.com", "23456789", "password2")));
+        Usuario modificado = usuarioDAO.getById(usuario.getId()).orElseThrow();
+        em.clear();
+        modificado.setNombre("Álvaro");
+        enTransaccion(2, () -> usuarioDAO.update(modificado));
+    }
+
+    @Test
+    public void hotelDAO() {
+        contador.assertComoMaximo(1, () -> hotelDAO.getAll());
+        contador.assertComoMaximo(1, () -> hotelDAO.findByNombre("Hotel 0"));
+        contador.assertComoMaximo(1, () -> hotelDAO.findByCodigoHotel(hotel.getCodigoHotel()));
+        contador.assertComoMaximo(1, () -> hotelDAO.getById(hotel.getId()));
+        contador.assertComoMaximo(2, () -> hotelDAO.getPagina(1, 10));
+        contador.assertComoMaximo(1, () -> hotelDAO.getSiguientes(null, 10));
+        contador.assertComoMaximo(2, () -> hotelDAO.getPaginaResumen(1, 10));
+        contador.assertComoMaximo(1, () -> hotelDAO.recorrer(recorrido -> { }));
+        contador.assertComoMaximo(1, () -> hotelDAO.tieneImagen(hotel.getId(), SlotImagen.HOTEL_PRINCIPAL));
+        contador.assertComoMaximo(1, () -> hotelDAO.getImagePrincipal(hotel.getId()));
+        contador.assertComoMaximo(1, () -> hotelDAO.getImageSecundaria(hotel.getId()));
+    }
+
+    @Test
+    public void hotelDAOEscrituras() {
+        Hotel nuevo = new Hotel("Hotel nuevo", "Dirección", 3, "nuevo@example.com", "www.nuevo.com",
+                "Descripción del hotel", "987654321");
+        // Hotel, dos imágenes y sus secuencias
+        enTransaccion(8, () -> guardarHotel(nuevo));
+        nuevo.setNombre("Hotel modificado");
+        enTransaccion(2, () -> hotelDAO.update(nuevo));
+        enTransaccion(4, () -> hotelDAO.saveImagePrincipal(nuevo.getId(), new byte[]{4, 5, 6}));
+        enTransaccion(4, () -> hotelDAO.saveImageSecundaria(nuevo.getId(), new byte[]{7, 8, 9}));
+        em.clear();
+        enTransaccion(3, () -> hotelDAO.delete(nuevo.getId()));
+    }
+
+    @Test
+    public void luxuryStayDAO() {
+        contador.assertComoMaximo(1, () -> luxuryStayDAO.getAll());
+        contador.assertComoMaximo(1, () -> luxuryStayDAO.findByNombre("Estancia 0-0"));
+        contador.assertComoMaximo(1, () -> luxuryStayDAO.findByCodigoLuxuryStay(luxuryStay.getCodigoLuxuryStay()));
+        contador.assertComoMaximo(1, () -> luxuryStayDAO.findByPrecioAscendente());
+        contador.assertComoMaximo(1, () -> luxuryStayDAO.findByPrecioDescendente());
+        contador.assertComoMaximo(2, () -> luxuryStayDAO.getPaginaResumen(1, 10));
+    }
+
+    @Test
+    public void reservaDAO() {
+        contador.assertComoMaximo(1, () -> reservaDAO.findByUsuario(usuario.getId())
+                .forEach(reserva -> reserva.getLuxuryStay().getHotel().getNombre()));
+        contador.assertComoMaximo(1, () -> reservaDAO.findByUsuarioAndLuxuryStay(usuario.getId(), luxuryStay.getId())
+                .orElseThrow().getLuxuryStay().getHotel().getNombre());
+        contador.assertComoMaximo(1, () -> reservaDAO.findPendientesDeFacturar(usuario.getId())
+                .forEach(reserva -> reserva.getUsuario().getCodigoUsuario()));
+        contador.assertComoMaximo(1, () -> reservaDAO.getAll().forEach(this::recorrerListadoAdmin));
+        contador.assertComoMaximo(1, () -> reservaDAO.findByLuxuryStay(luxuryStay.getId())
+                .forEach(this::recorrerListadoAdmin));
+        contador.assertComoMaximo(1, () -> reservaDAO.findByEstado("PENDIENTE").forEach(this::recorrerListadoAdmin));
+        contador.assertComoMaximo(1, () -> reservaDAO.findResumenByUsuario(usuario.getId()));
+    }
+
+    @Test
+    public void facturaDAO() {
+        contador.assertComoMaximo(1, () -> facturaDAO.findByUsuario(usuario.getId()).orElseThrow().getReservas()
+                .forEach(reserva -> reserva.getLuxuryStay().getPrecioNoche()));
+        contador.assertComoMaximo(1, () -> facturaDAO.getAll());
+    }
+
+    @Test
+    public void facturaDAOEscrituras() {
+        List<Reserva> pendientes = reservaDAO.findPendientesDeFacturar(usuario.getId());
+        // Secuencia, factura, una actualización masiva de sus reservas y la relectura de cada reserva gestionada,
+        // que la actualización masiva no modifica
+        enTransaccion(3 + pendientes.size(), () -> facturaDAO.save(new Factura(pendientes)));
+    }
+
+    @Test
+    public void imagenDAO() {
+        Long hotelId = hotel.getId();
+        contador.assertComoMaximo(1, () -> imagenDAO.getMetadatos(hotelId, SlotImagen.HOTEL_PRINCIPAL, VarianteImagen.FULL));
+        contador.assertComoMaximo(1, () -> imagenDAO.getDatos(hotelId, SlotImagen.HOTEL_PRINCIPAL));
+        contador.assertComoMaximo(1, () -> escribir(hotelId));
+        contador.assertComoMaximo(1, () -> imagenDAO.contar(hotelId, List.of(SlotImagen.HOTEL_PRINCIPAL)));
+        enTransaccion(4, () -> imagenDAO.guardar(hotelId, SlotImagen.HOTEL_SECUNDARIA, new byte[]{1}));
+        // Bloqueo y comprobación del hash de la imagen original, búsqueda de la variante, secuencia e inserción
+        enTransaccion(4, () -> imagenDAO.guardarVariante(hotelId, SlotImagen.HOTEL_SECUNDARIA,
+                VarianteImagen.THUMB, new byte[]{1}, ImagenUtil.calcularHash(new byte[]{1})));
+        enTransaccion(1, () -> imagenDAO.eliminar(hotelId, List.of(SlotImagen.HOTEL_SECUNDARIA)));
+    }
+
+    @Test
+    public void sesionUsuarioDAO() {
+        SesionUsuarioDAOImpl sesionUsuarioDAO = new SesionUsuarioDAOImpl();
+        sesionUsuarioDAO.setEntityManager(em);
+        Instant limite = Instant.now().minus(Duration.ofHours(1));
+
+        // Secuencia, comprobación del token e inserción
+        enTransaccion(3, () -> sesionUsuarioDAO.guardar("token", new byte[]{1, 2, 3}));
+        em.clear();
+        contador.assertComoMaximo(1, () -> sesionUsuarioDAO.findDatosByToken("token", limite));
+        enTransaccion(2, () -> sesionUsuarioDAO.guardar("token", new byte[]{4, 5, 6}));
+        enTransaccion(1, () -> sesionUsuarioDAO.deleteAnteriores(limite));
+        enTransaccion(1, () -> sesionUsuarioDAO.deleteByToken("token"));
+    }
+
+    @Test
+    public void estadisticasCacheDAONoConsultaLaBaseDeDatos() {
+        EstadisticasCacheDAO estadisticasCacheDAO = new EstadisticasCacheDAO();
+        estadisticasCacheDAO.setEntityManager(em);
+
+        contador.assertComoMaximo(0, () -> estadisticasCacheDAO.getRegiones());
+        contador.assertComoMaximo(0, () -> estadisticasCacheDAO.getConsultas());
+    }
+
+    private void recorrerListadoAdmin(Reserva reserva) {
+        reserva.getUsuario().getNombre();
+        reserva.getLuxuryStay().getHotel().getNombre();
+        if (reserva.getFactura() != null) {
+            reserva.getFactura().getNumeroFactura();
+        }
+    }
+
+    private void guardarHotel(Hotel nuevo) {
+        try {
+            hotelDAO.save(nuevo, imagen(new byte[]{1, 2, 3}), imagen(new byte[]{4, 5, 6}));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean escribir(Long hotelId) {
+        try {
+            return imagenDAO.escribir(hotelId, SlotImagen.HOTEL_PRINCIPAL, VarianteImagen.FULL,
+                    new ByteArrayOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ImagenSubida imagen(byte[] datos) throws IOException {
+        return ImagenSubida.de(() -> new ByteArrayInputStream(datos), 1024);
+    }
+
+    /**
+     * Ejecuta una escritura en su propia transacción y comprueba el número máximo de sentencias, incluidas las que
+     * se envían al confirmar la transacción.
+     */
+    private void enTransaccion(long maximo, Runnable escritura) {
+        contador.assertComoMaximo(maximo, () -> {
+            em.getTransaction().begin();
+            escritura.run();
+            em.getTransaction().commit();
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package com.voyageclub.dao;
+
+import com.voyageclub.model.SesionUsuario;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la clase SesionUsuarioDAOImpl sobre la base de datos H2 de pruebas.
+ */
+public class SesionUsuarioDAOImplTest {
+
+    private static final Instant VIGENTES = Instant.EPOCH;
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+    private SesionUsuarioDAOImpl sesionUsuarioDAO;
+
+    @BeforeEach
+    public void setUp() {
+        emf = Persistence.createEntityManagerFactory("testPU");
+        em = emf.createEntityManager();
+        sesionUsuarioDAO = new SesionUsuarioDAOImpl();
+        sesionUsuarioDAO.setEntityManager(em);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        em.close();
+        emf.close();
+    }
+
+    @Test
+    public void guardarReemplazaLosDatosDeLaMismaSesion() {
+        guardar("token", new byte[]{1, 2, 3});
+        guardar("token", new byte[]{4, 5, 6});
+        guardar("otro", new byte[]{7});
+
+        assertArrayEquals(new byte[]{4, 5, 6}, sesionUsuarioDAO.findDatosByToken("token", VIGENTES).orElseThrow());
+        assertArrayEquals(new byte[]{7}, sesionUsuarioDAO.findDatosByToken("otro", VIGENTES).orElseThrow());
+        assertEquals(2, sesionUsuarioDAO.getAll().size());
+    }
+
+    @Test
+    public void findDatosByTokenIgnoraLasSesionesCaducadas() {
+        guardar("token", new byte[]{1, 2, 3});
+
+        assertTrue(sesionUsuarioDAO.findDatosByToken("inexistente", VIGENTES).isEmpty());
+        assertTrue(sesionUsuarioDAO.findDatosByToken("token", Instant.now().plusSeconds(1)).isEmpty());
+    }
+
+    @Test
+    public void deleteEliminaLasSesionesIndicadas() {
+        guardar("token", new byte[]{1});
+        guardar("caducada", new byte[]{2});
+
+        em.getTransaction().begin();
+        assertEquals(1, sesionUsuarioDAO.deleteByToken("token"));
+        assertEquals(1, sesionUsuarioDAO.deleteAnteriores(Instant.now().plusSeconds(1)));
+        em.getTransaction().commit();
+
+        assertTrue(sesionUsuarioDAO.getAll().isEmpty());
+    }
+
+    @Test
+    public void toStringNoMuestraElToken() {
+        assertFalse(new SesionUsuario("secreto", new byte[]{1}).toString().contains("secreto"));
+    }
+
+    private void guardar(String token, byte[] datos) {
+        em.getTransaction().begin();
+        sesionUsuarioDAO.guardar(token, datos);
+        em.getTransaction().commit();
+        em.clear();
+    }
+}
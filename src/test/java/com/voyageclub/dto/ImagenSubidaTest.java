@@ -0,0 +1,41 @@
+package com.voyageclub.dto;
+
+import com.voyageclub.util.ImagenDemasiadoGrandeException;
+import com.voyageclub.util.ImagenUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la clase ImagenSubida.
+ */
+class ImagenSubidaTest {
+
+    @Test
+    void calculaHashYTamanoAlRecorrerLaImagen() throws IOException {
+        byte[] datos = new byte[20000];
+        datos[19999] = 7;
+
+        ImagenSubida imagen = ImagenSubida.de(() -> new ByteArrayInputStream(datos), datos.length);
+
+        // El hash coincide con el de los bytes completos y la imagen se puede volver a leer
+        assertEquals(ImagenUtil.calcularHash(datos), imagen.getHash());
+        assertEquals(datos.length, imagen.getTamano());
+        try (InputStream entrada = imagen.abrir()) {
+            assertArrayEquals(datos, entrada.readAllBytes());
+        }
+    }
+
+    @Test
+    void rechazaImagenesQueSuperanElTamanoMaximo() {
+        byte[] datos = new byte[20000];
+
+        ImagenDemasiadoGrandeException e = assertThrows(ImagenDemasiadoGrandeException.class,
+                () -> ImagenSubida.de(() -> new ByteArrayInputStream(datos), 10000));
+        assertEquals(10000, e.getTamanoMaximo());
+    }
+}
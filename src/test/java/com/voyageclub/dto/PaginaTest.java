@@ -0,0 +1,40 @@
+package com.voyageclub.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la clase Pagina.
+ */
+class PaginaTest {
+
+    @Test
+    void calculaTotalDePaginas() {
+        Pagina<String> pagina = new Pagina<>(List.of("a", "b"), 1, 20, 41);
+
+        // 41 elementos en páginas de 20 ocupan 3 páginas
+        assertEquals(3, pagina.getTotalPaginas());
+        assertTrue(pagina.isPrimera());
+        assertFalse(pagina.isUltima());
+    }
+
+    @Test
+    void ultimaPagina() {
+        Pagina<String> pagina = new Pagina<>(List.of("a"), 3, 20, 41);
+
+        assertFalse(pagina.isPrimera());
+        assertTrue(pagina.isUltima());
+    }
+
+    @Test
+    void consultaSinResultadosTieneUnaPagina() {
+        Pagina<String> pagina = new Pagina<>(List.of(), 1, 20, 0);
+
+        assertEquals(1, pagina.getTotalPaginas());
+        assertTrue(pagina.isPrimera());
+        assertTrue(pagina.isUltima());
+    }
+}
@@ -0,0 +1,76 @@
+package com.voyageclub.log;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la configuración del log y el formato de sus registros.
+ */
+public class ConfiguracionLogTest {
+
+    @Test
+    public void leerNivelesIgnoraLasEntradasNoValidas() {
+        Map<String, Level> niveles = ConfiguracionLog.leerNiveles(
+                " com.voyageclub = INFO, com.voyageclub.dao=FINE,sinNivel, com.voyageclub.model=DESCONOCIDO,=WARNING");
+
+        assertEquals(Map.of("com.voyageclub", Level.INFO, "com.voyageclub.dao", Level.FINE), niveles);
+        assertTrue(ConfiguracionLog.leerNiveles(null).isEmpty());
+    }
+
+    @Test
+    public void configurarInstalaElManejadorYLosNivelesDeCadaPaquete() {
+        ConfiguracionLog configuracion = new ConfiguracionLog();
+        Logger aplicacion = Logger.getLogger(ConfiguracionLog.LOGGER_APLICACION);
+        try {
+            ManejadorLogAsincrono manejador = configuracion.configurar("com.voyageclub.dao=WARNING", 16,
+                    Executors.defaultThreadFactory());
+
+            assertTrue(Arrays.asList(aplicacion.getHandlers()).contains(manejador));
+            assertFalse(aplicacion.getUseParentHandlers());
+            assertEquals(Level.WARNING, Logger.getLogger("com.voyageclub.dao").getLevel());
+            assertFalse(Logger.getLogger("com.voyageclub.dao.HotelDAOImpl").isLoggable(Level.INFO));
+        } finally {
+            configuracion.alDetener(null);
+            Logger.getLogger("com.voyageclub.dao").setLevel(null);
+        }
+        assertEquals(0, aplicacion.getHandlers().length);
+        assertTrue(aplicacion.getUseParentHandlers());
+    }
+
+    @Test
+    public void elFormatoEsUnaLineaDeClavesYValores() {
+        LogRecord registro = new LogRecord(Level.WARNING, "Hotel \"{0}\"\nno encontrado");
+        registro.setParameters(new Object[]{ "Sol" });
+        registro.setLoggerName("com.voyageclub.action.HotelActionImpl");
+        registro.setInstant(Instant.ofEpochMilli(0));
+
+        String linea = new FormateadorLog().format(registro);
+
+        assertEquals("fecha=1970-01-01T00:00:00Z nivel=WARNING hilo=" + registro.getLongThreadID()
+                + " logger=com.voyageclub.action.HotelActionImpl mensaje=\"Hotel \\\"Sol\\\"\\nno encontrado\""
+                + System.lineSeparator(), linea);
+    }
+
+    @Test
+    public void elFormatoIncluyeLaExcepcionYSuTraza() {
+        LogRecord registro = new LogRecord(Level.SEVERE, "Error");
+        registro.setLoggerName("prueba");
+        registro.setThrown(new IllegalStateException("Fallo"));
+
+        String[] lineas = new FormateadorLog().format(registro).split(System.lineSeparator());
+
+        assertTrue(lineas[0].endsWith(" mensaje=\"Error\" excepcion=\"java.lang.IllegalStateException: Fallo\""),
+                lineas[0]);
+        assertEquals("java.lang.IllegalStateException: Fallo", lineas[1]);
+        assertTrue(lineas[2].trim().startsWith("at com.voyageclub.log.ConfiguracionLogTest."), lineas[2]);
+    }
+}
@@ -0,0 +1,147 @@
+package com.voyageclub.log;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para el manejador de log asíncrono.
+ */
+public class ManejadorLogAsincronoTest {
+
+    private final Destino destino = new Destino();
+    private ManejadorLogAsincrono manejador;
+
+    @AfterEach
+    public void tearDown() {
+        destino.liberar.countDown();
+        manejador.close();
+    }
+
+    @Test
+    public void losRegistrosSeEscribenEnOrdenEnElHiloDelManejador() {
+        manejador = new ManejadorLogAsincrono(destino, 100, Executors.defaultThreadFactory());
+        destino.liberar.countDown();
+
+        for (int i = 0; i < 50; i++) {
+            manejador.publish(new LogRecord(Level.INFO, "Mensaje " + i));
+        }
+        manejador.flush();
+
+        assertEquals(50, destino.mensajes.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals("Mensaje " + i, destino.mensajes.get(i));
+        }
+        assertTrue(destino.hilos.stream().noneMatch(Thread.currentThread()::equals));
+    }
+
+    @Test
+    public void conLaColaLlenaSeDescartaYSeAvisa() throws Exception {
+        manejador = new ManejadorLogAsincrono(destino, 2, Executors.defaultThreadFactory());
+        manejador.publish(new LogRecord(Level.INFO, "Bloquea el destino"));
+        assertTrue(destino.escribiendo.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 5; i++) {
+            // El hilo que escribe nunca espera, aunque el destino esté bloqueado
+            manejador.publish(new LogRecord(Level.INFO, "Mensaje " + i));
+        }
+        assertEquals(3, manejador.getDescartados());
+        destino.liberar.countDown();
+        manejador.flush();
+        manejador.publish(new LogRecord(Level.INFO, "Siguiente"));
+        manejador.flush();
+
+        // El aviso de los descartados se escribe antes del primer registro que sale de la cola después
+        assertEquals(List.of("Bloquea el destino", "Cola del log llena: se han descartado {0} registros",
+                "Mensaje 0", "Mensaje 1", "Siguiente"), destino.mensajes);
+        assertArrayEquals(new Object[]{ 3L }, destino.registros.get(1).getParameters());
+    }
+
+    @Test
+    public void losNivelesDesactivadosNoLleganALaCola() {
+        manejador = new ManejadorLogAsincrono(destino, 100, Executors.defaultThreadFactory());
+        manejador.setLevel(Level.WARNING);
+        destino.liberar.countDown();
+
+        manejador.publish(new LogRecord(Level.INFO, "Informativo"));
+        manejador.publish(new LogRecord(Level.SEVERE, "Grave"));
+        manejador.flush();
+
+        assertEquals(List.of("Grave"), destino.mensajes);
+    }
+
+    @Test
+    public void unNivelDesactivadoNoReservaMemoria() {
+        manejador = new ManejadorLogAsincrono(destino, 100, Executors.defaultThreadFactory());
+        Logger logger = Logger.getLogger("com.voyageclub.prueba.desactivado");
+        logger.setLevel(Level.INFO);
+        Long id = 42L;
+        com.sun.management.ThreadMXBean hilos = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long hilo = Thread.currentThread().getId();
+
+        for (int i = 0; i < 10_000; i++) {
+            registrarDesactivado(logger, id, i);
+        }
+        long antes = hilos.getThreadAllocatedBytes(hilo);
+        for (int i = 0; i < 100_000; i++) {
+            registrarDesactivado(logger, id, i);
+        }
+        long reservados = hilos.getThreadAllocatedBytes(hilo) - antes;
+
+        // Menos de un byte por llamada: solo cuenta lo que reserva la propia medición
+        assertTrue(reservados < 100_000, "Bytes reservados en 100.000 llamadas: " + reservados);
+    }
+
+    private static void registrarDesactivado(Logger logger, Long id, int i) {
+        logger.log(Level.FINE, "Hotel {0}", id);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.log(Level.FINE, "Iteración {0}", i);
+        }
+    }
+
+    /**
+     * Manejador de destino que guarda los mensajes y puede bloquearse hasta que la prueba lo libere.
+     */
+    private static final class Destino extends Handler {
+
+        private final List<String> mensajes = Collections.synchronizedList(new ArrayList<>());
+        private final List<LogRecord> registros = Collections.synchronizedList(new ArrayList<>());
+        private final List<Thread> hilos = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch escribiendo = new CountDownLatch(1);
+        private final CountDownLatch liberar = new CountDownLatch(1);
+
+        @Override
+        public void publish(LogRecord registro) {
+            escribiendo.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            mensajes.add(registro.getMessage());
+            registros.add(registro);
+            hilos.add(Thread.currentThread());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
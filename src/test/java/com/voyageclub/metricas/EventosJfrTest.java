@@ -0,0 +1,128 @@
+package com.voyageclub.metricas;
+
+import com.voyageclub.action.HotelActionImpl;
+import com.voyageclub.action.RegistroRutas;
+import com.voyageclub.action.paginas.PageNames;
+import com.voyageclub.model.Factura;
+import com.voyageclub.model.LuxuryStay;
+import com.voyageclub.model.Reserva;
+import com.voyageclub.model.Usuario;
+import com.voyageclub.servlet.FrontControllerServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de prueba para los eventos de JDK Flight Recorder de las peticiones, las llamadas a los DAO y el cálculo de
+ * las facturas, leídos de una grabación real.
+ */
+public class EventosJfrTest {
+
+    @Test
+    public void unaPeticionEmiteSuRutaYSuDestino() throws Exception {
+        FrontControllerServlet servlet = new FrontControllerServlet();
+        inyectar(servlet, "registroRutas", new RegistroRutas(List.of(new HotelActionImpl())));
+        inyectar(servlet, "registroMetricas", new RegistroMetricas());
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getParameter("ACTION")).thenReturn("HOTEL.DIRIGENEW");
+        Method atender = FrontControllerServlet.class.getDeclaredMethod("atender", HttpServletRequest.class,
+                HttpServletResponse.class);
+        atender.setAccessible(true);
+
+        List<RecordedEvent> eventos = grabar(EventoPeticion.class,
+                () -> atender.invoke(servlet, request, mock(HttpServletResponse.class)));
+
+        assertEquals(1, eventos.size());
+        assertEquals("HOTEL.DIRIGENEW", eventos.get(0).getString("ruta"));
+        assertEquals(PageNames.CREATE_HOTEL_PAGE, eventos.get(0).getString("destino"));
+        assertFalse(eventos.get(0).getBoolean("error"));
+    }
+
+    @Test
+    public void unaLlamadaAUnDAOEmiteSuEntidadYSusFilas() throws Exception {
+        RegistroConsultas registro = new RegistroConsultas(Duration.ofMinutes(1));
+
+        List<RecordedEvent> eventos = grabar(EventoLlamadaDAO.class,
+                () -> registro.medir("HotelDAOImpl.getAll", new Class<?>[0], () -> List.of(1, 2, 3)));
+
+        assertEquals(1, eventos.size());
+        RecordedEvent evento = eventos.get(0);
+        assertEquals("Hotel", evento.getString("entidad"));
+        assertEquals("HotelDAOImpl.getAll", evento.getString("metodo"));
+        assertEquals(3, evento.getLong("filas"));
+        assertFalse(evento.getBoolean("error"));
+        assertFalse(evento.getDuration().isNegative());
+    }
+
+    @Test
+    public void elCalculoDeUnaFacturaEmiteSuNumeroDeReservas() throws Exception {
+        List<RecordedEvent> eventos = grabar(EventoCalculoFactura.class,
+                () -> new Factura(List.of(reserva(), reserva())));
+
+        assertEquals(1, eventos.size());
+        assertEquals(2, eventos.get(0).getInt("reservas"));
+    }
+
+    @Test
+    public void laEntidadSeDeduceDelNombreDelDAO() {
+        assertEquals("Hotel", EventoLlamadaDAO.entidad("HotelDAOImpl.getAll"));
+        assertEquals("SesionUsuario", EventoLlamadaDAO.entidad("SesionUsuarioDAO.guardar"));
+        assertEquals("EstadisticasCache", EventoLlamadaDAO.entidad("EstadisticasCacheDAO.getRegiones"));
+    }
+
+    /**
+     * Graba los eventos de un tipo mientras se ejecuta una llamada.
+     */
+    private static List<RecordedEvent> grabar(Class<? extends jdk.jfr.Event> tipo, Llamada llamada) throws Exception {
+        Path fichero = Files.createTempFile("voyageclub", ".jfr");
+        try (Recording grabacion = new Recording()) {
+            grabacion.enable(tipo);
+            grabacion.start();
+            llamada.ejecutar();
+            grabacion.stop();
+            grabacion.dump(fichero);
+            return RecordingFile.readAllEvents(fichero);
+        } finally {
+            Files.deleteIfExists(fichero);
+        }
+    }
+
+    private static Reserva reserva() {
+        Usuario usuario = new Usuario();
+        usuario.setCodigoUsuario("USR123");
+        LuxuryStay luxuryStay = new LuxuryStay();
+        luxuryStay.setPrecioNoche(new BigDecimal("100.00"));
+        Reserva reserva = new Reserva();
+        reserva.setUsuario(usuario);
+        reserva.setLuxuryStay(luxuryStay);
+        reserva.setFechaInicio(LocalDate.now().plusDays(1));
+        reserva.setFechaFin(LocalDate.now().plusDays(3));
+        return reserva;
+    }
+
+    private static void inyectar(Object destino, String campo, Object valor) throws ReflectiveOperationException {
+        Field field = destino.getClass().getDeclaredField(campo);
+        field.setAccessible(true);
+        field.set(destino, valor);
+    }
+
+    @FunctionalInterface
+    private interface Llamada {
+        void ejecutar() throws Exception;
+    }
+}
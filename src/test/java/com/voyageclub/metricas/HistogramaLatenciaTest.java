@@ -0,0 +1,102 @@
+package com.voyageclub.metricas;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para el histograma de latencias: precisión de los cubos y de los percentiles, registro concurrente
+ * y coste de cada registro.
+ */
+public class HistogramaLatenciaTest {
+
+    @Test
+    public void losCubosSonContiguosYCubrenTodasLasLatencias() {
+        long anterior = -1;
+        for (int indice = 0; indice <= HistogramaLatencia.indice(HistogramaLatencia.MAXIMO_MICROS); indice++) {
+            long limite = HistogramaLatencia.limiteSuperior(indice);
+            assertEquals(indice, HistogramaLatencia.indice(anterior + 1), "Inicio del cubo " + indice);
+            assertEquals(indice, HistogramaLatencia.indice(limite), "Final del cubo " + indice);
+            // El ancho de cada cubo es como mucho un 1/32 de su valor inicial
+            assertTrue(limite - anterior <= Math.max(1, (anterior + 1) / 32), "Ancho del cubo " + indice);
+            anterior = limite;
+        }
+    }
+
+    @Test
+    public void losPercentilesTienenUnErrorRelativoMenorDel3PorCiento() {
+        HistogramaLatencia histograma = new HistogramaLatencia();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histograma.registrar(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+
+        assertEquals(100_000, histograma.getCuenta());
+        assertEquals(100_000L * 100_001 / 2, histograma.getSumaMicros());
+        assertEquals(100_000, histograma.getMaximoMicros());
+        assertEquals(100_000, histograma.getPercentilMicros(100));
+        assertEquals(1, histograma.getPercentilMicros(0));
+        for (double percentil : new double[]{50, 90, 99, 99.9}) {
+            double esperado = percentil * 1_000;
+            double obtenido = histograma.getPercentilMicros(percentil);
+            assertTrue(obtenido >= esperado && obtenido <= esperado * 1.03,
+                    "p" + percentil + ": " + obtenido + " frente a " + esperado);
+        }
+    }
+
+    @Test
+    public void unHistogramaVacioDevuelveCero() {
+        HistogramaLatencia histograma = new HistogramaLatencia();
+
+        assertEquals(0, histograma.getCuenta());
+        assertEquals(0, histograma.getPercentilMicros(99));
+        assertEquals(0, histograma.getMaximoMicros());
+        assertThrows(IllegalArgumentException.class, () -> histograma.getPercentilMicros(101));
+    }
+
+    @Test
+    public void lasLatenciasFueraDeRangoSeAcotan() {
+        HistogramaLatencia histograma = new HistogramaLatencia();
+        histograma.registrar(-5);
+        histograma.registrar(TimeUnit.HOURS.toNanos(3));
+
+        assertEquals(2, histograma.getCuenta());
+        assertEquals(0, histograma.getPercentilMicros(50));
+        assertEquals(HistogramaLatencia.MAXIMO_MICROS, histograma.getPercentilMicros(100));
+    }
+
+    @Test
+    public void registroConcurrenteSinPerderLatencias() throws Exception {
+        int hilos = 8;
+        int registrosPorHilo = 200_000;
+        HistogramaLatencia histograma = new HistogramaLatencia();
+        ExecutorService executor = Executors.newFixedThreadPool(hilos);
+        try {
+            List<Future<?>> tareas = new ArrayList<>();
+            long inicio = System.nanoTime();
+            for (int h = 0; h < hilos; h++) {
+                tareas.add(executor.submit(() -> {
+                    for (int i = 0; i < registrosPorHilo; i++) {
+                        histograma.registrar((i % 5_000) * 1_000L);
+                    }
+                }));
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+            long nanos = System.nanoTime() - inicio;
+
+            assertEquals((long) hilos * registrosPorHilo, histograma.getCuenta(), () -> hilos * registrosPorHilo
+                    + " registros en " + hilos + " hilos: " + TimeUnit.NANOSECONDS.toMillis(nanos) + " ms");
+            assertEquals(4_999, histograma.getMaximoMicros());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
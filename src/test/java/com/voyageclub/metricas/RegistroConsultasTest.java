@@ -0,0 +1,153 @@
+package com.voyageclub.metricas;
+
+import com.voyageclub.dao.UsuarioDAOImpl;
+import com.voyageclub.dto.EstadisticasMetodoDAO;
+import com.voyageclub.dto.Pagina;
+import com.voyageclub.model.Usuario;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para el registro de las llamadas a los DAO y el log de consultas lentas, sobre la base de datos H2
+ * de pruebas.
+ */
+public class RegistroConsultasTest {
+
+    private static final String CORREO = "alvarobajo893@gmail.com";
+    private static final Class<?>[] TIPOS_CORREO = { String.class };
+
+    private final Logger logger = Logger.getLogger(RegistroConsultas.class.getName());
+    private final List<LogRecord> registros = new ArrayList<>();
+    private final Handler capturaLog = new Handler() {
+        @Override
+        public void publish(LogRecord registro) {
+            registros.add(registro);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+    private UsuarioDAOImpl usuarioDAO;
+
+    @BeforeEach
+    public void setUp() {
+        logger.addHandler(capturaLog);
+        emf = Persistence.createEntityManagerFactory("testPU");
+        em = emf.createEntityManager();
+        usuarioDAO = new UsuarioDAOImpl();
+        usuarioDAO.setEntityManager(em);
+
+        em.getTransaction().begin();
+        em.persist(new Usuario("Alvaro", "Bajo", "Tabero", CORREO, "12345678", "123456"));
+        em.getTransaction().commit();
+        em.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logger.removeHandler(capturaLog);
+        em.close();
+        emf.close();
+    }
+
+    @Test
+    public void cadaMetodoRegistraSusLlamadasFilasYErrores() throws Exception {
+        RegistroConsultas registro = new RegistroConsultas(Duration.ofMinutes(1));
+
+        registro.medir("UsuarioDAOImpl.getAll", new Class<?>[0], () -> usuarioDAO.getAll());
+        registro.medir("UsuarioDAOImpl.findByCorreoElectronico", TIPOS_CORREO,
+                () -> usuarioDAO.findByCorreoElectronico("inexistente@example.com"));
+        IllegalStateException error = new IllegalStateException("Error de prueba");
+        assertSame(error, assertThrows(IllegalStateException.class,
+                () -> registro.medir("UsuarioDAOImpl.getAll", new Class<?>[0], () -> {
+                    throw error;
+                })));
+
+        List<EstadisticasMetodoDAO> estadisticas = registro.getEstadisticas();
+        assertEquals(List.of("UsuarioDAOImpl.findByCorreoElectronico", "UsuarioDAOImpl.getAll"),
+                estadisticas.stream().map(EstadisticasMetodoDAO::getMetodo).toList());
+        assertEquals(1, estadisticas.get(0).getLlamadas());
+        assertEquals(0, estadisticas.get(0).getFilas());
+        EstadisticasMetodoDAO getAll = estadisticas.get(1);
+        assertEquals(2, getAll.getLlamadas());
+        assertEquals(1, getAll.getErrores());
+        assertEquals(1, getAll.getFilas());
+        assertTrue(registros.isEmpty(), "Ninguna llamada supera el umbral");
+    }
+
+    @Test
+    public void lasConsultasLentasSeEscribenSinLosValoresDeLosParametros() throws Exception {
+        RegistroConsultas registro = new RegistroConsultas(Duration.ZERO);
+
+        Object usuario = registro.medir("UsuarioDAOImpl.findByCorreoElectronico", TIPOS_CORREO,
+                () -> usuarioDAO.findByCorreoElectronico(CORREO));
+
+        assertTrue(((Optional<?>) usuario).isPresent());
+        assertEquals(1, registros.size());
+        String mensaje = registros.get(0).getMessage();
+        assertTrue(mensaje.startsWith("Consulta lenta: UsuarioDAOImpl.findByCorreoElectronico(String) "), mensaje);
+        assertTrue(mensaje.contains(", 1 filas, 1 sentencias\n"), mensaje);
+        assertTrue(mensaje.toLowerCase().contains("from usuario"), mensaje);
+        assertTrue(mensaje.contains("?"), mensaje);
+        assertFalse(mensaje.contains(CORREO), mensaje);
+    }
+
+    @Test
+    public void lasLlamadasAnidadasAcumulanSusSentenciasEnLaExterior() throws Exception {
+        RegistroConsultas registro = new RegistroConsultas(Duration.ZERO);
+
+        registro.medir("Exterior.llamada", new Class<?>[0], () -> {
+            usuarioDAO.getAll();
+            return registro.medir("Interior.llamada", new Class<?>[0], () -> usuarioDAO.existeMail(CORREO));
+        });
+
+        assertEquals(2, registros.size());
+        assertTrue(registros.get(0).getMessage().contains("Interior.llamada() "));
+        assertTrue(registros.get(0).getMessage().contains(", 1 sentencias"));
+        assertTrue(registros.get(1).getMessage().contains("Exterior.llamada() "));
+        assertTrue(registros.get(1).getMessage().contains(", 2 sentencias"));
+    }
+
+    @Test
+    public void redactarSustituyeLosLiteralesDeTexto() {
+        assertEquals("select u.id from usuario u where u.dni='?' and u.nombre='?' and u.id=?",
+                RegistroConsultas.redactar("select u.id\n  from usuario u where u.dni='123''4' and u.nombre='Ana' "
+                        + "and u.id=?"));
+        String larga = "select " + "x".repeat(2 * RegistroConsultas.LONGITUD_MAXIMA_SENTENCIA);
+        assertEquals(RegistroConsultas.LONGITUD_MAXIMA_SENTENCIA + 3, RegistroConsultas.redactar(larga).length());
+    }
+
+    @Test
+    public void contarFilasDeCadaTipoDeResultado() {
+        assertEquals(0, RegistroConsultas.contarFilas(null));
+        assertEquals(3, RegistroConsultas.contarFilas(List.of(1, 2, 3)));
+        assertEquals(2, RegistroConsultas.contarFilas(new Pagina<>(List.of(1, 2), 1, 10, 12)));
+        assertEquals(0, RegistroConsultas.contarFilas(Optional.empty()));
+        assertEquals(1, RegistroConsultas.contarFilas(Optional.of(1)));
+        assertEquals(0, RegistroConsultas.contarFilas(Stream.of(1, 2)));
+        assertEquals(1, RegistroConsultas.contarFilas(42L));
+    }
+}
@@ -0,0 +1,48 @@
+package com.voyageclub.metricas;
+
+import com.voyageclub.dto.EstadisticasRuta;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para el registro de métricas por ruta.
+ */
+public class RegistroMetricasTest {
+
+    private final RegistroMetricas registro = new RegistroMetricas();
+
+    @Test
+    public void cadaRutaTieneSusPropiasMetricas() {
+        MetricasRuta login = registro.getRuta("USUARIO.LOGIN");
+        assertSame(login, registro.getRuta("USUARIO.LOGIN"));
+
+        login.terminar(login.iniciar(), false);
+        login.terminar(login.iniciar(), true);
+        MetricasRuta hoteles = registro.getRuta("HOTEL.FIND_ALL");
+        hoteles.iniciar();
+
+        List<EstadisticasRuta> estadisticas = registro.getEstadisticas();
+        assertEquals(List.of("HOTEL.FIND_ALL", "USUARIO.LOGIN"),
+                estadisticas.stream().map(EstadisticasRuta::getRuta).toList());
+        EstadisticasRuta enCurso = estadisticas.get(0);
+        assertEquals(0, enCurso.getPeticiones());
+        assertEquals(1, enCurso.getEnCurso());
+        EstadisticasRuta terminadas = estadisticas.get(1);
+        assertEquals(2, terminadas.getPeticiones());
+        assertEquals(1, terminadas.getErrores());
+        assertEquals(0, terminadas.getEnCurso());
+        assertTrue(terminadas.getMaximoMs() >= terminadas.getP50Ms());
+    }
+
+    @Test
+    public void lasRutasDesconocidasSoloSeCuentan() {
+        registro.contarRutaDesconocida();
+        registro.contarRutaDesconocida();
+
+        assertEquals(2, registro.getRutasDesconocidas());
+        assertTrue(registro.getEstadisticas().isEmpty());
+    }
+}
@@ -0,0 +1,57 @@
+package com.voyageclub.model;
+
+import com.voyageclub.model.enumerdos.SlotImagen;
+import com.voyageclub.model.enumerdos.VarianteImagen;
+import com.voyageclub.util.ImagenUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la clase Imagen y sus slots.
+ */
+class ImagenTest {
+
+    @Test
+    void constructorInicializaMetadatos() {
+        byte[] datos = "Imagen principal".getBytes();
+        Imagen imagen = new Imagen(1L, SlotImagen.HOTEL_PRINCIPAL, VarianteImagen.FULL, null, ImagenUtil.calcularHash(datos), (long) datos.length);
+
+        // Verificar que los metadatos se asignan y la fecha de actualización se inicializa
+        assertEquals(1L, imagen.getPropietarioId());
+        assertEquals(SlotImagen.HOTEL_PRINCIPAL, imagen.getSlot());
+        assertEquals(VarianteImagen.FULL, imagen.getVariante());
+        assertEquals(64, imagen.getHash().length());
+        assertEquals(datos.length, imagen.getTamano());
+        assertNotNull(imagen.getFechaActualizacion());
+    }
+
+    @Test
+    void slotDeHotel() {
+        assertEquals(SlotImagen.HOTEL_PRINCIPAL, SlotImagen.deHotel("principal"));
+        assertEquals(SlotImagen.HOTEL_SECUNDARIA, SlotImagen.deHotel("secundaria"));
+
+        // Los tipos de estancia de lujo no son válidos para un hotel
+        assertNull(SlotImagen.deHotel("derecha"));
+        assertNull(SlotImagen.deHotel(null));
+    }
+
+    @Test
+    void slotDeLuxuryStay() {
+        assertEquals(SlotImagen.LUXURY_PRINCIPAL, SlotImagen.deLuxuryStay("principal"));
+        assertEquals(SlotImagen.LUXURY_DERECHA, SlotImagen.deLuxuryStay("derecha"));
+        assertEquals(SlotImagen.LUXURY_IZQUIERDA, SlotImagen.deLuxuryStay("izquierda"));
+
+        // Los tipos de hotel no son válidos para una estancia de lujo
+        assertNull(SlotImagen.deLuxuryStay("secundaria"));
+    }
+
+    @Test
+    void varianteDeTamano() {
+        // Sin tamaño se sirve la imagen original
+        assertEquals(VarianteImagen.FULL, VarianteImagen.deTamano(null));
+        assertEquals(VarianteImagen.THUMB, VarianteImagen.deTamano("thumb"));
+        assertEquals(VarianteImagen.CARD, VarianteImagen.deTamano("card"));
+        assertNull(VarianteImagen.deTamano("enorme"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.voyageclub.servlet;
+
+import jakarta.servlet.MultipartConfigElement;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletRegistration;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de prueba para el registro del servlet de la aplicación con su configuración multipart.
+ */
+public class ConfiguracionFrontControllerTest {
+
+    private static final long MB = 1024 * 1024;
+
+    @Test
+    public void elTamanoMaximoDelWebXmlEsElMaxFileSizeDelServlet() {
+        ServletContext contexto = contexto("20971520");
+        ServletRegistration.Dynamic registro = mock(ServletRegistration.Dynamic.class);
+        when(contexto.addServlet("app", FrontControllerServlet.class)).thenReturn(registro);
+
+        new ConfiguracionFrontController().contextInitialized(new ServletContextEvent(contexto));
+
+        // Un límite mayor que el de por defecto también llega al contenedor
+        ArgumentCaptor<MultipartConfigElement> configuracion = ArgumentCaptor.forClass(MultipartConfigElement.class);
+        verify(registro).setMultipartConfig(configuracion.capture());
+        assertEquals(20 * MB, configuracion.getValue().getMaxFileSize());
+        assertEquals(45 * MB, configuracion.getValue().getMaxRequestSize());
+        assertEquals(MB, configuracion.getValue().getFileSizeThreshold());
+        verify(registro).addMapping("/app");
+        verify(registro).setAsyncSupported(true);
+        assertEquals(20 * MB, ConfiguracionFrontController.tamanoMaximoImagen(contexto));
+    }
+
+    @Test
+    public void sinUnTamanoMaximoValidoSeUtilizan10MB() {
+        assertEquals(10 * MB, ConfiguracionFrontController.tamanoMaximoImagen(contexto(null)));
+        assertEquals(10 * MB, ConfiguracionFrontController.tamanoMaximoImagen(contexto("diez")));
+        assertEquals(10 * MB, ConfiguracionFrontController.tamanoMaximoImagen(contexto("0")));
+    }
+
+    private static ServletContext contexto(String tamanoMaximo) {
+        ServletContext contexto = mock(ServletContext.class);
+        when(contexto.getInitParameter(ConfiguracionFrontController.PARAM_TAMANO_MAXIMO_IMAGEN))
+                .thenReturn(tamanoMaximo);
+        return contexto;
+    }
+}
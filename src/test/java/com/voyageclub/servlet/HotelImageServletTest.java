@@ -0,0 +1,88 @@
+package com.voyageclub.servlet;
+
+import com.voyageclub.dao.ImagenDAO;
+import com.voyageclub.dto.MetadatosImagen;
+import com.voyageclub.model.enumerdos.SlotImagen;
+import com.voyageclub.model.enumerdos.VarianteImagen;
+import com.voyageclub.util.GeneradorVariantesImagen;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de prueba para las cabeceras de caché del servlet de imágenes.
+ */
+public class HotelImageServletTest {
+
+    private static final MetadatosImagen METADATOS = new MetadatosImagen("abc", Instant.ofEpochSecond(1_000), 3L);
+
+    private ImagenDAO imagenDAO;
+    private GeneradorVariantesImagen generadorVariantes;
+    private HotelImageServlet servlet;
+    private HttpServletResponse response;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        imagenDAO = mock(ImagenDAO.class);
+        when(imagenDAO.getMetadatos(1L, SlotImagen.HOTEL_PRINCIPAL, VarianteImagen.FULL))
+                .thenReturn(Optional.of(METADATOS));
+        when(imagenDAO.escribir(eq(1L), eq(SlotImagen.HOTEL_PRINCIPAL), any(), any())).thenReturn(true);
+
+        servlet = new HotelImageServlet();
+        generadorVariantes = mock(GeneradorVariantesImagen.class);
+        inyectar("imagenDAO", imagenDAO);
+        inyectar("generadorVariantes", generadorVariantes);
+        // Sin peticiones asíncronas: la imagen se sirve en el hilo de la prueba
+        inyectar("procesador", new ProcesadorAsincrono(Runnable::run, 0, 1_000));
+        response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(mock(ServletOutputStream.class));
+    }
+
+    @Test
+    public void laVarianteGeneradaSeGuardaEnCacheUnaHora() throws Exception {
+        when(imagenDAO.getMetadatos(1L, SlotImagen.HOTEL_PRINCIPAL, VarianteImagen.THUMB))
+                .thenReturn(Optional.of(METADATOS));
+
+        servlet.doGet(peticion("thumb"), response);
+
+        verify(response).setHeader("Cache-Control", "public, max-age=3600, must-revalidate");
+        verify(imagenDAO).escribir(eq(1L), eq(SlotImagen.HOTEL_PRINCIPAL), eq(VarianteImagen.THUMB), any());
+        verifyNoInteractions(generadorVariantes);
+    }
+
+    @Test
+    public void laImagenOriginalEnLugarDeLaVarianteSeRevalidaSiempre() throws Exception {
+        when(imagenDAO.getMetadatos(1L, SlotImagen.HOTEL_PRINCIPAL, VarianteImagen.THUMB))
+                .thenReturn(Optional.empty());
+
+        servlet.doGet(peticion("thumb"), response);
+
+        verify(response).setHeader("Cache-Control", "no-cache");
+        verify(imagenDAO).escribir(eq(1L), eq(SlotImagen.HOTEL_PRINCIPAL), eq(VarianteImagen.FULL), any());
+        // La variante que falta se vuelve a solicitar
+        verify(generadorVariantes).generar(1L, SlotImagen.HOTEL_PRINCIPAL);
+    }
+
+    private static HttpServletRequest peticion(String tamano) {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getParameter("hotelId")).thenReturn("1");
+        when(request.getParameter("type")).thenReturn("principal");
+        when(request.getParameter("size")).thenReturn(tamano);
+        when(request.getDateHeader("If-Modified-Since")).thenReturn(-1L);
+        return request;
+    }
+
+    private void inyectar(String campo, Object valor) throws ReflectiveOperationException {
+        Field field = HotelImageServlet.class.getDeclaredField(campo);
+        field.setAccessible(true);
+        field.set(servlet, valor);
+    }
+}
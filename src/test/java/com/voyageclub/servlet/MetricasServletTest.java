@@ -0,0 +1,100 @@
+package com.voyageclub.servlet;
+
+import com.voyageclub.dao.EstadisticasConsultasDAO;
+import com.voyageclub.dto.EstadisticasSentencia;
+import com.voyageclub.metricas.MetricasRuta;
+import com.voyageclub.metricas.RegistroConsultas;
+import com.voyageclub.metricas.RegistroMetricas;
+import jakarta.servlet.annotation.ServletSecurity;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de prueba para la publicación de las métricas en texto plano y en JSON.
+ */
+public class MetricasServletTest {
+
+    private final StringWriter salida = new StringWriter();
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+    private MetricasServlet servlet;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        RegistroMetricas registro = new RegistroMetricas();
+        MetricasRuta login = registro.getRuta("USUARIO.LOGIN");
+        login.terminar(login.iniciar(), true);
+        registro.contarRutaDesconocida();
+        RegistroConsultas registroConsultas = new RegistroConsultas(Duration.ofMinutes(1));
+        registroConsultas.getMetodo("UsuarioDAOImpl.autenticar").registrar(2_000_000, false, 1);
+        EstadisticasConsultasDAO estadisticasConsultasDAO = mock(EstadisticasConsultasDAO.class);
+        when(estadisticasConsultasDAO.getMasLentas(MetricasServlet.SENTENCIAS_MAS_LENTAS)).thenReturn(List.of(
+                new EstadisticasSentencia("SELECT u\n FROM Usuario u", 3, 12, 4, 9, 12)));
+
+        servlet = new MetricasServlet();
+        inyectar("registroMetricas", registro);
+        inyectar("registroConsultas", registroConsultas);
+        inyectar("estadisticasConsultasDAO", estadisticasConsultasDAO);
+        request = mock(HttpServletRequest.class);
+        response = mock(HttpServletResponse.class);
+        when(response.getWriter()).thenReturn(new PrintWriter(salida, true));
+    }
+
+    @Test
+    public void metricasEnTextoPlano() throws Exception {
+        servlet.doGet(request, response);
+
+        verify(response).setContentType("text/plain;charset=UTF-8");
+        String[] lineas = salida.toString().split("\n");
+        assertEquals(4, lineas.length);
+        assertTrue(lineas[0].startsWith("USUARIO.LOGIN peticiones=1 errores=1 enCurso=0 mediaMs="), lineas[0]);
+        assertEquals("rutasDesconocidas=1", lineas[1].trim());
+        assertEquals("dao UsuarioDAOImpl.autenticar llamadas=1 errores=0 filas=1 mediaMs=2.000 p99Ms=2.000 "
+                + "maximoMs=2.000", lineas[2].trim());
+        assertEquals("sql ejecuciones=3 filas=12 mediaMs=4 maximoMs=9 totalMs=12 consulta=SELECT u FROM Usuario u",
+                lineas[3].trim());
+    }
+
+    @Test
+    public void metricasEnJson() throws Exception {
+        when(request.getParameter("formato")).thenReturn("json");
+
+        servlet.doGet(request, response);
+
+        verify(response).setContentType("application/json;charset=UTF-8");
+        String json = salida.toString();
+        assertTrue(json.startsWith("{\"rutas\":[{"), json);
+        assertTrue(json.contains("\"ruta\":\"USUARIO.LOGIN\""), json);
+        assertTrue(json.contains("\"errores\":1"), json);
+        assertTrue(json.contains("\"rutasDesconocidas\":1,"), json);
+        assertTrue(json.contains("\"metodosDAO\":[{"), json);
+        assertTrue(json.contains("\"metodo\":\"UsuarioDAOImpl.autenticar\""), json);
+        assertTrue(json.contains("\"sentenciasMasLentas\":[{"), json);
+        assertTrue(json.contains("\"maximoMs\":9"), json);
+    }
+
+    @Test
+    public void metricasSoloParaAdministradores() {
+        ServletSecurity seguridad = MetricasServlet.class.getAnnotation(ServletSecurity.class);
+
+        assertNotNull(seguridad);
+        assertArrayEquals(new String[]{"administrador"}, seguridad.value().rolesAllowed());
+    }
+
+    private void inyectar(String campo, Object valor) throws ReflectiveOperationException {
+        Field field = MetricasServlet.class.getDeclaredField(campo);
+        field.setAccessible(true);
+        field.set(servlet, valor);
+    }
+}
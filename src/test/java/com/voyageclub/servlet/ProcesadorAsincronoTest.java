@@ -0,0 +1,377 @@
+package com.voyageclub.servlet;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de prueba para el procesamiento asíncrono de peticiones, con peticiones simuladas y una prueba de carga que
+ * compara el procesamiento síncrono y el asíncrono con el mismo número de hilos del contenedor.
+ */
+public class ProcesadorAsincronoTest {
+
+    private static final long TIMEOUT = 5_000;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void laTareaSeAtiendeEnElEjecutorYSeRedirigeALaPagina() throws Exception {
+        HttpServletRequest request = peticionAsincrona();
+        AsyncContext contexto = request.startAsync(request, null);
+        ProcesadorAsincrono procesador = new ProcesadorAsincrono(executor, 2, TIMEOUT);
+        Thread hiloContenedor = Thread.currentThread();
+        List<Thread> hiloTarea = new ArrayList<>();
+
+        procesador.procesar(request, mock(HttpServletResponse.class), (req, resp) -> {
+            hiloTarea.add(Thread.currentThread());
+            return "/home.jsp";
+        });
+
+        verify(contexto, timeout(TIMEOUT)).dispatch("/home.jsp");
+        verify(contexto).setTimeout(TIMEOUT);
+        verify(contexto, never()).complete();
+        assertNotSame(hiloContenedor, hiloTarea.get(0));
+    }
+
+    @Test
+    public void laTareaQueEscribeLaRespuestaTerminaLaPeticion() throws Exception {
+        HttpServletRequest request = peticionAsincrona();
+        AsyncContext contexto = request.startAsync(request, null);
+
+        new ProcesadorAsincrono(executor, 2, TIMEOUT).procesar(request, mock(HttpServletResponse.class),
+                (req, resp) -> null);
+
+        verify(contexto, timeout(TIMEOUT)).complete();
+        verify(contexto, never()).dispatch(anyString());
+    }
+
+    @Test
+    public void unErrorDeLaTareaRespondeConUn500() throws Exception {
+        HttpServletRequest request = peticionAsincrona();
+        AsyncContext contexto = request.startAsync(request, null);
+        HttpServletResponse response = (HttpServletResponse) contexto.getResponse();
+
+        new ProcesadorAsincrono(executor, 2, TIMEOUT).procesar(request, response, (req, resp) -> {
+            throw new IllegalStateException("Error de prueba");
+        });
+
+        verify(contexto, timeout(TIMEOUT)).complete();
+        verify(response).sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    public void sinCapacidadLaPeticionSeAtiendeEnElHiloDelContenedor() throws Exception {
+        HttpServletRequest request = peticionAsincrona();
+        RequestDispatcher dispatcher = mock(RequestDispatcher.class);
+        when(request.getRequestDispatcher("/home.jsp")).thenReturn(dispatcher);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        List<Thread> hiloTarea = new ArrayList<>();
+
+        new ProcesadorAsincrono(executor, 0, TIMEOUT).procesar(request, response, (req, resp) -> {
+            hiloTarea.add(Thread.currentThread());
+            return "/home.jsp";
+        });
+
+        assertSame(Thread.currentThread(), hiloTarea.get(0));
+        verify(dispatcher).forward(request, response);
+        verify(request, never()).startAsync(any(), any());
+    }
+
+    @Test
+    public void siElEjecutorRechazaLaTareaSeAtiendeEnElHiloActual() throws Exception {
+        HttpServletRequest request = peticionAsincrona();
+        AsyncContext contexto = request.startAsync(request, null);
+        ProcesadorAsincrono procesador = new ProcesadorAsincrono(tarea -> {
+            throw new RejectedExecutionException();
+        }, 1, TIMEOUT);
+
+        procesador.procesar(request, mock(HttpServletResponse.class), (req, resp) -> "/home.jsp");
+        verify(contexto).dispatch("/home.jsp");
+
+        // El permiso se ha devuelto: la siguiente petición también es asíncrona
+        HttpServletRequest siguiente = peticionAsincrona();
+        procesador.procesar(siguiente, mock(HttpServletResponse.class), (req, resp) -> null);
+        verify(siguiente.startAsync(siguiente, null)).complete();
+    }
+
+    @Test
+    public void unaPeticionCaducadaRespondeConUn503YIgnoraElResultadoDeLaTarea() throws Exception {
+        HttpServletRequest request = peticionAsincrona();
+        AsyncContext contexto = request.startAsync(request, null);
+        HttpServletResponse response = (HttpServletResponse) contexto.getResponse();
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch terminada = new CountDownLatch(1);
+
+        new ProcesadorAsincrono(executor, 2, TIMEOUT).procesar(request, response, (req, resp) -> {
+            iniciada.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            terminada.countDown();
+            return "/home.jsp";
+        });
+        // La tarea debe haber empezado: si caduca antes, se cancela sin llegar a ejecutarse
+        assertTrue(iniciada.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        caducar(contexto);
+        liberar.countDown();
+        assertTrue(terminada.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        verify(response).sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        verify(contexto, after(100).times(1)).complete();
+        verify(contexto, never()).dispatch(anyString());
+    }
+
+    @Test
+    public void unaPeticionCaducadaInterrumpeLaTarea() throws Exception {
+        HttpServletRequest request = peticionAsincrona();
+        AsyncContext contexto = request.startAsync(request, null);
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch interrumpida = new CountDownLatch(1);
+
+        new ProcesadorAsincrono(executor, 2, TIMEOUT).procesar(request, mock(HttpServletResponse.class), (req, resp) -> {
+            iniciada.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrumpida.countDown();
+            }
+            return null;
+        });
+        assertTrue(iniciada.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        caducar(contexto);
+
+        assertTrue(interrumpida.await(TIMEOUT, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void laTareaNoUtilizaLaPeticionDespuesDeCaducar() throws Exception {
+        HttpServletRequest request = peticionAsincrona();
+        when(request.getParameterMap()).thenReturn(Map.of("ACTION", new String[]{"HOTEL.LISTAR"}));
+        AsyncContext contexto = request.startAsync(request, null);
+        HttpServletResponse response = (HttpServletResponse) contexto.getResponse();
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch terminada = new CountDownLatch(1);
+        List<Object> resultados = new ArrayList<>();
+
+        new ProcesadorAsincrono(executor, 2, TIMEOUT).procesar(request, response, (req, resp) -> {
+            iniciada.countDown();
+            // Una tarea que no responde a la interrupción, como una consulta que no se puede cancelar
+            while (true) {
+                try {
+                    liberar.await();
+                    break;
+                } catch (InterruptedException e) {
+                    // Se sigue esperando
+                }
+            }
+            resultados.add(req.getParameter("ACTION"));
+            resultados.add(assertThrows(IllegalStateException.class, () -> req.setAttribute("HOTELES", List.of())));
+            resultados.add(assertThrows(IllegalStateException.class, () -> resp.setContentType("text/html")));
+            terminada.countDown();
+            return "/hoteles.jsp";
+        });
+        assertTrue(iniciada.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        caducar(contexto);
+        liberar.countDown();
+        assertTrue(terminada.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        // Los parámetros se leyeron antes de caducar; la solicitud y la respuesta del contenedor no se tocan
+        assertEquals("HOTEL.LISTAR", resultados.get(0));
+        assertEquals(3, resultados.size());
+        verify(request, never()).setAttribute(anyString(), any());
+        verify(response, never()).setContentType(anyString());
+        verify(contexto, never()).dispatch(anyString());
+    }
+
+    @Test
+    public void laSolicitudDeUnaPeticionTerminadaNoDelegaNingunMetodo() throws Exception {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        SolicitudAsincrona solicitud = new SolicitudAsincrona(request, new AtomicBoolean(true));
+        Set<String> parametros = Set.of("getParameter", "getParameterValues", "getParameterNames", "getParameterMap");
+
+        for (Method metodo : HttpServletRequestWrapper.class.getMethods()) {
+            if (!ServletRequest.class.isAssignableFrom(metodo.getDeclaringClass())
+                    || parametros.contains(metodo.getName())) {
+                continue;
+            }
+            // Todos los métodos de la solicitud del contenedor están sobrescritos y comprueban la petición
+            Method sobrescrito = SolicitudAsincrona.class.getDeclaredMethod(metodo.getName(),
+                    metodo.getParameterTypes());
+            InvocationTargetException e = assertThrows(InvocationTargetException.class,
+                    () -> sobrescrito.invoke(solicitud, argumentosPorDefecto(sobrescrito)), metodo::toString);
+            assertInstanceOf(IllegalStateException.class, e.getCause(), metodo.toString());
+        }
+
+        // Solo se han leído los parámetros, al crear la solicitud
+        verify(request).getParameterMap();
+        verifyNoMoreInteractions(request);
+    }
+
+    @Test
+    public void unaTareaCanceladaAntesDeEmpezarNoSeAtiendeYDevuelveElPermiso() throws Exception {
+        List<Runnable> pendientes = new ArrayList<>();
+        ProcesadorAsincrono procesador = new ProcesadorAsincrono(pendientes::add, 1, TIMEOUT);
+        HttpServletRequest request = peticionAsincrona();
+        AsyncContext contexto = request.startAsync(request, null);
+        List<Thread> atendidas = new ArrayList<>();
+
+        procesador.procesar(request, mock(HttpServletResponse.class), (req, resp) -> {
+            atendidas.add(Thread.currentThread());
+            return null;
+        });
+        caducar(contexto);
+        pendientes.forEach(Runnable::run);
+
+        assertTrue(atendidas.isEmpty());
+        // El permiso se ha devuelto al cancelar: la siguiente petición también es asíncrona
+        HttpServletRequest siguiente = peticionAsincrona();
+        procesador.procesar(siguiente, mock(HttpServletResponse.class), (req, resp) -> null);
+        verify(siguiente).startAsync(any(), any());
+    }
+
+    @Test
+    public void configuradoLeeLosLimitesDelContexto() throws Exception {
+        ServletContext contexto = mock(ServletContext.class);
+        when(contexto.getInitParameter(ProcesadorAsincrono.PARAM_MAX_CONCURRENTES)).thenReturn("0");
+        when(contexto.getInitParameter(ProcesadorAsincrono.PARAM_TIMEOUT)).thenReturn("no es un número");
+        HttpServletRequest request = peticionAsincrona();
+
+        ProcesadorAsincrono.configurado(executor, contexto).procesar(request, mock(HttpServletResponse.class),
+                (req, resp) -> null);
+
+        // Con un máximo de 0 peticiones asíncronas, todas se atienden en el hilo del contenedor
+        verify(request, never()).startAsync(any(), any());
+    }
+
+    /**
+     * Atiende 160 peticiones que esperan 10 ms a la base de datos con 4 hilos del contenedor. De forma síncrona,
+     * cada hilo atiende una petición cada vez; de forma asíncrona, los hilos del contenedor solo las entregan al
+     * ejecutor, que atiende hasta 32 a la vez.
+     */
+    @Test
+    public void pruebaDeCargaAsincronaFrenteASincrona() throws Exception {
+        int peticiones = 160;
+        int hilosContenedor = 4;
+        ExecutorService ejecutorPeticiones = Executors.newFixedThreadPool(32);
+        try {
+            long nanosSincrona = cargar(peticiones, hilosContenedor, false,
+                    new ProcesadorAsincrono(ejecutorPeticiones, 32, TIMEOUT));
+            long nanosAsincrona = cargar(peticiones, hilosContenedor, true,
+                    new ProcesadorAsincrono(ejecutorPeticiones, 32, TIMEOUT));
+
+            double porSegundoSincrona = peticiones * 1e9 / nanosSincrona;
+            double porSegundoAsincrona = peticiones * 1e9 / nanosAsincrona;
+            assertTrue(porSegundoAsincrona > 2 * porSegundoSincrona, () -> String.format(
+                    "%d peticiones con %d hilos del contenedor: síncrona %.0f peticiones/s, asíncrona %.0f peticiones/s",
+                    peticiones, hilosContenedor, porSegundoSincrona, porSegundoAsincrona));
+        } finally {
+            ejecutorPeticiones.shutdownNow();
+        }
+    }
+
+    private static long cargar(int numero, int hilosContenedor, boolean asincrona, ProcesadorAsincrono procesador)
+            throws Exception {
+        List<HttpServletRequest> peticiones = new ArrayList<>();
+        for (int i = 0; i < numero; i++) {
+            HttpServletRequest request = peticionAsincrona();
+            when(request.isAsyncSupported()).thenReturn(asincrona);
+            peticiones.add(request);
+        }
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        CountDownLatch atendidas = new CountDownLatch(numero);
+        ProcesadorAsincrono.Tarea consultaLenta = (req, resp) -> {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            atendidas.countDown();
+            return null;
+        };
+
+        ExecutorService contenedor = Executors.newFixedThreadPool(hilosContenedor);
+        try {
+            long inicio = System.nanoTime();
+            for (HttpServletRequest request : peticiones) {
+                contenedor.execute(() -> {
+                    try {
+                        procesador.procesar(request, response, consultaLenta);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+            }
+            assertTrue(atendidas.await(30, TimeUnit.SECONDS));
+            return System.nanoTime() - inicio;
+        } finally {
+            contenedor.shutdownNow();
+        }
+    }
+
+    /**
+     * Simula que el contenedor da por caducada la petición.
+     */
+    private static void caducar(AsyncContext contexto) throws Exception {
+        ArgumentCaptor<AsyncListener> listener = ArgumentCaptor.forClass(AsyncListener.class);
+        verify(contexto).addListener(listener.capture());
+        listener.getValue().onTimeout(new AsyncEvent(contexto));
+    }
+
+    private static Object[] argumentosPorDefecto(Method metodo) {
+        Class<?>[] tipos = metodo.getParameterTypes();
+        Object[] argumentos = new Object[tipos.length];
+        for (int i = 0; i < tipos.length; i++) {
+            if (tipos[i] == boolean.class) {
+                argumentos[i] = false;
+            } else if (tipos[i] == int.class) {
+                argumentos[i] = 0;
+            }
+        }
+        return argumentos;
+    }
+
+    private static HttpServletRequest peticionAsincrona() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        AsyncContext contexto = mock(AsyncContext.class);
+        when(request.isAsyncSupported()).thenReturn(true);
+        when(request.startAsync(any(), any())).thenReturn(contexto);
+        when(contexto.getRequest()).thenReturn(request);
+        when(contexto.getResponse()).thenReturn(response);
+        return request;
+    }
+}
@@ -0,0 +1,81 @@
+package com.voyageclub.sesion;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de prueba para la caché cercana de sesiones, con un reloj controlado por la prueba.
+ */
+public class CacheLocalSesionTest {
+
+    private static final Duration DURACION = Duration.ofSeconds(30);
+
+    private final AtomicLong reloj = new AtomicLong();
+    private AlmacenSesion almacen;
+    private CacheLocalSesion cache;
+
+    @BeforeEach
+    public void setUp() {
+        almacen = spy(new AlmacenSesionMemoria());
+        cache = new CacheLocalSesion(almacen, DURACION, 3, reloj::get);
+    }
+
+    @Test
+    public void lecturasSeguidasSoloConsultanElAlmacenUnaVez() {
+        almacen.guardar("token", new byte[]{1, 2, 3});
+
+        assertArrayEquals(new byte[]{1, 2, 3}, cache.obtener("token").orElseThrow());
+        reloj.addAndGet(DURACION.toNanos() - 1);
+        assertArrayEquals(new byte[]{1, 2, 3}, cache.obtener("token").orElseThrow());
+
+        verify(almacen, times(1)).obtener("token");
+    }
+
+    @Test
+    public void lasEntradasCaducanYSeVuelvenALeer() {
+        almacen.guardar("token", new byte[]{1});
+        cache.obtener("token");
+
+        // Otro nodo cambia la sesión en el almacén compartido
+        almacen.guardar("token", new byte[]{2});
+        reloj.addAndGet(DURACION.toNanos());
+
+        assertArrayEquals(new byte[]{2}, cache.obtener("token").orElseThrow());
+        verify(almacen, times(2)).obtener("token");
+    }
+
+    @Test
+    public void losTokensInexistentesTambienSeRecuerdan() {
+        assertTrue(cache.obtener("inexistente").isEmpty());
+        assertTrue(cache.obtener("inexistente").isEmpty());
+
+        verify(almacen, times(1)).obtener("inexistente");
+    }
+
+    @Test
+    public void guardarYEliminarSeAplicanEnElAlmacen() {
+        cache.guardar("token", new byte[]{1});
+
+        assertArrayEquals(new byte[]{1}, almacen.obtener("token").orElseThrow());
+        assertArrayEquals(new byte[]{1}, cache.obtener("token").orElseThrow());
+        verify(almacen, times(1)).obtener("token");
+
+        cache.eliminar("token");
+        assertTrue(almacen.obtener("token").isEmpty());
+        assertTrue(cache.obtener("token").isEmpty());
+    }
+
+    @Test
+    public void elNumeroDeEntradasEstaLimitado() {
+        for (int i = 0; i < 10; i++) {
+            cache.obtener("token" + i);
+            assertTrue(cache.getNumeroEntradas() <= 3, "Entradas: " + cache.getNumeroEntradas());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.voyageclub.sesion;
+
+import com.voyageclub.beans.UsuarioSesionBeans;
+import com.voyageclub.model.SesionUsuario;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de prueba para el gestor de sesiones, con varios nodos que comparten un almacén en memoria.
+ */
+public class GestorSesionTest {
+
+    private AlmacenSesionMemoria almacen;
+    private GestorSesion nodo1;
+    private GestorSesion nodo2;
+
+    @BeforeEach
+    public void setUp() {
+        almacen = new AlmacenSesionMemoria();
+        nodo1 = new GestorSesion(almacen);
+        nodo2 = new GestorSesion(almacen);
+    }
+
+    @Test
+    public void cualquierNodoRecuperaLaSesionIniciadaEnOtro() {
+        Cookie cookie = iniciarSesion(nodo1, null);
+
+        assertTrue(cookie.isHttpOnly());
+        assertEquals("/voyageclub", cookie.getPath());
+        assertEquals(-1, cookie.getMaxAge());
+
+        HttpServletRequest request = peticion(cookie);
+        UsuarioSesionBeans usuarioSesion = nodo2.restaurar(request).orElseThrow();
+        assertEquals(7L, usuarioSesion.getID());
+        assertEquals("alvarobajo893@gmail.com", usuarioSesion.getCorreoElectronico());
+        verify(request).setAttribute(UsuarioSesionBeans.ATRIBUTO_SESION, usuarioSesion);
+    }
+
+    @Test
+    public void sinCookieNoHaySesion() {
+        HttpServletRequest request = peticion();
+
+        assertTrue(nodo1.restaurar(request).isEmpty());
+        assertTrue(nodo1.restaurar(peticion(new Cookie(GestorSesion.COOKIE_SESION, "inventado"))).isEmpty());
+        verify(request, never()).setAttribute(any(), any());
+    }
+
+    @Test
+    public void cerrarEliminaLaSesionDelAlmacenYLaCookie() {
+        Cookie cookie = iniciarSesion(nodo1, null);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+
+        nodo1.cerrar(peticion(cookie), response);
+
+        ArgumentCaptor<Cookie> borrada = ArgumentCaptor.forClass(Cookie.class);
+        verify(response).addCookie(borrada.capture());
+        assertEquals(0, borrada.getValue().getMaxAge());
+        assertTrue(nodo1.restaurar(peticion(cookie)).isEmpty());
+        // Un nodo que aún no había leído la sesión ya no la encuentra
+        assertTrue(nodo2.restaurar(peticion(cookie)).isEmpty());
+    }
+
+    @Test
+    public void unaSesionCerradaSeRechazaEnTodosLosNodosAlCaducarSuCacheLocal() {
+        AtomicLong reloj = new AtomicLong();
+        GestorSesion nodoA = new GestorSesion(almacen, reloj::get);
+        GestorSesion nodoB = new GestorSesion(almacen, reloj::get);
+        Cookie cookie = iniciarSesion(nodoA, null);
+        // El otro nodo ya ha leído la sesión y la tiene en su caché local
+        assertTrue(nodoB.restaurar(peticion(cookie)).isPresent());
+
+        nodoA.cerrar(peticion(cookie), mock(HttpServletResponse.class));
+
+        assertTrue(nodoA.restaurar(peticion(cookie)).isEmpty());
+        assertTrue(nodoB.restaurar(peticion(cookie)).isPresent());
+        reloj.addAndGet(GestorSesion.DURACION_CACHE_LOCAL.toNanos());
+        assertTrue(nodoA.restaurar(peticion(cookie)).isEmpty());
+        assertTrue(nodoB.restaurar(peticion(cookie)).isEmpty());
+    }
+
+    @Test
+    public void iniciarSesionDeNuevoCambiaElTokenYEliminaElAnterior() {
+        Cookie anterior = iniciarSesion(nodo1, null);
+        Cookie nueva = iniciarSesion(nodo1, anterior);
+
+        assertNotEquals(anterior.getValue(), nueva.getValue());
+        assertTrue(almacen.obtener(anterior.getValue()).isEmpty());
+        assertTrue(nodo2.restaurar(peticion(nueva)).isPresent());
+    }
+
+    @Test
+    public void losDatosNoValidosSeTratanComoSesionInexistente() {
+        almacen.guardar("token", new byte[]{1, 2, 3});
+
+        assertTrue(nodo1.restaurar(peticion(new Cookie(GestorSesion.COOKIE_SESION, "token"))).isEmpty());
+    }
+
+    @Test
+    public void laSesionSerializadaCabeEnElAlmacen() {
+        UsuarioSesionBeans usuarioSesion = usuarioSesion();
+
+        byte[] datos = GestorSesion.serializar(usuarioSesion);
+
+        assertTrue(datos.length < 200, "Tamaño de la sesión: " + datos.length);
+        assertEquals(usuarioSesion.getNombre(), GestorSesion.deserializar(datos).orElseThrow().getNombre());
+    }
+
+    @Test
+    public void laSesionMasGrandeCabeEnLaTablaDeSesiones() {
+        // Textos con la longitud máxima de las columnas de Usuario y caracteres de 3 bytes en UTF-8
+        String texto = "€".repeat(255);
+        UsuarioSesionBeans usuarioSesion = new UsuarioSesionBeans(Long.MAX_VALUE, texto, texto, texto, texto, texto,
+                texto);
+
+        byte[] datos = GestorSesion.serializar(usuarioSesion);
+
+        assertTrue(datos.length <= SesionUsuario.TAMANO_MAXIMO_DATOS, "Tamaño de la sesión: " + datos.length);
+    }
+
+    /**
+     * Inicia la sesión del usuario de prueba en un nodo y devuelve la cookie enviada al navegador.
+     */
+    private Cookie iniciarSesion(GestorSesion nodo, Cookie anterior) {
+        HttpServletRequest request = anterior == null ? peticion() : peticion(anterior);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+
+        nodo.iniciar(request, response, usuarioSesion());
+
+        ArgumentCaptor<Cookie> cookie = ArgumentCaptor.forClass(Cookie.class);
+        verify(response).addCookie(cookie.capture());
+        assertEquals(GestorSesion.COOKIE_SESION, cookie.getValue().getName());
+        return cookie.getValue();
+    }
+
+    private static UsuarioSesionBeans usuarioSesion() {
+        return new UsuarioSesionBeans(7L, "Alvaro", "Bajo", "Tabero", "alvarobajo893@gmail.com", "12345678",
+                "123456");
+    }
+
+    private static HttpServletRequest peticion(Cookie... cookies) {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getCookies()).thenReturn(cookies.length == 0 ? null : cookies);
+        when(request.getContextPath()).thenReturn("/voyageclub");
+        return request;
+    }
+}
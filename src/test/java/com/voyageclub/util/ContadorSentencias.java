@@ -0,0 +1,148 @@
+package com.voyageclub.util;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Utilidad de pruebas que cuenta las sentencias SQL que ejecuta una llamada sobre la unidad de persistencia
+ * {@code testPU}, para detectar regresiones N+1.
+ *
+ * <p>El número de sentencias se toma de las estadísticas de Hibernate; el texto de cada sentencia se captura con
+ * un {@link StatementInspector} para mostrarlo cuando una prueba supera el máximo esperado:
+ *
+ * <pre>{@code
+ * EntityManagerFactory emf = ContadorSentencias.crearEntityManagerFactory();
+ * ContadorSentencias contador = new ContadorSentencias(emf);
+ * List<Reserva> reservas = contador.assertComoMaximo(1, () -> reservaDAO.findByUsuario(usuarioId));
+ * }</pre>
+ */
+public final class ContadorSentencias {
+
+    /**
+     * Sentencias SQL enviadas a la base de datos desde el último reinicio, en orden de ejecución.
+     */
+    private static final List<String> SENTENCIAS = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Guarda cada sentencia SQL que Hibernate prepara.
+     */
+    public static class Captura implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            SENTENCIAS.add(sql);
+            return sql;
+        }
+    }
+
+    private final Statistics estadisticas;
+
+    /**
+     * Crea un contador sobre una EntityManagerFactory creada con {@link #crearEntityManagerFactory()}.
+     *
+     * @param emf EntityManagerFactory cuyas sentencias se cuentan.
+     */
+    public ContadorSentencias(EntityManagerFactory emf) {
+        this.estadisticas = emf.unwrap(SessionFactory.class).getStatistics();
+        reiniciar();
+    }
+
+    /**
+     * Crea una EntityManagerFactory de la unidad {@code testPU} que captura las sentencias SQL.
+     *
+     * @return La EntityManagerFactory creada.
+     */
+    public static EntityManagerFactory crearEntityManagerFactory() {
+        return crearEntityManagerFactory(Map.of());
+    }
+
+    /**
+     * Crea una EntityManagerFactory de la unidad {@code testPU}, con propiedades adicionales, que captura las
+     * sentencias SQL.
+     *
+     * @param propiedades Propiedades que se añaden o sustituyen a las de {@code persistence.xml}.
+     * @return La EntityManagerFactory creada.
+     */
+    public static EntityManagerFactory crearEntityManagerFactory(Map<String, Object> propiedades) {
+        Map<String, Object> configuracion = new HashMap<>(propiedades);
+        configuracion.put("hibernate.session_factory.statement_inspector", Captura.class.getName());
+        return Persistence.createEntityManagerFactory("testPU", configuracion);
+    }
+
+    /**
+     * Vuelve a empezar la cuenta de sentencias.
+     */
+    public void reiniciar() {
+        estadisticas.clear();
+        SENTENCIAS.clear();
+    }
+
+    /**
+     * Obtiene el número de sentencias preparadas desde el último reinicio.
+     *
+     * @return Número de sentencias preparadas.
+     */
+    public long getNumeroSentencias() {
+        return estadisticas.getPrepareStatementCount();
+    }
+
+    /**
+     * Obtiene el texto de las sentencias ejecutadas desde el último reinicio.
+     *
+     * @return Copia de las sentencias, en orden de ejecución.
+     */
+    public List<String> getSentencias() {
+        synchronized (SENTENCIAS) {
+            return new ArrayList<>(SENTENCIAS);
+        }
+    }
+
+    /**
+     * Comprueba que desde el último reinicio no se han preparado más sentencias que las indicadas.
+     *
+     * @param maximo Número máximo de sentencias.
+     */
+    public void assertComoMaximo(long maximo) {
+        long numero = getNumeroSentencias();
+        assertTrue(numero <= maximo, () -> "Se esperaban como máximo " + maximo + " sentencias SQL y se han ejecutado "
+                + numero + ":\n" + String.join("\n", getSentencias()));
+    }
+
+    /**
+     * Ejecuta una llamada y comprueba que no prepara más sentencias que las indicadas.
+     *
+     * @param maximo  Número máximo de sentencias.
+     * @param llamada Llamada que se cuenta.
+     * @param <R>     Tipo del resultado de la llamada.
+     * @return El resultado de la llamada.
+     */
+    public <R> R assertComoMaximo(long maximo, Supplier<R> llamada) {
+        reiniciar();
+        R resultado = llamada.get();
+        assertComoMaximo(maximo);
+        return resultado;
+    }
+
+    /**
+     * Ejecuta una llamada sin resultado y comprueba que no prepara más sentencias que las indicadas.
+     *
+     * @param maximo  Número máximo de sentencias.
+     * @param llamada Llamada que se cuenta.
+     */
+    public void assertComoMaximo(long maximo, Runnable llamada) {
+        reiniciar();
+        llamada.run();
+        assertComoMaximo(maximo);
+    }
+}
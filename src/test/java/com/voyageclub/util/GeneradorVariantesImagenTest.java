@@ -0,0 +1,124 @@
+package com.voyageclub.util;
+
+import com.voyageclub.dao.ImagenDAO;
+import com.voyageclub.model.enumerdos.SlotImagen;
+import com.voyageclub.model.enumerdos.VarianteImagen;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de prueba para la planificación de las generaciones de variantes de imagen.
+ */
+class GeneradorVariantesImagenTest {
+
+    private ImagenDAO imagenDAO;
+    private ManagedExecutorService executor;
+    private GeneradorVariantesImagen generador;
+    private final List<Runnable> tareas = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws ReflectiveOperationException {
+        imagenDAO = mock(ImagenDAO.class);
+        // El executor guarda las tareas sin ejecutarlas: todas siguen en curso
+        executor = mock(ManagedExecutorService.class);
+        doAnswer(invocacion -> tareas.add(invocacion.getArgument(0))).when(executor).execute(any());
+
+        generador = new GeneradorVariantesImagen();
+        inyectar("imagenDAO", imagenDAO);
+        inyectar("executor", executor);
+    }
+
+    @Test
+    void sinPermisosLaGeneracionSeDescartaSinUsarElHiloQueLaSolicita() {
+        for (long id = 1; id <= 5; id++) {
+            generador.generar(id, SlotImagen.HOTEL_PRINCIPAL);
+        }
+
+        // Solo se encolan las cuatro primeras y la quinta no lee la imagen en este hilo
+        assertEquals(4, tareas.size());
+        verifyNoInteractions(imagenDAO);
+
+        // Al terminar una generación se puede solicitar otra
+        tareas.get(0).run();
+        generador.generar(5L, SlotImagen.HOTEL_PRINCIPAL);
+        assertEquals(5, tareas.size());
+    }
+
+    @Test
+    void unaImagenNoSeGeneraDosVecesALaVez() {
+        generador.generar(1L, SlotImagen.HOTEL_PRINCIPAL);
+        generador.generar(1L, SlotImagen.HOTEL_PRINCIPAL);
+        generador.generar(1L, SlotImagen.HOTEL_SECUNDARIA);
+
+        assertEquals(2, tareas.size());
+
+        tareas.get(0).run();
+        generador.generar(1L, SlotImagen.HOTEL_PRINCIPAL);
+        assertEquals(3, tareas.size());
+    }
+
+    @Test
+    void laTareaRechazadaPorElExecutorSeDescarta() {
+        doThrow(new RejectedExecutionException()).when(executor).execute(any());
+
+        generador.generar(1L, SlotImagen.HOTEL_PRINCIPAL);
+
+        verifyNoInteractions(imagenDAO);
+
+        // El permiso y la imagen quedan libres para una solicitud posterior
+        doAnswer(invocacion -> tareas.add(invocacion.getArgument(0))).when(executor).execute(any());
+        generador.generar(1L, SlotImagen.HOTEL_PRINCIPAL);
+        assertEquals(1, tareas.size());
+    }
+
+    @Test
+    void lasVariantesSeGeneranLeyendoLaImagenDesdeElAlmacen() throws IOException {
+        byte[] original = crearImagen(1000, 500);
+        when(imagenDAO.leer(eq(1L), eq(SlotImagen.HOTEL_PRINCIPAL), any())).thenAnswer(invocacion ->
+                Optional.ofNullable(invocacion.<ImagenDAO.Lector<?>>getArgument(2)
+                        .leer(new ByteArrayInputStream(original))));
+        when(imagenDAO.guardarVariante(any(), any(), any(), any(), any())).thenReturn(true);
+
+        generador.generar(1L, SlotImagen.HOTEL_PRINCIPAL);
+        tareas.get(0).run();
+
+        // Cada variante tiene su ancho y va asociada al hash de la imagen original completa
+        ArgumentCaptor<byte[]> variantes = ArgumentCaptor.forClass(byte[].class);
+        String hash = ImagenUtil.calcularHash(original);
+        verify(imagenDAO).guardarVariante(eq(1L), eq(SlotImagen.HOTEL_PRINCIPAL), eq(VarianteImagen.THUMB),
+                variantes.capture(), eq(hash));
+        verify(imagenDAO).guardarVariante(eq(1L), eq(SlotImagen.HOTEL_PRINCIPAL), eq(VarianteImagen.CARD),
+                variantes.capture(), eq(hash));
+        assertEquals(160, ImageIO.read(new ByteArrayInputStream(variantes.getAllValues().get(0))).getWidth());
+        assertEquals(480, ImageIO.read(new ByteArrayInputStream(variantes.getAllValues().get(1))).getWidth());
+        verify(imagenDAO, never()).getDatos(any(), any());
+    }
+
+    private byte[] crearImagen(int ancho, int alto) throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(ancho, alto, BufferedImage.TYPE_INT_RGB), "png", salida);
+        return salida.toByteArray();
+    }
+
+    private void inyectar(String campo, Object valor) throws ReflectiveOperationException {
+        Field field = GeneradorVariantesImagen.class.getDeclaredField(campo);
+        field.setAccessible(true);
+        field.set(generador, valor);
+    }
+}
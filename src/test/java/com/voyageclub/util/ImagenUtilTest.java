@@ -0,0 +1,95 @@
+package com.voyageclub.util;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la clase ImagenUtil.
+ */
+class ImagenUtilTest {
+
+    @Test
+    void calcularHash() {
+        // El hash identifica el contenido y la imagen vacía no tiene hash
+        assertEquals(64, ImagenUtil.calcularHash("Imagen".getBytes()).length());
+        assertEquals(ImagenUtil.calcularHash("Imagen".getBytes()), ImagenUtil.calcularHash("Imagen".getBytes()));
+        assertNotEquals(ImagenUtil.calcularHash("Imagen".getBytes()), ImagenUtil.calcularHash("Otra".getBytes()));
+        assertNull(ImagenUtil.calcularHash(new byte[0]));
+    }
+
+    @Test
+    void escalarMantieneLaProporcion() throws IOException {
+        BufferedImage original = ImagenUtil.leer(new ByteArrayInputStream(crearImagen(800, 400)), 160);
+
+        byte[] escalada = ImagenUtil.escalar(original, 160);
+
+        // La imagen reescalada conserva la proporción 2:1
+        BufferedImage resultado = ImageIO.read(new ByteArrayInputStream(escalada));
+        assertEquals(160, resultado.getWidth());
+        assertEquals(80, resultado.getHeight());
+    }
+
+    @Test
+    void escalarNoAmpliaImagenesPequenas() throws IOException {
+        BufferedImage original = ImagenUtil.leer(new ByteArrayInputStream(crearImagen(100, 50)), 160);
+
+        BufferedImage resultado = ImageIO.read(new ByteArrayInputStream(ImagenUtil.escalar(original, 160)));
+        assertEquals(100, resultado.getWidth());
+        assertEquals(50, resultado.getHeight());
+    }
+
+    @Test
+    void leerSubmuestreaLasImagenesMasAnchasDeLoNecesario() throws IOException {
+        BufferedImage imagen = ImagenUtil.leer(new ByteArrayInputStream(crearImagen(2000, 1000)), 480);
+
+        // Se toma uno de cada cuatro píxeles: sigue siendo más ancha que el mínimo pedido
+        assertEquals(500, imagen.getWidth());
+        assertEquals(250, imagen.getHeight());
+    }
+
+    @Test
+    void leerRechazaLasImagenesDeDemasiadosPixelesSinDecodificarlas() {
+        // Solo la cabecera de un PNG de 20000x20000: decodificarlo necesitaría más de 1 GB
+        byte[] cabecera = cabeceraPng(20_000, 20_000);
+
+        IOException e = assertThrows(IOException.class,
+                () -> ImagenUtil.leer(new ByteArrayInputStream(cabecera), 160));
+        assertTrue(e.getMessage().contains("20000x20000"), e.getMessage());
+    }
+
+    @Test
+    void leerDevuelveNullSiNoEsUnaImagen() throws IOException {
+        assertNull(ImagenUtil.leer(new ByteArrayInputStream("no es una imagen".getBytes()), 160));
+    }
+
+    private byte[] cabeceraPng(int ancho, int alto) {
+        ByteBuffer ihdr = ByteBuffer.allocate(17);
+        ihdr.put("IHDR".getBytes(StandardCharsets.US_ASCII));
+        // Dimensiones, 8 bits por canal, RGB, compresión, filtro y sin entrelazado
+        ihdr.putInt(ancho).putInt(alto).put((byte) 8).put((byte) 2).put((byte) 0).put((byte) 0).put((byte) 0);
+        CRC32 crc = new CRC32();
+        crc.update(ihdr.array());
+
+        ByteBuffer png = ByteBuffer.allocate(8 + 4 + 17 + 4);
+        png.put(new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n' });
+        png.putInt(13).put(ihdr.array()).putInt((int) crc.getValue());
+        return png.array();
+    }
+
+    private byte[] crearImagen(int ancho, int alto) throws IOException {
+        BufferedImage imagen = new BufferedImage(ancho, alto, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        ImageIO.write(imagen, "png", salida);
+        return salida.toByteArray();
+    }
+}
@@ -0,0 +1,212 @@
+package com.voyageclub.util;
+
+import com.voyageclub.dao.HotelDAOImpl;
+import com.voyageclub.dao.ImagenDAOImpl;
+import com.voyageclub.dao.SesionUsuarioDAOImpl;
+import com.voyageclub.model.Hotel;
+import com.voyageclub.model.SesionUsuario;
+import com.voyageclub.model.enumerdos.SlotImagen;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la clase MigradorEsquema sobre una base de datos H2 en modo MySQL.
+ */
+public class MigradorEsquemaTest {
+
+    /**
+     * Base de datos con los nombres de las tablas sensibles a mayúsculas y minúsculas, como MySQL en Linux.
+     */
+    private static final String URL = "jdbc:h2:mem:migracion;MODE=MySQL;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1";
+
+    private Connection conexion;
+    private MigradorEsquema migrador;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        conexion = DriverManager.getConnection(URL, "sa", "");
+        migrador = new MigradorEsquema();
+        // H2 no tiene la función SHA2 de MySQL que utilizan las migraciones
+        try (Statement statement = conexion.createStatement()) {
+            statement.execute("CREATE ALIAS IF NOT EXISTS SHA2 FOR \"" + MigradorEsquemaTest.class.getName() + ".sha2\"");
+        }
+    }
+
+    /**
+     * Función SHA2 de MySQL: el hash en hexadecimal, en minúsculas, o {@code null} si el valor es {@code null}.
+     */
+    public static String sha2(byte[] datos, int bits) {
+        return datos == null ? null : ImagenUtil.calcularHash(datos);
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        try (Statement statement = conexion.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        conexion.close();
+    }
+
+    @Test
+    public void migrarAplicaSoloLasMigracionesPendientes() throws SQLException {
+        assertEquals(6, migrador.migrar(conexion));
+        assertEquals(0, migrador.migrar(conexion));
+
+        assertEquals(6, consultarLong("SELECT COUNT(*) FROM " + MigradorEsquema.TABLA_HISTORIAL));
+        assertEquals(51, consultarLong("SELECT next_val FROM Hotel_SEQ"));
+        try (ResultSet columna = conexion.getMetaData().getColumns(null, null, "sesion_usuario", "datos")) {
+            assertTrue(columna.next());
+            assertEquals(SesionUsuario.TAMANO_MAXIMO_DATOS, columna.getInt("COLUMN_SIZE"));
+        }
+        assertTrue(conexion.getAutoCommit());
+    }
+
+    @Test
+    public void hibernateTrabajaSobreElEsquemaMigrado() throws SQLException {
+        migrador.migrar(conexion);
+
+        // La unidad de persistencia de la aplicación, con su dialecto, sobre la base de datos migrada en lugar de su
+        // origen de datos JNDI
+        JdbcDataSource origenDatos = new JdbcDataSource();
+        origenDatos.setURL(URL);
+        origenDatos.setUser("sa");
+        EntityManagerFactory emf = Persistence.createEntityManagerFactory("voyageclub-test-persistence-unit",
+                Map.of("jakarta.persistence.nonJtaDataSource", origenDatos));
+        try {
+            EntityManager em = emf.createEntityManager();
+            HotelDAOImpl hotelDAO = new HotelDAOImpl();
+            hotelDAO.setEntityManager(em);
+
+            em.getTransaction().begin();
+            Hotel hotel = new Hotel("Hotel Migrado", "Dirección", 4, "hotel@example.com", "www.hotel.com",
+                    "Descripción del hotel", "123456789");
+            hotelDAO.save(hotel);
+            em.getTransaction().commit();
+            em.clear();
+
+            assertTrue(hotel.getId() > 0);
+            assertEquals("Hotel Migrado", hotelDAO.findByNombre("Hotel Migrado").orElseThrow().getNombre());
+
+            SesionUsuarioDAOImpl sesionUsuarioDAO = new SesionUsuarioDAOImpl();
+            sesionUsuarioDAO.setEntityManager(em);
+            em.getTransaction().begin();
+            sesionUsuarioDAO.guardar("token", new byte[]{1, 2, 3});
+            em.getTransaction().commit();
+            assertArrayEquals(new byte[]{1, 2, 3},
+                    sesionUsuarioDAO.findDatosByToken("token", Instant.EPOCH).orElseThrow());
+
+            ImagenDAOImpl imagenDAO = new ImagenDAOImpl();
+            imagenDAO.setEntityManager(em);
+            em.getTransaction().begin();
+            imagenDAO.guardar(hotel.getId(), SlotImagen.HOTEL_PRINCIPAL, new byte[]{4, 5, 6});
+            em.getTransaction().commit();
+            em.getTransaction().begin();
+            assertArrayEquals(new byte[]{4, 5, 6},
+                    imagenDAO.getDatos(hotel.getId(), SlotImagen.HOTEL_PRINCIPAL).orElseThrow());
+            em.getTransaction().commit();
+            em.close();
+        } finally {
+            emf.close();
+        }
+    }
+
+    @Test
+    public void migrarActualizaElEsquemaCreadoPorHibernate() throws SQLException, IOException {
+        // Base de datos creada antes de las migraciones por hbm2ddl: tiene las tablas y datos, pero no el historial
+        try (Statement statement = conexion.createStatement()) {
+            for (String sentencia : MigradorEsquema.dividirSentencias(leerRecurso("/db/esquema_hbm2ddl.sql"))) {
+                statement.execute(sentencia);
+            }
+        }
+        assertTrue(existeColumna("Hotel", "imagen-principal"));
+
+        assertEquals(5, migrador.migrar(conexion));
+
+        assertEquals(0, consultarLong("SELECT duracion_ms FROM " + MigradorEsquema.TABLA_HISTORIAL + " WHERE version = 1"));
+        assertEquals(6, consultarLong("SELECT COUNT(*) FROM " + MigradorEsquema.TABLA_HISTORIAL));
+        // Las imágenes de las columnas LONGBLOB pasan a la tabla imagen como originales y las columnas desaparecen
+        assertEquals(3, consultarLong("SELECT COUNT(*) FROM imagen WHERE variante = 'FULL'"));
+        assertImagenMigrada(12, "HOTEL_PRINCIPAL", new byte[]{1, 2, 3, 4, 5});
+        assertImagenMigrada(3, "LUXURY_PRINCIPAL", new byte[]{12, 13, 14});
+        assertImagenMigrada(3, "LUXURY_DERECHA", new byte[]{10, 11});
+        assertFalse(existeColumna("Hotel", "imagen-principal"));
+        assertFalse(existeColumna("LuxuryStay", "imagen-izquierda"));
+        // Las secuencias empiezan por encima de los identificadores asignados con AUTO_INCREMENT
+        assertEquals(12 + 51, consultarLong("SELECT next_val FROM Hotel_SEQ"));
+        assertEquals(40 + 51, consultarLong("SELECT next_val FROM Reserva_SEQ"));
+        assertEquals(7 + 51, consultarLong("SELECT next_val FROM Usuario_SEQ"));
+        assertEquals(3 + 51, consultarLong("SELECT next_val FROM imagen_SEQ"));
+    }
+
+    @Test
+    public void migrarFallaSiUnScriptAplicadoHaCambiado() throws SQLException {
+        migrador.migrar(conexion);
+        try (Statement statement = conexion.createStatement()) {
+            statement.executeUpdate("UPDATE " + MigradorEsquema.TABLA_HISTORIAL + " SET checksum = 'x' WHERE version = 3");
+        }
+
+        IllegalStateException excepcion = assertThrows(IllegalStateException.class, () -> migrador.migrar(conexion));
+        assertTrue(excepcion.getMessage().contains("V3__indices_busquedas.sql"));
+    }
+
+    @Test
+    public void dividirSentenciasIgnoraComentariosYUneLineas() {
+        List<String> sentencias = MigradorEsquema.dividirSentencias(
+                "-- Comentario\nCREATE TABLE t (\n    id BIGINT\n);\n\nINSERT INTO t VALUES (1);\n");
+
+        assertEquals(List.of("CREATE TABLE t (\nid BIGINT\n)", "INSERT INTO t VALUES (1)"), sentencias);
+    }
+
+    private void assertImagenMigrada(long propietarioId, String slot, byte[] datos) throws SQLException {
+        try (PreparedStatement select = conexion.prepareStatement("SELECT datos, hash, tamano FROM imagen "
+                + "WHERE propietarioId = ? AND slot = ? AND variante = 'FULL'")) {
+            select.setLong(1, propietarioId);
+            select.setString(2, slot);
+            try (ResultSet resultado = select.executeQuery()) {
+                assertTrue(resultado.next(), slot + " de " + propietarioId);
+                assertArrayEquals(datos, resultado.getBytes(1));
+                assertEquals(ImagenUtil.calcularHash(datos), resultado.getString(2));
+                assertEquals(datos.length, resultado.getLong(3));
+            }
+        }
+    }
+
+    private boolean existeColumna(String tabla, String columna) throws SQLException {
+        try (ResultSet resultado = conexion.getMetaData().getColumns(null, null, tabla, columna)) {
+            return resultado.next();
+        }
+    }
+
+    private long consultarLong(String sql) throws SQLException {
+        try (Statement statement = conexion.createStatement(); ResultSet resultado = statement.executeQuery(sql)) {
+            resultado.next();
+            return resultado.getLong(1);
+        }
+    }
+
+    private String leerRecurso(String nombre) throws IOException {
+        try (InputStream entrada = getClass().getResourceAsStream(nombre)) {
+            return new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
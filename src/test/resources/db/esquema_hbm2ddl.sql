@@ -0,0 +1,23 @@
+-- Base de datos creada por Hibernate (hbm2ddl=update) antes de las migraciones, con algunos datos: identificadores
+-- AUTO_INCREMENT, imágenes en columnas LONGBLOB de los hoteles y estancias de lujo, nombres de restricciones
+-- generados por Hibernate y sin tabla de historial.
+
+create table Factura (id bigint not null auto_increment, fechaEmision date not null, numeroFactura varchar(255), precioTotal decimal(38,2), primary key (id)) engine=InnoDB;
+create table Hotel (id bigint not null auto_increment, codigoHotel varchar(255), descripcion varchar(255), direccion varchar(255), email varchar(255), estrellas integer, `imagen-principal` LONGBLOB, `imagen-secundario` LONGBLOB, nombre varchar(255), telefono varchar(255), web varchar(255), primary key (id)) engine=InnoDB;
+create table LuxuryStay (id bigint not null auto_increment, codigoLuxuryStay varchar(255), descripcion varchar(255), fechaFinDisponible date, fechaInicioDisponible date, `imagen-derecha` LONGBLOB, `imagen-izquierda` LONGBLOB, `imagen-principal` LONGBLOB, nombre varchar(255), precioNoche decimal(10,2), hotel_id bigint, primary key (id)) engine=InnoDB;
+create table LuxuryStay_amenidades (LuxuryStay_id bigint not null, amenidades varchar(255)) engine=InnoDB;
+create table Reserva (id bigint not null auto_increment, cantidadPersonas integer not null, estado varchar(255) not null, fechaFin date not null, fechaInicio date not null, factura_id bigint, luxury_stay_id bigint not null, usuario_id bigint not null, primary key (id)) engine=InnoDB;
+create table Usuario (id bigint not null auto_increment, apellido1 varchar(255), apellido2 varchar(255), codigoUsuario varchar(255), contrasenaHash varchar(255), correoElectronico varchar(255), dni varchar(255), nombre varchar(255), primary key (id)) engine=InnoDB;
+alter table LuxuryStay add constraint UK_7kx2q0s1hbd4mkd6cy3yfm1cp unique (codigoLuxuryStay);
+alter table Usuario add constraint UK_g7k0xvqwc6l3n8alx4xgo0hvb unique (codigoUsuario);
+alter table Usuario add constraint UK_3hq9ogrxlbdqj4ki6l3jx9f8v unique (dni);
+alter table LuxuryStay add constraint FKqf6w5xkbs7v1yq2vbk3n2s0de foreign key (hotel_id) references Hotel (id);
+alter table LuxuryStay_amenidades add constraint FK6b9y0gfx1rq1pkl3m9w2w6cbe foreign key (LuxuryStay_id) references LuxuryStay (id);
+alter table Reserva add constraint FKq3k9d0x5c8dn0mv6l1a0a7j2b foreign key (factura_id) references Factura (id);
+alter table Reserva add constraint FKm2s6b1f6u9ltn8s2l0x0e0p3x foreign key (luxury_stay_id) references LuxuryStay (id);
+alter table Reserva add constraint FK9h2o3pcfq7p3v0rmcd4k1e2wq foreign key (usuario_id) references Usuario (id);
+
+insert into Usuario (id, codigoUsuario, correoElectronico, dni, nombre) values (7, 'USR7', 'usuario@example.com', '12345678Z', 'Usuario');
+insert into Hotel (id, codigoHotel, direccion, email, estrellas, `imagen-principal`, `imagen-secundario`, nombre, telefono) values (12, 'VOYAGEHO-4-hm', 'Dirección', 'hotel@example.com', 4, X'0102030405', NULL, 'Hotel Antiguo', '123456789');
+insert into LuxuryStay (id, codigoLuxuryStay, descripcion, `imagen-derecha`, `imagen-izquierda`, `imagen-principal`, nombre, precioNoche, hotel_id) values (3, 'LS-3', 'Estancia antigua', X'0A0B', NULL, X'0C0D0E', 'Estancia Antigua', 100.00, 12);
+insert into Reserva (id, cantidadPersonas, estado, fechaFin, fechaInicio, luxury_stay_id, usuario_id) values (40, 2, 'PENDIENTE', '2026-01-03', '2026-01-01', 3, 7);